@@ -42,6 +42,8 @@ public class Provision implements Serializable {
 
     private String uidOnCreate;
 
+    private boolean fingerprinting;
+
     private Mapping mapping;
 
     private final List<String> virSchemas = new ArrayList<>();
@@ -92,6 +94,14 @@ public class Provision implements Serializable {
         this.uidOnCreate = uidOnCreate;
     }
 
+    public boolean isFingerprinting() {
+        return fingerprinting;
+    }
+
+    public void setFingerprinting(final boolean fingerprinting) {
+        this.fingerprinting = fingerprinting;
+    }
+
     public Mapping getMapping() {
         return mapping;
     }
@@ -120,6 +130,7 @@ public class Provision implements Serializable {
         Provision other = (Provision) obj;
         return new EqualsBuilder().
                 append(ignoreCaseMatch, other.ignoreCaseMatch).
+                append(fingerprinting, other.fingerprinting).
                 append(anyType, other.anyType).
                 append(objectClass, other.objectClass).
                 append(auxClasses, other.auxClasses).
@@ -138,6 +149,7 @@ public class Provision implements Serializable {
                 append(auxClasses).
                 append(syncToken).
                 append(ignoreCaseMatch).
+                append(fingerprinting).
                 append(uidOnCreate).
                 append(mapping).
                 append(virSchemas).
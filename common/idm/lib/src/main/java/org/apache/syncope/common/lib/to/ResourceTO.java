@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.syncope.common.lib.types.CircuitBreakerState;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.common.lib.types.TraceLevel;
@@ -47,6 +48,11 @@ public class ResourceTO implements EntityTO {
      */
     private String connectorDisplayName;
 
+    /**
+     * Convenience information: current state of the connector's circuit breaker.
+     */
+    private CircuitBreakerState circuitBreakerState;
+
     private final List<Provision> provisions = new ArrayList<>();
 
     private OrgUnit orgUnit;
@@ -122,6 +128,14 @@ public class ResourceTO implements EntityTO {
         this.connectorDisplayName = connectorDisplayName;
     }
 
+    public CircuitBreakerState getCircuitBreakerState() {
+        return circuitBreakerState;
+    }
+
+    public void setCircuitBreakerState(final CircuitBreakerState circuitBreakerState) {
+        this.circuitBreakerState = circuitBreakerState;
+    }
+
     public Integer getPropagationPriority() {
         return propagationPriority;
     }
@@ -35,6 +35,8 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
 
     private URI next;
 
+    private String cursor;
+
     private final List<T> result = new ArrayList<>();
 
     private int page;
@@ -59,6 +61,14 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         this.next = next;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(final String cursor) {
+        this.cursor = cursor;
+    }
+
     @JacksonXmlElementWrapper(localName = "result")
     @JacksonXmlProperty(localName = "item")
     public List<T> getResult() {
@@ -94,6 +104,7 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         return new HashCodeBuilder().
                 append(prev).
                 append(next).
+                append(cursor).
                 append(result).
                 append(page).
                 append(size).
@@ -117,6 +128,7 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         return new EqualsBuilder().
                 append(prev, other.prev).
                 append(next, other.next).
+                append(cursor, other.cursor).
                 append(result, other.result).
                 append(page, other.page).
                 append(size, other.size).
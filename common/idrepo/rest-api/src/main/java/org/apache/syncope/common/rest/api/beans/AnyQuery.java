@@ -60,6 +60,16 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder cursor(final String cursor) {
+            getInstance().setCursor(cursor);
+            return this;
+        }
+
+        public Builder count(final boolean count) {
+            getInstance().setCount(count);
+            return this;
+        }
     }
 
     private String realm;
@@ -70,6 +80,10 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private String cursor;
+
+    private Boolean count;
+
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
             + "primarily meant for containing Users, Groups and Any Objects", schema =
             @Schema(implementation = String.class, defaultValue = SyncopeConstants.ROOT_REALM, externalDocs =
@@ -127,6 +141,34 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    @Parameter(name = JAXRSService.PARAM_CURSOR, description = "continuation cursor, as returned by the previous "
+            + "page: when provided, the page parameter is ignored and the next page is reached by seeking right after "
+            + "the last result of the previous page rather than by skipping all previous results; ordering must not "
+            + "change between pages", schema =
+            @Schema(implementation = String.class))
+    public String getCursor() {
+        return cursor;
+    }
+
+    @QueryParam(JAXRSService.PARAM_CURSOR)
+    public void setCursor(final String cursor) {
+        this.cursor = cursor;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_COUNT, description = "whether the exact total count shall be computed; "
+            + "if not, the total count reported is estimated from the results returned so far, and is only "
+            + "guaranteed to exceed them when further results are available", schema =
+            @Schema(implementation = Boolean.class))
+    public Boolean getCount() {
+        return Optional.ofNullable(count).orElse(Boolean.TRUE);
+    }
+
+    @QueryParam(JAXRSService.PARAM_COUNT)
+    @DefaultValue("true")
+    public void setCount(final Boolean count) {
+        this.count = count;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -144,6 +186,8 @@ public class AnyQuery extends AbstractQuery {
                 append(realm, other.realm).
                 append(details, other.details).
                 append(fiql, other.fiql).
+                append(cursor, other.cursor).
+                append(count, other.count).
                 build();
     }
 
@@ -154,6 +198,8 @@ public class AnyQuery extends AbstractQuery {
                 append(realm).
                 append(details).
                 append(fiql).
+                append(cursor).
+                append(count).
                 build();
     }
 }
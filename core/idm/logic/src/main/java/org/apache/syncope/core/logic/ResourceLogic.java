@@ -138,6 +138,13 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
         return merged;
     }
 
+    protected ResourceTO getResourceTO(final ExternalResource resource) {
+        ResourceTO resourceTO = binder.getResourceTO(resource);
+        connectorManager.readConnector(resource).
+                ifPresent(connector -> resourceTO.setCircuitBreakerState(connector.getCircuitBreakerState()));
+        return resourceTO;
+    }
+
     @PreAuthorize("hasRole('" + IdMEntitlement.RESOURCE_CREATE + "')")
     public ResourceTO create(final ResourceTO resourceTO) {
         if (StringUtils.isBlank(resourceTO.getKey())) {
@@ -269,13 +276,13 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
         ExternalResource resource = Optional.ofNullable(resourceDAO.authFind(key)).
                 orElseThrow(() -> new NotFoundException("Resource '" + key + '\''));
 
-        return binder.getResourceTO(resource);
+        return getResourceTO(resource);
     }
 
     @PreAuthorize("hasRole('" + IdMEntitlement.RESOURCE_LIST + "')")
     @Transactional(readOnly = true)
     public List<ResourceTO> list() {
-        return resourceDAO.findAll().stream().map(binder::getResourceTO).collect(Collectors.toList());
+        return resourceDAO.findAll().stream().map(this::getResourceTO).collect(Collectors.toList());
     }
 
     protected Triple<AnyType, ExternalResource, Provision> getProvision(
@@ -21,8 +21,12 @@ package org.apache.syncope.core.logic;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
@@ -32,12 +36,16 @@ import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.logic.api.LogicActions;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCursor;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
@@ -222,6 +230,66 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
             boolean recursive,
             boolean details);
 
+    /**
+     * Cursor variant of search, meant for walking through large result sets without skipping all previous pages.
+     *
+     * @param searchCond search condition
+     * @param cursor continuation cursor, null to start from the first page
+     * @param size items per page
+     * @param orderBy list of ordering clauses
+     * @param realm realm to search from
+     * @param recursive whether search should recursively include results from child realms
+     * @param details whether detailed information is to be included
+     * @param count whether the exact total shall be counted, or rather estimated from the results seen so far
+     * @return total (exact or estimated), results in the requested page and cursor for the next page (if any)
+     */
+    public abstract Triple<Integer, List<TO>, SearchCursor> search(
+            SearchCond searchCond,
+            SearchCursor cursor, int size, List<OrderByClause> orderBy,
+            String realm,
+            boolean recursive,
+            boolean details,
+            boolean count);
+
+    protected <A extends Any<?>> Triple<Integer, List<TO>, SearchCursor> doSearch(
+            final AnySearchDAO searchDAO,
+            final Realm base,
+            final boolean recursive,
+            final Set<String> authRealms,
+            final SearchCond searchCond,
+            final SearchCursor cursor,
+            final int size,
+            final List<OrderByClause> orderBy,
+            final boolean count,
+            final AnyTypeKind kind,
+            final Function<List<A>, List<TO>> toTOs) {
+
+        int page = Optional.ofNullable(cursor).map(SearchCursor::getPage).orElse(1);
+
+        // without exact count, one more result is fetched to find out whether any further page is available
+        List<A> matching = searchDAO.search(
+                base, recursive, authRealms, searchCond, cursor, count ? size : size + 1, orderBy, kind);
+
+        int total;
+        boolean hasNext;
+        if (count) {
+            total = searchDAO.count(base, recursive, authRealms, searchCond, kind);
+            hasNext = (page - 1) * size + matching.size() < total;
+        } else {
+            hasNext = matching.size() > size;
+            if (hasNext) {
+                matching = matching.subList(0, size);
+            }
+            total = (page - 1) * size + matching.size() + (hasNext ? 1 : 0);
+        }
+
+        SearchCursor next = hasNext && !matching.isEmpty()
+                ? searchDAO.getNextCursor(cursor, matching.get(matching.size() - 1), orderBy, kind)
+                : null;
+
+        return Triple.of(total, toTOs.apply(matching), next);
+    }
+
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
     public abstract ProvisioningResult<TO> delete(String key, boolean nullPriorityAsync);
@@ -28,6 +28,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
@@ -56,6 +57,7 @@ import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCursor;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -153,8 +155,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
             return List.of();
         }
 
-        return userDAO.findAllGroups(userDAO.findByUsername(AuthContextUtils.getUsername())).stream().
-                map(group -> binder.getGroupTO(group, true)).collect(Collectors.toList());
+        return binder.getGroupTOs(userDAO.findAllGroups(userDAO.findByUsername(AuthContextUtils.getUsername())), true);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
@@ -179,11 +180,31 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
 
         List<Group> matching = searchDAO.search(
                 base, recursive, authRealms, effectiveCond, page, size, orderBy, AnyTypeKind.GROUP);
-        List<GroupTO> result = matching.stream().
-                map(group -> binder.getGroupTO(group, details)).
-                collect(Collectors.toList());
+        return Pair.of(count, binder.getGroupTOs(matching, details));
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Triple<Integer, List<GroupTO>, SearchCursor> search(
+            final SearchCond searchCond,
+            final SearchCursor cursor, final int size, final List<OrderByClause> orderBy,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final boolean count) {
+
+        Realm base = Optional.ofNullable(realmDAO.findByFullPath(realm)).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? groupDAO.getAllMatchingCond() : searchCond;
 
-        return Pair.of(count, result);
+        return doSearch(
+                searchDAO, base, recursive, authRealms, effectiveCond, cursor, size, orderBy, count,
+                AnyTypeKind.GROUP, (List<Group> groups) -> binder.getGroupTOs(groups, details));
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_CREATE + "')")
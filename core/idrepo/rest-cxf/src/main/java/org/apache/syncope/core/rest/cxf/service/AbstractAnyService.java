@@ -20,6 +20,7 @@ package org.apache.syncope.core.rest.cxf.service;
 
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -27,7 +28,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -55,6 +56,7 @@ import org.apache.syncope.core.logic.AbstractAnyLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCursor;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
@@ -129,16 +131,36 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
                 : getSearchCond(anyQuery.getFiql(), realm);
 
         try {
-            Pair<Integer, List<TO>> result = getAnyLogic().search(
+            SearchCursor cursor = StringUtils.isBlank(anyQuery.getCursor())
+                    ? new SearchCursor(anyQuery.getPage())
+                    : SearchCursor.decode(anyQuery.getCursor());
+
+            Triple<Integer, List<TO>, SearchCursor> result = getAnyLogic().search(
                     searchCond,
-                    anyQuery.getPage(),
+                    cursor,
                     anyQuery.getSize(),
                     getOrderByClauses(anyQuery.getOrderBy()),
                     realm,
                     anyQuery.getRecursive(),
-                    anyQuery.getDetails());
-
-            return buildPagedResult(result.getRight(), anyQuery.getPage(), anyQuery.getSize(), result.getLeft());
+                    anyQuery.getDetails(),
+                    anyQuery.getCount());
+
+            PagedResult<TO> pagedResult = buildPagedResult(
+                    result.getMiddle(), cursor.getPage(), anyQuery.getSize(), result.getLeft());
+            if (pagedResult.getPrev() != null && StringUtils.isNotBlank(anyQuery.getCursor())) {
+                // previous pages can only be reached by number
+                pagedResult.setPrev(UriBuilder.fromUri(pagedResult.getPrev()).
+                        replaceQueryParam(PARAM_CURSOR).
+                        build());
+            }
+            if (pagedResult.getNext() != null && result.getRight() != null) {
+                pagedResult.setCursor(result.getRight().encode());
+                pagedResult.setNext(UriBuilder.fromUri(pagedResult.getNext()).
+                        replaceQueryParam(PARAM_CURSOR, pagedResult.getCursor()).
+                        build());
+            }
+
+            return pagedResult;
         } catch (IllegalArgumentException e) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
             sce.getElements().add(anyQuery.getFiql());
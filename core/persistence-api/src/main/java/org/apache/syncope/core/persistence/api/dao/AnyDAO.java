@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.api.dao;
 import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -37,8 +38,26 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     List<A> findByKeys(List<String> keys);
 
+    /**
+     * Variant of {@link #findByKeys(List)} meant for entities whose TOs are going to be built: the collections read
+     * for that are fetched along with entities, in a number of queries not depending on how many keys are given.
+     *
+     * @param keys entity keys
+     * @param details whether the collections read only for detailed TOs shall be fetched as well
+     * @return found entities, mapped by key
+     */
+    Map<String, A> fetchByKeys(Collection<String> keys, boolean details);
+
     OffsetDateTime findLastChange(String key);
 
+    /**
+     * Bulk variant of {@link #findLastChange(String)}.
+     *
+     * @param keys entity keys
+     * @return last change (or creation) dates, by entity key; entities not found are not mapped
+     */
+    Map<String, OffsetDateTime> findLastChange(Collection<String> keys);
+
     A authFind(String key);
 
     A find(String key);
@@ -101,5 +120,13 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     List<String> findDynRealms(String key);
 
+    /**
+     * Bulk variant of {@link #findDynRealms(String)}.
+     *
+     * @param keys entity keys
+     * @return dynamic realm keys, mapped by entity key; entities without dynamic realms are not mapped
+     */
+    Map<String, List<String>> findDynRealms(Collection<String> keys);
+
     Collection<String> findAllResourceKeys(String key);
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.function.Predicate;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 
@@ -32,4 +33,22 @@ public interface AnyMatchDAO extends DAO<Any<?>> {
      * @return true if any matches cond
      */
     <T extends Any<?>> boolean matches(T any, SearchCond cond);
+
+    /**
+     * Compile the given search condition into a predicate which can be evaluated against several any objects.
+     *
+     * @param cond search condition
+     * @return predicate verifying if any matches cond
+     */
+    Predicate<Any<?>> compile(SearchCond cond);
+
+    /**
+     * Compile the given FIQL expression into a predicate which can be evaluated against several any objects;
+     * compiled predicates are cached and recompiled as soon as plain schemas, or groups and any objects referenced by
+     * name, change.
+     *
+     * @param fiql FIQL expression
+     * @return predicate verifying if any matches fiql
+     */
+    Predicate<Any<?>> compile(String fiql);
 }
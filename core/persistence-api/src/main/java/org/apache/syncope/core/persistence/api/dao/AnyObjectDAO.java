@@ -39,6 +39,8 @@ public interface AnyObjectDAO extends AnyDAO<AnyObject> {
 
     List<AnyObject> findByName(String name);
 
+    List<AnyObject> findByNames(Collection<String> names);
+
     /**
      * Checks if the calling user is authorized to access the Any Object matching the provided key, under the given
      * realm.
@@ -64,6 +66,14 @@ public interface AnyObjectDAO extends AnyDAO<AnyObject> {
 
     List<Group> findDynGroups(String key);
 
+    /**
+     * Bulk variant of {@link #findDynGroups(String)}.
+     *
+     * @param keys any object keys
+     * @return dynamic groups, mapped by any object key; any objects without dynamic groups are not mapped
+     */
+    Map<String, List<Group>> findDynGroups(Collection<String> keys);
+
     List<Relationship<Any<?>, AnyObject>> findAllRelationships(AnyObject anyObject);
 
     Collection<Group> findAllGroups(AnyObject anyObject);
@@ -72,5 +82,15 @@ public interface AnyObjectDAO extends AnyDAO<AnyObject> {
 
     Collection<ExternalResource> findAllResources(AnyObject anyObject);
 
+    /**
+     * Saves the given any object, re-evaluating only the dynamic memberships affected by the given changes.
+     *
+     * @param anyObject any object to save
+     * @param changes changes, as computed by
+     * {@link org.apache.syncope.core.persistence.api.search.DynMembershipDependencies}; {@code null} to evaluate all
+     * @return saved any object
+     */
+    AnyObject save(AnyObject anyObject, Set<String> changes);
+
     Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(AnyObject anyObject);
 }
@@ -19,10 +19,13 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCursor;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 
@@ -81,4 +84,88 @@ public interface AnySearchDAO extends DAO<Any<?>> {
             int itemsPerPage,
             List<OrderByClause> orderBy,
             AnyTypeKind kind);
+
+    /**
+     * Keyset variant of search, meant for iterating over large result sets: results are ordered by key and start
+     * right after the given key, thus requiring neither OFFSET nor upfront count, and not being affected by any
+     * objects created or deleted meanwhile.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param afterKey key of the last result previously returned, null to start from the first result
+     * @param itemsPerPage maximum number of results to return
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition, with key greater than the given one
+     */
+    <T extends Any<?>> List<T> search(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            String afterKey,
+            int itemsPerPage,
+            AnyTypeKind kind);
+
+    /**
+     * Cursor variant of search, meant for walking through large result sets: results are ordered by the given
+     * clauses, followed by key; when the cursor reports the sort key values of the last result previously returned,
+     * the requested page is reached by filtering out results up to them, otherwise by skipping all previous pages.
+     * Such filter is added to the search condition, hence its cost depends on how the underlying store evaluates
+     * it: it is not guaranteed to be resolved by an index seek.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param cursor cursor as returned by {@link #getNextCursor(SearchCursor, Any, List, AnyTypeKind)}, null to
+     * start from the first result
+     * @param itemsPerPage number of results per page
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition (in the page the cursor leads to)
+     */
+    <T extends Any<?>> List<T> search(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            SearchCursor cursor,
+            int itemsPerPage,
+            List<OrderByClause> orderBy,
+            AnyTypeKind kind);
+
+    /**
+     * @param cursor cursor which led to the current page, null for the first page
+     * @param last last result in the current page
+     * @param orderBy list of ordering clauses, as passed to
+     * {@link #search(Realm, boolean, Set, SearchCond, SearchCursor, int, List, AnyTypeKind)}
+     * @param kind any object
+     * @return cursor leading to the page following the current one
+     */
+    SearchCursor getNextCursor(SearchCursor cursor, Any<?> last, List<OrderByClause> orderBy, AnyTypeKind kind);
+
+    /**
+     * Builds a native SQL query returning, as {@code any_id} column, the keys of any objects matching the given search
+     * condition; this allows to embed searches into set-based statements, but is not supported by all implementations.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param kind any object
+     * @return query and its positional parameters, empty if not supported
+     */
+    default Optional<Pair<String, List<Object>>> getKeysQuery(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            AnyTypeKind kind) {
+
+        return Optional.empty();
+    }
 }
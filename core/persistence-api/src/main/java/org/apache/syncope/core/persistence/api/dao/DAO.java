@@ -22,6 +22,11 @@ import org.apache.syncope.core.persistence.api.entity.Entity;
 
 public interface DAO<E extends Entity> {
 
+    /**
+     * Maximum number of keys bound to a single {@code IN} clause.
+     */
+    int KEYS_CHUNK_SIZE = 500;
+
     void refresh(E entity);
 
     void detach(E entity);
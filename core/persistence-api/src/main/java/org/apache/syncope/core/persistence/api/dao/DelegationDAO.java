@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Delegation;
 import org.apache.syncope.core.persistence.api.entity.Role;
@@ -36,6 +38,22 @@ public interface DelegationDAO extends DAO<Delegation> {
 
     List<Delegation> findByDelegated(User user);
 
+    /**
+     * Bulk variant of {@link #findByDelegating(User)}.
+     *
+     * @param userKeys user keys
+     * @return delegation keys, mapped by delegating user key; users without delegations are not mapped
+     */
+    Map<String, List<String>> findKeysByDelegating(Collection<String> userKeys);
+
+    /**
+     * Bulk variant of {@link #findByDelegated(User)}.
+     *
+     * @param userKeys user keys
+     * @return delegation keys, mapped by delegated user key; users without delegations are not mapped
+     */
+    Map<String, List<String>> findKeysByDelegated(Collection<String> userKeys);
+
     List<Delegation> findByRole(Role role);
 
     List<Delegation> findAll();
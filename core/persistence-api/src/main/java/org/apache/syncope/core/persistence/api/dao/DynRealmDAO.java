@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import java.util.Set;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
 
@@ -34,7 +35,11 @@ public interface DynRealmDAO extends DAO<DynRealm> {
 
     void delete(String key);
 
-    void refreshDynMemberships(Any<?> any);
+    default void refreshDynMemberships(Any<?> any) {
+        refreshDynMemberships(any, null);
+    }
+
+    void refreshDynMemberships(Any<?> any, Set<String> changes);
 
     void removeDynMemberships(String anyKey);
 }
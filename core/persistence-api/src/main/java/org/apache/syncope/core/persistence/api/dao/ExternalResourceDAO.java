@@ -49,6 +49,16 @@ public interface ExternalResourceDAO extends DAO<ExternalResource> {
 
     ExternalResource save(ExternalResource resource);
 
+    /**
+     * Stores the given sync token for the org unit or provision matching the given object class, within a new
+     * transaction: the token is then persisted regardless of the outcome of the ongoing transaction, if any.
+     *
+     * @param key resource key
+     * @param objectClass object class of the org unit or provision
+     * @param syncToken serialized sync token
+     */
+    void saveSyncToken(String key, String objectClass, String syncToken);
+
     void deleteMapping(String schemaName);
 
     void delete(String key);
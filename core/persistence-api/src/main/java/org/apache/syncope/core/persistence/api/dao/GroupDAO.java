@@ -37,6 +37,8 @@ public interface GroupDAO extends AnyDAO<Group> {
 
     Group findByName(String name);
 
+    List<Group> findByNames(Collection<String> names);
+
     /**
      * Checks if the calling user is authorized to access the Group matching the provided key, under the given
      * realm.
@@ -79,6 +81,38 @@ public interface GroupDAO extends AnyDAO<Group> {
 
     int countUDynMembers(Group group);
 
+    /**
+     * Bulk variant of {@link #countAMembers(String)}.
+     *
+     * @param groupKeys group keys
+     * @return static any object membership counts, mapped by group key; groups without members are not mapped
+     */
+    Map<String, Integer> countAMembers(Collection<String> groupKeys);
+
+    /**
+     * Bulk variant of {@link #countUMembers(String)}.
+     *
+     * @param groupKeys group keys
+     * @return static user membership counts, mapped by group key; groups without members are not mapped
+     */
+    Map<String, Integer> countUMembers(Collection<String> groupKeys);
+
+    /**
+     * Bulk variant of {@link #countADynMembers(Group)}.
+     *
+     * @param groupKeys group keys
+     * @return dynamic any object membership counts, mapped by group key; groups without members are not mapped
+     */
+    Map<String, Integer> countADynMembers(Collection<String> groupKeys);
+
+    /**
+     * Bulk variant of {@link #countUDynMembers(Group)}.
+     *
+     * @param groupKeys group keys
+     * @return dynamic user membership counts, mapped by group key; groups without members are not mapped
+     */
+    Map<String, Integer> countUDynMembers(Collection<String> groupKeys);
+
     @Override
     Collection<String> findAllResourceKeys(String key);
 
@@ -90,7 +124,20 @@ public interface GroupDAO extends AnyDAO<Group> {
      * @param anyObject anyObject being saved
      * @return pair of groups dynamically assigned before and after refresh
      */
-    Pair<Set<String>, Set<String>> refreshDynMemberships(AnyObject anyObject);
+    default Pair<Set<String>, Set<String>> refreshDynMemberships(AnyObject anyObject) {
+        return refreshDynMemberships(anyObject, null);
+    }
+
+    /**
+     * Evaluates the dynamic group membership conditions affected by the given changes against the given anyObject
+     * (invoked during save).
+     *
+     * @param anyObject anyObject being saved
+     * @param changes changes, as computed by
+     * {@link org.apache.syncope.core.persistence.api.search.DynMembershipDependencies}; {@code null} to evaluate all
+     * @return pair of groups dynamically assigned before and after refresh
+     */
+    Pair<Set<String>, Set<String>> refreshDynMemberships(AnyObject anyObject, Set<String> changes);
 
     /**
      * Removes the dynamic group memberships of the given anyObject (invoked during delete).
@@ -110,7 +157,20 @@ public interface GroupDAO extends AnyDAO<Group> {
      * @param user user being saved
      * @return pair of groups dynamically assigned before and after refresh
      */
-    Pair<Set<String>, Set<String>> refreshDynMemberships(User user);
+    default Pair<Set<String>, Set<String>> refreshDynMemberships(User user) {
+        return refreshDynMemberships(user, null);
+    }
+
+    /**
+     * Evaluates the dynamic group membership conditions affected by the given changes against the given user
+     * (invoked during save).
+     *
+     * @param user user being saved
+     * @param changes changes, as computed by
+     * {@link org.apache.syncope.core.persistence.api.search.DynMembershipDependencies}; {@code null} to evaluate all
+     * @return pair of groups dynamically assigned before and after refresh
+     */
+    Pair<Set<String>, Set<String>> refreshDynMemberships(User user, Set<String> changes);
 
     /**
      * Removes the dynamic group memberships of the given anyObject (invoked during delete).
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationRetry;
+
+public interface PropagationRetryDAO extends DAO<PropagationRetry> {
+
+    PropagationRetry find(String key);
+
+    Optional<PropagationRetry> findByTask(String taskKey);
+
+    /**
+     * Finds the entries whose next attempt is due and which are not leased by any node, in creation order; entries
+     * about an entity for which an earlier entry on the same resource is still pending - not yet due, or leased - are
+     * left out, so that they are never replayed ahead of it.
+     *
+     * @param max maximum number of entries to return
+     * @return keys of the due entries
+     */
+    List<String> findDue(int max);
+
+    /**
+     * Atomically leases the given entry to the given owner, unless already leased by another owner.
+     * Executed in its own transaction, so that the lease is immediately visible to other cluster nodes.
+     *
+     * @param key entry key
+     * @param owner lease owner, typically identifying the cluster node
+     * @param leaseExpiry time after which the lease can be taken over by other owners
+     * @return whether the lease was acquired
+     */
+    boolean claim(String key, String owner, OffsetDateTime leaseExpiry);
+
+    /**
+     * Removes the entries about the given entity on the given resource which were queued before the given time and
+     * are not leased by any node: a later propagation of the same entity to the same resource succeeded, so replaying
+     * them would overwrite newer data.
+     *
+     * @param resource resource key
+     * @param entityKey entity key
+     * @param before entries queued before this time are removed
+     * @return number of removed entries
+     */
+    int deleteSuperseded(String resource, String entityKey, OffsetDateTime before);
+
+    long count();
+
+    Map<String, Long> countByResource();
+
+    PropagationRetry save(PropagationRetry retry);
+
+    void delete(String key);
+}
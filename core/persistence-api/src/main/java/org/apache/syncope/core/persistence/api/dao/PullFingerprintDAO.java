@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.syncope.core.persistence.api.entity.task.PullFingerprint;
+
+public interface PullFingerprintDAO extends DAO<PullFingerprint> {
+
+    /**
+     * Generates the key of the fingerprint for the given connector object, as name-based UUID, so that it does not
+     * depend on the length of the connector object's UID.
+     *
+     * @param resource resource key
+     * @param objectClass object class
+     * @param uid connector object's UID value
+     * @return fingerprint key
+     */
+    static String key(String resource, String objectClass, String uid) {
+        return UUID.nameUUIDFromBytes((resource + '\u0000' + objectClass + '\u0000' + uid).
+                getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Finds the fingerprints of the given connector objects.
+     *
+     * @param resource resource key
+     * @param objectClass object class
+     * @param uids connector objects' UID values
+     * @return fingerprints, by UID value; connector objects without fingerprint are not included
+     */
+    Map<String, PullFingerprint> find(String resource, String objectClass, Collection<String> uids);
+
+    /**
+     * Saves the fingerprint of the given connector object, as just handled.
+     *
+     * @param resource resource key
+     * @param objectClass object class
+     * @param uid connector object's UID value
+     * @param fingerprint connector object's fingerprint
+     * @param anyKey key of the entity matched to the given connector object
+     */
+    void save(String resource, String objectClass, String uid, String fingerprint, String anyKey);
+
+    void delete(String resource, String objectClass, String uid);
+
+    void deleteByResource(String resource);
+}
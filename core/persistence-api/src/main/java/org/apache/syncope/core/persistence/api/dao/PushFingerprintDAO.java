@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.syncope.core.persistence.api.entity.task.PushFingerprint;
+
+public interface PushFingerprintDAO extends DAO<PushFingerprint> {
+
+    /**
+     * Generates the key of the fingerprint for the given entity on the given resource, as name-based UUID.
+     *
+     * @param resource resource key
+     * @param anyKey user, group or any object key
+     * @return fingerprint key
+     */
+    static String key(String resource, String anyKey) {
+        return UUID.nameUUIDFromBytes((resource + '\u0000' + anyKey).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Finds the fingerprints of the given entities.
+     *
+     * @param resource resource key
+     * @param anyKeys user, group or any object keys
+     * @return fingerprints, by entity key; entities without fingerprint are not included
+     */
+    Map<String, String> find(String resource, Collection<String> anyKeys);
+
+    void save(String resource, String anyKey, String fingerprint);
+
+    void deleteByResource(String resource);
+}
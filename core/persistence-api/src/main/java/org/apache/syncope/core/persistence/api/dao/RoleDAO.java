@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import java.util.Set;
 import org.apache.syncope.core.persistence.api.entity.Privilege;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Role;
@@ -48,7 +49,11 @@ public interface RoleDAO extends DAO<Role> {
 
     void clearDynMembers(Role role);
 
-    void refreshDynMemberships(User user);
+    default void refreshDynMemberships(User user) {
+        refreshDynMemberships(user, null);
+    }
+
+    void refreshDynMemberships(User user, Set<String> changes);
 
     void removeDynMemberships(String key);
 
@@ -56,6 +56,8 @@ public interface UserDAO extends AnyDAO<User> {
 
     User findByUsername(String username);
 
+    List<User> findByUsernames(Collection<String> usernames);
+
     User findByToken(String token);
 
     List<User> findBySecurityQuestion(SecurityQuestion securityQuestion);
@@ -64,10 +66,26 @@ public interface UserDAO extends AnyDAO<User> {
 
     List<Role> findDynRoles(String key);
 
+    /**
+     * Bulk variant of {@link #findDynRoles(String)}.
+     *
+     * @param keys user keys
+     * @return dynamic roles, mapped by user key; users without dynamic roles are not mapped
+     */
+    Map<String, List<Role>> findDynRoles(Collection<String> keys);
+
     Collection<Role> findAllRoles(User user);
 
     List<Group> findDynGroups(String key);
 
+    /**
+     * Bulk variant of {@link #findDynGroups(String)}.
+     *
+     * @param keys user keys
+     * @return dynamic groups, mapped by user key; users without dynamic groups are not mapped
+     */
+    Map<String, List<Group>> findDynGroups(Collection<String> keys);
+
     Collection<Group> findAllGroups(User user);
 
     Collection<String> findAllGroupKeys(User user);
@@ -82,9 +100,21 @@ public interface UserDAO extends AnyDAO<User> {
 
     List<LinkedAccount> findLinkedAccounts(String userKey);
 
+    List<LinkedAccount> findLinkedAccounts(ExternalResource resource, Collection<String> connObjectKeyValues);
+
     List<LinkedAccount> findLinkedAccountsByResource(ExternalResource resource);
 
     List<LinkedAccount> findLinkedAccountsByPrivilege(Privilege privilege);
 
+    /**
+     * Saves the given user, re-evaluating only the dynamic memberships affected by the given changes.
+     *
+     * @param user user to save
+     * @param changes changes, as computed by
+     * {@link org.apache.syncope.core.persistence.api.search.DynMembershipDependencies}; {@code null} to evaluate all
+     * @return saved user
+     */
+    User save(User user, Set<String> changes);
+
     Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(User user);
 }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao.search;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Continuation cursor for searches: besides the number of the page it leads to, it reports - when available - the
+ * values of the sort keys (followed by the key) of the last result previously returned, so that the next page can be
+ * reached by seeking rather than by skipping all previous results.
+ */
+public class SearchCursor implements Serializable {
+
+    private static final long serialVersionUID = 2719870367126373245L;
+
+    private static final char SEPARATOR = '.';
+
+    public static SearchCursor decode(final String encoded) {
+        String[] parts = encoded.split("\\" + SEPARATOR, -1);
+
+        int page;
+        try {
+            page = Integer.parseInt(parts[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor " + encoded, e);
+        }
+        if (page < 1) {
+            throw new IllegalArgumentException("Invalid cursor " + encoded);
+        }
+
+        List<String> after = new ArrayList<>(parts.length - 1);
+        try {
+            for (int i = 1; i < parts.length; i++) {
+                after.add(new String(Base64.getUrlDecoder().decode(parts[i]), StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor " + encoded, e);
+        }
+
+        return new SearchCursor(page, after);
+    }
+
+    private final int page;
+
+    private final List<String> after;
+
+    public SearchCursor(final int page) {
+        this(page, List.of());
+    }
+
+    public SearchCursor(final int page, final List<String> after) {
+        this.page = page;
+        this.after = Collections.unmodifiableList(new ArrayList<>(after));
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * @return values of the sort keys, followed by the key, of the last result previously returned; empty when the
+     * page can only be reached by skipping all previous results
+     */
+    public List<String> getAfter() {
+        return after;
+    }
+
+    public String encode() {
+        return page + after.stream().
+                map(value -> SEPARATOR + Base64.getUrlEncoder().withoutPadding().
+                encodeToString(value.getBytes(StandardCharsets.UTF_8))).
+                collect(Collectors.joining());
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                append(page).
+                append(after).
+                build();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final SearchCursor other = (SearchCursor) obj;
+        return new EqualsBuilder().
+                append(page, other.page).
+                append(after, other.after).
+                build();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(page).
+                append(after).
+                build();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.entity.task;
+
+import java.time.OffsetDateTime;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+
+/**
+ * Entry of the durable propagation retry queue: references a failed {@link PropagationTask} and the time of its next
+ * attempt. Entries about the same entity on the same resource are replayed in creation order.
+ */
+public interface PropagationRetry extends Entity {
+
+    String getTaskKey();
+
+    void setTaskKey(String taskKey);
+
+    String getResource();
+
+    void setResource(String resource);
+
+    String getEntityKey();
+
+    void setEntityKey(String entityKey);
+
+    OffsetDateTime getCreationDate();
+
+    void setCreationDate(OffsetDateTime creationDate);
+
+    int getAttempts();
+
+    void setAttempts(int attempts);
+
+    OffsetDateTime getNextAttempt();
+
+    void setNextAttempt(OffsetDateTime nextAttempt);
+
+    String getOwner();
+
+    void setOwner(String owner);
+
+    OffsetDateTime getLeaseExpiry();
+
+    void setLeaseExpiry(OffsetDateTime leaseExpiry);
+}
@@ -31,4 +31,11 @@ public interface PushTask extends ProvisioningTask<PushTask> {
     Optional<String> getFilter(String anyType);
 
     Map<String, String> getFilters();
+
+    /**
+     * @return whether users, groups and any objects unchanged since their latest successful push shall be skipped
+     */
+    boolean isIncremental();
+
+    void setIncremental(boolean incremental);
 }
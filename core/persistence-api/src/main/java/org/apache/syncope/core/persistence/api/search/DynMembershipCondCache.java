@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link DynMembershipDependencies} of dynamic membership conditions by FIQL expression;
+ * as entries are keyed by the expression itself, updated conditions never hit stale entries.
+ */
+public class DynMembershipCondCache {
+
+    protected static final int MAX_SIZE = 10000;
+
+    protected final Map<String, Set<String>> dependencies = new ConcurrentHashMap<>();
+
+    public Set<String> dependencies(final SearchCondVisitor visitor, final String fiql) {
+        if (dependencies.size() >= MAX_SIZE) {
+            dependencies.clear();
+        }
+
+        return dependencies.computeIfAbsent(
+                fiql, k -> DynMembershipDependencies.of(SearchCondConverter.convert(visitor, k)));
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.request.AnyObjectUR;
+import org.apache.syncope.common.lib.request.AnyUR;
+import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.AuxClassCond;
+import org.apache.syncope.core.persistence.api.dao.search.RelationshipCond;
+import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.GroupableRelatable;
+import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+
+/**
+ * Tells which dynamic membership conditions need to be re-evaluated when a user or any object is saved.
+ *
+ * Both the dependencies of a condition and the changes of a save are expressed as sets of tokens: a condition is
+ * affected by a save when the two sets intersect.
+ */
+public final class DynMembershipDependencies {
+
+    /**
+     * Conditions depending on this token are re-evaluated upon every save: this applies to conditions on
+     * memberships, roles, resources and dynamic realms, which can also change as a consequence of the dynamic
+     * memberships themselves, and to conditions on fields not managed by update requests.
+     */
+    public static final String ALWAYS = "*";
+
+    public static final String RELATIONSHIPS = "relationships";
+
+    public static final String AUX_CLASSES = "auxClasses";
+
+    public static final String RESOURCES = "resources";
+
+    public static final String ROLES = "roles";
+
+    public static final String MEMBERSHIPS = "memberships";
+
+    private static final Set<String> IMMUTABLE_FIELDS = Set.of("key", "id");
+
+    private static final Set<String> UPDATABLE_FIELDS = Set.of("username", "name");
+
+    public static String field(final String name) {
+        return "field:" + name;
+    }
+
+    public static String schema(final String name) {
+        return "schema:" + name;
+    }
+
+    private static void collect(final SearchCond cond, final Set<String> dependencies) {
+        switch (cond.getType()) {
+            case LEAF:
+            case NOT_LEAF:
+                if (cond.getLeaf(AnyCond.class).isPresent()) {
+                    String field = cond.getLeaf(AnyCond.class).get().getSchema();
+                    if (UPDATABLE_FIELDS.contains(field)) {
+                        dependencies.add(field(field));
+                    } else if (!IMMUTABLE_FIELDS.contains(field)) {
+                        dependencies.add(ALWAYS);
+                    }
+                } else if (cond.getLeaf(AttrCond.class).isPresent()) {
+                    dependencies.add(schema(cond.getLeaf(AttrCond.class).get().getSchema()));
+                } else if (cond.getLeaf(RelationshipTypeCond.class).isPresent()
+                        || cond.getLeaf(RelationshipCond.class).isPresent()) {
+
+                    dependencies.add(RELATIONSHIPS);
+                } else if (cond.getLeaf(AuxClassCond.class).isPresent()) {
+                    dependencies.add(AUX_CLASSES);
+                } else if (cond.getLeaf(AnyTypeCond.class).isEmpty()) {
+                    // any type cannot be changed, everything else is conservatively re-evaluated
+                    dependencies.add(ALWAYS);
+                }
+                break;
+
+            case AND:
+            case OR:
+                collect(cond.getLeft(), dependencies);
+                collect(cond.getRight(), dependencies);
+                break;
+
+            default:
+                dependencies.add(ALWAYS);
+        }
+    }
+
+    /**
+     * Returns the tokens the given condition depends on.
+     *
+     * @param cond dynamic membership condition
+     * @return dependency tokens
+     */
+    public static Set<String> of(final SearchCond cond) {
+        Set<String> dependencies = new HashSet<>();
+        collect(cond, dependencies);
+        return dependencies;
+    }
+
+    /**
+     * Returns the tokens changed by the given update request.
+     *
+     * @param anyUR update request
+     * @return change tokens
+     */
+    public static Set<String> of(final AnyUR anyUR) {
+        Set<String> changes = new HashSet<>();
+
+        anyUR.getPlainAttrs().forEach(patch -> changes.add(schema(patch.getAttr().getSchema())));
+        if (!anyUR.getAuxClasses().isEmpty()) {
+            changes.add(AUX_CLASSES);
+        }
+        if (!anyUR.getResources().isEmpty()) {
+            changes.add(RESOURCES);
+        }
+
+        if (anyUR instanceof UserUR) {
+            UserUR userUR = (UserUR) anyUR;
+            if (userUR.getUsername() != null) {
+                changes.add(field("username"));
+            }
+            if (!userUR.getRoles().isEmpty()) {
+                changes.add(ROLES);
+            }
+            if (!userUR.getRelationships().isEmpty()) {
+                changes.add(RELATIONSHIPS);
+            }
+            if (!userUR.getMemberships().isEmpty()) {
+                changes.add(MEMBERSHIPS);
+                userUR.getMemberships().forEach(memb -> memb.getPlainAttrs().
+                        forEach(attr -> changes.add(schema(attr.getSchema()))));
+            }
+        } else if (anyUR instanceof AnyObjectUR) {
+            AnyObjectUR anyObjectUR = (AnyObjectUR) anyUR;
+            if (anyObjectUR.getName() != null) {
+                changes.add(field("name"));
+            }
+            if (!anyObjectUR.getRelationships().isEmpty()) {
+                changes.add(RELATIONSHIPS);
+            }
+            if (!anyObjectUR.getMemberships().isEmpty()) {
+                changes.add(MEMBERSHIPS);
+                anyObjectUR.getMemberships().forEach(memb -> memb.getPlainAttrs().
+                        forEach(attr -> changes.add(schema(attr.getSchema()))));
+            }
+        }
+
+        return changes;
+    }
+
+    private static void put(final Map<String, Set<String>> state, final String token, final String value) {
+        state.computeIfAbsent(token, k -> new HashSet<>()).add(value);
+    }
+
+    /**
+     * Captures what dynamic membership conditions can depend on, for the given user or any object; snapshots taken
+     * before and after an update are compared by {@link #changes(Map, Map)}, so that side effects not described by
+     * the update request are detected as well.
+     *
+     * @param any user or any object
+     * @return state snapshot, by change token
+     */
+    public static Map<String, Set<String>> state(final Any<?> any) {
+        Map<String, Set<String>> state = new HashMap<>();
+
+        any.getPlainAttrs().forEach(attr -> put(
+                state, schema(attr.getSchema().getKey()), attr.getValuesAsStrings().toString()));
+        any.getAuxClasses().forEach(auxClass -> put(state, AUX_CLASSES, auxClass.getKey()));
+        any.getResources().forEach(resource -> put(state, RESOURCES, resource.getKey()));
+
+        if (any instanceof GroupableRelatable) {
+            GroupableRelatable<?, ?, ?, ?, ?> groupable = (GroupableRelatable<?, ?, ?, ?, ?>) any;
+            groupable.getMemberships().forEach(memb -> {
+                put(state, MEMBERSHIPS, memb.getRightEnd().getKey());
+                groupable.getPlainAttrs(memb).forEach(attr -> put(
+                        state,
+                        schema(attr.getSchema().getKey()),
+                        memb.getRightEnd().getKey() + '=' + attr.getValuesAsStrings()));
+            });
+            groupable.getRelationships().forEach(rel -> put(
+                    state, RELATIONSHIPS, rel.getType().getKey() + '=' + rel.getRightEnd().getKey()));
+        }
+
+        if (any instanceof User) {
+            put(state, field("username"), ((User) any).getUsername());
+            ((User) any).getRoles().forEach(role -> put(state, ROLES, role.getKey()));
+        } else if (any instanceof AnyObject) {
+            put(state, field("name"), ((AnyObject) any).getName());
+        }
+
+        return state;
+    }
+
+    /**
+     * Returns the tokens whose state differs between the given snapshots.
+     *
+     * @param before state snapshot, as returned by {@link #state(Any)}
+     * @param after state snapshot, as returned by {@link #state(Any)}
+     * @return change tokens
+     */
+    public static Set<String> changes(final Map<String, Set<String>> before, final Map<String, Set<String>> after) {
+        Set<String> changes = new HashSet<>();
+        Stream.concat(before.keySet().stream(), after.keySet().stream()).
+                filter(token -> !Objects.equals(before.get(token), after.get(token))).
+                forEach(changes::add);
+        return changes;
+    }
+
+    /**
+     * Tells whether a condition with the given dependencies needs to be re-evaluated after the given changes.
+     *
+     * @param dependencies condition dependencies, as returned by {@link #of(SearchCond)}
+     * @param changes change tokens, as returned by {@link #of(AnyUR)}; {@code null} when unknown
+     * @return whether re-evaluation is needed
+     */
+    public static boolean affected(final Set<String> dependencies, final Set<String> changes) {
+        return changes == null
+                || dependencies.contains(ALWAYS)
+                || dependencies.stream().anyMatch(changes::contains);
+    }
+
+    private DynMembershipDependencies() {
+        // private constructor for static utility class
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.syncope.common.lib.Attr;
+import org.apache.syncope.common.lib.request.AttrPatch;
+import org.apache.syncope.common.lib.request.StringReplacePatchItem;
+import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.junit.jupiter.api.Test;
+
+public class DynMembershipDependenciesTest {
+
+    private static final SearchCondVisitor VISITOR = new SearchCondVisitor();
+
+    @Test
+    public void dependencies() {
+        SearchCond cond = SearchCondConverter.convert(VISITOR, "cool==true;username==rossini");
+        assertEquals(
+                Set.of(DynMembershipDependencies.schema("cool"), DynMembershipDependencies.field("username")),
+                DynMembershipDependencies.of(cond));
+
+        cond = SearchCondConverter.convert(VISITOR, "$type==PRINTER;location==Rome");
+        assertEquals(Set.of(DynMembershipDependencies.schema("location")), DynMembershipDependencies.of(cond));
+
+        cond = SearchCondConverter.convert(VISITOR, "cool==true,$groups==root");
+        assertTrue(DynMembershipDependencies.of(cond).contains(DynMembershipDependencies.ALWAYS));
+
+        cond = SearchCondConverter.convert(VISITOR, "status==active");
+        assertEquals(Set.of(DynMembershipDependencies.ALWAYS), DynMembershipDependencies.of(cond));
+    }
+
+    @Test
+    public void affected() {
+        Set<String> changes = DynMembershipDependencies.of(new UserUR.Builder(UUID.randomUUID().toString()).
+                username(new StringReplacePatchItem.Builder().value("newUsername").build()).
+                plainAttr(new AttrPatch.Builder(new Attr.Builder("surname").value("Verdi").build()).build()).
+                build());
+        assertEquals(
+                Set.of(DynMembershipDependencies.field("username"), DynMembershipDependencies.schema("surname")),
+                changes);
+
+        assertTrue(DynMembershipDependencies.affected(
+                DynMembershipDependencies.of(SearchCondConverter.convert(VISITOR, "surname==Rossini")), changes));
+        assertTrue(DynMembershipDependencies.affected(
+                DynMembershipDependencies.of(SearchCondConverter.convert(VISITOR, "username==rossini")), changes));
+        assertFalse(DynMembershipDependencies.affected(
+                DynMembershipDependencies.of(SearchCondConverter.convert(VISITOR, "cool==true")), changes));
+        assertTrue(DynMembershipDependencies.affected(
+                DynMembershipDependencies.of(SearchCondConverter.convert(VISITOR, "cool==true")), null));
+        assertTrue(DynMembershipDependencies.affected(
+                DynMembershipDependencies.of(SearchCondConverter.convert(VISITOR, "$roles==Other")), Set.of()));
+    }
+
+    @Test
+    public void changes() {
+        Map<String, Set<String>> before = Map.of(
+                DynMembershipDependencies.schema("surname"), Set.of("[Rossini]"),
+                DynMembershipDependencies.RESOURCES, Set.of("resource-ldap"),
+                DynMembershipDependencies.ROLES, Set.of("Other"));
+        Map<String, Set<String>> after = Map.of(
+                DynMembershipDependencies.schema("surname"), Set.of("[Verdi]"),
+                DynMembershipDependencies.RESOURCES, Set.of("resource-ldap"),
+                DynMembershipDependencies.MEMBERSHIPS, Set.of("root"));
+
+        assertEquals(
+                Set.of(DynMembershipDependencies.schema("surname"),
+                        DynMembershipDependencies.ROLES,
+                        DynMembershipDependencies.MEMBERSHIPS),
+                DynMembershipDependencies.changes(before, after));
+        assertTrue(DynMembershipDependencies.changes(after, after).isEmpty());
+    }
+}
@@ -35,6 +35,7 @@ import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.jpa.dao.DynMembershipIndex;
 import org.apache.syncope.core.persistence.jpa.dao.JPAJSONAnyObjectDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAJSONGroupDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAJSONPlainAttrDAO;
@@ -89,6 +90,7 @@ public abstract class JPAJSONPersistenceContext {
             final @Lazy AnyObjectDAO anyObjectDAO,
             final @Lazy AnySearchDAO anySearchDAO,
             final SearchCondVisitor searchCondVisitor,
+            final DynMembershipIndex dynMembershipIndex,
             final @Lazy JPAJSONAnyDAO anyDAO) {
 
         return new JPAJSONGroupDAO(
@@ -103,6 +105,7 @@ public abstract class JPAJSONPersistenceContext {
                 anyObjectDAO,
                 anySearchDAO,
                 searchCondVisitor,
+                dynMembershipIndex,
                 anyDAO);
     }
 
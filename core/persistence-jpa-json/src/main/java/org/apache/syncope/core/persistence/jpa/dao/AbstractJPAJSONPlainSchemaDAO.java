@@ -33,9 +33,10 @@ abstract class AbstractJPAJSONPlainSchemaDAO extends JPAPlainSchemaDAO {
     protected AbstractJPAJSONPlainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrDAO plainAttrDAO,
-            final ExternalResourceDAO resourceDAO) {
+            final ExternalResourceDAO resourceDAO,
+            final AnyMatchCache anyMatchCache) {
 
-        super(anyUtilsFactory, plainAttrDAO, resourceDAO);
+        super(anyUtilsFactory, plainAttrDAO, resourceDAO, anyMatchCache);
     }
 
     @Override
@@ -83,14 +83,16 @@ public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
     }
 
     @Override
-    protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(final AnyObject anyObject) {
+    protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(
+            final AnyObject anyObject, final Set<String> changes) {
+
         AnyObject merged = entityManager().merge(anyObject);
 
         // ensure that entity listeners are invoked at this point
         entityManager().flush();
 
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
-        dynRealmDAO.refreshDynMemberships(merged);
+        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged, changes);
+        dynRealmDAO.refreshDynMemberships(merged, changes);
 
         return Pair.of(merged, dynGroupMembs);
     }
@@ -100,4 +102,10 @@ public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
         anyDAO.checkBeforeSave(JPAJSONAnyObject.TABLE, anyUtils(), anyObject);
         return super.save(anyObject);
     }
+
+    @Override
+    public AnyObject save(final AnyObject anyObject, final Set<String> changes) {
+        anyDAO.checkBeforeSave(JPAJSONAnyObject.TABLE, anyUtils(), anyObject);
+        return super.save(anyObject, changes);
+    }
 }
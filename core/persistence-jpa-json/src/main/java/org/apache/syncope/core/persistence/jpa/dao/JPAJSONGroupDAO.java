@@ -55,6 +55,7 @@ public class JPAJSONGroupDAO extends JPAGroupDAO {
             final AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
             final SearchCondVisitor searchCondVisitor,
+            final DynMembershipIndex dynMembershipIndex,
             final JPAJSONAnyDAO anyDAO) {
 
         super(anyUtilsFactory,
@@ -67,7 +68,8 @@ public class JPAJSONGroupDAO extends JPAGroupDAO {
                 userDAO,
                 anyObjectDAO,
                 searchDAO,
-                searchCondVisitor);
+                searchCondVisitor,
+                dynMembershipIndex);
         this.anyDAO = anyDAO;
     }
 
@@ -100,16 +100,16 @@ public class JPAJSONUserDAO extends JPAUserDAO {
     }
 
     @Override
-    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user) {
+    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user, final Set<String> changes) {
         entityManager().flush();
         User merged = entityManager().merge(user);
 
         // ensure that entity listeners are invoked at this point
         entityManager().flush();
 
-        roleDAO.refreshDynMemberships(merged);
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
-        dynRealmDAO.refreshDynMemberships(merged);
+        roleDAO.refreshDynMemberships(merged, changes);
+        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged, changes);
+        dynRealmDAO.refreshDynMemberships(merged, changes);
 
         return Pair.of(merged, dynGroupMembs);
     }
@@ -120,6 +120,12 @@ public class JPAJSONUserDAO extends JPAUserDAO {
         return super.save(user);
     }
 
+    @Override
+    public User save(final User user, final Set<String> changes) {
+        anyDAO.checkBeforeSave(JPAJSONUser.TABLE, anyUtils(), user);
+        return super.save(user, changes);
+    }
+
     @Override
     public Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(final User user) {
         anyDAO.checkBeforeSave(JPAJSONUser.TABLE, anyUtils(), user);
@@ -30,9 +30,10 @@ public class OJPAJSONPlainSchemaDAO extends AbstractJPAJSONPlainSchemaDAO {
     public OJPAJSONPlainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrDAO plainAttrDAO,
-            final ExternalResourceDAO resourceDAO) {
+            final ExternalResourceDAO resourceDAO,
+            final AnyMatchCache anyMatchCache) {
 
-        super(anyUtilsFactory, plainAttrDAO, resourceDAO);
+        super(anyUtilsFactory, plainAttrDAO, resourceDAO, anyMatchCache);
     }
 
     @Override
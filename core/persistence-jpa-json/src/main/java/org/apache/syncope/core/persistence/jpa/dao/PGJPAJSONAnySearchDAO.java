@@ -636,6 +636,7 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
 
     @Override
     protected String buildAdminRealmsFilter(
+            final boolean recursive,
             final Set<String> realmKeys,
             final SearchSupport svs,
             final List<Object> parameters) {
@@ -644,10 +645,32 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
             return "realm_id IS NOT NULL";
         }
 
-        String realmKeysArg = realmKeys.stream().
-                map(realmKey -> "?" + setParameter(parameters, realmKey)).
-                collect(Collectors.joining(","));
-        return "realm_id IN (" + realmKeysArg + ')';
+        return "realm_id IN (" + buildRealmScope(recursive, realmKeys, parameters) + ')';
+    }
+
+    @Override
+    protected StringBuilder buildKeysQuery(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final List<Object> parameters) {
+
+        SearchSupport svs = buildSearchSupport(kind);
+
+        Triple<String, Set<String>, Set<String>> filter =
+                getAdminRealmsFilter(base, recursive, adminRealms, svs, parameters);
+
+        Pair<StringBuilder, Set<String>> queryInfo =
+                getQuery(buildEffectiveCond(cond, filter.getMiddle(), filter.getRight(), kind), parameters, svs);
+
+        StringBuilder queryString =
+                new StringBuilder("SELECT ").append(svs.table().alias).append(".id AS any_id");
+
+        buildFromAndWhere(queryString, queryInfo, filter.getLeft(), svs, null);
+
+        return queryString;
     }
 
     @Override
@@ -28,7 +28,10 @@ import java.util.Objects;
 import javax.sql.DataSource;
 import org.apache.syncope.common.keymaster.client.api.model.Domain;
 import org.apache.syncope.core.persistence.api.DomainRegistry;
+import org.apache.syncope.core.persistence.jpa.openjpa.AnyMatchCacheRemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.openjpa.ConnectorManagerRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.DynMembershipIndexRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.RealmTreeRemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.spring.DomainEntityManagerFactoryBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -127,6 +130,12 @@ public class DomainConfFactory implements DomainRegistry {
 
         ConnectorManagerRemoteCommitListener connectorManagerRemoteCommitListener =
                 new ConnectorManagerRemoteCommitListener(domain.getKey());
+        RealmTreeRemoteCommitListener realmTreeRemoteCommitListener =
+                new RealmTreeRemoteCommitListener(domain.getKey());
+        DynMembershipIndexRemoteCommitListener dynMembershipIndexRemoteCommitListener =
+                new DynMembershipIndexRemoteCommitListener(domain.getKey());
+        AnyMatchCacheRemoteCommitListener anyMatchCacheRemoteCommitListener =
+                new AnyMatchCacheRemoteCommitListener(domain.getKey());
 
         BeanDefinitionBuilder emf = BeanDefinitionBuilder.rootBeanDefinition(DomainEntityManagerFactoryBean.class).
                 addPropertyValue("mappingResources", domain.getOrm()).
@@ -134,7 +143,10 @@ public class DomainConfFactory implements DomainRegistry {
                 addPropertyReference("dataSource", domain.getKey() + "DataSource").
                 addPropertyValue("jpaVendorAdapter", vendorAdapter).
                 addPropertyReference("commonEntityManagerFactoryConf", "commonEMFConf").
-                addPropertyValue("connectorManagerRemoteCommitListener", connectorManagerRemoteCommitListener);
+                addPropertyValue("connectorManagerRemoteCommitListener", connectorManagerRemoteCommitListener).
+                addPropertyValue("realmTreeRemoteCommitListener", realmTreeRemoteCommitListener).
+                addPropertyValue("dynMembershipIndexRemoteCommitListener", dynMembershipIndexRemoteCommitListener).
+                addPropertyValue("anyMatchCacheRemoteCommitListener", anyMatchCacheRemoteCommitListener);
         if (ctx.getEnvironment().containsProperty("openjpaMetaDataFactory")) {
             emf.addPropertyValue("jpaPropertyMap", Map.of(
                     "openjpa.MetaDataFactory",
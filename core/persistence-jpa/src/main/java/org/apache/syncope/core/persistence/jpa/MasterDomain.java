@@ -26,7 +26,10 @@ import java.util.Map;
 import java.util.Objects;
 import javax.sql.DataSource;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.jpa.openjpa.AnyMatchCacheRemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.openjpa.ConnectorManagerRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.DynMembershipIndexRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.RealmTreeRemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.spring.CommonEntityManagerFactoryConf;
 import org.apache.syncope.core.persistence.jpa.spring.DomainEntityManagerFactoryBean;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -109,6 +112,12 @@ public class MasterDomain {
         masterEntityManagerFactory.setCommonEntityManagerFactoryConf(commonEMFConf);
         masterEntityManagerFactory.setConnectorManagerRemoteCommitListener(
                 new ConnectorManagerRemoteCommitListener(SyncopeConstants.MASTER_DOMAIN));
+        masterEntityManagerFactory.setRealmTreeRemoteCommitListener(
+                new RealmTreeRemoteCommitListener(SyncopeConstants.MASTER_DOMAIN));
+        masterEntityManagerFactory.setDynMembershipIndexRemoteCommitListener(
+                new DynMembershipIndexRemoteCommitListener(SyncopeConstants.MASTER_DOMAIN));
+        masterEntityManagerFactory.setAnyMatchCacheRemoteCommitListener(
+                new AnyMatchCacheRemoteCommitListener(SyncopeConstants.MASTER_DOMAIN));
 
         if (props.getMetaDataFactory() != null) {
             masterEntityManagerFactory.setJpaPropertyMap(Map.of(
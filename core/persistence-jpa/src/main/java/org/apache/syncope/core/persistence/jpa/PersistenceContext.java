@@ -59,6 +59,9 @@ import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.PropagationRetryDAO;
+import org.apache.syncope.core.persistence.api.dao.PullFingerprintDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
@@ -117,6 +120,9 @@ import org.apache.syncope.core.persistence.jpa.dao.JPAPlainAttrDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAPlainAttrValueDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAPlainSchemaDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAPolicyDAO;
+import org.apache.syncope.core.persistence.jpa.dao.JPAPropagationRetryDAO;
+import org.apache.syncope.core.persistence.jpa.dao.JPAPullFingerprintDAO;
+import org.apache.syncope.core.persistence.jpa.dao.JPAPushFingerprintDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPARealmDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPARelationshipTypeDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPARemediationDAO;
@@ -133,6 +139,9 @@ import org.apache.syncope.core.persistence.jpa.dao.JPATaskExecDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAUserDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAVirSchemaDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAWAConfigDAO;
+import org.apache.syncope.core.persistence.jpa.dao.AnyMatchCache;
+import org.apache.syncope.core.persistence.jpa.dao.DynMembershipIndex;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyUtilsFactory;
 import org.apache.syncope.core.persistence.jpa.entity.JPAEntityFactory;
 import org.apache.syncope.core.persistence.jpa.entity.am.JPAClientAppUtilsFactory;
@@ -329,6 +338,12 @@ public class PersistenceContext {
         return new JPAApplicationDAO(roleDAO, userDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public AnyMatchCache anyMatchCache() {
+        return new AnyMatchCache();
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public AnyMatchDAO anyMatchDAO(
@@ -338,7 +353,9 @@ public class PersistenceContext {
             final RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
             final AnyUtilsFactory anyUtilsFactory,
-            final PlainAttrValidationManager validator) {
+            final PlainAttrValidationManager validator,
+            final SearchCondVisitor searchCondVisitor,
+            final AnyMatchCache anyMatchCache) {
 
         return new JPAAnyMatchDAO(
                 userDAO,
@@ -347,7 +364,9 @@ public class PersistenceContext {
                 realmDAO,
                 plainSchemaDAO,
                 anyUtilsFactory,
-                validator);
+                validator,
+                searchCondVisitor,
+                anyMatchCache);
     }
 
     @ConditionalOnMissingBean
@@ -473,6 +492,12 @@ public class PersistenceContext {
         return new JPADerSchemaDAO(resourceDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public DynMembershipIndex dynMembershipIndex(final SearchCondVisitor searchCondVisitor) {
+        return new DynMembershipIndex(searchCondVisitor);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public DynRealmDAO dynRealmDAO(
@@ -482,7 +507,8 @@ public class PersistenceContext {
             final @Lazy AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
             final AnyMatchDAO anyMatchDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final DynMembershipIndex dynMembershipIndex) {
 
         return new JPADynRealmDAO(
                 publisher,
@@ -491,7 +517,8 @@ public class PersistenceContext {
                 anyObjectDAO,
                 searchDAO,
                 anyMatchDAO,
-                searchCondVisitor);
+                searchCondVisitor,
+                dynMembershipIndex);
     }
 
     @ConditionalOnMissingBean
@@ -507,7 +534,8 @@ public class PersistenceContext {
             final @Lazy UserDAO userDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final AnySearchDAO anySearchDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final DynMembershipIndex dynMembershipIndex) {
 
         return new JPAGroupDAO(
                 anyUtilsFactory,
@@ -520,16 +548,18 @@ public class PersistenceContext {
                 userDAO,
                 anyObjectDAO,
                 anySearchDAO,
-                searchCondVisitor);
+                searchCondVisitor,
+                dynMembershipIndex);
     }
 
     @ConditionalOnMissingBean
     @Bean
     public ImplementationDAO implementationDAO(
             final @Lazy ExternalResourceDAO resourceDAO,
-            final @Lazy EntityCacheDAO entityCacheDAO) {
+            final @Lazy EntityCacheDAO entityCacheDAO,
+            final AnyMatchCache anyMatchCache) {
 
-        return new JPAImplementationDAO(resourceDAO, entityCacheDAO);
+        return new JPAImplementationDAO(resourceDAO, entityCacheDAO, anyMatchCache);
     }
 
     @ConditionalOnMissingBean
@@ -579,9 +609,10 @@ public class PersistenceContext {
     public PlainSchemaDAO plainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrDAO plainAttrDAO,
-            final @Lazy ExternalResourceDAO resourceDAO) {
+            final @Lazy ExternalResourceDAO resourceDAO,
+            final AnyMatchCache anyMatchCache) {
 
-        return new JPAPlainSchemaDAO(anyUtilsFactory, plainAttrDAO, resourceDAO);
+        return new JPAPlainSchemaDAO(anyUtilsFactory, plainAttrDAO, resourceDAO, anyMatchCache);
     }
 
     @ConditionalOnMissingBean
@@ -605,8 +636,36 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public RealmDAO realmDAO(final @Lazy RoleDAO roleDAO, final ApplicationEventPublisher publisher) {
-        return new JPARealmDAO(roleDAO, publisher);
+    public PropagationRetryDAO propagationRetryDAO() {
+        return new JPAPropagationRetryDAO();
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PullFingerprintDAO pullFingerprintDAO() {
+        return new JPAPullFingerprintDAO();
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PushFingerprintDAO pushFingerprintDAO() {
+        return new JPAPushFingerprintDAO();
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public RealmTreeCache realmTreeCache() {
+        return new RealmTreeCache();
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public RealmDAO realmDAO(
+            final @Lazy RoleDAO roleDAO,
+            final ApplicationEventPublisher publisher,
+            final RealmTreeCache realmTreeCache) {
+
+        return new JPARealmDAO(roleDAO, publisher, realmTreeCache);
     }
 
     @ConditionalOnMissingBean
@@ -654,9 +713,11 @@ public class PersistenceContext {
             final @Lazy AnyMatchDAO anyMatchDAO,
             final @Lazy AnySearchDAO anySearchDAO,
             final DelegationDAO delegationDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final DynMembershipIndex dynMembershipIndex) {
 
-        return new JPARoleDAO(anyMatchDAO, publisher, anySearchDAO, delegationDAO, searchCondVisitor);
+        return new JPARoleDAO(
+                anyMatchDAO, publisher, anySearchDAO, delegationDAO, searchCondVisitor, dynMembershipIndex);
     }
 
     @ConditionalOnMissingBean
@@ -20,13 +20,20 @@ package org.apache.syncope.core.persistence.jpa.content;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 import org.apache.syncope.core.persistence.api.content.ContentLoader;
+import org.apache.syncope.core.persistence.jpa.dao.JPARealmDAO;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.slf4j.Logger;
@@ -107,6 +114,88 @@ public class XMLContentLoader implements ContentLoader {
                 LOG.error("[{}] While loading default content", domain, e);
             }
         }
+
+        try {
+            initRealmClosure(domain, datasource);
+        } catch (DataAccessException e) {
+            LOG.error("[{}] While initializing realm closure", domain, e);
+        }
+    }
+
+    /**
+     * Creates the realm closure table and its index, as defined among views and indexes: this is needed when
+     * upgrading databases created before such table was introduced.
+     *
+     * @param domain domain
+     * @param dataSource data source
+     * @throws IOException if views or indexes cannot be read
+     */
+    protected void createRealmClosure(final String domain, final DataSource dataSource) throws IOException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute(PropertiesLoaderUtils.loadProperties(viewsXML).
+                getProperty(JPARealmDAO.CLOSURE_TABLE).replaceAll("\\n", " "));
+
+        String index = PropertiesLoaderUtils.loadProperties(indexesXML).
+                getProperty(JPARealmDAO.CLOSURE_TABLE + "_descendant_id");
+        if (index != null) {
+            jdbcTemplate.execute(index);
+        }
+
+        LOG.info("[{}] Realm closure table created", domain);
+    }
+
+    /**
+     * Makes the realm closure table match the current realm hierarchy, by creating it if missing and refilling it if
+     * not matching: this is the case after default content was loaded, since realms are inserted via plain SQL, or
+     * after an upgrade.
+     *
+     * @param domain domain
+     * @param dataSource data source
+     */
+    protected void initRealmClosure(final String domain, final DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Set<List<Object>> existing = new HashSet<>();
+        try {
+            jdbcTemplate.queryForList("SELECT ancestor_id, descendant_id, depth FROM " + JPARealmDAO.CLOSURE_TABLE).
+                    forEach(row -> existing.add(List.of(
+                    row.get("ancestor_id").toString().trim(),
+                    row.get("descendant_id").toString().trim(),
+                    ((Number) row.get("depth")).intValue())));
+        } catch (DataAccessException e) {
+            LOG.debug("[{}] Could not read realm closure table, creating", domain, e);
+            try {
+                createRealmClosure(domain, dataSource);
+            } catch (IOException ioe) {
+                LOG.error("[{}] While creating realm closure table", domain, ioe);
+                return;
+            }
+        }
+
+        Map<String, String> parents = new HashMap<>();
+        jdbcTemplate.queryForList("SELECT id, parent_id FROM " + JPARealm.TABLE).
+                forEach(row -> parents.put((String) row.get("id"), (String) row.get("parent_id")));
+
+        Set<List<Object>> closure = new HashSet<>();
+        parents.keySet().forEach(key -> {
+            int depth = 0;
+            for (String ancestor = key; ancestor != null && depth < parents.size(); ancestor = parents.get(ancestor)) {
+                closure.add(List.of(ancestor, key, depth++));
+            }
+        });
+        if (closure.equals(existing)) {
+            return;
+        }
+
+        if (!existing.isEmpty()) {
+            LOG.warn("[{}] Realm closure not matching realm hierarchy, refilling", domain);
+            jdbcTemplate.update("DELETE FROM " + JPARealmDAO.CLOSURE_TABLE);
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO " + JPARealmDAO.CLOSURE_TABLE
+                + "(ancestor_id, descendant_id, depth) VALUES(?, ?, ?)",
+                closure.stream().map(List::toArray).collect(Collectors.toList()));
+        LOG.debug("[{}] Realm closure initialized for {} realms", domain, parents.size());
     }
 
     protected void loadDefaultContent(
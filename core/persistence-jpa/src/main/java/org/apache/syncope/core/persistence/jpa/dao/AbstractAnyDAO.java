@@ -20,6 +20,8 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.Type;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -29,16 +31,23 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import org.apache.commons.jexl3.parser.Parser;
 import org.apache.commons.jexl3.parser.ParserConstants;
 import org.apache.commons.jexl3.parser.Token;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.openjpa.persistence.OpenJPAPersistence;
+import org.apache.openjpa.persistence.OpenJPAQuery;
+import org.apache.openjpa.persistence.jdbc.FetchMode;
+import org.apache.openjpa.persistence.jdbc.JDBCFetchPlan;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -68,6 +77,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> implements AnyDAO<A> {
 
+    protected static final Map<Pair<Class<?>, Boolean>, List<Pair<Class<?>, String>>> FETCH_FIELDS =
+            new ConcurrentHashMap<>();
+
     protected final AnyUtilsFactory anyUtilsFactory;
 
     protected final PlainSchemaDAO plainSchemaDAO;
@@ -138,6 +150,26 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return Optional.ofNullable(lastChangeDate).orElse(creationDate);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, OffsetDateTime> findLastChange(final Collection<String> keys) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        Map<String, OffsetDateTime> result = new HashMap<>(distinct.size());
+        for (int i = 0; i < distinct.size(); i += KEYS_CHUNK_SIZE) {
+            Query query = entityManager().createQuery(
+                    "SELECT e.id, e.creationDate, e.lastChangeDate FROM " + anyUtils().anyClass().getSimpleName()
+                    + " e WHERE e.id IN (:keys)");
+            query.setParameter("keys", distinct.subList(i, Math.min(distinct.size(), i + KEYS_CHUNK_SIZE)));
+
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = query.getResultList();
+            rows.forEach(row -> result.put(
+                    (String) row[0],
+                    Optional.ofNullable((OffsetDateTime) row[2]).orElse((OffsetDateTime) row[1])));
+        }
+        return result;
+    }
+
     protected abstract void securityChecks(A any);
 
     @Transactional(readOnly = true)
@@ -150,6 +182,74 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return query.getResultList();
     }
 
+    /**
+     * Names of the collections read when building the TO of each entity, regardless of details.
+     *
+     * @param details whether the collections read only for detailed TOs shall be included as well
+     * @return collection field names
+     */
+    protected List<String> fetchFields(final boolean details) {
+        return List.of("plainAttrs", "auxClasses", "resources");
+    }
+
+    /**
+     * Resolves {@link #fetchFields(boolean)} against the given entity class; names not mapped as collections, as
+     * plain attributes with the JSON flavors, are skipped. Values are fetched along with plain attributes.
+     *
+     * @param entityClass entity class
+     * @param details whether the collections read only for detailed TOs shall be included as well
+     * @return pairs of declaring class and field name
+     */
+    protected List<Pair<Class<?>, String>> fetchFields(final Class<?> entityClass, final boolean details) {
+        return FETCH_FIELDS.computeIfAbsent(Pair.of(entityClass, details), k -> {
+            Metamodel metamodel = entityManager().getMetamodel();
+            List<String> names = fetchFields(details);
+
+            List<Pair<Class<?>, String>> fields = new ArrayList<>();
+            metamodel.entity(entityClass).getPluralAttributes().stream().
+                    filter(attr -> names.contains(attr.getName())).
+                    forEach(attr -> {
+                        fields.add(Pair.of(attr.getDeclaringType().getJavaType(), attr.getName()));
+
+                        if ("plainAttrs".equals(attr.getName())
+                                && attr.getElementType().getPersistenceType() == Type.PersistenceType.ENTITY) {
+
+                            metamodel.entity(attr.getElementType().getJavaType()).getPluralAttributes().stream().
+                                    filter(nested -> "values".equals(nested.getName())).
+                                    forEach(nested -> fields.add(
+                                    Pair.of(nested.getDeclaringType().getJavaType(), nested.getName())));
+                        }
+                    });
+            return fields;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, A> fetchByKeys(final Collection<String> keys, final boolean details) {
+        Class<A> entityClass = anyUtils().anyClass();
+        List<Pair<Class<?>, String>> fetchFields = fetchFields(entityClass, details);
+
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        Map<String, A> result = new HashMap<>(distinct.size());
+        for (int i = 0; i < distinct.size(); i += KEYS_CHUNK_SIZE) {
+            TypedQuery<A> query = entityManager().createQuery(
+                    "SELECT e FROM " + entityClass.getSimpleName() + " e WHERE e.id IN (:keys)", entityClass);
+            query.setParameter("keys", distinct.subList(i, Math.min(distinct.size(), i + KEYS_CHUNK_SIZE)));
+
+            // each collection is loaded for all entities at once, by one additional query
+            FetchPlan fetchPlan = query.unwrap(OpenJPAQuery.class).getFetchPlan();
+            if (fetchPlan instanceof JDBCFetchPlan jdbcFetchPlan) {
+                jdbcFetchPlan.setEagerFetchMode(FetchMode.PARALLEL);
+            }
+            fetchFields.forEach(field -> fetchPlan.addField(field.getLeft(), field.getRight()));
+
+            query.getResultList().forEach(any -> result.put(any.getKey(), any));
+        }
+
+        return result;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public A authFind(final String key) {
@@ -538,4 +638,11 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
                 });
         return result;
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynRealms(final Collection<String> keys) {
+        return groupByKeys(
+                "SELECT any_id, dynRealm_id FROM " + JPADynRealmDAO.DYNMEMB_TABLE + " WHERE any_id IN (%s)", keys);
+    }
 }
@@ -21,11 +21,14 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import jakarta.validation.ValidationException;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -52,14 +55,17 @@ import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCursor;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.springframework.beans.BeanUtils;
 import org.springframework.util.CollectionUtils;
 
 public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO {
@@ -70,6 +76,8 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
 
     protected static final String[] RELATIONSHIP_FIELDS = new String[] { "realm", "userOwner", "groupOwner" };
 
+    protected static final String[] SEEKABLE_FIELDS = new String[] { "key", "username", "name", "realm" };
+
     protected static SearchCond buildEffectiveCond(
             final SearchCond cond,
             final Set<String> dynRealmKeys,
@@ -331,18 +339,30 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
 
     @SuppressWarnings("unchecked")
     protected <T extends Any<?>> List<T> buildResult(final List<Object> raw, final AnyTypeKind kind) {
-        List<String> keys = raw.stream().
+        Set<String> keys = raw.stream().
                 map(key -> key instanceof Object[] ? (String) ((Object[]) key)[0] : ((String) key)).
-                collect(Collectors.toList());
-
-        // sort anys according to keys' sorting, as their ordering is same as raw, e.g. the actual sql query results
-        List<Any<?>> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
-                sorted(Comparator.comparing(any -> keys.indexOf(any.getKey()))).collect(Collectors.toList());
-
-        keys.stream().filter(key -> !anys.stream().anyMatch(any -> key.equals(any.getKey()))).
-                forEach(key -> LOG.error("Could not find {} with id {}, even if returned by native query", kind, key));
+                collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // collections are not fetched here, as not all callers build TOs: binders fetch what they read, in bulk
+        List<String> distinct = new ArrayList<>(keys);
+        Map<String, Any<?>> anys = new HashMap<>(distinct.size());
+        for (int i = 0; i < distinct.size(); i += KEYS_CHUNK_SIZE) {
+            anyUtilsFactory.getInstance(kind).dao().
+                    findByKeys(distinct.subList(i, Math.min(distinct.size(), i + KEYS_CHUNK_SIZE))).
+                    forEach(any -> anys.put(any.getKey(), any));
+        }
 
-        return (List<T>) anys;
+        // keep the same ordering as raw, e.g. the actual query results
+        List<T> result = new ArrayList<>(keys.size());
+        keys.forEach(key -> {
+            Any<?> any = anys.get(key);
+            if (any == null) {
+                LOG.error("Could not find {} with id {}, even if returned by native query", kind, key);
+            } else {
+                result.add((T) any);
+            }
+        });
+        return result;
     }
 
     @Override
@@ -367,18 +387,190 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
             return List.of();
         }
 
-        List<OrderByClause> effectiveOrderBy;
+        return doSearch(base, recursive, adminRealms, cond, page, itemsPerPage, effectiveOrderBy(orderBy, kind), kind);
+    }
+
+    protected List<OrderByClause> effectiveOrderBy(final List<OrderByClause> orderBy, final AnyTypeKind kind) {
         if (orderBy.isEmpty()) {
             OrderByClause keyClause = new OrderByClause();
             keyClause.setField(kind == AnyTypeKind.USER ? "username" : "name");
             keyClause.setDirection(OrderByClause.Direction.ASC);
-            effectiveOrderBy = List.of(keyClause);
-        } else {
-            effectiveOrderBy = orderBy.stream().
-                    filter(clause -> !ArrayUtils.contains(ORDER_BY_NOT_ALLOWED, clause.getField())).
-                    collect(Collectors.toList());
+            return List.of(keyClause);
+        }
+
+        return orderBy.stream().
+                filter(clause -> !ArrayUtils.contains(ORDER_BY_NOT_ALLOWED, clause.getField())).
+                collect(Collectors.toList());
+    }
+
+    @Override
+    public <T extends Any<?>> List<T> search(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String afterKey,
+            final int itemsPerPage,
+            final AnyTypeKind kind) {
+
+        SearchCond effectiveCond = cond;
+        if (afterKey != null && cond != null) {
+            AnyCond keyCond = new AnyCond(AttrCond.Type.GT);
+            keyCond.setSchema("key");
+            keyCond.setExpression(afterKey);
+            effectiveCond = SearchCond.getAnd(cond, SearchCond.getLeaf(keyCond));
+        }
+
+        OrderByClause byKey = new OrderByClause();
+        byKey.setField("key");
+        byKey.setDirection(OrderByClause.Direction.ASC);
+
+        return search(base, recursive, adminRealms, effectiveCond, 1, itemsPerPage, List.of(byKey), kind);
+    }
+
+    /**
+     * Effective ordering for cursor searches: key is always appended, as last resort, to make ordering total.
+     *
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @return effective list of ordering clauses
+     */
+    protected List<OrderByClause> seekOrderBy(final List<OrderByClause> orderBy, final AnyTypeKind kind) {
+        List<OrderByClause> seekOrderBy = new ArrayList<>(effectiveOrderBy(orderBy, kind));
+        if (seekOrderBy.stream().noneMatch(clause -> "key".equals(clause.getField()))) {
+            OrderByClause byKey = new OrderByClause();
+            byKey.setField("key");
+            byKey.setDirection(OrderByClause.Direction.ASC);
+            seekOrderBy.add(byKey);
+        }
+        return seekOrderBy;
+    }
+
+    /**
+     * Reads the value of the given sort key, in the format expected by search conditions; seeking is only possible
+     * on sort keys whose value is never null, as the relative ordering of null values is not the same across
+     * different databases and search engines.
+     *
+     * @param any any object
+     * @param field sort key
+     * @return sort key value, or empty if seeking is not possible on the given sort key
+     */
+    protected Optional<String> seekValue(final Any<?> any, final String field) {
+        if (!ArrayUtils.contains(SEEKABLE_FIELDS, field)) {
+            return Optional.empty();
+        }
+        if ("key".equals(field)) {
+            return Optional.of(any.getKey());
+        }
+
+        PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(any.getClass(), field);
+        if (pd == null || pd.getReadMethod() == null) {
+            return Optional.empty();
+        }
+
+        Object value;
+        try {
+            value = pd.getReadMethod().invoke(any);
+        } catch (Exception e) {
+            LOG.error("While accessing {}.{}", any, field, e);
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(value).
+                map(v -> v instanceof Entity ? ((Entity) v).getKey() : v.toString());
+    }
+
+    protected SearchCond seekLeaf(final String field, final AttrCond.Type type, final String value) {
+        AnyCond cond = new AnyCond(type);
+        cond.setSchema(field);
+        cond.setExpression(value);
+        return SearchCond.getLeaf(cond);
+    }
+
+    /**
+     * Builds the condition matching results placed after the given sort key values: that is, for each sort key,
+     * results having the same values for all previous sort keys and a following value for such sort key.
+     * The condition is expressed as a plain search condition, so that all implementations can evaluate it; none of
+     * them is required to translate it into an index seek.
+     *
+     * @param seekOrderBy list of ordering clauses, as returned by {@link #seekOrderBy(List, AnyTypeKind)}
+     * @param after sort key values
+     * @return seek condition
+     */
+    protected SearchCond seekCond(final List<OrderByClause> seekOrderBy, final List<String> after) {
+
+        List<SearchCond> following = new ArrayList<>();
+        List<SearchCond> same = new ArrayList<>();
+        for (int i = 0; i < seekOrderBy.size(); i++) {
+            OrderByClause clause = seekOrderBy.get(i);
+
+            List<SearchCond> conds = new ArrayList<>(same);
+            conds.add(seekLeaf(
+                    clause.getField(),
+                    clause.getDirection() == OrderByClause.Direction.ASC ? AttrCond.Type.GT : AttrCond.Type.LT,
+                    after.get(i)));
+            following.add(SearchCond.getAnd(conds));
+
+            same.add(seekLeaf(clause.getField(), AttrCond.Type.EQ, after.get(i)));
+        }
+
+        return SearchCond.getOr(following);
+    }
+
+    @Override
+    public <T extends Any<?>> List<T> search(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final SearchCursor cursor,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind) {
+
+        List<OrderByClause> seekOrderBy = seekOrderBy(orderBy, kind);
+
+        if (cursor == null || cursor.getAfter().isEmpty()) {
+            return search(
+                    base,
+                    recursive,
+                    adminRealms,
+                    cond,
+                    cursor == null ? 1 : cursor.getPage(),
+                    itemsPerPage,
+                    seekOrderBy,
+                    kind);
+        }
+
+        if (cursor.getAfter().size() != seekOrderBy.size()) {
+            throw new IllegalArgumentException("Cursor not matching ordering " + seekOrderBy);
+        }
+
+        SearchCond effectiveCond = cond == null
+                ? null
+                : SearchCond.getAnd(cond, seekCond(seekOrderBy, cursor.getAfter()));
+        return search(base, recursive, adminRealms, effectiveCond, 1, itemsPerPage, seekOrderBy, kind);
+    }
+
+    @Override
+    public SearchCursor getNextCursor(
+            final SearchCursor cursor,
+            final Any<?> last,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind) {
+
+        int page = Optional.ofNullable(cursor).map(SearchCursor::getPage).orElse(1) + 1;
+
+        List<String> after = new ArrayList<>();
+        for (OrderByClause clause : seekOrderBy(orderBy, kind)) {
+            Optional<String> value = seekValue(last, clause.getField());
+            if (value.isEmpty()) {
+                // cannot seek: the next page will be reached by skipping all previous results
+                return new SearchCursor(page);
+            }
+            after.add(value.get());
         }
 
-        return doSearch(base, recursive, adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind);
+        return new SearchCursor(page, after);
     }
 }
@@ -20,9 +20,18 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.openjpa.jdbc.meta.MappingRepository;
 import org.apache.openjpa.jdbc.sql.OracleDictionary;
 import org.apache.openjpa.persistence.OpenJPAEntityManagerFactory;
@@ -53,6 +62,69 @@ public abstract class AbstractDAO<E extends Entity> implements DAO<E> {
                 "Could not find EntityManager for domain " + AuthContextUtils.getDomain()));
     }
 
+    /**
+     * Runs the given native query for the given keys, in chunks of at most {@link #KEYS_CHUNK_SIZE}, and hands each
+     * returned row to the given consumer.
+     *
+     * @param queryTemplate native query selecting at least two columns, with a single {@code %s} placeholder which
+     * is replaced by the keys parameters
+     * @param keys keys to bind
+     * @param rowConsumer consumer for returned rows
+     */
+    protected void queryByKeys(
+            final String queryTemplate,
+            final Collection<String> keys,
+            final Consumer<Object[]> rowConsumer) {
+
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        for (int i = 0; i < distinct.size(); i += KEYS_CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(i, Math.min(distinct.size(), i + KEYS_CHUNK_SIZE));
+
+            Query query = entityManager().createNativeQuery(String.format(queryTemplate,
+                    IntStream.rangeClosed(1, chunk.size()).mapToObj(p -> "?" + p).collect(Collectors.joining(","))));
+            for (int p = 0; p < chunk.size(); p++) {
+                query.setParameter(p + 1, chunk.get(p));
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = query.getResultList();
+            rows.forEach(rowConsumer);
+        }
+    }
+
+    /**
+     * Groups the distinct values of the second column by the first column, for the rows returned by
+     * {@link #queryByKeys(String, Collection, Consumer)}.
+     *
+     * @param queryTemplate native query selecting key and value, with a single {@code %s} placeholder
+     * @param keys keys to bind
+     * @return values, mapped by key
+     */
+    protected Map<String, List<String>> groupByKeys(final String queryTemplate, final Collection<String> keys) {
+        Map<String, List<String>> result = new HashMap<>();
+        queryByKeys(queryTemplate, keys, row -> {
+            List<String> values = result.computeIfAbsent(row[0].toString(), k -> new ArrayList<>());
+            if (!values.contains(row[1].toString())) {
+                values.add(row[1].toString());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Maps the second column, a number, by the first column, for the rows returned by
+     * {@link #queryByKeys(String, Collection, Consumer)}.
+     *
+     * @param queryTemplate native query selecting key and count, with a single {@code %s} placeholder
+     * @param keys keys to bind
+     * @return counts, mapped by key
+     */
+    protected Map<String, Integer> countByKeys(final String queryTemplate, final Collection<String> keys) {
+        Map<String, Integer> result = new HashMap<>();
+        queryByKeys(queryTemplate, keys, row -> result.put(row[0].toString(), ((Number) row[1]).intValue()));
+        return result;
+    }
+
     @Override
     public void refresh(final E entity) {
         entityManager().refresh(entity);
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps, per domain, the predicates compiled by {@link JPAAnyMatchDAO} from FIQL expressions. As compiling resolves
+ * plain schemas and references to groups or any objects by name, each predicate is discarded as soon as what it
+ * depends on changes, either locally or on another node of the OpenJPA cluster.
+ */
+public class AnyMatchCache {
+
+    public enum Dependency {
+        /**
+         * Plain schemas or attribute value validators.
+         */
+        SCHEMAS,
+
+        /**
+         * Groups referenced by name.
+         */
+        GROUPS,
+
+        /**
+         * Any objects referenced by name.
+         */
+        ANY_OBJECTS
+    }
+
+    protected static class Entry {
+
+        protected final Predicate<Any<?>> predicate;
+
+        protected final Set<Dependency> dependencies;
+
+        protected Entry(final Predicate<Any<?>> predicate, final Set<Dependency> dependencies) {
+            this.predicate = predicate;
+            this.dependencies = dependencies;
+        }
+    }
+
+    protected static final int MAX_ENTRIES = 10000;
+
+    protected final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    protected final Map<String, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+
+    protected AtomicLong version(final String domain) {
+        return versions.computeIfAbsent(domain, k -> new AtomicLong());
+    }
+
+    /**
+     * Returns the predicate compiled from the given FIQL expression, compiling it if not cached yet.
+     * When anything predicates may depend on was modified within the current transaction, the predicate is compiled
+     * from the pending state and not kept, as other transactions must not see it.
+     *
+     * @param domain domain
+     * @param fiql FIQL expression
+     * @param compiler compiles the FIQL expression, filling the given set with what the predicate depends on
+     * @return predicate
+     */
+    public Predicate<Any<?>> get(
+            final String domain,
+            final String fiql,
+            final Function<Set<Dependency>, Predicate<Any<?>>> compiler) {
+
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return compiler.apply(EnumSet.noneOf(Dependency.class));
+        }
+
+        Map<String, Entry> compiled = entries.computeIfAbsent(domain, k -> new ConcurrentHashMap<>());
+        Entry entry = compiled.get(fiql);
+        if (entry == null) {
+            if (compiled.size() >= MAX_ENTRIES) {
+                compiled.clear();
+            }
+
+            long version = version(domain).get();
+            Set<Dependency> dependencies = EnumSet.noneOf(Dependency.class);
+            entry = new Entry(compiler.apply(dependencies), dependencies);
+            // not kept if anything was invalidated meanwhile, as it might have been compiled from stale state
+            if (version(domain).get() == version) {
+                compiled.put(fiql, entry);
+            }
+        }
+
+        return entry.predicate;
+    }
+
+    public void invalidate(final String domain, final Dependency dependency) {
+        version(domain).incrementAndGet();
+
+        Map<String, Entry> compiled = entries.get(domain);
+        if (compiled != null) {
+            compiled.values().removeIf(entry -> entry.dependencies.contains(dependency));
+        }
+    }
+
+    /**
+     * To be invoked whenever something compiled predicates may depend on is created, updated or deleted in the given
+     * domain: affected predicates are discarded immediately and once again upon transaction completion.
+     *
+     * @param domain domain
+     * @param dependency what was changed
+     */
+    @SuppressWarnings("unchecked")
+    public void changed(final String domain, final Dependency dependency) {
+        invalidate(domain, dependency);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Set<Dependency> pending = (Set<Dependency>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Dependency> changed = EnumSet.of(dependency);
+            TransactionSynchronizationManager.bindResource(this, changed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AnyMatchCache.this);
+                    changed.forEach(each -> invalidate(domain, each));
+                }
+            });
+        } else {
+            pending.add(dependency);
+        }
+    }
+
+    @EventListener
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof Group) {
+            changed(event.getDomain(), Dependency.GROUPS);
+        } else if (event.getEntity() instanceof AnyObject) {
+            changed(event.getDomain(), Dependency.ANY_OBJECTS);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.syncope.core.persistence.api.search.DynMembershipCondCache;
+import org.apache.syncope.core.persistence.api.search.DynMembershipDependencies;
+import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps, per domain, which owners of dynamic membership conditions (groups, roles or dynamic realms) depend on each
+ * change token, so that saving a user or any object only needs to load the conditions affected by its changes.
+ * Indexes are built lazily and discarded as soon as any dynamic membership condition changes, either locally or on
+ * another node of the OpenJPA cluster.
+ */
+public class DynMembershipIndex {
+
+    protected static class Index {
+
+        protected final long version;
+
+        protected final Set<String> owners = new HashSet<>();
+
+        protected final Set<String> always = new HashSet<>();
+
+        protected final Map<String, Set<String>> byToken = new HashMap<>();
+
+        protected Index(final long version) {
+            this.version = version;
+        }
+
+        protected void add(final String owner, final Set<String> dependencies) {
+            owners.add(owner);
+            if (dependencies.contains(DynMembershipDependencies.ALWAYS)) {
+                always.add(owner);
+            } else {
+                dependencies.forEach(token -> byToken.computeIfAbsent(token, k -> new HashSet<>()).add(owner));
+            }
+        }
+
+        protected Set<String> affected(final Set<String> changes) {
+            if (changes == null) {
+                return owners;
+            }
+
+            Set<String> affected = new HashSet<>(always);
+            changes.forEach(token -> affected.addAll(byToken.getOrDefault(token, Set.of())));
+            return affected;
+        }
+    }
+
+    protected final SearchCondVisitor searchCondVisitor;
+
+    protected final DynMembershipCondCache dynMembershipConds = new DynMembershipCondCache();
+
+    protected final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    protected final Map<String, Index> indexes = new ConcurrentHashMap<>();
+
+    public DynMembershipIndex(final SearchCondVisitor searchCondVisitor) {
+        this.searchCondVisitor = searchCondVisitor;
+    }
+
+    protected AtomicLong version(final String domain) {
+        return versions.computeIfAbsent(domain, k -> new AtomicLong());
+    }
+
+    protected Index build(final long version, final Map<String, String> conds) {
+        Index index = new Index(version);
+        conds.forEach((owner, fiql) -> index.add(owner, dynMembershipConds.dependencies(searchCondVisitor, fiql)));
+        return index;
+    }
+
+    /**
+     * Returns the owners whose dynamic membership condition needs to be re-evaluated after the given changes.
+     * When dynamic membership conditions were modified within the current transaction, the index is built from the
+     * pending state and not kept, as other transactions must not see it.
+     *
+     * @param domain domain
+     * @param scope kind of owners and, where relevant, any type the conditions apply to
+     * @param changes change tokens, as returned by {@link DynMembershipDependencies#of}; {@code null} when unknown
+     * @param loader provides the FIQL condition of each owner in the given scope
+     * @return keys of affected owners
+     */
+    public Set<String> affected(
+            final String domain,
+            final String scope,
+            final Set<String> changes,
+            final Supplier<Map<String, String>> loader) {
+
+        long version = version(domain).get();
+
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return build(version, loader.get()).affected(changes);
+        }
+
+        String key = domain + '/' + scope;
+        Index index = indexes.get(key);
+        if (index == null || index.version != version) {
+            index = build(version, loader.get());
+            indexes.put(key, index);
+        }
+
+        return index.affected(changes);
+    }
+
+    public void invalidate(final String domain) {
+        version(domain).incrementAndGet();
+        indexes.keySet().removeIf(key -> key.startsWith(domain + '/'));
+    }
+
+    /**
+     * To be invoked whenever dynamic membership conditions are created, updated or deleted in the given domain:
+     * the index is invalidated immediately and once again upon transaction completion.
+     *
+     * @param domain domain
+     */
+    public void changed(final String domain) {
+        invalidate(domain);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+
+            TransactionSynchronizationManager.bindResource(this, domain);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DynMembershipIndex.this);
+                    invalidate(domain);
+                }
+            });
+        }
+    }
+}
@@ -26,13 +26,14 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -56,7 +57,6 @@ import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
-import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.GroupableRelatable;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
@@ -65,12 +65,18 @@ import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
+import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.jpa.dao.AnyMatchCache.Dependency;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
 
+    protected static final Object READ_FAILURE = new Object();
+
     protected final UserDAO userDAO;
 
     protected final GroupDAO groupDAO;
@@ -85,6 +91,10 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
 
     protected final PlainAttrValidationManager validator;
 
+    protected final SearchCondVisitor searchCondVisitor;
+
+    protected final AnyMatchCache anyMatchCache;
+
     public JPAAnyMatchDAO(
             final UserDAO userDAO,
             final GroupDAO groupDAO,
@@ -92,7 +102,9 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
             final RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
             final AnyUtilsFactory anyUtilsFactory,
-            final PlainAttrValidationManager validator) {
+            final PlainAttrValidationManager validator,
+            final SearchCondVisitor searchCondVisitor,
+            final AnyMatchCache anyMatchCache) {
 
         this.userDAO = userDAO;
         this.groupDAO = groupDAO;
@@ -101,6 +113,8 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
         this.plainSchemaDAO = plainSchemaDAO;
         this.anyUtilsFactory = anyUtilsFactory;
         this.validator = validator;
+        this.searchCondVisitor = searchCondVisitor;
+        this.anyMatchCache = anyMatchCache;
     }
 
     /**
@@ -114,93 +128,111 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
     @Transactional(readOnly = true)
     @Override
     public <T extends Any<?>> boolean matches(final T any, final SearchCond cond) {
-        boolean not = cond.getType() == SearchCond.Type.NOT_LEAF;
+        return compile(cond).test(any);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Predicate<Any<?>> compile(final SearchCond cond) {
+        return compile(cond, EnumSet.noneOf(Dependency.class));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Predicate<Any<?>> compile(final String fiql) {
+        return anyMatchCache.get(
+                AuthContextUtils.getDomain(),
+                fiql,
+                dependencies -> compile(SearchCondConverter.convert(searchCondVisitor, fiql), dependencies));
+    }
+
+    /**
+     * Compiles the given search condition into a predicate.
+     *
+     * @param cond search condition
+     * @param dependencies filled with what the predicate depends on, besides the entities it is tested against
+     * @return predicate
+     */
+    protected Predicate<Any<?>> compile(final SearchCond cond, final Set<Dependency> dependencies) {
         switch (cond.getType()) {
             case LEAF:
             case NOT_LEAF:
-                Boolean match = cond.getLeaf(AnyTypeCond.class).
-                        filter(leaf -> AnyTypeKind.ANY_OBJECT == any.getType().getKind()).
-                        map(leaf -> matches(any, leaf, not)).
-                        orElse(null);
-
-                if (match == null) {
-                    match = cond.getLeaf(RelationshipTypeCond.class).
-                            filter(leaf -> any instanceof GroupableRelatable).
-                            map(leaf -> matches((GroupableRelatable) any, leaf, not)).
-                            orElse(null);
-                }
+                return compileLeaf(cond, cond.getType() == SearchCond.Type.NOT_LEAF, dependencies);
 
-                if (match == null) {
-                    match = cond.getLeaf(RelationshipCond.class).
-                            filter(leaf -> any instanceof GroupableRelatable).
-                            map(leaf -> matches((GroupableRelatable) any, leaf, not)).
-                            orElse(null);
-                }
+            case AND:
+                return compile(cond.getLeft(), dependencies).and(compile(cond.getRight(), dependencies));
 
-                if (match == null) {
-                    match = cond.getLeaf(MembershipCond.class).
-                            filter(leaf -> any instanceof GroupableRelatable).
-                            map(leaf -> matches((GroupableRelatable) any, leaf, not)).
-                            orElse(null);
-                }
+            case OR:
+                return compile(cond.getLeft(), dependencies).or(compile(cond.getRight(), dependencies));
 
-                if (match == null) {
-                    match = cond.getLeaf(RoleCond.class).
-                            filter(leaf -> any instanceof User).
-                            map(leaf -> matches((User) any, leaf, not)).
-                            orElse(null);
-                }
+            default:
+                return any -> false;
+        }
+    }
 
-                if (match == null) {
-                    match = cond.getLeaf(DynRealmCond.class).
-                            map(leaf -> matches(any, leaf, not)).
-                            orElse(null);
-                }
+    protected Predicate<Any<?>> compileLeaf(
+            final SearchCond cond,
+            final boolean not,
+            final Set<Dependency> dependencies) {
 
-                if (match == null) {
-                    match = cond.getLeaf(MemberCond.class).
-                            filter(leaf -> any instanceof Group).
-                            map(leaf -> matches((Group) any, leaf, not)).
-                            orElse(null);
-                }
+        Optional<AnyTypeCond> anyTypeCond = cond.getLeaf(AnyTypeCond.class);
+        if (anyTypeCond.isPresent()) {
+            String anyType = anyTypeCond.get().getAnyTypeKey();
+            return any -> AnyTypeKind.ANY_OBJECT == any.getType().getKind()
+                    && any.getType().getKey().equals(anyType) != not;
+        }
 
-                if (match == null) {
-                    match = cond.getLeaf(ResourceCond.class).
-                            map(leaf -> matches(any, leaf, not)).
-                            orElse(null);
-                }
+        Optional<RelationshipTypeCond> relationshipTypeCond = cond.getLeaf(RelationshipTypeCond.class);
+        if (relationshipTypeCond.isPresent()) {
+            return any -> any instanceof GroupableRelatable
+                    && matches((GroupableRelatable<?, ?, ?, ?, ?>) any, relationshipTypeCond.get(), not);
+        }
 
-                if (match == null) {
-                    match = cond.getLeaf(AnyCond.class).
-                            map(value -> matches(any, value, not)).
-                            orElseGet(() -> cond.getLeaf(AttrCond.class).
-                            map(leaf -> matches(any, leaf, not)).
-                            orElse(null));
-                }
+        Optional<RelationshipCond> relationshipCond = cond.getLeaf(RelationshipCond.class);
+        if (relationshipCond.isPresent()) {
+            Set<String> anyObjects = resolve(relationshipCond.get(), dependencies);
+            return any -> any instanceof GroupableRelatable
+                    && matches((GroupableRelatable<?, ?, ?, ?, ?>) any, anyObjects, not);
+        }
 
-                if (match == null) {
-                    match = cond.getLeaf(AttrCond.class).
-                            map(leaf -> matches(any, leaf, not)).
-                            orElse(null);
-                }
+        Optional<MembershipCond> membershipCond = cond.getLeaf(MembershipCond.class);
+        if (membershipCond.isPresent()) {
+            String group = resolve(membershipCond.get(), dependencies);
+            return any -> any instanceof GroupableRelatable
+                    && matches((GroupableRelatable<?, ?, ?, ?, ?>) any, group, not);
+        }
 
-                return BooleanUtils.toBoolean(match);
+        Optional<RoleCond> roleCond = cond.getLeaf(RoleCond.class);
+        if (roleCond.isPresent()) {
+            return any -> any instanceof User && matches((User) any, roleCond.get(), not);
+        }
 
-            case AND:
-                return matches(any, cond.getLeft()) && matches(any, cond.getRight());
+        Optional<DynRealmCond> dynRealmCond = cond.getLeaf(DynRealmCond.class);
+        if (dynRealmCond.isPresent()) {
+            return any -> matches(any, dynRealmCond.get(), not);
+        }
 
-            case OR:
-                return matches(any, cond.getLeft()) || matches(any, cond.getRight());
+        Optional<MemberCond> memberCond = cond.getLeaf(MemberCond.class);
+        if (memberCond.isPresent()) {
+            return compile(memberCond.get(), not);
+        }
 
-            default:
+        Optional<ResourceCond> resourceCond = cond.getLeaf(ResourceCond.class);
+        if (resourceCond.isPresent()) {
+            return any -> matches(any, resourceCond.get(), not);
         }
 
-        return false;
-    }
+        Optional<AnyCond> anyCond = cond.getLeaf(AnyCond.class);
+        if (anyCond.isPresent()) {
+            return compile(anyCond.get(), not);
+        }
 
-    protected boolean matches(final Any<?> any, final AnyTypeCond cond, final boolean not) {
-        boolean equals = any.getType().getKey().equals(cond.getAnyTypeKey());
-        return not ? !equals : equals;
+        Optional<AttrCond> attrCond = cond.getLeaf(AttrCond.class);
+        if (attrCond.isPresent()) {
+            return compile(attrCond.get(), not, dependencies);
+        }
+
+        return any -> false;
     }
 
     protected boolean matches(
@@ -211,34 +243,57 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
         return not ? !found : found;
     }
 
-    protected boolean matches(
-            final GroupableRelatable<?, ?, ?, ?, ?> any, final RelationshipCond cond, final boolean not) {
+    /**
+     * Resolves the any objects referenced by the given condition, by key or by name.
+     *
+     * @param cond relationship condition
+     * @param dependencies filled with {@link Dependency#ANY_OBJECTS} when referenced by name
+     * @return keys of the referenced any objects
+     */
+    protected Set<String> resolve(final RelationshipCond cond, final Set<Dependency> dependencies) {
+        if (cond.getAnyObject() == null) {
+            return Set.of();
+        }
+        if (SyncopeConstants.UUID_PATTERN.matcher(cond.getAnyObject()).matches()) {
+            return Set.of(cond.getAnyObject());
+        }
 
-        Set<String> candidates = SyncopeConstants.UUID_PATTERN.matcher(cond.getAnyObject()).matches()
-                ? Optional.ofNullable(cond.getAnyObject()).map(Set::of).orElse(Set.of())
-                : anyObjectDAO.findByName(cond.getAnyObject()).stream().
-                        map(AnyObject::getKey).collect(Collectors.toSet());
+        dependencies.add(Dependency.ANY_OBJECTS);
+        return anyObjectDAO.findByName(cond.getAnyObject()).stream().
+                map(AnyObject::getKey).collect(Collectors.toSet());
+    }
 
-        boolean found = any.getRelationships().stream().
-                map(r -> r.getRightEnd().getKey()).
-                filter(candidates::contains).
-                count() > 0;
+    protected boolean matches(
+            final GroupableRelatable<?, ?, ?, ?, ?> any, final Set<String> anyObjects, final boolean not) {
 
+        boolean found = any.getRelationships().stream().
+                anyMatch(r -> anyObjects.contains(r.getRightEnd().getKey()));
         return not ? !found : found;
     }
 
-    protected boolean matches(
-            final GroupableRelatable<?, ?, ?, ?, ?> any, final MembershipCond cond, final boolean not) {
+    /**
+     * Resolves the group referenced by the given condition, by key or by name.
+     *
+     * @param cond membership condition
+     * @param dependencies filled with {@link Dependency#GROUPS} when referenced by name
+     * @return key of the referenced group, or null if not found
+     */
+    protected String resolve(final MembershipCond cond, final Set<Dependency> dependencies) {
+        if (SyncopeConstants.UUID_PATTERN.matcher(cond.getGroup()).matches()) {
+            return cond.getGroup();
+        }
 
-        final String group = SyncopeConstants.UUID_PATTERN.matcher(cond.getGroup()).matches()
-                ? cond.getGroup()
-                : groupDAO.findKey(cond.getGroup());
+        dependencies.add(Dependency.GROUPS);
+        return groupDAO.findKey(cond.getGroup());
+    }
 
-        boolean found = any.getMembership(group).isPresent()
+    protected boolean matches(final GroupableRelatable<?, ?, ?, ?, ?> any, final String group, final boolean not) {
+        boolean found = group != null
+                && (any.getMembership(group).isPresent()
                 || (any instanceof User
                         ? userDAO.findDynGroups(any.getKey())
                         : anyObjectDAO.findDynGroups(any.getKey())).stream().
-                        anyMatch(item -> item.getKey().equals(group));
+                        anyMatch(item -> item.getKey().equals(group)));
         return not ? !found : found;
     }
 
@@ -253,24 +308,21 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
         return not ? !found : found;
     }
 
-    protected boolean matches(final Group group, final MemberCond cond, final boolean not) {
-        boolean found = false;
+    protected Predicate<Any<?>> compile(final MemberCond cond, final boolean not) {
+        String member = cond.getMember();
 
-        GroupableRelatable<?, ?, ?, ?, ?> any = userDAO.find(cond.getMember());
-        if (any == null) {
-            any = anyObjectDAO.find(cond.getMember());
-            if (any != null) {
-                found = groupDAO.findAMemberships(group).stream().
-                        anyMatch(memb -> memb.getLeftEnd().getKey().equals(cond.getMember()))
-                        || groupDAO.findADynMembers(group).contains(cond.getMember());
-            }
-        } else {
-            found = groupDAO.findUMemberships(group).stream().
-                    anyMatch(memb -> memb.getLeftEnd().getKey().equals(cond.getMember()))
-                    || groupDAO.findUDynMembers(group).contains(cond.getMember());
+        // whether the member is a user or an any object is resolved once, as keys are never reassigned
+        if (userDAO.find(member) != null) {
+            return any -> any instanceof Group && (groupDAO.findUMemberships((Group) any).stream().
+                    anyMatch(memb -> memb.getLeftEnd().getKey().equals(member))
+                    || groupDAO.findUDynMembers((Group) any).contains(member)) != not;
         }
-
-        return not ? !found : found;
+        if (anyObjectDAO.find(member) != null) {
+            return any -> any instanceof Group && (groupDAO.findAMemberships((Group) any).stream().
+                    anyMatch(memb -> memb.getLeftEnd().getKey().equals(member))
+                    || groupDAO.findADynMembers((Group) any).contains(member)) != not;
+        }
+        return any -> any instanceof Group && not;
     }
 
     protected boolean matches(final Any<?> any, final ResourceCond cond, final boolean not) {
@@ -280,213 +332,223 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    protected boolean matches(
-            final List<? extends PlainAttrValue> anyAttrValues,
+    protected Predicate<PlainAttrValue> compile(
             final PlainAttrValue attrValue,
             final PlainSchema schema,
             final AttrCond cond) {
 
-        return anyAttrValues.stream().anyMatch(item -> {
-            switch (cond.getType()) {
-                case EQ:
-                    return attrValue.getValue().equals(item.getValue());
-
-                case IEQ:
-                    if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
-                        return attrValue.getStringValue().equalsIgnoreCase(item.getStringValue());
-                    } else {
-                        LOG.error("IEQ is only compatible with string or enum schemas");
-                        return false;
-                    }
+        switch (cond.getType()) {
+            case EQ:
+                Object value = attrValue.getValue();
+                return item -> value.equals(item.getValue());
+
+            case IEQ:
+                if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
+                    String stringValue = attrValue.getStringValue();
+                    return item -> stringValue.equalsIgnoreCase(item.getStringValue());
+                }
 
-                case LIKE:
-                case ILIKE:
-                    if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
-                        StringBuilder output = new StringBuilder();
-                        for (char c : cond.getExpression().toLowerCase().toCharArray()) {
-                            if (c == '%') {
-                                output.append(".*");
-                            } else if (Character.isLetter(c)) {
-                                output.append('[').
-                                        append(c).
-                                        append(Character.toUpperCase(c)).
-                                        append(']');
-                            } else {
-                                output.append(c);
-                            }
+                LOG.error("IEQ is only compatible with string or enum schemas");
+                return item -> false;
+
+            case LIKE:
+            case ILIKE:
+                if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
+                    StringBuilder output = new StringBuilder();
+                    for (char c : cond.getExpression().toLowerCase().toCharArray()) {
+                        if (c == '%') {
+                            output.append(".*");
+                        } else if (Character.isLetter(c)) {
+                            output.append('[').
+                                    append(c).
+                                    append(Character.toUpperCase(c)).
+                                    append(']');
+                        } else {
+                            output.append(c);
                         }
-                        return (cond.getType() == AttrCond.Type.LIKE
-                                ? Pattern.compile(output.toString())
-                                : Pattern.compile(output.toString(), Pattern.CASE_INSENSITIVE)).
-                                matcher(item.getStringValue()).matches();
-                    } else {
-                        LOG.error("LIKE is only compatible with string or enum schemas");
-                        return false;
                     }
+                    Pattern pattern = cond.getType() == AttrCond.Type.LIKE
+                            ? Pattern.compile(output.toString())
+                            : Pattern.compile(output.toString(), Pattern.CASE_INSENSITIVE);
+                    return item -> item.getStringValue() != null && pattern.matcher(item.getStringValue()).matches();
+                }
 
-                case GT:
-                    return item.<Comparable>getValue().compareTo(attrValue.getValue()) > 0;
+                LOG.error("LIKE is only compatible with string or enum schemas");
+                return item -> false;
 
-                case GE:
-                    return item.<Comparable>getValue().compareTo(attrValue.getValue()) >= 0;
+            case GT:
+                Comparable gt = attrValue.getValue();
+                return item -> item.getValue() != null && item.<Comparable>getValue().compareTo(gt) > 0;
 
-                case LT:
-                    return item.<Comparable>getValue().compareTo(attrValue.getValue()) < 0;
+            case GE:
+                Comparable ge = attrValue.getValue();
+                return item -> item.getValue() != null && item.<Comparable>getValue().compareTo(ge) >= 0;
 
-                case LE:
-                    return item.<Comparable>getValue().compareTo(attrValue.getValue()) <= 0;
+            case LT:
+                Comparable lt = attrValue.getValue();
+                return item -> item.getValue() != null && item.<Comparable>getValue().compareTo(lt) < 0;
 
-                default:
-                    return false;
-            }
-        });
+            case LE:
+                Comparable le = attrValue.getValue();
+                return item -> item.getValue() != null && item.<Comparable>getValue().compareTo(le) <= 0;
+
+            default:
+                return item -> false;
+        }
     }
 
-    protected boolean matches(final Any<?> any, final AttrCond cond, final boolean not) {
+    protected Predicate<Any<?>> compile(final AttrCond cond, final boolean not, final Set<Dependency> dependencies) {
+        dependencies.add(Dependency.SCHEMAS);
         PlainSchema schema = plainSchemaDAO.find(cond.getSchema());
         if (schema == null) {
             LOG.warn("Ignoring invalid schema '{}'", cond.getSchema());
-            return false;
+            return any -> false;
         }
 
-        @SuppressWarnings("unchecked")
-        Optional<PlainAttr<?>> attr = (Optional<PlainAttr<?>>) any.getPlainAttr(cond.getSchema());
-
-        boolean found;
         switch (cond.getType()) {
             case ISNULL:
-                found = attr.isEmpty();
-                break;
+                return any -> any.getPlainAttr(cond.getSchema()).isEmpty() != not;
 
             case ISNOTNULL:
-                found = attr.isPresent();
-                break;
+                return any -> any.getPlainAttr(cond.getSchema()).isPresent() != not;
 
             default:
-                PlainAttrValue attrValue = anyUtilsFactory.getInstance(any).newPlainAttrValue();
+                PlainAttrValue attrValue = anyUtilsFactory.getInstance(AnyTypeKind.USER).newPlainAttrValue();
                 try {
-                    if (cond.getType() != AttrCond.Type.LIKE
-                            && cond.getType() != AttrCond.Type.ILIKE
-                            && cond.getType() != AttrCond.Type.ISNULL
-                            && cond.getType() != AttrCond.Type.ISNOTNULL) {
-
+                    if (cond.getType() != AttrCond.Type.LIKE && cond.getType() != AttrCond.Type.ILIKE) {
                         validator.validate(schema, cond.getExpression(), attrValue);
                     }
                 } catch (ValidationException e) {
                     LOG.error("Could not validate expression '" + cond.getExpression() + '\'', e);
-                    return false;
+                    return any -> false;
                 }
 
-                found = attr.map(a -> matches(a.getValues(), attrValue, schema, cond)).orElse(false);
+                Predicate<PlainAttrValue> valueMatcher = compile(attrValue, schema, cond);
+                return any -> {
+                    @SuppressWarnings("unchecked")
+                    Optional<PlainAttr<?>> attr = (Optional<PlainAttr<?>>) any.getPlainAttr(cond.getSchema());
+                    return attr.map(a -> a.getValues().stream().anyMatch(valueMatcher)).orElse(false) != not;
+                };
         }
-        return not ? !found : found;
     }
 
-    protected boolean matches(final Any<?> any, final AnyCond cond, final boolean not) {
-        // Keeps track of difference between entity's getKey() and JPA @Id fields
-        if ("key".equals(cond.getSchema())) {
-            cond.setSchema("id");
-        }
-
-        PropertyDescriptor pd;
-        Object anyAttrValue;
+    protected static Object read(final Object object, final Method method) {
         try {
-            pd = BeanUtils.getPropertyDescriptor(any.getClass(), cond.getSchema());
-            if (pd == null) {
-                LOG.warn("Ignoring invalid schema '{}'", cond.getSchema());
-                return false;
-            }
-
-            anyAttrValue = pd.getReadMethod().invoke(any);
+            return method.invoke(object);
         } catch (Exception e) {
-            LOG.error("While accessing {}.{}", any, cond.getSchema(), e);
-            return false;
+            LOG.error("While accessing {}.{}", object, method.getName(), e);
+            return READ_FAILURE;
         }
+    }
 
-        boolean found;
-        switch (cond.getType()) {
-            case ISNULL:
-                found = anyAttrValue == null;
-                break;
+    protected Predicate<Any<?>> compile(final AnyCond cond, final boolean not) {
+        // Keeps track of difference between entity's getKey() and JPA @Id fields
+        String field = "key".equals(cond.getSchema()) ? "id" : cond.getSchema();
 
-            case ISNOTNULL:
-                found = anyAttrValue != null;
-                break;
+        // properties can only be resolved once the actual entity class is known
+        Map<Class<?>, Predicate<Any<?>>> byClass = new ConcurrentHashMap<>();
+        return any -> byClass.computeIfAbsent(any.getClass(), anyClass -> compile(anyClass, field, cond, not)).
+                test(any);
+    }
 
-            default:
-                PlainSchema schema = new JPAPlainSchema();
-                schema.setKey(pd.getName());
-                for (AttrSchemaType attrSchemaType : AttrSchemaType.values()) {
-                    if (pd.getPropertyType().isAssignableFrom(attrSchemaType.getType())) {
-                        schema.setType(attrSchemaType);
-                    }
-                }
+    protected Predicate<Any<?>> compile(
+            final Class<?> anyClass,
+            final String field,
+            final AnyCond cond,
+            final boolean not) {
 
-                // Deal with any Integer fields logically mapping to boolean values
-                boolean foundBooleanMin = false;
-                boolean foundBooleanMax = false;
-                if (Integer.class.equals(pd.getPropertyType())) {
-                    for (Annotation annotation : pd.getPropertyType().getAnnotations()) {
-                        if (Min.class.equals(annotation.annotationType())) {
-                            foundBooleanMin = ((Min) annotation).value() == 0;
-                        } else if (Max.class.equals(annotation.annotationType())) {
-                            foundBooleanMax = ((Max) annotation).value() == 1;
-                        }
-                    }
-                }
-                if (foundBooleanMin && foundBooleanMax) {
-                    schema.setType(AttrSchemaType.Boolean);
-                }
+        PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(anyClass, field);
+        if (pd == null || pd.getReadMethod() == null) {
+            LOG.warn("Ignoring invalid schema '{}'", cond.getSchema());
+            return any -> false;
+        }
+        Method readMethod = pd.getReadMethod();
+
+        if (cond.getType() == AttrCond.Type.ISNULL || cond.getType() == AttrCond.Type.ISNOTNULL) {
+            boolean isNull = cond.getType() == AttrCond.Type.ISNULL;
+            return any -> {
+                Object anyAttrValue = read(any, readMethod);
+                return anyAttrValue != READ_FAILURE && (anyAttrValue == null) == isNull != not;
+            };
+        }
 
-                // Deal with any fields representing relationships to other entities
-                if (pd.getPropertyType().getAnnotation(Entity.class) != null) {
-                    Method relMethod = null;
-                    try {
-                        relMethod = ClassUtils.getPublicMethod(pd.getPropertyType(), "getKey", new Class<?>[0]);
-                    } catch (Exception e) {
-                        LOG.error("Could not find {}#getKey", pd.getPropertyType(), e);
-                    }
+        PlainSchema schema = new JPAPlainSchema();
+        schema.setKey(pd.getName());
+        for (AttrSchemaType attrSchemaType : AttrSchemaType.values()) {
+            if (pd.getPropertyType().isAssignableFrom(attrSchemaType.getType())) {
+                schema.setType(attrSchemaType);
+            }
+        }
 
-                    if (relMethod != null && String.class.isAssignableFrom(relMethod.getReturnType())) {
-                        cond.setSchema(cond.getSchema() + "_id");
-                        schema.setType(AttrSchemaType.String);
-                    }
+        // Deal with any Integer fields logically mapping to boolean values
+        boolean foundBooleanMin = false;
+        boolean foundBooleanMax = false;
+        if (Integer.class.equals(pd.getPropertyType())) {
+            for (Annotation annotation : pd.getPropertyType().getAnnotations()) {
+                if (Min.class.equals(annotation.annotationType())) {
+                    foundBooleanMin = ((Min) annotation).value() == 0;
+                } else if (Max.class.equals(annotation.annotationType())) {
+                    foundBooleanMax = ((Max) annotation).value() == 1;
                 }
+            }
+        }
+        if (foundBooleanMin && foundBooleanMax) {
+            schema.setType(AttrSchemaType.Boolean);
+        }
 
-                AnyUtils anyUtils = anyUtilsFactory.getInstance(any);
+        // Deal with any fields representing relationships to other entities: compare their keys
+        Method relMethod = null;
+        if (pd.getPropertyType().getAnnotation(Entity.class) != null) {
+            try {
+                relMethod = ClassUtils.getPublicMethod(pd.getPropertyType(), "getKey", new Class<?>[0]);
+            } catch (Exception e) {
+                LOG.error("Could not find {}#getKey", pd.getPropertyType(), e);
+            }
 
-                PlainAttrValue attrValue = anyUtils.newPlainAttrValue();
-                if (cond.getType() != AttrCond.Type.LIKE
-                        && cond.getType() != AttrCond.Type.ILIKE
-                        && cond.getType() != AttrCond.Type.ISNULL
-                        && cond.getType() != AttrCond.Type.ISNOTNULL) {
+            if (relMethod != null && String.class.isAssignableFrom(relMethod.getReturnType())) {
+                schema.setType(AttrSchemaType.String);
+            } else {
+                relMethod = null;
+            }
+        }
+        Method keyMethod = relMethod;
+
+        PlainAttrValue attrValue = anyUtilsFactory.getInstance(AnyTypeKind.USER).newPlainAttrValue();
+        if (cond.getType() != AttrCond.Type.LIKE && cond.getType() != AttrCond.Type.ILIKE) {
+            try {
+                validator.validate(schema, cond.getExpression(), attrValue);
+            } catch (ValidationException e) {
+                LOG.error("Could not validate expression '" + cond.getExpression() + '\'', e);
+                return any -> false;
+            }
+        }
 
-                    try {
-                        validator.validate(schema, cond.getExpression(), attrValue);
-                    } catch (ValidationException e) {
-                        LOG.error("Could not validate expression '" + cond.getExpression() + '\'', e);
-                        return false;
-                    }
-                }
+        Predicate<PlainAttrValue> valueMatcher = compile(attrValue, schema, cond);
+        return any -> {
+            Object anyAttrValue = read(any, readMethod);
+            if (anyAttrValue == READ_FAILURE) {
+                return false;
+            }
+            if (keyMethod != null && anyAttrValue != null) {
+                anyAttrValue = read(anyAttrValue, keyMethod);
+            }
 
-                List<PlainAttrValue> anyAttrValues = new ArrayList<>();
-                anyAttrValues.add(anyUtils.newPlainAttrValue());
-                if (anyAttrValue instanceof String) {
-                    anyAttrValues.get(0).setStringValue((String) anyAttrValue);
-                } else if (anyAttrValue instanceof Long) {
-                    anyAttrValues.get(0).setLongValue((Long) anyAttrValue);
-                } else if (anyAttrValue instanceof Double) {
-                    anyAttrValues.get(0).setDoubleValue((Double) anyAttrValue);
-                } else if (anyAttrValue instanceof Boolean) {
-                    anyAttrValues.get(0).setBooleanValue((Boolean) anyAttrValue);
-                } else if (anyAttrValue instanceof OffsetDateTime) {
-                    anyAttrValues.get(0).setDateValue((OffsetDateTime) anyAttrValue);
-                } else if (anyAttrValue instanceof byte[]) {
-                    anyAttrValues.get(0).setBinaryValue((byte[]) anyAttrValue);
-                }
+            PlainAttrValue item = anyUtilsFactory.getInstance(AnyTypeKind.USER).newPlainAttrValue();
+            if (anyAttrValue instanceof String) {
+                item.setStringValue((String) anyAttrValue);
+            } else if (anyAttrValue instanceof Long) {
+                item.setLongValue((Long) anyAttrValue);
+            } else if (anyAttrValue instanceof Double) {
+                item.setDoubleValue((Double) anyAttrValue);
+            } else if (anyAttrValue instanceof Boolean) {
+                item.setBooleanValue((Boolean) anyAttrValue);
+            } else if (anyAttrValue instanceof OffsetDateTime) {
+                item.setDateValue((OffsetDateTime) anyAttrValue);
+            } else if (anyAttrValue instanceof byte[]) {
+                item.setBinaryValue((byte[]) anyAttrValue);
+            }
 
-                found = matches(anyAttrValues, attrValue, schema, cond);
-        }
-        return not ? !found : found;
+            return valueMatcher.test(item) != not;
+        };
     }
 }
@@ -25,6 +25,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -108,6 +109,21 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return result;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<AnyObject> findByNames(final Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        TypedQuery<AnyObject> query = entityManager().createQuery(
+                "SELECT e FROM " + anyUtils().anyClass().getSimpleName() + " e WHERE e.name IN (:names)",
+                AnyObject.class);
+        query.setParameter("names", names);
+
+        return query.getResultList();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<AnyObject> findByName(final String name) {
@@ -209,6 +225,14 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         securityChecks(authRealms, anyObject.getKey(), anyObject.getRealm().getFullPath(), findAllGroupKeys(anyObject));
     }
 
+    @Override
+    protected List<String> fetchFields(final boolean details) {
+        List<String> fields = new ArrayList<>(super.fetchFields(details));
+        // read for resources assigned via groups
+        fields.add("memberships");
+        return fields;
+    }
+
     @Override
     public AMembership findMembership(final String key) {
         return entityManager().find(JPAAMembership.class, key);
@@ -259,23 +283,30 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return findAllKeys(JPAAnyObject.TABLE, page, itemsPerPage);
     }
 
-    protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(final AnyObject anyObject) {
+    protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(
+            final AnyObject anyObject, final Set<String> changes) {
+
         AnyObject merged = super.save(anyObject);
 
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
-        dynRealmDAO.refreshDynMemberships(merged);
+        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged, changes);
+        dynRealmDAO.refreshDynMemberships(merged, changes);
 
         return Pair.of(merged, dynGroupMembs);
     }
 
     @Override
     public AnyObject save(final AnyObject anyObject) {
-        return doSave(anyObject).getLeft();
+        return doSave(anyObject, null).getLeft();
+    }
+
+    @Override
+    public AnyObject save(final AnyObject anyObject, final Set<String> changes) {
+        return doSave(anyObject, changes).getLeft();
     }
 
     @Override
     public Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(final AnyObject anyObject) {
-        return doSave(anyObject).getRight();
+        return doSave(anyObject, null).getRight();
     }
 
     protected List<ARelationship> findARelationships(final AnyObject anyObject) {
@@ -340,6 +371,18 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return result;
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<Group>> findDynGroups(final Collection<String> keys) {
+        Map<String, Group> groups = new HashMap<>();
+        Map<String, List<Group>> result = new HashMap<>();
+        groupByKeys("SELECT any_id, group_id FROM " + JPAGroupDAO.ADYNMEMB_TABLE + " WHERE any_id IN (%s)", keys).
+                forEach((key, groupKeys) -> result.put(key, groupKeys.stream().
+                map(groupKey -> groups.computeIfAbsent(groupKey, groupDAO::find)).
+                filter(Objects::nonNull).collect(Collectors.toList())));
+        return result;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final AnyObject anyObject) {
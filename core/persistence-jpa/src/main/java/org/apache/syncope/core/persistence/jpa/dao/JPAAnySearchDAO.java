@@ -65,6 +65,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
+import org.springframework.util.CollectionUtils;
 
 /**
  * Search engine implementation for users, groups and any objects, based on self-updating SQL views.
@@ -99,7 +100,32 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 validator);
     }
 
+    /**
+     * Builds the realm list to match {@code realm_id} against: either the given realm keys or, when recursive, a
+     * sub-query on the realm closure table selecting all realms under them; either way, the query text only
+     * depends on the number of given realms, not on the number of their descendants.
+     *
+     * @param recursive whether descendant realms shall be matched as well
+     * @param realmKeys realm keys
+     * @param parameters query parameters
+     * @return realm list, to be placed within {@code IN (...)}
+     */
+    protected String buildRealmScope(
+            final boolean recursive,
+            final Set<String> realmKeys,
+            final List<Object> parameters) {
+
+        String realmKeysArg = realmKeys.stream().
+                map(realmKey -> "?" + setParameter(parameters, realmKey)).
+                collect(Collectors.joining(","));
+        return recursive
+                ? "SELECT descendant_id FROM " + JPARealmDAO.CLOSURE_TABLE
+                + " WHERE ancestor_id IN (" + realmKeysArg + ")"
+                : realmKeysArg;
+    }
+
     protected String buildAdminRealmsFilter(
+            final boolean recursive,
             final Set<String> realmKeys,
             final SearchSupport svs,
             final List<Object> parameters) {
@@ -108,11 +134,8 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             return "u.any_id IS NOT NULL";
         }
 
-        String realmKeysArg = realmKeys.stream().
-                map(realmKey -> "?" + setParameter(parameters, realmKey)).
-                collect(Collectors.joining(","));
         return "u.any_id IN (SELECT any_id FROM " + svs.field().name
-                + " WHERE realm_id IN (" + realmKeysArg + "))";
+                + " WHERE realm_id IN (" + buildRealmScope(recursive, realmKeys, parameters) + "))";
     }
 
     protected Triple<String, Set<String>, Set<String>> getAdminRealmsFilter(
@@ -138,7 +161,12 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                                 return noRealm;
                             });
 
-                            realmKeys.addAll(realmDAO.findDescendants(realm.getFullPath(), base.getFullPath()));
+                            // realms under both admin realm and base are the ones under the innermost of them
+                            if (RealmUtils.contains(realm.getFullPath(), base.getFullPath())) {
+                                realmKeys.add(base.getKey());
+                            } else if (RealmUtils.contains(base.getFullPath(), realm.getFullPath())) {
+                                realmKeys.add(realm.getKey());
+                            }
                         } else {
                             DynRealm dynRealm = dynRealmDAO.find(realmPath);
                             if (dynRealm == null) {
@@ -157,22 +185,20 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             }
         }
 
-        return Triple.of(buildAdminRealmsFilter(realmKeys, svs, parameters), dynRealmKeys, groupOwners);
+        return Triple.of(buildAdminRealmsFilter(recursive, realmKeys, svs, parameters), dynRealmKeys, groupOwners);
     }
 
     SearchSupport buildSearchSupport(final AnyTypeKind kind) {
         return new SearchViewSupport(kind);
     }
 
-    @Override
-    protected int doCount(
+    protected StringBuilder buildKeysQuery(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
             final SearchCond cond,
-            final AnyTypeKind kind) {
-
-        List<Object> parameters = new ArrayList<>();
+            final AnyTypeKind kind,
+            final List<Object> parameters) {
 
         SearchSupport svs = buildSearchSupport(kind);
 
@@ -189,6 +215,21 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         queryString.insert(0, "SELECT u.any_id FROM (");
         queryString.append(") u WHERE ").append(filter.getLeft());
 
+        return queryString;
+    }
+
+    @Override
+    protected int doCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        List<Object> parameters = new ArrayList<>();
+
+        StringBuilder queryString = buildKeysQuery(base, recursive, adminRealms, cond, kind, parameters);
+
         // 3. prepare the COUNT query
         queryString.insert(0, "SELECT COUNT(any_id) FROM (");
         queryString.append(") count_any_id");
@@ -199,6 +240,25 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return ((Number) countQuery.getSingleResult()).intValue();
     }
 
+    @Override
+    public Optional<Pair<String, List<Object>>> getKeysQuery(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        if (CollectionUtils.isEmpty(adminRealms) || cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition or no realms provided:\n{}", cond);
+            return Optional.empty();
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        String queryString = buildKeysQuery(base, recursive, adminRealms, cond, kind, parameters).toString();
+        return Optional.of(Pair.of(
+                queryString, parameters.stream().map(this::parameterValue).collect(Collectors.toList())));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected <T extends Any<?>> List<T> doSearch(
@@ -271,13 +331,15 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return parameters.size();
     }
 
+    protected Object parameterValue(final Object parameter) {
+        return parameter instanceof Boolean
+                ? ((Boolean) parameter) ? 1 : 0
+                : parameter;
+    }
+
     protected void fillWithParameters(final Query query, final List<Object> parameters) {
         for (int i = 0; i < parameters.size(); i++) {
-            if (parameters.get(i) instanceof Boolean) {
-                query.setParameter(i + 1, ((Boolean) parameters.get(i)) ? 1 : 0);
-            } else {
-                query.setParameter(i + 1, parameters.get(i));
-            }
+            query.setParameter(i + 1, parameterValue(parameters.get(i)));
         }
     }
 
@@ -20,7 +20,9 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.TypedQuery;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
@@ -83,6 +85,18 @@ public class JPADelegationDAO extends AbstractDAO<Delegation> implements Delegat
         return query.getResultList();
     }
 
+    @Override
+    public Map<String, List<String>> findKeysByDelegating(final Collection<String> userKeys) {
+        return groupByKeys(
+                "SELECT delegating_id, id FROM " + JPADelegation.TABLE + " WHERE delegating_id IN (%s)", userKeys);
+    }
+
+    @Override
+    public Map<String, List<String>> findKeysByDelegated(final Collection<String> userKeys) {
+        return groupByKeys(
+                "SELECT delegated_id, id FROM " + JPADelegation.TABLE + " WHERE delegated_id IN (%s)", userKeys);
+    }
+
     @Override
     public List<Delegation> findByRole(final Role role) {
         TypedQuery<Delegation> query = entityManager().createQuery(
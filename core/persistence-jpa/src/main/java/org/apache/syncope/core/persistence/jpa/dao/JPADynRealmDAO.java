@@ -22,6 +22,9 @@ import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -33,6 +36,7 @@ import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.jpa.entity.JPADynRealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPADynRealmMembership;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
@@ -57,6 +61,8 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
 
     protected final SearchCondVisitor searchCondVisitor;
 
+    protected final DynMembershipIndex dynMembershipIndex;
+
     public JPADynRealmDAO(
             final ApplicationEventPublisher publisher,
             final UserDAO userDAO,
@@ -64,7 +70,8 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
             final AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
             final AnyMatchDAO anyMatchDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final DynMembershipIndex dynMembershipIndex) {
 
         this.publisher = publisher;
         this.userDAO = userDAO;
@@ -73,6 +80,7 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
         this.searchDAO = searchDAO;
         this.anyMatchDAO = anyMatchDAO;
         this.searchCondVisitor = searchCondVisitor;
+        this.dynMembershipIndex = dynMembershipIndex;
     }
 
     @Override
@@ -130,6 +138,7 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
     @Override
     public DynRealm saveAndRefreshDynMemberships(final DynRealm dynRealm) {
         DynRealm merged = save(dynRealm);
+        dynMembershipIndex.changed(AuthContextUtils.getDomain());
 
         // refresh dynamic memberships
         List<String> cleared = clearDynMembers(merged);
@@ -163,19 +172,34 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
         notifyDynMembershipRemoval(clearDynMembers(dynRealm));
 
         entityManager().remove(dynRealm);
+        dynMembershipIndex.changed(AuthContextUtils.getDomain());
     }
 
     @Transactional
     @Override
-    public void refreshDynMemberships(final Any<?> any) {
-        findAll().forEach(dynRealm -> dynRealm.getDynMembership(any.getType()).ifPresent(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    any, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-
-            Query find = entityManager().createNativeQuery(
-                    "SELECT dynRealm_id FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
-            find.setParameter(1, any.getKey());
-            boolean existing = !find.getResultList().isEmpty();
+    @SuppressWarnings("unchecked")
+    public void refreshDynMemberships(final Any<?> any, final Set<String> changes) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT dynRealm_id FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
+        query.setParameter(1, any.getKey());
+        Set<String> before = ((List<Object>) query.getResultList()).stream().
+                map(Object::toString).collect(Collectors.toSet());
+
+        Set<String> dynRealmKeys = dynMembershipIndex.affected(
+                AuthContextUtils.getDomain(),
+                DYNMEMB_TABLE + '/' + any.getType().getKey(),
+                changes,
+                () -> entityManager().createQuery(
+                        "SELECT e.dynRealm.id, e.fiql FROM " + JPADynRealmMembership.class.getSimpleName() + " e "
+                        + "WHERE e.anyType.id=:anyType", Object[].class).
+                        setParameter("anyType", any.getType().getKey()).getResultList().stream().
+                        collect(Collectors.toMap(row -> (String) row[0], row -> (String) row[1])));
+
+        dynRealmKeys.stream().map(this::find).filter(Objects::nonNull).
+                forEach(dynRealm -> dynRealm.getDynMembership(any.getType()).ifPresent(memb -> {
+
+            boolean matches = anyMatchDAO.compile(memb.getFIQLCond()).test(any);
+            boolean existing = before.contains(dynRealm.getKey());
 
             if (matches && !existing) {
                 Query insert = entityManager().
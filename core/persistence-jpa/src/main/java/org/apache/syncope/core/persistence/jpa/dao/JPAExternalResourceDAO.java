@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.IdMEntitlement;
 import org.apache.syncope.common.lib.types.TaskType;
@@ -45,8 +46,11 @@ import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PullPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PushPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPullFingerprint;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPushFingerprint;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
@@ -219,6 +223,25 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
         return entityManager().merge(resource);
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public void saveSyncToken(final String key, final String objectClass, final String syncToken) {
+        ExternalResource resource = find(key);
+        if (resource == null) {
+            return;
+        }
+
+        OrgUnit orgUnit = resource.getOrgUnit();
+        if (orgUnit != null && objectClass.equals(orgUnit.getObjectClass())) {
+            orgUnit.setSyncToken(syncToken);
+            resource.setOrgUnit(orgUnit);
+        } else {
+            resource.getProvisionByObjectClass(objectClass).ifPresent(provision -> provision.setSyncToken(syncToken));
+        }
+
+        save(resource);
+    }
+
     @Override
     public void deleteMapping(final String intAttrName) {
         findAll().forEach(resource -> {
@@ -263,6 +286,15 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
 
         virSchemaDAO.find(resource).forEach(virSchemaDAO::delete);
 
+        entityManager().createQuery(
+                "DELETE FROM " + JPAPullFingerprint.class.getSimpleName() + " e WHERE e.resource = :resource").
+                setParameter("resource", resource.getKey()).
+                executeUpdate();
+        entityManager().createQuery(
+                "DELETE FROM " + JPAPushFingerprint.class.getSimpleName() + " e WHERE e.resource = :resource").
+                setParameter("resource", resource.getKey()).
+                executeUpdate();
+
         if (resource.getConnector() != null
                 && resource.getConnector().getResources() != null
                 && !resource.getConnector().getResources().isEmpty()) {
@@ -24,11 +24,15 @@ import jakarta.persistence.TypedQuery;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
@@ -42,11 +46,14 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DynGroupMembership;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.ADynGroupMembership;
@@ -54,7 +61,6 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.group.TypeExtension;
-import org.apache.syncope.core.persistence.api.entity.user.UDynGroupMembership;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
@@ -93,6 +99,8 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
 
     protected final SearchCondVisitor searchCondVisitor;
 
+    protected final DynMembershipIndex dynMembershipIndex;
+
     public JPAGroupDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final ApplicationEventPublisher publisher,
@@ -104,7 +112,8 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
             final UserDAO userDAO,
             final AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final DynMembershipIndex dynMembershipIndex) {
 
         super(anyUtilsFactory, plainSchemaDAO, derSchemaDAO, dynRealmDAO);
         this.publisher = publisher;
@@ -114,6 +123,7 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         this.anyObjectDAO = anyObjectDAO;
         this.anySearchDAO = searchDAO;
         this.searchCondVisitor = searchCondVisitor;
+        this.dynMembershipIndex = dynMembershipIndex;
     }
 
     @Override
@@ -193,6 +203,28 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         securityChecks(authRealms, group.getKey(), group.getRealm().getFullPath());
     }
 
+    @Override
+    protected List<String> fetchFields(final boolean details) {
+        List<String> fields = new ArrayList<>(super.fetchFields(details));
+        fields.add("aDynMemberships");
+        fields.add("typeExtensions");
+        return fields;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Group> findByNames(final Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        TypedQuery<Group> query = entityManager().createQuery(
+                "SELECT e FROM " + anyUtils().anyClass().getSimpleName() + " e WHERE e.name IN (:names)", Group.class);
+        query.setParameter("names", names);
+
+        return query.getResultList();
+    }
+
     @Override
     public Group findByName(final String name) {
         TypedQuery<Group> query = entityManager().createQuery(
@@ -293,67 +325,231 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return SearchCondConverter.convert(searchCondVisitor, baseCondFIQL);
     }
 
-    @Override
-    public Group saveAndRefreshDynMemberships(final Group group) {
-        Group merged = save(group);
+    protected Optional<Pair<String, List<Object>>> dynMembersQuery(
+            final Group group,
+            final String fiql,
+            final AnyType anyType) {
+
+        SearchCond cond = buildDynMembershipCond(fiql);
+        if (anyType != null) {
+            AnyTypeCond anyTypeCond = new AnyTypeCond();
+            anyTypeCond.setAnyTypeKey(anyType.getKey());
+            cond = SearchCond.getAnd(cond, SearchCond.getLeaf(anyTypeCond));
+        }
+
+        return anySearchDAO.getKeysQuery(
+                group.getRealm(),
+                true,
+                Set.of(group.getRealm().getFullPath()),
+                cond,
+                anyType == null ? AnyTypeKind.USER : AnyTypeKind.ANY_OBJECT);
+    }
 
-        // refresh dynamic memberships
-        clearUDynMembers(merged);
-        if (merged.getUDynMembership() != null) {
-            SearchCond cond = buildDynMembershipCond(merged.getUDynMembership().getFIQLCond());
-            int count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.USER);
-            for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                List<User> matching = anySearchDAO.search(
-                        merged.getRealm(),
+    @SuppressWarnings("unchecked")
+    protected List<String> findKeys(final String queryString, final List<Object> parameters) {
+        Query query = entityManager().createNativeQuery(queryString);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+
+        return ((List<Object>) query.getResultList()).stream().
+                map(Object::toString).
+                collect(Collectors.toList());
+    }
+
+    protected void deleteDynMembers(final String table, final Group group, final List<String> anyKeys) {
+        for (int i = 0; i < anyKeys.size(); i += KEYS_CHUNK_SIZE) {
+            List<String> chunk = anyKeys.subList(i, Math.min(anyKeys.size(), i + KEYS_CHUNK_SIZE));
+
+            Query delete = entityManager().createNativeQuery(
+                    "DELETE FROM " + table + " WHERE group_id=?1 AND any_id IN ("
+                    + IntStream.range(0, chunk.size()).mapToObj(j -> "?" + (j + 2)).collect(Collectors.joining(","))
+                    + ')');
+            delete.setParameter(1, group.getKey());
+            for (int j = 0; j < chunk.size(); j++) {
+                delete.setParameter(j + 2, chunk.get(j));
+            }
+            delete.executeUpdate();
+        }
+    }
+
+    /**
+     * Aligns the dynamic members of the given group to the provided native keys query by computing, on the database
+     * side, which members are to be added and which removed, rather than clearing and rebuilding the whole set.
+     *
+     * @param group group
+     * @param anyType any type for any objects, null for users
+     * @param keysQuery native query (and its parameters) returning the keys of matching any objects or users
+     * @return keys of members added or removed
+     */
+    protected Set<String> refreshDynMembers(
+            final Group group,
+            final AnyType anyType,
+            final Pair<String, List<Object>> keysQuery) {
+
+        String table = anyType == null ? UDYNMEMB_TABLE : ADYNMEMB_TABLE;
+
+        List<Object> parameters = new ArrayList<>(keysQuery.getRight());
+        parameters.add(group.getKey());
+        StringBuilder current = new StringBuilder("SELECT any_id FROM ").append(table).
+                append(" WHERE group_id=?").append(parameters.size());
+        if (anyType != null) {
+            parameters.add(anyType.getKey());
+            current.append(" AND anyType_id=?").append(parameters.size());
+        }
+
+        // 1. members no longer matching
+        List<String> removed = findKeys(
+                current + " AND any_id NOT IN (SELECT k.any_id FROM (" + keysQuery.getLeft() + ") k)",
+                parameters);
+        deleteDynMembers(table, group, removed);
+
+        // 2. new members
+        String added = "SELECT DISTINCT k.any_id FROM (" + keysQuery.getLeft() + ") k "
+                + "WHERE k.any_id NOT IN (" + current + ')';
+        Set<String> changed = new HashSet<>(findKeys(added, parameters));
+
+        parameters.add(group.getKey());
+        String insert = anyType == null
+                ? "INSERT INTO " + table + "(group_id, any_id) "
+                + "SELECT ?" + parameters.size() + ", added.any_id FROM (" + added + ") added"
+                : "INSERT INTO " + table + "(anyType_id, group_id, any_id) "
+                + "SELECT ?" + (parameters.size() - 1) + ", ?" + parameters.size() + ", added.any_id "
+                + "FROM (" + added + ") added";
+        Query query = entityManager().createNativeQuery(insert);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        query.executeUpdate();
+
+        changed.addAll(removed);
+        return changed;
+    }
+
+    protected void publishDynMembersUpdate(final Collection<String> anyKeys, final AnyTypeKind kind) {
+        AnyDAO<?> anyDAO = kind == AnyTypeKind.USER ? userDAO : anyObjectDAO;
+
+        List<String> keys = new ArrayList<>(anyKeys);
+        for (int i = 0; i < keys.size(); i += KEYS_CHUNK_SIZE) {
+            anyDAO.findByKeys(keys.subList(i, Math.min(keys.size(), i + KEYS_CHUNK_SIZE))).
+                    forEach(any -> publisher.publishEvent(
+                    new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain())));
+        }
+    }
+
+    protected void rebuildUDynMembers(final Group group) {
+        clearUDynMembers(group);
+        if (group.getUDynMembership() != null) {
+            SearchCond cond = buildDynMembershipCond(group.getUDynMembership().getFIQLCond());
+            String afterKey = null;
+            List<User> matching;
+            do {
+                matching = anySearchDAO.search(
+                        group.getRealm(),
                         true,
-                        Set.of(merged.getRealm().getFullPath()),
+                        Set.of(group.getRealm().getFullPath()),
                         cond,
-                        page,
+                        afterKey,
                         AnyDAO.DEFAULT_PAGE_SIZE,
-                        List.of(),
                         AnyTypeKind.USER);
+                if (!matching.isEmpty()) {
+                    afterKey = matching.get(matching.size() - 1).getKey();
+                }
 
                 matching.forEach(user -> {
                     Query insert = entityManager().createNativeQuery("INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
                     insert.setParameter(1, user.getKey());
-                    insert.setParameter(2, merged.getKey());
+                    insert.setParameter(2, group.getKey());
                     insert.executeUpdate();
 
                     publisher.publishEvent(
                             new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
                 });
-            }
+            } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         }
-        clearADynMembers(merged);
-        merged.getADynMemberships().forEach(memb -> {
+    }
+
+    protected void rebuildADynMembers(final Group group) {
+        clearADynMembers(group);
+        group.getADynMemberships().forEach(memb -> {
             SearchCond cond = buildDynMembershipCond(memb.getFIQLCond());
-            int count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.ANY_OBJECT);
-            for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                List<AnyObject> matching = anySearchDAO.search(
-                        merged.getRealm(),
+            String afterKey = null;
+            List<AnyObject> matching;
+            do {
+                matching = anySearchDAO.search(
+                        group.getRealm(),
                         true,
-                        Set.of(merged.getRealm().getFullPath()),
+                        Set.of(group.getRealm().getFullPath()),
                         cond,
-                        page,
+                        afterKey,
                         AnyDAO.DEFAULT_PAGE_SIZE,
-                        List.of(),
                         AnyTypeKind.ANY_OBJECT);
+                if (!matching.isEmpty()) {
+                    afterKey = matching.get(matching.size() - 1).getKey();
+                }
 
                 matching.forEach(any -> {
                     Query insert = entityManager().createNativeQuery(
                             "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
                     insert.setParameter(1, any.getType().getKey());
                     insert.setParameter(2, any.getKey());
-                    insert.setParameter(3, merged.getKey());
+                    insert.setParameter(3, group.getKey());
                     insert.executeUpdate();
 
                     publisher.publishEvent(
                             new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
                 });
-            }
+            } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         });
+    }
+
+    @Override
+    public Group saveAndRefreshDynMemberships(final Group group) {
+        Group merged = save(group);
+        dynMembershipIndex.changed(AuthContextUtils.getDomain());
+
+        // refresh dynamic memberships: set-based when the search implementation provides native keys queries,
+        // otherwise by clearing and paging through all matching users and any objects
+        if (merged.getUDynMembership() == null) {
+            List<String> removed = findKeys(
+                    "SELECT any_id FROM " + UDYNMEMB_TABLE + " WHERE group_id=?1", List.of(merged.getKey()));
+            clearUDynMembers(merged);
+            publishDynMembersUpdate(removed, AnyTypeKind.USER);
+        } else {
+            dynMembersQuery(merged, merged.getUDynMembership().getFIQLCond(), null).ifPresentOrElse(
+                    keysQuery -> publishDynMembersUpdate(
+                            refreshDynMembers(merged, null, keysQuery), AnyTypeKind.USER),
+                    () -> rebuildUDynMembers(merged));
+        }
+
+        Map<ADynGroupMembership, Pair<String, List<Object>>> aKeysQueries = new HashMap<>();
+        merged.getADynMemberships().forEach(memb -> dynMembersQuery(merged, memb.getFIQLCond(), memb.getAnyType()).
+                ifPresent(keysQuery -> aKeysQueries.put(memb, keysQuery)));
+        if (aKeysQueries.size() == merged.getADynMemberships().size()) {
+            Set<String> changed = new HashSet<>();
+
+            // any types without dynamic membership anymore
+            List<Object> parameters = new ArrayList<>();
+            parameters.add(merged.getKey());
+            StringBuilder dropped = new StringBuilder("SELECT any_id FROM ").append(ADYNMEMB_TABLE).
+                    append(" WHERE group_id=?1");
+            if (!aKeysQueries.isEmpty()) {
+                dropped.append(" AND anyType_id NOT IN (").append(aKeysQueries.keySet().stream().map(memb -> {
+                    parameters.add(memb.getAnyType().getKey());
+                    return "?" + parameters.size();
+                }).collect(Collectors.joining(","))).append(')');
+            }
+            List<String> removed = findKeys(dropped.toString(), parameters);
+            deleteDynMembers(ADYNMEMB_TABLE, merged, removed);
+            changed.addAll(removed);
+
+            aKeysQueries.forEach((memb, keysQuery) ->
+                    changed.addAll(refreshDynMembers(merged, memb.getAnyType(), keysQuery)));
+
+            publishDynMembersUpdate(changed, AnyTypeKind.ANY_OBJECT);
+        } else {
+            rebuildADynMembers(merged);
+        }
 
         dynRealmDAO.refreshDynMemberships(merged);
 
@@ -401,6 +597,7 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         clearADynMembers(group);
 
         entityManager().remove(group);
+        dynMembershipIndex.changed(AuthContextUtils.getDomain());
     }
 
     @Override
@@ -529,66 +726,124 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     }
 
     @Override
-    public void clearADynMembers(final Group group) {
-        Query delete = entityManager().createNativeQuery("DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=?");
-        delete.setParameter(1, group.getKey());
-        delete.executeUpdate();
+    public Map<String, Integer> countAMembers(final Collection<String> groupKeys) {
+        return countByKeys("SELECT group_id, COUNT(anyObject_id) FROM " + JPAAMembership.TABLE
+                + " WHERE group_id IN (%s) GROUP BY group_id", groupKeys);
     }
 
-    protected List<ADynGroupMembership> findWithADynMemberships(final AnyType anyType) {
-        TypedQuery<ADynGroupMembership> query = entityManager().createQuery(
-                "SELECT e FROM " + JPAADynGroupMembership.class.getSimpleName() + " e  WHERE e.anyType=:anyType",
-                ADynGroupMembership.class);
-        query.setParameter("anyType", anyType);
-        return query.getResultList();
+    @Override
+    public Map<String, Integer> countUMembers(final Collection<String> groupKeys) {
+        return countByKeys("SELECT group_id, COUNT(user_id) FROM " + JPAUMembership.TABLE
+                + " WHERE group_id IN (%s) GROUP BY group_id", groupKeys);
     }
 
-    @Transactional
     @Override
-    public Pair<Set<String>, Set<String>> refreshDynMemberships(final AnyObject anyObject) {
-        Query query = entityManager().createNativeQuery(
-                "SELECT group_id FROM " + JPAGroupDAO.ADYNMEMB_TABLE + " WHERE any_id=?");
-        query.setParameter(1, anyObject.getKey());
+    public Map<String, Integer> countADynMembers(final Collection<String> groupKeys) {
+        return countByKeys("SELECT group_id, COUNT(any_id) FROM " + ADYNMEMB_TABLE
+                + " WHERE group_id IN (%s) GROUP BY group_id", groupKeys);
+    }
 
-        Set<String> before = new HashSet<>();
-        Set<String> after = new HashSet<>();
-        findWithADynMemberships(anyObject.getType()).forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(anyObject, buildDynMembershipCond(memb.getFIQLCond()));
-            if (matches) {
-                after.add(memb.getGroup().getKey());
-            }
+    @Override
+    public Map<String, Integer> countUDynMembers(final Collection<String> groupKeys) {
+        return countByKeys("SELECT group_id, COUNT(any_id) FROM " + UDYNMEMB_TABLE
+                + " WHERE group_id IN (%s) GROUP BY group_id", groupKeys);
+    }
+
+    @Override
+    public void clearADynMembers(final Group group) {
+        Query delete = entityManager().createNativeQuery("DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=?");
+        delete.setParameter(1, group.getKey());
+        delete.executeUpdate();
+    }
 
-            Query find = entityManager().createNativeQuery(
-                    "SELECT any_id FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            find.setParameter(1, memb.getGroup().getKey());
-            find.setParameter(2, anyObject.getKey());
-            boolean existing = !find.getResultList().isEmpty();
-            if (existing) {
-                before.add(memb.getGroup().getKey());
+    protected Map<String, String> findDynMembershipConds(final String query, final Map<String, Object> params) {
+        TypedQuery<Object[]> typedQuery = entityManager().createQuery(query, Object[].class);
+        params.forEach(typedQuery::setParameter);
+
+        Map<String, String> conds = new HashMap<>();
+        typedQuery.getResultList().forEach(row -> conds.put((String) row[0], (String) row[1]));
+        return conds;
+    }
+
+    /**
+     * Evaluates, against the given user or any object, the dynamic group membership conditions affected by the
+     * changes being saved, as found via {@link DynMembershipIndex}; membership rows are only written and events are
+     * only published for actual membership changes.
+     *
+     * @param any user or any object being saved
+     * @param groupKeys groups whose dynamic membership condition is affected by the changes being saved
+     * @return pair of groups dynamically assigned before and after refresh
+     */
+    protected Pair<Set<String>, Set<String>> refreshDynMemberships(
+            final Any<?> any,
+            final Set<String> groupKeys) {
+
+        String table = any instanceof User ? UDYNMEMB_TABLE : ADYNMEMB_TABLE;
+
+        Set<String> before = new HashSet<>(
+                findKeys("SELECT group_id FROM " + table + " WHERE any_id=?1", List.of(any.getKey())));
+        Set<String> after = new HashSet<>(before);
+
+        groupKeys.stream().map(this::find).filter(Objects::nonNull).forEach(group -> {
+            Optional<? extends DynGroupMembership<?>> dynMemb = any instanceof User
+                    ? Optional.ofNullable(group.getUDynMembership())
+                    : group.getADynMembership(any.getType());
+            if (dynMemb.isEmpty()) {
+                return;
             }
+            DynGroupMembership<?> memb = dynMemb.get();
+
+            boolean matches = anyMatchDAO.compile(memb.getFIQLCond()).test(any);
+            boolean existing = before.contains(group.getKey());
 
             if (matches && !existing) {
-                Query insert = entityManager().createNativeQuery(
-                        "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
-                insert.setParameter(1, anyObject.getType().getKey());
-                insert.setParameter(2, anyObject.getKey());
-                insert.setParameter(3, memb.getGroup().getKey());
+                Query insert;
+                if (any instanceof User) {
+                    insert = entityManager().createNativeQuery(
+                            "INSERT INTO " + UDYNMEMB_TABLE + "(any_id, group_id) VALUES(?1, ?2)");
+                } else {
+                    insert = entityManager().createNativeQuery(
+                            "INSERT INTO " + ADYNMEMB_TABLE + "(any_id, group_id, anyType_id) VALUES(?1, ?2, ?3)");
+                    insert.setParameter(3, any.getType().getKey());
+                }
+                insert.setParameter(1, any.getKey());
+                insert.setParameter(2, group.getKey());
                 insert.executeUpdate();
+
+                after.add(group.getKey());
             } else if (!matches && existing) {
                 Query delete = entityManager().createNativeQuery(
-                        "DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, anyObject.getKey());
+                        "DELETE FROM " + table + " WHERE group_id=? AND any_id=?");
+                delete.setParameter(1, group.getKey());
+                delete.setParameter(2, any.getKey());
                 delete.executeUpdate();
+
+                after.remove(group.getKey());
             }
 
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
+            if (matches != existing) {
+                publisher.publishEvent(new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.UPDATE, group, AuthContextUtils.getDomain()));
+            }
         });
 
         return Pair.of(before, after);
     }
 
+    @Transactional
+    @Override
+    public Pair<Set<String>, Set<String>> refreshDynMemberships(final AnyObject anyObject, final Set<String> changes) {
+        Set<String> groupKeys = dynMembershipIndex.affected(
+                AuthContextUtils.getDomain(),
+                JPAADynGroupMembership.TABLE + '/' + anyObject.getType().getKey(),
+                changes,
+                () -> findDynMembershipConds(
+                        "SELECT e.group.id, e.fiql FROM " + JPAADynGroupMembership.class.getSimpleName() + " e "
+                        + "WHERE e.anyType.id=:anyType",
+                        Map.of("anyType", anyObject.getType().getKey())));
+        return refreshDynMemberships(anyObject, groupKeys);
+    }
+
     @Override
     public Set<String> removeDynMemberships(final AnyObject anyObject) {
         List<Group> dynGroups = anyObjectDAO.findDynGroups(anyObject.getKey());
@@ -634,57 +889,17 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         delete.executeUpdate();
     }
 
-    protected List<UDynGroupMembership> findWithUDynMemberships() {
-        TypedQuery<UDynGroupMembership> query = entityManager().createQuery(
-                "SELECT e FROM " + JPAUDynGroupMembership.class.getSimpleName() + " e",
-                UDynGroupMembership.class);
-
-        return query.getResultList();
-    }
-
     @Transactional
     @Override
-    public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user) {
-        Query query = entityManager().createNativeQuery(
-                "SELECT group_id FROM " + JPAGroupDAO.UDYNMEMB_TABLE + " WHERE any_id=?");
-        query.setParameter(1, user.getKey());
-
-        Set<String> before = new HashSet<>();
-        Set<String> after = new HashSet<>();
-        findWithUDynMemberships().forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(user, buildDynMembershipCond(memb.getFIQLCond()));
-            if (matches) {
-                after.add(memb.getGroup().getKey());
-            }
-
-            Query find = entityManager().createNativeQuery(
-                    "SELECT any_id FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            find.setParameter(1, memb.getGroup().getKey());
-            find.setParameter(2, user.getKey());
-            boolean existing = !find.getResultList().isEmpty();
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
-
-            if (matches && !existing) {
-                Query insert = entityManager().createNativeQuery(
-                        "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, user.getKey());
-                insert.setParameter(2, memb.getGroup().getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager().createNativeQuery(
-                        "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, user.getKey());
-                delete.executeUpdate();
-            }
-
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
-        });
-
-        return Pair.of(before, after);
+    public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user, final Set<String> changes) {
+        Set<String> groupKeys = dynMembershipIndex.affected(
+                AuthContextUtils.getDomain(),
+                JPAUDynGroupMembership.TABLE,
+                changes,
+                () -> findDynMembershipConds(
+                        "SELECT e.group.id, e.fiql FROM " + JPAUDynGroupMembership.class.getSimpleName() + " e",
+                        Map.of()));
+        return refreshDynMemberships(user, groupKeys);
     }
 
     @Override
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import jakarta.persistence.TypedQuery;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.IdRepoImplementationType;
 import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
@@ -28,6 +29,7 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
 import org.apache.syncope.core.persistence.jpa.entity.JPAImplementation;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 public class JPAImplementationDAO extends AbstractDAO<Implementation> implements ImplementationDAO {
@@ -36,9 +38,22 @@ public class JPAImplementationDAO extends AbstractDAO<Implementation> implements
 
     protected final EntityCacheDAO entityCacheDAO;
 
-    public JPAImplementationDAO(final ExternalResourceDAO resourceDAO, final EntityCacheDAO entityCacheDAO) {
+    protected final AnyMatchCache anyMatchCache;
+
+    public JPAImplementationDAO(
+            final ExternalResourceDAO resourceDAO,
+            final EntityCacheDAO entityCacheDAO,
+            final AnyMatchCache anyMatchCache) {
+
         this.resourceDAO = resourceDAO;
         this.entityCacheDAO = entityCacheDAO;
+        this.anyMatchCache = anyMatchCache;
+    }
+
+    protected void validatorChanged(final Implementation implementation) {
+        if (IdRepoImplementationType.VALIDATOR.equals(implementation.getType())) {
+            anyMatchCache.changed(AuthContextUtils.getDomain(), AnyMatchCache.Dependency.SCHEMAS);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -89,6 +104,8 @@ public class JPAImplementationDAO extends AbstractDAO<Implementation> implements
         resourceDAO.findByProvisionSorter(merged).
                 forEach(resource -> entityCacheDAO.evict(JPAExternalResource.class, resource.getKey()));
 
+        validatorChanged(merged);
+
         return merged;
     }
 
@@ -101,5 +118,7 @@ public class JPAImplementationDAO extends AbstractDAO<Implementation> implements
 
         entityManager().remove(implementation);
         ImplementationManager.purge(key);
+
+        validatorChanged(implementation);
     }
 }
@@ -37,6 +37,7 @@ import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttr;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 
 public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements PlainSchemaDAO {
 
@@ -46,14 +47,18 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
 
     private final ExternalResourceDAO resourceDAO;
 
+    private final AnyMatchCache anyMatchCache;
+
     public JPAPlainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrDAO plainAttrDAO,
-            final ExternalResourceDAO resourceDAO) {
+            final ExternalResourceDAO resourceDAO,
+            final AnyMatchCache anyMatchCache) {
 
         this.anyUtilsFactory = anyUtilsFactory;
         this.plainAttrDAO = plainAttrDAO;
         this.resourceDAO = resourceDAO;
+        this.anyMatchCache = anyMatchCache;
     }
 
     @Override
@@ -127,7 +132,11 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
     @Override
     public PlainSchema save(final PlainSchema schema) {
         ((JPAPlainSchema) schema).map2json();
-        return entityManager().merge(schema);
+        PlainSchema merged = entityManager().merge(schema);
+
+        anyMatchCache.changed(AuthContextUtils.getDomain(), AnyMatchCache.Dependency.SCHEMAS);
+
+        return merged;
     }
 
     protected void deleteAttrs(final PlainSchema schema) {
@@ -153,6 +162,8 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
         }
 
         entityManager().remove(schema);
+
+        anyMatchCache.changed(AuthContextUtils.getDomain(), AnyMatchCache.Dependency.SCHEMAS);
     }
 
     private <T extends PlainAttr<?>> String getPlainAttrTable(final Class<T> plainAttrClass) {
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.dao.PropagationRetryDAO;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationRetry;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPropagationRetry;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+public class JPAPropagationRetryDAO extends AbstractDAO<PropagationRetry> implements PropagationRetryDAO {
+
+    @Transactional(readOnly = true)
+    @Override
+    public PropagationRetry find(final String key) {
+        return entityManager().find(JPAPropagationRetry.class, key);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<PropagationRetry> findByTask(final String taskKey) {
+        TypedQuery<PropagationRetry> query = entityManager().createQuery(
+                "SELECT e FROM " + JPAPropagationRetry.class.getSimpleName() + " e WHERE e.taskKey = :taskKey",
+                PropagationRetry.class);
+        query.setParameter("taskKey", taskKey);
+
+        return query.getResultList().stream().findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findDue(final int max) {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT e.id FROM " + JPAPropagationRetry.class.getSimpleName() + " e "
+                + "WHERE e.nextAttempt <= :now AND (e.owner IS NULL OR e.leaseExpiry < :now) "
+                + "AND NOT EXISTS (SELECT p.id FROM " + JPAPropagationRetry.class.getSimpleName() + " p "
+                + "WHERE p.resource = e.resource AND p.entityKey = e.entityKey AND p.creationDate < e.creationDate "
+                + "AND (p.nextAttempt > :now OR (p.owner IS NOT NULL AND p.leaseExpiry >= :now))) "
+                + "ORDER BY e.creationDate ASC, e.nextAttempt ASC", String.class);
+        query.setParameter("now", OffsetDateTime.now());
+        query.setMaxResults(max);
+
+        return query.getResultList();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public boolean claim(final String key, final String owner, final OffsetDateTime leaseExpiry) {
+        Query query = entityManager().createQuery(
+                "UPDATE " + JPAPropagationRetry.class.getSimpleName() + " e "
+                + "SET e.owner = :owner, e.leaseExpiry = :leaseExpiry "
+                + "WHERE e.id = :key AND (e.owner IS NULL OR e.leaseExpiry < :now)");
+        query.setParameter("owner", owner);
+        query.setParameter("leaseExpiry", leaseExpiry);
+        query.setParameter("key", key);
+        query.setParameter("now", OffsetDateTime.now());
+
+        return query.executeUpdate() == 1;
+    }
+
+    @Override
+    public int deleteSuperseded(final String resource, final String entityKey, final OffsetDateTime before) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAPropagationRetry.class.getSimpleName() + " e "
+                + "WHERE e.resource = :resource AND e.entityKey = :entityKey AND e.creationDate < :before "
+                + "AND (e.owner IS NULL OR e.leaseExpiry < :now)");
+        query.setParameter("resource", resource);
+        query.setParameter("entityKey", entityKey);
+        query.setParameter("before", before);
+        query.setParameter("now", OffsetDateTime.now());
+
+        return query.executeUpdate();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long count() {
+        Query query = entityManager().createQuery(
+                "SELECT COUNT(e) FROM " + JPAPropagationRetry.class.getSimpleName() + " e");
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Long> countByResource() {
+        Query query = entityManager().createQuery(
+                "SELECT e.resource, COUNT(e) FROM " + JPAPropagationRetry.class.getSimpleName() + " e "
+                + "GROUP BY e.resource ORDER BY e.resource");
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        rows.forEach(row -> result.put(row[0].toString(), ((Number) row[1]).longValue()));
+        return result;
+    }
+
+    @Override
+    public PropagationRetry save(final PropagationRetry retry) {
+        return entityManager().merge(retry);
+    }
+
+    @Override
+    public void delete(final String key) {
+        PropagationRetry retry = find(key);
+        if (retry == null) {
+            return;
+        }
+
+        entityManager().remove(retry);
+    }
+}
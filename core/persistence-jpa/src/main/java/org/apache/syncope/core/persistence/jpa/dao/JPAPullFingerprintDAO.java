@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.PullFingerprintDAO;
+import org.apache.syncope.core.persistence.api.entity.task.PullFingerprint;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPullFingerprint;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+public class JPAPullFingerprintDAO extends AbstractDAO<PullFingerprint> implements PullFingerprintDAO {
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, PullFingerprint> find(
+            final String resource,
+            final String objectClass,
+            final Collection<String> uids) {
+
+        Map<String, String> uidByKey = uids.stream().distinct().collect(Collectors.toMap(
+                uid -> PullFingerprintDAO.key(resource, objectClass, uid), Function.identity()));
+
+        List<String> keys = new ArrayList<>(uidByKey.keySet());
+        Map<String, PullFingerprint> result = new HashMap<>();
+        for (int i = 0; i < keys.size(); i += KEYS_CHUNK_SIZE) {
+            TypedQuery<PullFingerprint> query = entityManager().createQuery(
+                    "SELECT e FROM " + JPAPullFingerprint.class.getSimpleName() + " e WHERE e.id IN (:keys)",
+                    PullFingerprint.class);
+            query.setParameter("keys", keys.subList(i, Math.min(i + KEYS_CHUNK_SIZE, keys.size())));
+
+            query.getResultList().forEach(fp -> result.put(uidByKey.get(fp.getKey()), fp));
+        }
+        return result;
+    }
+
+    @Override
+    public void save(
+            final String resource,
+            final String objectClass,
+            final String uid,
+            final String fingerprint,
+            final String anyKey) {
+
+        PullFingerprint fp = new JPAPullFingerprint();
+        fp.setKey(PullFingerprintDAO.key(resource, objectClass, uid));
+        fp.setResource(resource);
+        fp.setFingerprint(fingerprint);
+        fp.setAnyKey(anyKey);
+        fp.setHandleDate(OffsetDateTime.now());
+
+        entityManager().merge(fp);
+    }
+
+    @Override
+    public void delete(final String resource, final String objectClass, final String uid) {
+        PullFingerprint fp = entityManager().find(
+                JPAPullFingerprint.class, PullFingerprintDAO.key(resource, objectClass, uid));
+        if (fp != null) {
+            entityManager().remove(fp);
+        }
+    }
+
+    @Override
+    public void deleteByResource(final String resource) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAPullFingerprint.class.getSimpleName() + " e WHERE e.resource = :resource");
+        query.setParameter("resource", resource);
+        query.executeUpdate();
+    }
+}
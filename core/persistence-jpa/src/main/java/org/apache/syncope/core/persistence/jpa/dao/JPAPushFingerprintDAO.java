@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
+import org.apache.syncope.core.persistence.api.entity.task.PushFingerprint;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPushFingerprint;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+public class JPAPushFingerprintDAO extends AbstractDAO<PushFingerprint> implements PushFingerprintDAO {
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, String> find(final String resource, final Collection<String> anyKeys) {
+        Map<String, String> anyKeyByKey = anyKeys.stream().distinct().collect(Collectors.toMap(
+                anyKey -> PushFingerprintDAO.key(resource, anyKey), Function.identity()));
+
+        List<String> keys = new ArrayList<>(anyKeyByKey.keySet());
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < keys.size(); i += KEYS_CHUNK_SIZE) {
+            TypedQuery<PushFingerprint> query = entityManager().createQuery(
+                    "SELECT e FROM " + JPAPushFingerprint.class.getSimpleName() + " e WHERE e.id IN (:keys)",
+                    PushFingerprint.class);
+            query.setParameter("keys", keys.subList(i, Math.min(i + KEYS_CHUNK_SIZE, keys.size())));
+
+            query.getResultList().forEach(fp -> result.put(anyKeyByKey.get(fp.getKey()), fp.getFingerprint()));
+        }
+        return result;
+    }
+
+    @Override
+    public void save(final String resource, final String anyKey, final String fingerprint) {
+        PushFingerprint fp = new JPAPushFingerprint();
+        fp.setKey(PushFingerprintDAO.key(resource, anyKey));
+        fp.setResource(resource);
+        fp.setFingerprint(fingerprint);
+
+        entityManager().merge(fp);
+    }
+
+    @Override
+    public void deleteByResource(final String resource) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAPushFingerprint.class.getSimpleName() + " e WHERE e.resource = :resource");
+        query.setParameter("resource", resource);
+        query.executeUpdate();
+    }
+}
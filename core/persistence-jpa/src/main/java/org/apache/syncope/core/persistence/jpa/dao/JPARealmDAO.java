@@ -22,7 +22,10 @@ import jakarta.persistence.NoResultException;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -47,16 +50,74 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
+    /**
+     * Holds one (ancestor, descendant, depth) row for each realm and each of its ancestors, itself included with
+     * depth 0.
+     */
+    public static final String CLOSURE_TABLE = "RealmClosure";
+
     protected final RoleDAO roleDAO;
 
     protected final ApplicationEventPublisher publisher;
 
-    public JPARealmDAO(final RoleDAO roleDAO, final ApplicationEventPublisher publisher) {
+    protected final RealmTreeCache realmTreeCache;
+
+    public JPARealmDAO(
+            final RoleDAO roleDAO,
+            final ApplicationEventPublisher publisher,
+            final RealmTreeCache realmTreeCache) {
+
         this.roleDAO = roleDAO;
         this.publisher = publisher;
+        this.realmTreeCache = realmTreeCache;
+    }
+
+    protected Collection<String[]> loadRealmTree() {
+        Query query = entityManager().createNativeQuery(
+                "SELECT id, parent_id, fullPath FROM " + JPARealm.TABLE);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> raw = query.getResultList();
+        return raw.stream().map(row -> new String[] {
+            (String) row[0], (String) row[1], (String) row[2] }).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the in-memory realm tree of the current domain, unless the realm hierarchy was modified within the
+     * current transaction: in such case queries must be run against the database in order to see pending changes.
+     *
+     * @return in-memory realm tree, if usable
+     */
+    protected Optional<RealmTree> realmTree() {
+        if (TransactionSynchronizationManager.hasResource(realmTreeCache)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(realmTreeCache.get(AuthContextUtils.getDomain(), this::loadRealmTree));
+    }
+
+    protected void realmTreeChanged() {
+        String domain = AuthContextUtils.getDomain();
+        realmTreeCache.invalidate(domain);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(realmTreeCache)) {
+
+            TransactionSynchronizationManager.bindResource(realmTreeCache, domain);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(realmTreeCache);
+                    realmTreeCache.invalidate(domain);
+                }
+            });
+        }
     }
 
     @Override
@@ -91,6 +152,11 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
             throw new MalformedPathException(fullPath);
         }
 
+        Optional<RealmTree> realmTree = realmTree();
+        if (realmTree.isPresent()) {
+            return realmTree.get().findKey(fullPath).map(this::find).orElse(null);
+        }
+
         TypedQuery<Realm> query = entityManager().createQuery("SELECT e FROM " + JPARealm.class.getSimpleName() + " e "
                 + "WHERE e.fullPath=:fullPath", Realm.class);
         query.setParameter("fullPath", fullPath);
@@ -150,6 +216,13 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
     @Override
     public int countDescendants(final String base, final String keyword) {
+        if (keyword == null) {
+            Optional<RealmTree> realmTree = realmTree();
+            if (realmTree.isPresent()) {
+                return realmTree.get().countDescendants(base);
+            }
+        }
+
         List<Object> parameters = new ArrayList<>();
 
         StringBuilder queryString = buildDescendantQuery(base, keyword, parameters);
@@ -193,6 +266,11 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
     @Override
     public List<String> findDescendants(final String base, final String prefix) {
+        Optional<RealmTree> realmTree = realmTree();
+        if (realmTree.isPresent()) {
+            return realmTree.get().findDescendants(base, prefix);
+        }
+
         List<Object> parameters = new ArrayList<>();
 
         StringBuilder queryString = buildDescendantQuery(base, null, parameters);
@@ -284,7 +362,17 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
     public List<Realm> findAncestors(final Realm realm) {
         List<Realm> result = new ArrayList<>();
         result.add(realm);
-        findAncestors(result, realm);
+
+        // only trust the in-memory tree if it agrees with the given realm's current parent
+        String parent = Optional.ofNullable(realm.getParent()).map(Realm::getKey).orElse(null);
+        Optional<List<String>> ancestors = realmTree().map(realmTree -> realmTree.findAncestors(realm.getKey())).
+                filter(keys -> !keys.isEmpty() && Objects.equals(keys.size() > 1 ? keys.get(1) : null, parent));
+        if (ancestors.isPresent()) {
+            ancestors.get().stream().skip(1).map(this::find).filter(Objects::nonNull).forEach(result::add);
+        } else {
+            findAncestors(result, realm);
+        }
+
         return result;
     }
 
@@ -307,6 +395,33 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
                 append(" ORDER BY e.fullPath");
     }
 
+    /**
+     * Replaces the closure rows having the given realm as descendant, based on the closure rows of its parent.
+     * Parents must be handled before their children, as {@link #save(Realm)} does.
+     *
+     * @param realm realm
+     */
+    protected void updateClosure(final Realm realm) {
+        Query delete = entityManager().createNativeQuery("DELETE FROM " + CLOSURE_TABLE + " WHERE descendant_id=?");
+        delete.setParameter(1, realm.getKey());
+        delete.executeUpdate();
+
+        Query insert = entityManager().createNativeQuery(
+                "INSERT INTO " + CLOSURE_TABLE + "(ancestor_id, descendant_id, depth) VALUES(?, ?, 0)");
+        insert.setParameter(1, realm.getKey());
+        insert.setParameter(2, realm.getKey());
+        insert.executeUpdate();
+
+        if (realm.getParent() != null) {
+            Query insertAncestors = entityManager().createNativeQuery(
+                    "INSERT INTO " + CLOSURE_TABLE + "(ancestor_id, descendant_id, depth) "
+                    + "SELECT ancestor_id, ?, depth + 1 FROM " + CLOSURE_TABLE + " WHERE descendant_id=?");
+            insertAncestors.setParameter(1, realm.getKey());
+            insertAncestors.setParameter(2, realm.getParent().getKey());
+            insertAncestors.executeUpdate();
+        }
+    }
+
     protected String buildFullPath(final Realm realm) {
         return realm.getParent() == null
                 ? SyncopeConstants.ROOT_REALM
@@ -347,7 +462,11 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
         Realm merged = entityManager().merge(realm);
 
+        realmTreeChanged();
+
+        // new, renamed or moved realm: its subtree needs to be re-linked, parents first
         if (!fullPathAfter.equals(fullPathBefore)) {
+            updateClosure(merged);
             findChildren(realm).forEach(this::save);
         }
 
@@ -363,11 +482,18 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
             return;
         }
 
+        realmTreeChanged();
+
         findDescendants(realm.getFullPath(), null, -1, -1).forEach(toBeDeleted -> {
             roleDAO.findByRealm(toBeDeleted).forEach(role -> role.getRealms().remove(toBeDeleted));
 
             toBeDeleted.setParent(null);
 
+            Query deleteClosure = entityManager().createNativeQuery(
+                    "DELETE FROM " + CLOSURE_TABLE + " WHERE descendant_id=?");
+            deleteClosure.setParameter(1, toBeDeleted.getKey());
+            deleteClosure.executeUpdate();
+
             entityManager().remove(toBeDeleted);
 
             publisher.publishEvent(
@@ -22,6 +22,8 @@ import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -34,6 +36,7 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.jpa.entity.JPARole;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPADynRoleMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -55,18 +58,22 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
 
     protected final SearchCondVisitor searchCondVisitor;
 
+    protected final DynMembershipIndex dynMembershipIndex;
+
     public JPARoleDAO(
             final AnyMatchDAO anyMatchDAO,
             final ApplicationEventPublisher publisher,
             final AnySearchDAO anySearchDAO,
             final DelegationDAO delegationDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final DynMembershipIndex dynMembershipIndex) {
 
         this.anyMatchDAO = anyMatchDAO;
         this.publisher = publisher;
         this.anySearchDAO = anySearchDAO;
         this.delegationDAO = delegationDAO;
         this.searchCondVisitor = searchCondVisitor;
+        this.dynMembershipIndex = dynMembershipIndex;
     }
 
     @Override
@@ -114,6 +121,7 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
     @Override
     public Role saveAndRefreshDynMemberships(final Role role) {
         Role merged = save(role);
+        dynMembershipIndex.changed(AuthContextUtils.getDomain());
 
         // refresh dynamic memberships
         clearDynMembers(merged);
@@ -153,6 +161,7 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
         delegationDAO.findByRole(role).forEach(delegation -> delegation.getRoles().remove(role));
 
         entityManager().remove(role);
+        dynMembershipIndex.changed(AuthContextUtils.getDomain());
     }
 
     @Override
@@ -192,19 +201,29 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
 
     @Transactional
     @Override
-    public void refreshDynMemberships(final User user) {
+    @SuppressWarnings("unchecked")
+    public void refreshDynMemberships(final User user, final Set<String> changes) {
         Query query = entityManager().createNativeQuery(
                 "SELECT role_id FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
         query.setParameter(1, user.getKey());
-
-        findAll().stream().filter(role -> role.getDynMembership() != null).forEach(role -> {
-            boolean matches = anyMatchDAO.matches(
-                    user, SearchCondConverter.convert(searchCondVisitor, role.getDynMembership().getFIQLCond()));
-
-            Query find = entityManager().createNativeQuery(
-                    "SELECT any_id FROM " + DYNMEMB_TABLE + " WHERE role_id=?");
-            find.setParameter(1, role.getKey());
-            boolean existing = !find.getResultList().isEmpty();
+        Set<String> before = ((List<Object>) query.getResultList()).stream().
+                map(Object::toString).collect(Collectors.toSet());
+
+        Set<String> roleKeys = dynMembershipIndex.affected(
+                AuthContextUtils.getDomain(),
+                DYNMEMB_TABLE,
+                changes,
+                () -> entityManager().createQuery(
+                        "SELECT e.role.id, e.fiql FROM " + JPADynRoleMembership.class.getSimpleName() + " e",
+                        Object[].class).getResultList().stream().
+                        collect(Collectors.toMap(row -> (String) row[0], row -> (String) row[1])));
+
+        roleKeys.stream().map(this::find).
+                filter(role -> role != null && role.getDynMembership() != null).forEach(role -> {
+
+            String fiql = role.getDynMembership().getFIQLCond();
+            boolean matches = anyMatchDAO.compile(fiql).test(user);
+            boolean existing = before.contains(role.getKey());
 
             if (matches && !existing) {
                 Query insert = entityManager().createNativeQuery(
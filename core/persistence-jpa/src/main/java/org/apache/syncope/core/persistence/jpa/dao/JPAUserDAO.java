@@ -24,6 +24,7 @@ import jakarta.persistence.TypedQuery;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -218,6 +219,34 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         }
     }
 
+    @Override
+    protected List<String> fetchFields(final boolean details) {
+        List<String> fields = new ArrayList<>(super.fetchFields(details));
+        // read for resources assigned via groups
+        fields.add("memberships");
+        if (details) {
+            fields.add("roles");
+            fields.add("relationships");
+            fields.add("linkedAccounts");
+        }
+        return fields;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<User> findByUsernames(final Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+
+        TypedQuery<User> query = entityManager().createQuery(
+                "SELECT e FROM " + anyUtils().anyClass().getSimpleName()
+                + " e WHERE e.username IN (:usernames)", User.class);
+        query.setParameter("usernames", usernames);
+
+        return query.getResultList();
+    }
+
     @Override
     public User findByUsername(final String username) {
         TypedQuery<User> query = entityManager().createQuery(
@@ -282,23 +311,28 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return findAllKeys(JPAUser.TABLE, page, itemsPerPage);
     }
 
-    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user) {
+    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user, final Set<String> changes) {
         User merged = super.save(user);
-        roleDAO.refreshDynMemberships(merged);
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
-        dynRealmDAO.refreshDynMemberships(merged);
+        roleDAO.refreshDynMemberships(merged, changes);
+        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged, changes);
+        dynRealmDAO.refreshDynMemberships(merged, changes);
 
         return Pair.of(merged, dynGroupMembs);
     }
 
     @Override
     public User save(final User user) {
-        return doSave(user).getLeft();
+        return doSave(user, null).getLeft();
+    }
+
+    @Override
+    public User save(final User user, final Set<String> changes) {
+        return doSave(user, changes).getLeft();
     }
 
     @Override
     public Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(final User user) {
-        return doSave(user).getRight();
+        return doSave(user, null).getRight();
     }
 
     @Override
@@ -350,6 +384,18 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return result;
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<Role>> findDynRoles(final Collection<String> keys) {
+        Map<String, Role> roles = new HashMap<>();
+        Map<String, List<Role>> result = new HashMap<>();
+        groupByKeys("SELECT any_id, role_id FROM " + JPARoleDAO.DYNMEMB_TABLE + " WHERE any_id IN (%s)", keys).
+                forEach((key, roleKeys) -> result.put(key, roleKeys.stream().
+                map(roleKey -> roles.computeIfAbsent(roleKey, roleDAO::find)).
+                filter(Objects::nonNull).collect(Collectors.toList())));
+        return result;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     @SuppressWarnings("unchecked")
@@ -373,6 +419,18 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return result;
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<Group>> findDynGroups(final Collection<String> keys) {
+        Map<String, Group> groups = new HashMap<>();
+        Map<String, List<Group>> result = new HashMap<>();
+        groupByKeys("SELECT any_id, group_id FROM " + JPAGroupDAO.UDYNMEMB_TABLE + " WHERE any_id IN (%s)", keys).
+                forEach((key, groupKeys) -> result.put(key, groupKeys.stream().
+                map(groupKey -> groups.computeIfAbsent(groupKey, groupDAO::find)).
+                filter(Objects::nonNull).collect(Collectors.toList())));
+        return result;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final User user) {
@@ -437,6 +495,24 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<LinkedAccount> findLinkedAccounts(
+            final ExternalResource resource, final Collection<String> connObjectKeyValues) {
+
+        if (connObjectKeyValues.isEmpty()) {
+            return List.of();
+        }
+
+        TypedQuery<LinkedAccount> query = entityManager().createQuery(
+                "SELECT e FROM " + JPALinkedAccount.class.getSimpleName() + " e "
+                + "WHERE e.resource=:resource AND e.connObjectKeyValue IN (:connObjectKeyValues)", LinkedAccount.class);
+        query.setParameter("resource", resource);
+        query.setParameter("connObjectKeyValues", connObjectKeyValues);
+
+        return query.getResultList();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<LinkedAccount> findLinkedAccounts(final String userKey) {
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
+
+/**
+ * Immutable snapshot of the realm hierarchy of a domain, answering path, ancestor and descendant lookups without
+ * accessing the database.
+ */
+public class RealmTree {
+
+    protected static class Node {
+
+        protected final String key;
+
+        protected final String parent;
+
+        protected final String fullPath;
+
+        protected Node(final String key, final String parent, final String fullPath) {
+            this.key = key;
+            this.parent = parent;
+            this.fullPath = fullPath;
+        }
+    }
+
+    protected final long version;
+
+    protected final Map<String, Node> byKey;
+
+    protected final NavigableMap<String, String> byFullPath;
+
+    /**
+     * Builds a new snapshot.
+     *
+     * @param version version this snapshot was built for
+     * @param realms realms as (key, parent key, full path) tuples
+     */
+    public RealmTree(final long version, final Collection<String[]> realms) {
+        this.version = version;
+
+        Map<String, Node> keys = new HashMap<>(realms.size());
+        NavigableMap<String, String> fullPaths = new TreeMap<>();
+        realms.forEach(realm -> {
+            keys.put(realm[0], new Node(realm[0], realm[1], realm[2]));
+            fullPaths.put(realm[2], realm[0]);
+        });
+        this.byKey = keys;
+        this.byFullPath = fullPaths;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return byKey.size();
+    }
+
+    public Optional<String> findKey(final String fullPath) {
+        return Optional.ofNullable(byFullPath.get(fullPath));
+    }
+
+    public Optional<String> findFullPath(final String key) {
+        return Optional.ofNullable(byKey.get(key)).map(node -> node.fullPath);
+    }
+
+    /**
+     * Returns the keys of the given realm and of its ancestors, from the realm itself up to the root.
+     *
+     * @param key realm key
+     * @return ancestor keys, empty if the given realm is unknown
+     */
+    public List<String> findAncestors(final String key) {
+        List<String> result = new ArrayList<>();
+        for (Node node = byKey.get(key); node != null && !result.contains(node.key); node = byKey.get(node.parent)) {
+            result.add(node.key);
+        }
+        return result;
+    }
+
+    protected NavigableMap<String, String> subtree(final String base) {
+        if (SyncopeConstants.ROOT_REALM.equals(base)) {
+            return byFullPath;
+        }
+
+        // '0' immediately follows '/', hence the range covers all paths starting with base + '/'
+        return byFullPath.subMap(base, true, base + '0', false);
+    }
+
+    /**
+     * Returns the keys of the realms under the given base, base included, ordered by full path.
+     *
+     * @param base base realm full path
+     * @return descendant keys
+     */
+    public List<String> findDescendants(final String base) {
+        List<String> result = new ArrayList<>();
+        subtree(base).forEach((fullPath, key) -> {
+            if (RealmUtils.contains(base, fullPath)) {
+                result.add(key);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the keys of the realms found under both the given base and prefix, ordered by full path.
+     *
+     * @param base base realm full path
+     * @param prefix prefix realm full path
+     * @return descendant keys
+     */
+    public List<String> findDescendants(final String base, final String prefix) {
+        if (RealmUtils.contains(prefix, base)) {
+            return findDescendants(base);
+        }
+        if (RealmUtils.contains(base, prefix)) {
+            return findDescendants(prefix);
+        }
+        return List.of();
+    }
+
+    public int countDescendants(final String base) {
+        return findDescendants(base).size();
+    }
+}
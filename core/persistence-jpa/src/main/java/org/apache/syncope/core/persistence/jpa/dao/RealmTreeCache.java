@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one {@link RealmTree} per domain; snapshots are built lazily and discarded as soon as the realm hierarchy
+ * changes, either locally or on another node of the OpenJPA cluster.
+ */
+public class RealmTreeCache {
+
+    protected final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    protected final Map<String, RealmTree> trees = new ConcurrentHashMap<>();
+
+    protected AtomicLong version(final String domain) {
+        return versions.computeIfAbsent(domain, k -> new AtomicLong());
+    }
+
+    /**
+     * Returns the current snapshot for the given domain, building it via the given loader if missing or outdated.
+     * Snapshots carry the version they were built for, so one built concurrently with an invalidation is never
+     * served afterwards.
+     *
+     * @param domain domain
+     * @param loader provides realms as (key, parent key, full path) tuples
+     * @return current realm tree snapshot
+     */
+    public RealmTree get(final String domain, final Supplier<Collection<String[]>> loader) {
+        long version = version(domain).get();
+
+        RealmTree tree = trees.get(domain);
+        if (tree == null || tree.getVersion() != version) {
+            tree = new RealmTree(version, loader.get());
+            trees.put(domain, tree);
+        }
+
+        return tree;
+    }
+
+    public void invalidate(final String domain) {
+        version(domain).incrementAndGet();
+        trees.remove(domain);
+    }
+}
@@ -87,7 +87,10 @@ import org.apache.syncope.core.persistence.api.entity.policy.TicketExpirationPol
 import org.apache.syncope.core.persistence.api.entity.task.AnyTemplatePullTask;
 import org.apache.syncope.core.persistence.api.entity.task.MacroTask;
 import org.apache.syncope.core.persistence.api.entity.task.NotificationTask;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationRetry;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.PullFingerprint;
+import org.apache.syncope.core.persistence.api.entity.task.PushFingerprint;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
@@ -141,7 +144,10 @@ import org.apache.syncope.core.persistence.jpa.entity.policy.JPATicketExpiration
 import org.apache.syncope.core.persistence.jpa.entity.task.JPAAnyTemplatePullTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPAMacroTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPANotificationTask;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPropagationRetry;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPAPropagationTask;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPullFingerprint;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPushFingerprint;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPAPullTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPAPushTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPASchedTask;
@@ -267,6 +273,12 @@ public class JPAEntityFactory implements EntityFactory {
             result = (E) new JPANotificationTask();
         } else if (reference.equals(PropagationTask.class)) {
             result = (E) new JPAPropagationTask();
+        } else if (reference.equals(PropagationRetry.class)) {
+            result = (E) new JPAPropagationRetry();
+        } else if (reference.equals(PullFingerprint.class)) {
+            result = (E) new JPAPullFingerprint();
+        } else if (reference.equals(PushFingerprint.class)) {
+            result = (E) new JPAPushFingerprint();
         } else if (reference.equals(PushTask.class)) {
             result = (E) new JPAPushTask();
         } else if (reference.equals(PullTask.class)) {
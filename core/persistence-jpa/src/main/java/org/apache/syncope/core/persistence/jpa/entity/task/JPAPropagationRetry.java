@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationRetry;
+import org.apache.syncope.core.persistence.jpa.entity.AbstractGeneratedKeyEntity;
+
+@Entity
+@Table(name = JPAPropagationRetry.TABLE)
+public class JPAPropagationRetry extends AbstractGeneratedKeyEntity implements PropagationRetry {
+
+    private static final long serialVersionUID = -3046254418093012576L;
+
+    public static final String TABLE = "PropagationRetry";
+
+    @Column(nullable = false, unique = true)
+    private String taskKey;
+
+    @Column(nullable = false)
+    private String resource;
+
+    private String entityKey;
+
+    private OffsetDateTime creationDate;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private OffsetDateTime nextAttempt;
+
+    private String owner;
+
+    private OffsetDateTime leaseExpiry;
+
+    @Override
+    public String getTaskKey() {
+        return taskKey;
+    }
+
+    @Override
+    public void setTaskKey(final String taskKey) {
+        this.taskKey = taskKey;
+    }
+
+    @Override
+    public String getResource() {
+        return resource;
+    }
+
+    @Override
+    public void setResource(final String resource) {
+        this.resource = resource;
+    }
+
+    @Override
+    public String getEntityKey() {
+        return entityKey;
+    }
+
+    @Override
+    public void setEntityKey(final String entityKey) {
+        this.entityKey = entityKey;
+    }
+
+    @Override
+    public OffsetDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    @Override
+    public void setCreationDate(final OffsetDateTime creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    @Override
+    public int getAttempts() {
+        return attempts;
+    }
+
+    @Override
+    public void setAttempts(final int attempts) {
+        this.attempts = attempts;
+    }
+
+    @Override
+    public OffsetDateTime getNextAttempt() {
+        return nextAttempt;
+    }
+
+    @Override
+    public void setNextAttempt(final OffsetDateTime nextAttempt) {
+        this.nextAttempt = nextAttempt;
+    }
+
+    @Override
+    public String getOwner() {
+        return owner;
+    }
+
+    @Override
+    public void setOwner(final String owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public OffsetDateTime getLeaseExpiry() {
+        return leaseExpiry;
+    }
+
+    @Override
+    public void setLeaseExpiry(final OffsetDateTime leaseExpiry) {
+        this.leaseExpiry = leaseExpiry;
+    }
+}
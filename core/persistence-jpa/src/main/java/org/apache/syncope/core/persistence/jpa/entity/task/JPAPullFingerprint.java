@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import org.apache.syncope.core.persistence.api.entity.task.PullFingerprint;
+import org.apache.syncope.core.persistence.jpa.entity.AbstractProvidedKeyEntity;
+
+@Entity
+@Table(name = JPAPullFingerprint.TABLE)
+public class JPAPullFingerprint extends AbstractProvidedKeyEntity implements PullFingerprint {
+
+    private static final long serialVersionUID = 5417846271538870415L;
+
+    public static final String TABLE = "PullFingerprint";
+
+    @Column(nullable = false)
+    private String resource;
+
+    @Column(nullable = false)
+    private String fingerprint;
+
+    private String anyKey;
+
+    private OffsetDateTime handleDate;
+
+    @Override
+    public String getResource() {
+        return resource;
+    }
+
+    @Override
+    public void setResource(final String resource) {
+        this.resource = resource;
+    }
+
+    @Override
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public void setFingerprint(final String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public String getAnyKey() {
+        return anyKey;
+    }
+
+    @Override
+    public void setAnyKey(final String anyKey) {
+        this.anyKey = anyKey;
+    }
+
+    @Override
+    public OffsetDateTime getHandleDate() {
+        return handleDate;
+    }
+
+    @Override
+    public void setHandleDate(final OffsetDateTime handleDate) {
+        this.handleDate = handleDate;
+    }
+}
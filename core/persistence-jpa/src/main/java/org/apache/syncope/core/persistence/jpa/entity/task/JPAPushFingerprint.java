@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.apache.syncope.core.persistence.api.entity.task.PushFingerprint;
+import org.apache.syncope.core.persistence.jpa.entity.AbstractProvidedKeyEntity;
+
+@Entity
+@Table(name = JPAPushFingerprint.TABLE)
+public class JPAPushFingerprint extends AbstractProvidedKeyEntity implements PushFingerprint {
+
+    private static final long serialVersionUID = -2964185325374402587L;
+
+    public static final String TABLE = "PushFingerprint";
+
+    @Column(nullable = false)
+    private String resource;
+
+    @Column(nullable = false)
+    private String fingerprint;
+
+    @Override
+    public String getResource() {
+        return resource;
+    }
+
+    @Override
+    public void setResource(final String resource) {
+        this.resource = resource;
+    }
+
+    @Override
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public void setFingerprint(final String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+}
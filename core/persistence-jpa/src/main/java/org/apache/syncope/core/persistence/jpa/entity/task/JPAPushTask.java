@@ -36,6 +36,7 @@ import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -86,6 +87,9 @@ public class JPAPushTask extends AbstractProvisioningTask<PushTask> implements P
             cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "task")
     private List<TaskExec<SchedTask>> executions = new ArrayList<>();
 
+    @NotNull
+    private Boolean incremental = false;
+
     @Override
     public JPARealm getSourceRealm() {
         return sourceRealm;
@@ -119,6 +123,16 @@ public class JPAPushTask extends AbstractProvisioningTask<PushTask> implements P
         return filterMap;
     }
 
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    @Override
+    public void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+    }
+
     @Override
     protected Class<? extends TaskExec<SchedTask>> executionClass() {
         return JPAPushTaskExec.class;
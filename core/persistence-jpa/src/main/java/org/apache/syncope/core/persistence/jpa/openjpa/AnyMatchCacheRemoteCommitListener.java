@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.event.RemoteCommitListener;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.core.persistence.jpa.dao.AnyMatchCache;
+import org.apache.syncope.core.persistence.jpa.entity.JPAImplementation;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invalidates the in-memory cache of predicates compiled from FIQL expressions in case HA is set up and plain
+ * schemas, implementations, groups or any objects are changed by another node in the OpenJPA cluster.
+ */
+public class AnyMatchCacheRemoteCommitListener implements RemoteCommitListener, Serializable {
+
+    private static final long serialVersionUID = -2180418305742614129L;
+
+    protected static final Logger LOG = LoggerFactory.getLogger(AnyMatchCacheRemoteCommitListener.class);
+
+    protected static final Map<Class<?>, AnyMatchCache.Dependency> DEPENDENCIES = Map.of(
+            JPAPlainSchema.class, AnyMatchCache.Dependency.SCHEMAS,
+            JPAImplementation.class, AnyMatchCache.Dependency.SCHEMAS,
+            JPAGroup.class, AnyMatchCache.Dependency.GROUPS,
+            JPAAnyObject.class, AnyMatchCache.Dependency.ANY_OBJECTS);
+
+    protected final String domain;
+
+    public AnyMatchCacheRemoteCommitListener(final String domain) {
+        this.domain = domain;
+    }
+
+    protected static void byTypeNames(final Collection<?> typeNames, final Set<AnyMatchCache.Dependency> changed) {
+        if (typeNames != null) {
+            DEPENDENCIES.forEach((clazz, dependency) -> {
+                if (typeNames.contains(clazz.getName())) {
+                    changed.add(dependency);
+                }
+            });
+        }
+    }
+
+    protected static void byObjectIds(final Collection<?> oids, final Set<AnyMatchCache.Dependency> changed) {
+        if (oids != null) {
+            oids.stream().filter(StringId.class::isInstance).map(oid -> ((StringId) oid).getType()).
+                    forEach(type -> DEPENDENCIES.entrySet().stream().
+                    filter(dependency -> dependency.getKey().isAssignableFrom(type)).
+                    forEach(dependency -> changed.add(dependency.getValue())));
+        }
+    }
+
+    @Override
+    public void afterCommit(final RemoteCommitEvent event) {
+        Set<AnyMatchCache.Dependency> changed = EnumSet.noneOf(AnyMatchCache.Dependency.class);
+        if (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_EXTENTS) {
+            byTypeNames(event.getAddedTypeNames(), changed);
+            byTypeNames(event.getUpdatedTypeNames(), changed);
+            byTypeNames(event.getDeletedTypeNames(), changed);
+        } else {
+            if (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_OIDS_WITH_ADDS) {
+                byObjectIds(event.getPersistedObjectIds(), changed);
+            } else {
+                byTypeNames(event.getAddedTypeNames(), changed);
+            }
+            byObjectIds(event.getUpdatedObjectIds(), changed);
+            byObjectIds(event.getDeletedObjectIds(), changed);
+        }
+
+        if (!changed.isEmpty()) {
+            LOG.debug("{} changed on another node, invalidating compiled predicates for domain {}", changed, domain);
+            AnyMatchCache anyMatchCache = ApplicationContextProvider.getApplicationContext().
+                    getBean(AnyMatchCache.class);
+            changed.forEach(dependency -> anyMatchCache.invalidate(domain, dependency));
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+}
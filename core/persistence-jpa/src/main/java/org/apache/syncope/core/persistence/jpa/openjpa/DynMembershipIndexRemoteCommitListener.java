@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Set;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.event.RemoteCommitListener;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.core.persistence.jpa.dao.DynMembershipIndex;
+import org.apache.syncope.core.persistence.jpa.entity.JPADynRealmMembership;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPADynRoleMembership;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invalidates the in-memory dynamic membership index in case HA is set up and dynamic membership conditions are
+ * changed by another node in the OpenJPA cluster.
+ */
+public class DynMembershipIndexRemoteCommitListener implements RemoteCommitListener, Serializable {
+
+    private static final long serialVersionUID = 3329464213487013538L;
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DynMembershipIndexRemoteCommitListener.class);
+
+    protected static final Set<Class<?>> DYN_MEMBERSHIP_CLASSES = Set.of(
+            JPAUDynGroupMembership.class,
+            JPAADynGroupMembership.class,
+            JPADynRoleMembership.class,
+            JPADynRealmMembership.class);
+
+    protected final String domain;
+
+    public DynMembershipIndexRemoteCommitListener(final String domain) {
+        this.domain = domain;
+    }
+
+    protected static boolean isDynMembership(final Object oid) {
+        return oid instanceof StringId && DYN_MEMBERSHIP_CLASSES.stream().
+                anyMatch(clazz -> clazz.isAssignableFrom(((StringId) oid).getType()));
+    }
+
+    protected static boolean isDynMembership(final Collection<?> typeNames) {
+        return typeNames != null && DYN_MEMBERSHIP_CLASSES.stream().
+                anyMatch(clazz -> typeNames.contains(clazz.getName()));
+    }
+
+    protected static boolean anyDynMembership(final Collection<?> oids) {
+        return oids != null && oids.stream().anyMatch(DynMembershipIndexRemoteCommitListener::isDynMembership);
+    }
+
+    @Override
+    public void afterCommit(final RemoteCommitEvent event) {
+        boolean dynMembershipChanged;
+        if (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_EXTENTS) {
+            dynMembershipChanged = isDynMembership(event.getAddedTypeNames())
+                    || isDynMembership(event.getUpdatedTypeNames())
+                    || isDynMembership(event.getDeletedTypeNames());
+        } else {
+            dynMembershipChanged = (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_OIDS_WITH_ADDS
+                    ? anyDynMembership(event.getPersistedObjectIds())
+                    : isDynMembership(event.getAddedTypeNames()))
+                    || anyDynMembership(event.getUpdatedObjectIds())
+                    || anyDynMembership(event.getDeletedObjectIds());
+        }
+
+        if (dynMembershipChanged) {
+            LOG.debug("Dynamic memberships changed on another node, invalidating index for domain {}", domain);
+            ApplicationContextProvider.getApplicationContext().getBean(DynMembershipIndex.class).invalidate(domain);
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+}
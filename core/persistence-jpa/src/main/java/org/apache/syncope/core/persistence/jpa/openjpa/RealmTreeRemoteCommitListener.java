@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.Serializable;
+import java.util.Collection;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.event.RemoteCommitListener;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invalidates the in-memory realm tree in case HA is set up and realms are changed by another node in the OpenJPA
+ * cluster.
+ */
+public class RealmTreeRemoteCommitListener implements RemoteCommitListener, Serializable {
+
+    private static final long serialVersionUID = -1434370325485213457L;
+
+    protected static final Logger LOG = LoggerFactory.getLogger(RealmTreeRemoteCommitListener.class);
+
+    protected final String domain;
+
+    public RealmTreeRemoteCommitListener(final String domain) {
+        this.domain = domain;
+    }
+
+    protected static boolean isRealm(final Object oid) {
+        return oid instanceof StringId && JPARealm.class.isAssignableFrom(((StringId) oid).getType());
+    }
+
+    protected static boolean isRealm(final Collection<?> typeNames) {
+        return typeNames != null && typeNames.contains(JPARealm.class.getName());
+    }
+
+    protected static boolean anyRealm(final Collection<?> oids) {
+        return oids != null && oids.stream().anyMatch(RealmTreeRemoteCommitListener::isRealm);
+    }
+
+    @Override
+    public void afterCommit(final RemoteCommitEvent event) {
+        boolean realmChanged;
+        if (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_EXTENTS) {
+            realmChanged = isRealm(event.getAddedTypeNames())
+                    || isRealm(event.getUpdatedTypeNames())
+                    || isRealm(event.getDeletedTypeNames());
+        } else {
+            realmChanged = (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_OIDS_WITH_ADDS
+                    ? anyRealm(event.getPersistedObjectIds())
+                    : isRealm(event.getAddedTypeNames()))
+                    || anyRealm(event.getUpdatedObjectIds())
+                    || anyRealm(event.getDeletedObjectIds());
+        }
+
+        if (realmChanged) {
+            LOG.debug("Realms changed on another node, invalidating realm tree for domain {}", domain);
+            ApplicationContextProvider.getApplicationContext().getBean(RealmTreeCache.class).invalidate(domain);
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+}
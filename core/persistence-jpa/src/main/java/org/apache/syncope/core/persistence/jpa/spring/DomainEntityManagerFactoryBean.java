@@ -22,7 +22,10 @@ import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.spi.PersistenceUnitInfo;
 import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
 import org.apache.openjpa.persistence.OpenJPAPersistence;
+import org.apache.syncope.core.persistence.jpa.openjpa.AnyMatchCacheRemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.openjpa.ConnectorManagerRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.DynMembershipIndexRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.RealmTreeRemoteCommitListener;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 /**
@@ -35,6 +38,12 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
 
     protected ConnectorManagerRemoteCommitListener connectorManagerRemoteCommitListener;
 
+    protected RealmTreeRemoteCommitListener realmTreeRemoteCommitListener;
+
+    protected DynMembershipIndexRemoteCommitListener dynMembershipIndexRemoteCommitListener;
+
+    protected AnyMatchCacheRemoteCommitListener anyMatchCacheRemoteCommitListener;
+
     public void setCommonEntityManagerFactoryConf(final CommonEntityManagerFactoryConf commonEMFConf) {
         super.setJpaPropertyMap(commonEMFConf.getJpaPropertyMap());
 
@@ -57,11 +66,37 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
         this.connectorManagerRemoteCommitListener = connectorManagerRemoteCommitListener;
     }
 
+    public void setRealmTreeRemoteCommitListener(final RealmTreeRemoteCommitListener realmTreeRemoteCommitListener) {
+        this.realmTreeRemoteCommitListener = realmTreeRemoteCommitListener;
+    }
+
+    public void setDynMembershipIndexRemoteCommitListener(
+            final DynMembershipIndexRemoteCommitListener dynMembershipIndexRemoteCommitListener) {
+
+        this.dynMembershipIndexRemoteCommitListener = dynMembershipIndexRemoteCommitListener;
+    }
+
+    public void setAnyMatchCacheRemoteCommitListener(
+            final AnyMatchCacheRemoteCommitListener anyMatchCacheRemoteCommitListener) {
+
+        this.anyMatchCacheRemoteCommitListener = anyMatchCacheRemoteCommitListener;
+    }
+
     @Override
     protected void postProcessEntityManagerFactory(final EntityManagerFactory emf, final PersistenceUnitInfo pui) {
         super.postProcessEntityManagerFactory(emf, pui);
 
         OpenJPAEntityManagerFactorySPI emfspi = (OpenJPAEntityManagerFactorySPI) OpenJPAPersistence.cast(emf);
         emfspi.getConfiguration().getRemoteCommitEventManager().addListener(connectorManagerRemoteCommitListener);
+        if (realmTreeRemoteCommitListener != null) {
+            emfspi.getConfiguration().getRemoteCommitEventManager().addListener(realmTreeRemoteCommitListener);
+        }
+        if (dynMembershipIndexRemoteCommitListener != null) {
+            emfspi.getConfiguration().getRemoteCommitEventManager().
+                    addListener(dynMembershipIndexRemoteCommitListener);
+        }
+        if (anyMatchCacheRemoteCommitListener != null) {
+            emfspi.getConfiguration().getRemoteCommitEventManager().addListener(anyMatchCacheRemoteCommitListener);
+        }
     }
 }
@@ -18,13 +18,18 @@
  */
 package org.apache.syncope.core.persistence.jpa.inner;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.function.Predicate;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
@@ -34,12 +39,18 @@ import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional("Master")
@@ -54,9 +65,15 @@ public class AnyMatchTest extends AbstractTest {
     @Autowired
     private AnyObjectDAO anyObjectDAO;
 
+    @Autowired
+    private PlainSchemaDAO plainSchemaDAO;
+
     @Autowired
     private AnyMatchDAO anyMatcher;
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Test
     public void byResourceCond() {
         User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
@@ -128,4 +145,63 @@ public class AnyMatchTest extends AbstractTest {
         attrCond.setType(AttrCond.Type.ISNOTNULL);
         assertTrue(anyMatcher.matches(group, SearchCond.getLeaf(attrCond)));
     }
+
+    @Test
+    public void anyCondMatchesRepeatedly() {
+        User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
+        assertNotNull(user);
+
+        AnyCond keyCond = new AnyCond();
+        keyCond.setSchema("key");
+        keyCond.setExpression(user.getKey());
+        keyCond.setType(AttrCond.Type.EQ);
+        SearchCond cond = SearchCond.getLeaf(keyCond);
+
+        assertTrue(anyMatcher.matches(user, cond));
+        assertTrue(anyMatcher.matches(user, cond));
+        assertEquals("key", keyCond.getSchema());
+
+        Predicate<Any<?>> predicate = anyMatcher.compile(cond);
+        assertTrue(predicate.test(user));
+        assertFalse(predicate.test(userDAO.findByUsername("verdi")));
+    }
+
+    @Test
+    public void compiledFIQL() {
+        User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
+        assertNotNull(user);
+
+        Predicate<Any<?>> predicate = anyMatcher.compile("username==rossini;surname==Ross*");
+        assertTrue(predicate.test(user));
+        assertSame(predicate, anyMatcher.compile("username==rossini;surname==Ross*"));
+
+        // any change to the referenced schemas invalidates the compiled predicate
+        PlainSchema surname = plainSchemaDAO.find("surname");
+        surname.setConversionPattern("##");
+        plainSchemaDAO.save(surname);
+
+        Predicate<Any<?>> recompiled = anyMatcher.compile("username==rossini;surname==Ross*");
+        assertNotSame(predicate, recompiled);
+        assertTrue(recompiled.test(user));
+    }
+
+    @Test
+    public void compiledFIQLByGroupName() {
+        User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
+        assertNotNull(user);
+
+        Predicate<Any<?>> predicate = anyMatcher.compile("$groups==root");
+        assertTrue(predicate.test(user));
+        assertSame(predicate, anyMatcher.compile("$groups==root"));
+        Predicate<Any<?>> byKey = anyMatcher.compile("$groups==37d15e4c-cdc1-460b-a591-8505c8133806");
+        assertTrue(byKey.test(user));
+
+        // group changes invalidate the predicates referencing groups by name
+        publisher.publishEvent(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, groupDAO.findByName("root"), AuthContextUtils.getDomain()));
+
+        Predicate<Any<?>> recompiled = anyMatcher.compile("$groups==root");
+        assertNotSame(predicate, recompiled);
+        assertTrue(recompiled.test(user));
+    }
 }
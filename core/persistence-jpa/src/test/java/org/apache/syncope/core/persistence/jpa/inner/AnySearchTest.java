@@ -55,6 +55,7 @@ import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCursor;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
@@ -288,6 +289,82 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchAfterKey() {
+        SearchCond cond = userDAO.getAllMatchingCond();
+
+        Set<String> all = searchDAO.<User>search(cond, AnyTypeKind.USER).stream().
+                map(User::getKey).collect(Collectors.toSet());
+        assertTrue(all.size() > 2);
+
+        List<String> keys = new ArrayList<>();
+        String afterKey = null;
+        List<User> users;
+        do {
+            users = searchDAO.search(
+                    realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, afterKey, 2, AnyTypeKind.USER);
+            if (!users.isEmpty()) {
+                afterKey = users.get(users.size() - 1).getKey();
+            }
+            users.forEach(user -> keys.add(user.getKey()));
+        } while (users.size() == 2);
+
+        assertEquals(all.size(), keys.size());
+        assertEquals(all, new HashSet<>(keys));
+    }
+
+    private List<String> walkWithCursor(final SearchCond cond, final List<OrderByClause> orderBy) {
+        List<String> keys = new ArrayList<>();
+        SearchCursor cursor = null;
+        List<User> users;
+        do {
+            users = searchDAO.search(
+                    realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, cursor, 2, orderBy,
+                    AnyTypeKind.USER);
+            if (!users.isEmpty()) {
+                cursor = SearchCursor.decode(searchDAO.getNextCursor(
+                        cursor, users.get(users.size() - 1), orderBy, AnyTypeKind.USER).encode());
+            }
+            users.forEach(user -> keys.add(user.getKey()));
+        } while (users.size() == 2);
+        return keys;
+    }
+
+    @Test
+    public void searchWithCursor() {
+        SearchCond cond = userDAO.getAllMatchingCond();
+
+        // seeking on username and key
+        OrderByClause byUsername = new OrderByClause();
+        byUsername.setField("username");
+        byUsername.setDirection(OrderByClause.Direction.DESC);
+        // skipping all previous results, as status can be null
+        OrderByClause byStatus = new OrderByClause();
+        byStatus.setField("status");
+        OrderByClause byFirstname = new OrderByClause();
+        byFirstname.setField("firstname");
+        byFirstname.setDirection(OrderByClause.Direction.DESC);
+        OrderByClause byKey = new OrderByClause();
+        byKey.setField("key");
+
+        for (List<OrderByClause> orderBy : List.of(
+                List.<OrderByClause>of(), List.of(byUsername), List.of(byStatus), List.of(byFirstname, byStatus))) {
+
+            List<OrderByClause> expectedOrderBy = new ArrayList<>(orderBy);
+            if (expectedOrderBy.isEmpty()) {
+                OrderByClause defaultOrderBy = new OrderByClause();
+                defaultOrderBy.setField("username");
+                expectedOrderBy.add(defaultOrderBy);
+            }
+            expectedOrderBy.add(byKey);
+            List<String> expected = searchDAO.<User>search(cond, expectedOrderBy, AnyTypeKind.USER).stream().
+                    map(User::getKey).collect(Collectors.toList());
+            assertTrue(expected.size() > 2);
+
+            assertEquals(expected, walkWithCursor(cond, orderBy));
+        }
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
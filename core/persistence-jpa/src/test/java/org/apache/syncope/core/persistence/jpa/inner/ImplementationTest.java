@@ -44,7 +44,7 @@ public class ImplementationTest extends AbstractTest {
         List<Implementation> implementations = implementationDAO.findAll();
         assertFalse(implementations.isEmpty());
 
-        assertEquals(19, implementations.size());
+        assertEquals(20, implementations.size());
 
         implementations = implementationDAO.findByType(IdMImplementationType.PULL_ACTIONS);
         assertEquals(1, implementations.size());
@@ -53,7 +53,7 @@ public class ImplementationTest extends AbstractTest {
         assertEquals(2, implementations.size());
 
         implementations = implementationDAO.findByType(IdRepoImplementationType.TASKJOB_DELEGATE);
-        assertEquals(6, implementations.size());
+        assertEquals(7, implementations.size());
 
         implementations = implementationDAO.findByType(IdRepoImplementationType.REPORT_DELEGATE);
         assertEquals(1, implementations.size());
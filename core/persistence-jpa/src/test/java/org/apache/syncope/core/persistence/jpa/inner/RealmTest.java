@@ -26,7 +26,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import jakarta.persistence.Query;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
@@ -37,6 +40,8 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.dao.JPARealmDAO;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTree;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -93,6 +98,89 @@ public class RealmTest extends AbstractTest {
         assertTrue(children.isEmpty());
     }
 
+    @Test
+    public void findDescendantsAndAncestors() {
+        String root = "e4c28e7a-9dbf-4ee7-9441-93812a0d4a28";
+        String even = "c5b75db1-fce7-470f-b780-3b9934d82a9d";
+        String two = "0679e069-7355-4b20-bd11-a5a0a5453c7c";
+
+        assertEquals(List.of(even, two), realmDAO.findDescendants(SyncopeConstants.ROOT_REALM, "/even"));
+        assertEquals(List.of(two), realmDAO.findDescendants("/even/two", SyncopeConstants.ROOT_REALM));
+        assertTrue(realmDAO.findDescendants("/odd", "/even").isEmpty());
+        assertEquals(realmDAO.count(), realmDAO.countDescendants(SyncopeConstants.ROOT_REALM, null));
+
+        assertEquals(
+                List.of(two, even, root),
+                realmDAO.findAncestors(realmDAO.find(two)).stream().map(Realm::getKey).collect(Collectors.toList()));
+
+        // pending changes within the current transaction are visible
+        Realm realm = entityFactory.newEntity(Realm.class);
+        realm.setName("three");
+        realm.setParent(realmDAO.find(even));
+        realm = realmDAO.save(realm);
+        entityManager().flush();
+
+        assertEquals(realm, realmDAO.findByFullPath("/even/three"));
+        assertEquals(3, realmDAO.findDescendants(SyncopeConstants.ROOT_REALM, "/even").size());
+    }
+
+    private List<String> closureAncestors(final Realm realm) {
+        Query query = entityManager().createNativeQuery("SELECT ancestor_id FROM " + JPARealmDAO.CLOSURE_TABLE
+                + " WHERE descendant_id=? ORDER BY depth");
+        query.setParameter(1, realm.getKey());
+
+        @SuppressWarnings("unchecked")
+        List<Object> raw = query.getResultList();
+        return raw.stream().map(Object::toString).map(String::trim).collect(Collectors.toList());
+    }
+
+    @Test
+    public void closure() {
+        Realm even = realmDAO.findByFullPath("/even");
+        Realm odd = realmDAO.findByFullPath("/odd");
+        Realm root = realmDAO.getRoot();
+
+        Realm parent = entityFactory.newEntity(Realm.class);
+        parent.setName("parent");
+        parent.setParent(even);
+        parent = realmDAO.save(parent);
+
+        Realm child = entityFactory.newEntity(Realm.class);
+        child.setName("child");
+        child.setParent(parent);
+        child = realmDAO.save(child);
+
+        assertEquals(List.of(child.getKey(), parent.getKey(), even.getKey(), root.getKey()), closureAncestors(child));
+
+        // move parent, its subtree follows
+        parent.setParent(odd);
+        parent = realmDAO.save(parent);
+
+        assertEquals(List.of(parent.getKey(), odd.getKey(), root.getKey()), closureAncestors(parent));
+        assertEquals(List.of(child.getKey(), parent.getKey(), odd.getKey(), root.getKey()), closureAncestors(child));
+
+        realmDAO.delete(parent);
+        assertTrue(closureAncestors(child).isEmpty());
+        assertTrue(closureAncestors(parent).isEmpty());
+    }
+
+    @Test
+    public void realmTree() {
+        RealmTree tree = new RealmTree(1, List.of(
+                new String[] { "r", null, "/" },
+                new String[] { "a", "r", "/a" },
+                new String[] { "ab", "a", "/a/b" },
+                new String[] { "ax", "r", "/a-x" },
+                new String[] { "axy", "ax", "/a-x/y" }));
+
+        assertEquals(Optional.of("ab"), tree.findKey("/a/b"));
+        assertEquals(List.of("axy", "ax", "r"), tree.findAncestors("axy"));
+        assertEquals(List.of("a", "ab"), tree.findDescendants("/a"));
+        assertEquals(List.of("ax", "axy"), tree.findDescendants(SyncopeConstants.ROOT_REALM, "/a-x"));
+        assertEquals(5, tree.countDescendants(SyncopeConstants.ROOT_REALM));
+        assertTrue(tree.findDescendants("/a", "/a-x").isEmpty());
+    }
+
     @Test
     public void findAll() {
         List<Realm> list = realmDAO.findDescendants(realmDAO.getRoot().getFullPath(), null, -1, -1);
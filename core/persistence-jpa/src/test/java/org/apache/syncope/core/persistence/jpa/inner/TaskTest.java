@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.OffsetDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -35,14 +36,17 @@ import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PropagationRetryDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationRetry;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
 import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -66,6 +70,9 @@ public class TaskTest extends AbstractTest {
     @Autowired
     private UserDAO userDAO;
 
+    @Autowired
+    private PropagationRetryDAO propagationRetryDAO;
+
     @Test
     public void findByName() {
         Optional<SchedTask> task = taskDAO.findByName(TaskType.SCHEDULED, "SampleJob Task");
@@ -109,7 +116,7 @@ public class TaskTest extends AbstractTest {
     public void findAll() {
         assertEquals(6, taskDAO.findAll(TaskType.PROPAGATION).size());
         assertEquals(1, taskDAO.findAll(TaskType.NOTIFICATION).size());
-        assertEquals(3, taskDAO.findAll(TaskType.SCHEDULED).size());
+        assertEquals(4, taskDAO.findAll(TaskType.SCHEDULED).size());
         assertEquals(10, taskDAO.findAll(TaskType.PULL).size());
         assertEquals(11, taskDAO.findAll(TaskType.PUSH).size());
 
@@ -173,4 +180,38 @@ public class TaskTest extends AbstractTest {
                 TaskType.PROPAGATION, resource, null, null, null, -1, -1, List.of()).
                 contains(task));
     }
+
+    private PropagationRetry retry(final String entityKey, final OffsetDateTime creationDate, final String owner) {
+        PropagationRetry retry = entityFactory.newEntity(PropagationRetry.class);
+        retry.setTaskKey(SecureRandomUtils.generateRandomUUID().toString());
+        retry.setResource("ws-target-resource-1");
+        retry.setEntityKey(entityKey);
+        retry.setCreationDate(creationDate);
+        retry.setNextAttempt(creationDate);
+        if (owner != null) {
+            retry.setOwner(owner);
+            retry.setLeaseExpiry(OffsetDateTime.now().plusMinutes(5));
+        }
+        return propagationRetryDAO.save(retry);
+    }
+
+    @Test
+    public void deleteSupersededRetries() {
+        OffsetDateTime now = OffsetDateTime.now();
+        String entityKey = "74cd8ece-715a-44a4-a736-e17b46c4e7e6";
+
+        PropagationRetry older = retry(entityKey, now.minusMinutes(2), null);
+        PropagationRetry leased = retry(entityKey, now.minusMinutes(1), "node1");
+        PropagationRetry other = retry("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee", now.minusMinutes(1), null);
+        PropagationRetry newer = retry(entityKey, now.plusMinutes(1), null);
+        entityManager().flush();
+
+        assertEquals(1, propagationRetryDAO.deleteSuperseded("ws-target-resource-1", entityKey, now));
+        entityManager().clear();
+
+        assertNull(propagationRetryDAO.find(older.getKey()));
+        assertNotNull(propagationRetryDAO.find(leased.getKey()));
+        assertNotNull(propagationRetryDAO.find(other.getKey()));
+        assertNotNull(propagationRetryDAO.find(newer.getKey()));
+    }
 }
@@ -27,7 +27,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -100,6 +102,22 @@ public class UserTest extends AbstractTest {
         assertEquals(users.size(), userKeys.size());
     }
 
+    @Test
+    public void fetchByKeys() {
+        List<String> keys = userDAO.findAllKeys(1, 100);
+
+        List<String> requested = new ArrayList<>(keys);
+        requested.add(keys.get(0));
+        requested.add("00000000-0000-0000-0000-000000000000");
+
+        Map<String, User> users = userDAO.fetchByKeys(requested, false);
+        assertEquals(keys.size(), users.size());
+        keys.forEach(key -> assertEquals(key, users.get(key).getKey()));
+
+        User puccini = users.get("823074dc-d280-436d-a7dd-07399fae48ec");
+        assertEquals("Giacomo", puccini.getPlainAttr("firstname").get().getValuesAsStrings().get(0));
+    }
+
     @Test
     public void count() {
         int count = userDAO.count();
@@ -192,6 +210,16 @@ public class UserTest extends AbstractTest {
         assertNull(user);
     }
 
+    @Test
+    public void findByUsernames() {
+        List<User> users = userDAO.findByUsernames(List.of("rossini", "vivaldi", "user6"));
+        assertEquals(2, users.size());
+        assertTrue(users.stream().anyMatch(user -> "rossini".equals(user.getUsername())));
+        assertTrue(users.stream().anyMatch(user -> "vivaldi".equals(user.getUsername())));
+
+        assertTrue(userDAO.findByUsernames(List.of()).isEmpty());
+    }
+
     @Test
     public void findMembership() {
         UMembership memb = userDAO.findMembership("3d5e91f6-305e-45f9-ad30-4897d3d43bd9");
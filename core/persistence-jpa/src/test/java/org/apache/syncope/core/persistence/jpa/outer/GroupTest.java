@@ -53,6 +53,7 @@ import org.apache.syncope.core.persistence.api.entity.group.TypeExtension;
 import org.apache.syncope.core.persistence.api.entity.user.UDynGroupMembership;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.DynMembershipDependencies;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.syncope.core.persistence.jpa.dao.JPAGroupDAO;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
@@ -273,6 +274,91 @@ public class GroupTest extends AbstractTest {
         assertTrue(dynGroupMemberships.isEmpty());
     }
 
+    @Test
+    public void udynMembershipChange() {
+        // 1. create group with dynamic membership
+        Group group = entityFactory.newEntity(Group.class);
+        group.setRealm(realmDAO.getRoot());
+        group.setName("new");
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond("cool==true");
+        dynMembership.setGroup(group);
+
+        group.setUDynMembership(dynMembership);
+
+        Group actual = groupDAO.saveAndRefreshDynMemberships(group);
+        entityManager().flush();
+
+        assertEquals(List.of("c9b2dec2-00a7-4855-97c0-d854842b4b24"), groupDAO.findUDynMembers(actual));
+
+        // 2. change condition: previous member is removed, new ones are added
+        actual.getUDynMembership().setFIQLCond("username==rossini,cool==true");
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager().flush();
+
+        assertEquals(
+                Set.of("c9b2dec2-00a7-4855-97c0-d854842b4b24", userDAO.findKey("rossini")),
+                new HashSet<>(groupDAO.findUDynMembers(actual)));
+
+        actual.getUDynMembership().setFIQLCond("username==rossini");
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager().flush();
+
+        assertEquals(List.of(userDAO.findKey("rossini")), groupDAO.findUDynMembers(actual));
+
+        // 3. remove dynamic membership
+        actual.setUDynMembership(null);
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager().flush();
+
+        assertTrue(groupDAO.findUDynMembers(actual).isEmpty());
+    }
+
+    @Test
+    public void udynMembershipOnlyAffected() {
+        // 0. create user not matching the condition below
+        User user = entityFactory.newEntity(User.class);
+        user.setUsername("username");
+        user.setRealm(realmDAO.findByFullPath("/even/two"));
+        user.add(anyTypeClassDAO.find("other"));
+        user = userDAO.save(user);
+
+        // 1. create group with dynamic membership
+        Group group = entityFactory.newEntity(Group.class);
+        group.setRealm(realmDAO.getRoot());
+        group.setName("new");
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond("cool==true");
+        dynMembership.setGroup(group);
+
+        group.setUDynMembership(dynMembership);
+
+        Group actual = groupDAO.saveAndRefreshDynMemberships(group);
+        entityManager().flush();
+
+        assertFalse(findDynGroups(user).contains(actual));
+
+        // 2. make the user match, but report unrelated changes: the condition is not evaluated
+        UPlainAttr attr = entityFactory.newEntity(UPlainAttr.class);
+        attr.setOwner(user);
+        attr.setSchema(plainSchemaDAO.find("cool"));
+        attr.add(validator, "true", anyUtilsFactory.getInstance(AnyTypeKind.USER));
+        user.add(attr);
+
+        user = userDAO.save(user, Set.of(DynMembershipDependencies.schema("surname")));
+        entityManager().flush();
+
+        assertFalse(findDynGroups(user).contains(actual));
+
+        // 3. report the actual change: the condition is evaluated
+        user = userDAO.save(user, Set.of(DynMembershipDependencies.schema("cool")));
+        entityManager().flush();
+
+        assertTrue(findDynGroups(user).contains(actual));
+    }
+
     /**
      * Static copy of {@link org.apache.syncope.core.persistence.jpa.dao.JPAAnyObjectDAO} method with same signature:
      * required for avoiding creating of a new transaction - good for general use case but bad for the way how
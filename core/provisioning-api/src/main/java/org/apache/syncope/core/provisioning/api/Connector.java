@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.CircuitBreakerState;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
@@ -282,4 +283,13 @@ public interface Connector {
      * @return active connector instance.
      */
     ConnInstance getConnInstance();
+
+    /**
+     * Current state of the circuit breaker guarding requests to this connector instance.
+     *
+     * @return circuit breaker state
+     */
+    default CircuitBreakerState getCircuitBreakerState() {
+        return CircuitBreakerState.CLOSED;
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
@@ -30,6 +31,16 @@ public interface AnyObjectDataBinder {
 
     AnyObjectTO getAnyObjectTO(AnyObject anyObject, boolean details);
 
+    /**
+     * Bulk variant of {@link #getAnyObjectTO(AnyObject, boolean)}: dynamic realms and groups are fetched once for
+     * the whole list.
+     *
+     * @param anyObjects any objects to convert
+     * @param details whether details should be included
+     * @return any object TOs, in the same order as the given any objects
+     */
+    List<AnyObjectTO> getAnyObjectTOs(List<AnyObject> anyObjects, boolean details);
+
     void create(AnyObject anyObject, AnyObjectCR anyObjectCR);
 
     PropagationByResource<String> update(AnyObject toBeUpdated, AnyObjectUR anyObjectUR);
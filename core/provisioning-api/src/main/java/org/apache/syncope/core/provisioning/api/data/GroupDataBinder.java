@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
@@ -35,6 +36,16 @@ public interface GroupDataBinder {
 
     GroupTO getGroupTO(Group group, boolean details);
 
+    /**
+     * Bulk variant of {@link #getGroupTO(Group, boolean)}: dynamic realms and member counts are fetched once for
+     * the whole list.
+     *
+     * @param groups groups to convert
+     * @param details whether details should be included
+     * @return group TOs, in the same order as the given groups
+     */
+    List<GroupTO> getGroupTOs(List<Group> groups, boolean details);
+
     void create(Group group, GroupCR groupCR);
 
     PropagationByResource<String> update(Group group, GroupUR groupUR);
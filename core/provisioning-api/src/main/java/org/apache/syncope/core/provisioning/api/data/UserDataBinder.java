@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
@@ -35,6 +36,16 @@ public interface UserDataBinder {
 
     UserTO getUserTO(User user, boolean details);
 
+    /**
+     * Bulk variant of {@link #getUserTO(User, boolean)}: associations shared by all given users (dynamic realms,
+     * groups and roles, delegations) are fetched once for the whole list.
+     *
+     * @param users users to convert
+     * @param details whether details should be included
+     * @return user TOs, in the same order as the given users
+     */
+    List<UserTO> getUserTOs(List<User> users, boolean details);
+
     LinkedAccountTO getLinkedAccountTO(LinkedAccount account);
 
     void create(User user, UserCR userCR);
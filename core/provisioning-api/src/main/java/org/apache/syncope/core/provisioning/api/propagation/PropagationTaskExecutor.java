@@ -48,6 +48,16 @@ public interface PropagationTaskExecutor {
      */
     TaskExec<PropagationTask> execute(PropagationTaskInfo taskInfo, PropagationReporter reporter, String executor);
 
+    /**
+     * Execute the stored propagation task with the given key and returns the generated {@link TaskExec}.
+     *
+     * @param taskKey key of the propagation task to be executed
+     * @param reporter to report propagation execution status
+     * @param executor the executor of this task
+     * @return the generated TaskExec
+     */
+    TaskExec<PropagationTask> execute(String taskKey, PropagationReporter reporter, String executor);
+
     /**
      * Execute the given collection of tasks.
      * The process is interrupted as soon as the result of the communication with a resource with non-null priority is
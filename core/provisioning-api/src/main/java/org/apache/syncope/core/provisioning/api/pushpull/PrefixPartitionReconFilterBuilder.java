@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
+
+/**
+ * Partitions reconciliation by the first character of the given attribute's value: one partition for each of the
+ * given prefixes, plus one for all values not starting with any of them.
+ *
+ * Prefixes are case-insensitive: each partition matches both the lower and upper case variant of its prefix, so that
+ * partitions stay disjoint whether or not the connector compares values ignoring case.
+ *
+ * The remainder partition is expressed via {@code NOT}: for connectors not supporting it, {@link #remainder(List)}
+ * can be overridden to provide an equivalent filter or, when the given prefixes are known to cover all values, no
+ * filter at all.
+ */
+public class PrefixPartitionReconFilterBuilder implements ReconFilterBuilder {
+
+    public static final String DEFAULT_PREFIXES = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    protected final String attrName;
+
+    protected final String prefixes;
+
+    public PrefixPartitionReconFilterBuilder() {
+        this(Name.NAME, DEFAULT_PREFIXES);
+    }
+
+    public PrefixPartitionReconFilterBuilder(final String attrName, final String prefixes) {
+        this.attrName = attrName;
+        this.prefixes = prefixes.toLowerCase(Locale.ROOT);
+    }
+
+    protected Filter startsWith(final String prefix) {
+        Filter lower = FilterBuilder.startsWith(AttributeBuilder.build(attrName, prefix));
+
+        String upperPrefix = prefix.toUpperCase(Locale.ROOT);
+        return upperPrefix.equals(prefix)
+                ? lower
+                : FilterBuilder.or(lower, FilterBuilder.startsWith(AttributeBuilder.build(attrName, upperPrefix)));
+    }
+
+    /**
+     * Builds the filter for values not starting with any of the given prefixes.
+     *
+     * @param startsWith one filter for each prefix
+     * @return filter for the remainder partition, or empty if no remainder partition is needed
+     */
+    protected Optional<Filter> remainder(final List<Filter> startsWith) {
+        return startsWith.stream().reduce(FilterBuilder::or).map(FilterBuilder::not);
+    }
+
+    @Override
+    public List<Filter> partitions(final ObjectClass objectClass) {
+        if (prefixes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Filter> startsWith = prefixes.chars().distinct().
+                mapToObj(prefix -> startsWith(String.valueOf((char) prefix))).
+                collect(Collectors.toList());
+
+        List<Filter> partitions = new ArrayList<>(startsWith);
+        remainder(startsWith).ifPresent(partitions::add);
+        return partitions;
+    }
+}
@@ -34,6 +34,9 @@ public interface ProvisioningActions {
 
     /**
      * Action to be executed after the provisioning (push / pull) task completion.
+     * As provisioning results are aggregated for the final report while the task runs, {@code profile.getResults()}
+     * only holds the latest ones, not aggregated yet, rather than the results of the whole execution; results
+     * added here are included in the final report.
      *
      * @param profile provisioning profile
      * @throws JobExecutionException in case of generic failure
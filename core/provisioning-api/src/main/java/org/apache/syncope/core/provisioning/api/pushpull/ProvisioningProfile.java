@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.api.pushpull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
@@ -34,6 +35,8 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
 
     private final List<ProvisioningReport> results = new CopyOnWriteArrayList<>();
 
+    private final ThreadLocal<List<ProvisioningReport>> localResults = new ThreadLocal<>();
+
     private boolean dryRun;
 
     private ConflictResolutionAction conflictResolutionAction;
@@ -55,8 +58,28 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
         return task;
     }
 
+    /**
+     * Provisioning results: when results are periodically moved elsewhere while provisioning - as for pull and push
+     * tasks, where they are aggregated for the final report - only the ones not moved yet are available here.
+     *
+     * @return provisioning results, or the results being collected for the calling thread, if any
+     */
     public List<ProvisioningReport> getResults() {
-        return results;
+        return Optional.ofNullable(localResults.get()).orElse(results);
+    }
+
+    /**
+     * Makes {@link #getResults()} return the given list for the calling thread, rather than the shared one; this allows
+     * to tell apart the results of items processed concurrently.
+     *
+     * @param collector list collecting the results of the calling thread, or null to revert to the shared one
+     */
+    public void setLocalResults(final List<ProvisioningReport> collector) {
+        if (collector == null) {
+            localResults.remove();
+        } else {
+            localResults.set(collector);
+        }
     }
 
     public boolean isDryRun() {
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.List;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationOptions;
 import org.identityconnectors.framework.common.objects.filter.Filter;
@@ -36,4 +37,16 @@ public interface ReconFilterBuilder {
     default OperationOptions build(final ObjectClass objectClass, final OperationOptions initialOptions) {
         return initialOptions;
     }
+
+    /**
+     * Splits the reconciliation of the given object class into partitions, which can then be processed concurrently:
+     * each partition's filter is combined with {@link #build(ObjectClass)}, hence partitions are expected to be
+     * disjoint and, taken together, to match any object.
+     *
+     * @param objectClass object class
+     * @return one filter per partition, or empty list (the default) if reconciliation shall not be partitioned
+     */
+    default List<Filter> partitions(final ObjectClass objectClass) {
+        return List.of();
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.List;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
@@ -26,4 +27,24 @@ public interface SyncopePullResultHandler extends SyncopeResultHandler<PullTask,
 
     @Override
     boolean handle(SyncDelta delta);
+
+    /**
+     * Handles the given deltas in order, stopping at the first one for which {@link #handle(SyncDelta)} returns
+     * {@code false}; implementations can take advantage of having several deltas at once, for example to perform
+     * lookups in bulk.
+     *
+     * @param deltas deltas to handle
+     * @return number of deltas successfully handled: if less than the number of deltas provided, the delta at the
+     * returned index was handled unsuccessfully and the following deltas were not handled at all
+     */
+    default int handle(final List<SyncDelta> deltas) {
+        int handled = 0;
+        for (SyncDelta delta : deltas) {
+            if (!handle(delta)) {
+                return handled;
+            }
+            handled++;
+        }
+        return handled;
+    }
 }
@@ -18,9 +18,34 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.List;
+import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
 
 public interface SyncopePushResultHandler extends SyncopeResultHandler<PushTask, PushActions> {
 
     boolean handle(String anyKey);
+
+    /**
+     * Reads the connector objects matching the given entity, ahead of {@link #handle(String, Optional)}: this allows
+     * to read from the External Resource while other entities are being written.
+     *
+     * @param anyKey entity key
+     * @return matching connector objects, or empty if not available
+     */
+    default Optional<List<ConnectorObject>> match(String anyKey) {
+        return Optional.empty();
+    }
+
+    /**
+     * Handles the given entity, relying on the given matching connector objects, if available.
+     *
+     * @param anyKey entity key
+     * @param matches matching connector objects, as returned by {@link #match(String)}
+     * @return whether processing shall continue
+     */
+    default boolean handle(String anyKey, Optional<List<ConnectorObject>> matches) {
+        return handle(anyKey);
+    }
 }
@@ -40,6 +40,19 @@ public final class RealmUtils {
                 : Optional.of(Pair.of(split[0], split[1]));
     }
 
+    /**
+     * Tells whether the realm with the given full path is the given base realm or one of its descendants.
+     *
+     * @param base base realm full path
+     * @param fullPath realm full path
+     * @return whether the given realm is under the given base realm
+     */
+    public static boolean contains(final String base, final String fullPath) {
+        return SyncopeConstants.ROOT_REALM.equals(base)
+                || base.equals(fullPath)
+                || fullPath.startsWith(base + '/');
+    }
+
     public static boolean normalizingAddTo(final Set<String> realms, final String newRealm) {
         boolean dontAdd = false;
         Set<String> toRemove = new HashSet<>();
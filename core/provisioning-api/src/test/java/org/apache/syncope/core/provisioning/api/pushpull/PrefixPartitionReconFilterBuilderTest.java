@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.syncope.core.provisioning.api.AbstractTest;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.junit.jupiter.api.Test;
+
+public class PrefixPartitionReconFilterBuilderTest extends AbstractTest {
+
+    private static ConnectorObject object(final String uid) {
+        return new ConnectorObjectBuilder().
+                setUid(uid).setName(uid).addAttribute(AttributeBuilder.build("uid", uid)).build();
+    }
+
+    @Test
+    public void partitions() {
+        List<Filter> partitions = new PrefixPartitionReconFilterBuilder("uid", "ab").partitions(ObjectClass.ACCOUNT);
+        assertEquals(3, partitions.size());
+
+        for (String uid : List.of("alice", "bob", "carol", "Alice")) {
+            assertEquals(1, partitions.stream().filter(partition -> partition.accept(object(uid))).count(), uid);
+        }
+        assertTrue(partitions.get(0).accept(object("alice")));
+        assertTrue(partitions.get(0).accept(object("Alice")));
+        assertTrue(partitions.get(1).accept(object("Bob")));
+        assertTrue(partitions.get(2).accept(object("carol")));
+        assertFalse(partitions.get(2).accept(object("bob")));
+
+        assertTrue(new PrefixPartitionReconFilterBuilder("uid", "").partitions(ObjectClass.ACCOUNT).isEmpty());
+
+        assertEquals(3, new PrefixPartitionReconFilterBuilder("uid", "aAb").partitions(ObjectClass.ACCOUNT).size());
+    }
+
+    @Test
+    public void noRemainder() {
+        List<Filter> partitions = new PrefixPartitionReconFilterBuilder("uid", "ab") {
+
+            @Override
+            protected Optional<Filter> remainder(final List<Filter> startsWith) {
+                return Optional.empty();
+            }
+        }.partitions(ObjectClass.ACCOUNT);
+        assertEquals(2, partitions.size());
+        assertTrue(partitions.stream().noneMatch(partition -> partition.accept(object("carol"))));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import org.apache.syncope.common.lib.types.CircuitBreakerState;
+import org.apache.syncope.core.provisioning.api.CircuitOpenException;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.identityconnectors.framework.common.exceptions.ConnectionFailedException;
+import org.identityconnectors.framework.common.exceptions.ConnectorIOException;
+import org.identityconnectors.framework.common.exceptions.OperationTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker guarding the requests sent to a connector instance.
+ * After {@link ProvisioningProperties.CircuitBreakerProperties#getFailureThreshold()} consecutive failures - timeouts
+ * or connection errors - the circuit opens and requests fail fast; once
+ * {@link ProvisioningProperties.CircuitBreakerProperties#getOpenInterval()} has elapsed, a single probe request is
+ * let through: the circuit closes again if successful, or re-opens otherwise.
+ */
+public class ConnectorCircuitBreaker {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ConnectorCircuitBreaker.class);
+
+    /**
+     * Only failures revealing that the connector is not reachable are taken into account.
+     *
+     * @param e exception raised by connector request
+     * @return whether the given exception shall be counted as failure
+     */
+    public static boolean isFailure(final Throwable e) {
+        return e instanceof TimeoutException
+                || e instanceof ConnectionFailedException
+                || e instanceof ConnectorIOException
+                || e instanceof OperationTimeoutException;
+    }
+
+    protected final String name;
+
+    protected final ProvisioningProperties.CircuitBreakerProperties props;
+
+    protected CircuitBreakerState state = CircuitBreakerState.CLOSED;
+
+    protected int failures;
+
+    protected long openedAt;
+
+    protected boolean probing;
+
+    public ConnectorCircuitBreaker(final String name, final ProvisioningProperties.CircuitBreakerProperties props) {
+        this.name = name;
+        this.props = props;
+    }
+
+    /**
+     * Reports the current state; an open circuit is reported as half open once the open interval has elapsed, as
+     * the next request will be let through as probe.
+     *
+     * @return current state
+     */
+    public synchronized CircuitBreakerState getState() {
+        halfOpenIfElapsed();
+        return state;
+    }
+
+    protected void halfOpenIfElapsed() {
+        if (state == CircuitBreakerState.OPEN && System.currentTimeMillis() - openedAt >= props.getOpenInterval()) {
+            LOG.info("Circuit for {} is now half open", name);
+            state = CircuitBreakerState.HALF_OPEN;
+        }
+    }
+
+    /**
+     * Checks whether a request can be sent to the connector.
+     *
+     * @throws CircuitOpenException if the circuit is open, or half open with a probe already in progress
+     */
+    public synchronized void acquire() {
+        if (!props.isEnabled() || state == CircuitBreakerState.CLOSED) {
+            return;
+        }
+
+        halfOpenIfElapsed();
+        if (state == CircuitBreakerState.HALF_OPEN && !probing) {
+            probing = true;
+            return;
+        }
+
+        throw new CircuitOpenException("Circuit open for " + name);
+    }
+
+    /**
+     * Reports a successful request.
+     */
+    public synchronized void onSuccess() {
+        failures = 0;
+        if (state != CircuitBreakerState.CLOSED) {
+            LOG.info("Circuit for {} is now closed", name);
+            state = CircuitBreakerState.CLOSED;
+            probing = false;
+        }
+    }
+
+    /**
+     * Reports a failed request.
+     */
+    public synchronized void onFailure() {
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        failures++;
+        if (state == CircuitBreakerState.HALF_OPEN || failures >= props.getFailureThreshold()) {
+            if (state != CircuitBreakerState.OPEN) {
+                LOG.warn("Circuit for {} is now open after {} consecutive failure(s)", name, failures);
+            }
+            state = CircuitBreakerState.OPEN;
+            openedAt = System.currentTimeMillis();
+            probing = false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+/**
+ * Executor properties for
+ * {@link org.apache.syncope.core.provisioning.java.propagation.PriorityPropagationTaskExecutor}, including the
+ * settings of the per-resource bulkheads applied to concurrent propagation tasks and whether queued asynchronous
+ * tasks for the same connector object shall be coalesced.
+ */
+public class PropagationExecutorProperties extends ExecutorProperties {
+
+    public static class BulkheadProperties {
+
+        private boolean enabled = true;
+
+        private int initialLimit = 10;
+
+        private int minLimit = 1;
+
+        private int maxLimit = 20;
+
+        private int maxQueued = 1000;
+
+        private long latencyThreshold = 5000;
+
+        private double errorRateThreshold = 0.5;
+
+        private double backoffRatio = 0.75;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(final int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(final int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(final int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public int getMaxQueued() {
+            return maxQueued;
+        }
+
+        public void setMaxQueued(final int maxQueued) {
+            this.maxQueued = maxQueued;
+        }
+
+        public long getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        public void setLatencyThreshold(final long latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        public double getErrorRateThreshold() {
+            return errorRateThreshold;
+        }
+
+        public void setErrorRateThreshold(final double errorRateThreshold) {
+            this.errorRateThreshold = errorRateThreshold;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(final double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+    }
+
+    private final BulkheadProperties bulkhead = new BulkheadProperties();
+
+    private boolean coalesce = true;
+
+    public BulkheadProperties getBulkhead() {
+        return bulkhead;
+    }
+
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    public void setCoalesce(final boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+}
@@ -50,6 +50,7 @@ import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.PropagationRetryDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportDAO;
@@ -152,6 +153,7 @@ import org.apache.syncope.core.provisioning.java.data.WAConfigDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.data.wa.WAClientAppDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.job.DefaultJobManager;
 import org.apache.syncope.core.provisioning.java.job.JobStatusUpdater;
+import org.apache.syncope.core.provisioning.java.job.PropagationRetryDrainerLoader;
 import org.apache.syncope.core.provisioning.java.job.SchedulerDBInit;
 import org.apache.syncope.core.provisioning.java.job.SyncopeSpringBeanJobFactory;
 import org.apache.syncope.core.provisioning.java.job.SystemLoadReporterJob;
@@ -160,6 +162,8 @@ import org.apache.syncope.core.provisioning.java.job.notification.NotificationJo
 import org.apache.syncope.core.provisioning.java.notification.DefaultNotificationManager;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationManager;
 import org.apache.syncope.core.provisioning.java.propagation.PriorityPropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.propagation.PropagationTaskCoalescer;
+import org.apache.syncope.core.provisioning.java.propagation.ResourceBulkheads;
 import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
@@ -271,6 +275,18 @@ public class ProvisioningContext {
         return executor;
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public ResourceBulkheads resourceBulkheads(final ProvisioningProperties props) {
+        return new ResourceBulkheads(props.getPropagationTaskExecutorAsyncExecutor().getBulkhead());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PropagationTaskCoalescer propagationTaskCoalescer(final ProvisioningProperties props) {
+        return new PropagationTaskCoalescer(props.getPropagationTaskExecutorAsyncExecutor().isCoalesce());
+    }
+
     @Bean
     public SchedulerDBInit quartzDataSourceInit(final ProvisioningProperties provisioningProperties) {
         SchedulerDBInit init = new SchedulerDBInit();
@@ -350,6 +366,17 @@ public class ProvisioningContext {
         return jobManager;
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public PropagationRetryDrainerLoader propagationRetryDrainerLoader(
+            final ProvisioningProperties provisioningProperties,
+            final TaskDAO taskDAO,
+            final ImplementationDAO implementationDAO,
+            final EntityFactory entityFactory) {
+
+        return new PropagationRetryDrainerLoader(provisioningProperties, taskDAO, implementationDAO, entityFactory);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public JobStatusUpdater jobStatusUpdater(final JobStatusDAO jobStatusDAO, final EntityFactory entityFactory) {
@@ -540,6 +567,8 @@ public class ProvisioningContext {
     public PropagationTaskExecutor propagationTaskExecutor(
             @Qualifier("propagationTaskExecutorAsyncExecutor")
             final VirtualThreadPoolTaskExecutor propagationTaskExecutorAsyncExecutor,
+            final ResourceBulkheads resourceBulkheads,
+            final PropagationTaskCoalescer propagationTaskCoalescer,
             final TaskUtilsFactory taskUtilsFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final ConnectorManager connectorManager,
@@ -552,7 +581,10 @@ public class ProvisioningContext {
             final TaskDataBinder taskDataBinder,
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final PropagationRetryDAO propagationRetryDAO,
+            final EntityFactory entityFactory,
+            final ProvisioningProperties provisioningProperties) {
 
         return new PriorityPropagationTaskExecutor(
                 connectorManager,
@@ -568,7 +600,12 @@ public class ProvisioningContext {
                 outboundMatcher,
                 validator,
                 publisher,
-                propagationTaskExecutorAsyncExecutor);
+                propagationRetryDAO,
+                entityFactory,
+                provisioningProperties.getPropagationRetry().isEnabled(),
+                propagationTaskExecutorAsyncExecutor,
+                resourceBulkheads,
+                propagationTaskCoalescer);
     }
 
     @ConditionalOnMissingBean
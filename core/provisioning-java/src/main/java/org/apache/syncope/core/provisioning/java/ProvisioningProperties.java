@@ -89,9 +89,155 @@ public class ProvisioningProperties {
         }
     }
 
+    public static class CircuitBreakerProperties {
+
+        private boolean enabled = true;
+
+        private int failureThreshold = 5;
+
+        private long openInterval = 30000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(final int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public long getOpenInterval() {
+            return openInterval;
+        }
+
+        public void setOpenInterval(final long openInterval) {
+            this.openInterval = openInterval;
+        }
+    }
+
+    public static class PropagationRetryProperties {
+
+        private boolean enabled = true;
+
+        private int batchSize = 100;
+
+        private long leaseTimeout = 300;
+
+        private String cronExpression = "0/30 * * * * ?";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getLeaseTimeout() {
+            return leaseTimeout;
+        }
+
+        public void setLeaseTimeout(final long leaseTimeout) {
+            this.leaseTimeout = leaseTimeout;
+        }
+
+        public String getCronExpression() {
+            return cronExpression;
+        }
+
+        public void setCronExpression(final String cronExpression) {
+            this.cronExpression = cronExpression;
+        }
+    }
+
+    public static class PullProperties {
+
+        private int batchSize = 1;
+
+        private long syncTokenCheckpointInterval = 60000;
+
+        private int provisionConcurrency = 1;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getSyncTokenCheckpointInterval() {
+            return syncTokenCheckpointInterval;
+        }
+
+        public void setSyncTokenCheckpointInterval(final long syncTokenCheckpointInterval) {
+            this.syncTokenCheckpointInterval = syncTokenCheckpointInterval;
+        }
+
+        public int getProvisionConcurrency() {
+            return provisionConcurrency;
+        }
+
+        public void setProvisionConcurrency(final int provisionConcurrency) {
+            this.provisionConcurrency = provisionConcurrency;
+        }
+    }
+
+    public static class PushProperties {
+
+        private long fullInterval = 0;
+
+        public long getFullInterval() {
+            return fullInterval;
+        }
+
+        public void setFullInterval(final long fullInterval) {
+            this.fullInterval = fullInterval;
+        }
+    }
+
+    public static class ReportProperties {
+
+        private int maxInMemory = 10000;
+
+        private int maxLines = 1000;
+
+        public int getMaxInMemory() {
+            return maxInMemory;
+        }
+
+        public void setMaxInMemory(final int maxInMemory) {
+            this.maxInMemory = maxInMemory;
+        }
+
+        public int getMaxLines() {
+            return maxLines;
+        }
+
+        public void setMaxLines(final int maxLines) {
+            this.maxLines = maxLines;
+        }
+    }
+
     private final ExecutorProperties asyncConnectorFacadeExecutor = new ExecutorProperties();
 
-    private final ExecutorProperties propagationTaskExecutorAsyncExecutor = new ExecutorProperties();
+    private final PropagationExecutorProperties propagationTaskExecutorAsyncExecutor =
+            new PropagationExecutorProperties();
 
     private String virAttrCacheSpec = "maximumSize=5000,expireAfterAccess=1m";
 
@@ -99,6 +245,16 @@ public class ProvisioningProperties {
 
     private final QuartzProperties quartz = new QuartzProperties();
 
+    private final CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+    private final PropagationRetryProperties propagationRetry = new PropagationRetryProperties();
+
+    private final PullProperties pull = new PullProperties();
+
+    private final PushProperties push = new PushProperties();
+
+    private final ReportProperties report = new ReportProperties();
+
     public String getVirAttrCacheSpec() {
         return virAttrCacheSpec;
     }
@@ -111,7 +267,7 @@ public class ProvisioningProperties {
         return asyncConnectorFacadeExecutor;
     }
 
-    public ExecutorProperties getPropagationTaskExecutorAsyncExecutor() {
+    public PropagationExecutorProperties getPropagationTaskExecutorAsyncExecutor() {
         return propagationTaskExecutorAsyncExecutor;
     }
 
@@ -122,4 +278,24 @@ public class ProvisioningProperties {
     public QuartzProperties getQuartz() {
         return quartz;
     }
+
+    public CircuitBreakerProperties getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public PropagationRetryProperties getPropagationRetry() {
+        return propagationRetry;
+    }
+
+    public PullProperties getPull() {
+        return pull;
+    }
+
+    public PushProperties getPush() {
+        return push;
+    }
+
+    public ReportProperties getReport() {
+        return report;
+    }
 }
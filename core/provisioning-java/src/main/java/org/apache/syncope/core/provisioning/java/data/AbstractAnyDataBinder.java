@@ -22,6 +22,7 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -76,6 +77,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.provisioning.api.AccountGetter;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
@@ -630,6 +632,26 @@ abstract class AbstractAnyDataBinder {
         }
     }
 
+    /**
+     * Same as {@code findAllResources} from {@link UserDAO} or {@link AnyObjectDAO}, but relying on the given dynamic
+     * groups rather than querying them again.
+     *
+     * @param any user or any object
+     * @param dynGroups dynamic groups of the given user or any object
+     * @return all resources assigned to the given user or any object, directly or via groups
+     */
+    protected static Collection<ExternalResource> findAllResources(
+            final GroupableRelatable<?, ?, ?, ?, ?> any,
+            final Collection<Group> dynGroups) {
+
+        List<Group> groups = new ArrayList<>(dynGroups);
+        any.getMemberships().forEach(membership -> groups.add(membership.getRightEnd()));
+
+        Set<ExternalResource> result = new HashSet<>(any.getResources());
+        groups.forEach(group -> result.addAll(group.getResources()));
+        return result;
+    }
+
     protected static void fillTO(
             final AnyTO anyTO,
             final String realmFullPath,
@@ -64,6 +64,7 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.APlainAttr;
 import org.apache.syncope.core.persistence.api.entity.anyobject.ARelationship;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.search.DynMembershipDependencies;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
@@ -127,6 +128,33 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
     @Transactional(readOnly = true)
     @Override
     public AnyObjectTO getAnyObjectTO(final AnyObject anyObject, final boolean details) {
+        return getAnyObjectTOs(List.of(anyObject), details).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<AnyObjectTO> getAnyObjectTOs(final List<AnyObject> anyObjects, final boolean details) {
+        Set<String> keys = anyObjects.stream().map(AnyObject::getKey).collect(Collectors.toSet());
+        // the collections read below are fetched for all any objects at once, rather than lazily per any object
+        Map<String, AnyObject> fetched = keys.size() > 1 ? anyObjectDAO.fetchByKeys(keys, details) : Map.of();
+        Map<String, List<String>> dynRealms = anyObjectDAO.findDynRealms(keys);
+        Map<String, List<Group>> dynGroups = anyObjectDAO.findDynGroups(keys);
+
+        return anyObjects.stream().map(anyObject -> fetched.getOrDefault(anyObject.getKey(), anyObject)).
+                map(anyObject -> getAnyObjectTO(
+                anyObject,
+                details,
+                dynRealms.getOrDefault(anyObject.getKey(), List.of()),
+                dynGroups.getOrDefault(anyObject.getKey(), List.of()))).
+                collect(Collectors.toList());
+    }
+
+    protected AnyObjectTO getAnyObjectTO(
+            final AnyObject anyObject,
+            final boolean details,
+            final List<String> dynRealms,
+            final List<Group> dynGroups) {
+
         AnyObjectTO anyObjectTO = new AnyObjectTO();
 
         anyObjectTO.setCreator(anyObject.getCreator());
@@ -149,10 +177,10 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
                 anyObject.getPlainAttrs(),
                 derAttrHandler.getValues(anyObject),
                 virAttrValues,
-                anyObjectDAO.findAllResources(anyObject));
+                findAllResources(anyObject, dynGroups));
 
         // dynamic realms
-        anyObjectTO.getDynRealms().addAll(anyObjectDAO.findDynRealms(anyObject.getKey()));
+        anyObjectTO.getDynRealms().addAll(dynRealms);
 
         if (details) {
             // relationships
@@ -175,7 +203,7 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
 
             // dynamic memberships
             anyObjectTO.getDynMemberships().addAll(
-                    anyObjectDAO.findDynGroups(anyObject.getKey()).stream().
+                    dynGroups.stream().
                             map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
                             collect(Collectors.toList()));
         }
@@ -299,8 +327,13 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
 
     @Override
     public PropagationByResource<String> update(final AnyObject toBeUpdated, final AnyObjectUR anyObjectUR) {
+        // only dynamic memberships depending on what is being updated need to be re-evaluated: what is requested
+        // first, then also whatever else was found changed when saving again below
+        Set<String> changes = DynMembershipDependencies.of(anyObjectUR);
+        Map<String, Set<String>> before = DynMembershipDependencies.state(toBeUpdated);
+
         // Re-merge any pending change from workflow tasks
-        AnyObject anyObject = anyObjectDAO.save(toBeUpdated);
+        AnyObject anyObject = anyObjectDAO.save(toBeUpdated, changes);
 
         PropagationByResource<String> propByRes = new PropagationByResource<>();
 
@@ -463,7 +496,8 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
         }
 
         // Re-merge any pending change from above
-        AnyObject saved = anyObjectDAO.save(anyObject);
+        changes.addAll(DynMembershipDependencies.changes(before, DynMembershipDependencies.state(anyObject)));
+        AnyObject saved = anyObjectDAO.save(anyObject, changes);
 
         // Build final information for next stage (propagation)
         propByRes.merge(propByRes(
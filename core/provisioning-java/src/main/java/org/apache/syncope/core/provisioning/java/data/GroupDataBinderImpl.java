@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeClientCompositeException;
@@ -399,6 +400,41 @@ public class GroupDataBinderImpl extends AbstractAnyDataBinder implements GroupD
     @Transactional(readOnly = true)
     @Override
     public GroupTO getGroupTO(final Group group, final boolean details) {
+        return getGroupTOs(List.of(group), details).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<GroupTO> getGroupTOs(final List<Group> groups, final boolean details) {
+        Set<String> keys = groups.stream().map(Group::getKey).collect(Collectors.toSet());
+        // the collections read below are fetched for all groups at once, rather than lazily per group
+        Map<String, Group> fetched = keys.size() > 1 ? groupDAO.fetchByKeys(keys, details) : Map.of();
+        Map<String, List<String>> dynRealms = groupDAO.findDynRealms(keys);
+        Map<String, Integer> uMembers = groupDAO.countUMembers(keys);
+        Map<String, Integer> aMembers = groupDAO.countAMembers(keys);
+        Map<String, Integer> uDynMembers = groupDAO.countUDynMembers(keys);
+        Map<String, Integer> aDynMembers = groupDAO.countADynMembers(keys);
+
+        return groups.stream().map(group -> fetched.getOrDefault(group.getKey(), group)).map(group -> getGroupTO(
+                group,
+                details,
+                dynRealms.getOrDefault(group.getKey(), List.of()),
+                uMembers.getOrDefault(group.getKey(), 0),
+                aMembers.getOrDefault(group.getKey(), 0),
+                group.getUDynMembership() == null ? 0 : uDynMembers.getOrDefault(group.getKey(), 0),
+                aDynMembers.getOrDefault(group.getKey(), 0))).
+                collect(Collectors.toList());
+    }
+
+    protected GroupTO getGroupTO(
+            final Group group,
+            final boolean details,
+            final List<String> dynRealms,
+            final int uMembers,
+            final int aMembers,
+            final int uDynMembers,
+            final int aDynMembers) {
+
         GroupTO groupTO = new GroupTO();
 
         groupTO.setCreator(group.getCreator());
@@ -432,15 +468,15 @@ public class GroupDataBinderImpl extends AbstractAnyDataBinder implements GroupD
                 group.getResources());
 
         // dynamic realms
-        groupTO.getDynRealms().addAll(groupDAO.findDynRealms(group.getKey()));
+        groupTO.getDynRealms().addAll(dynRealms);
 
         // Static user and AnyType membership counts
-        groupTO.setStaticUserMembershipCount(groupDAO.countUMembers(group.getKey()));
-        groupTO.setStaticAnyObjectMembershipCount(groupDAO.countAMembers(group.getKey()));
+        groupTO.setStaticUserMembershipCount(uMembers);
+        groupTO.setStaticAnyObjectMembershipCount(aMembers);
 
         // Dynamic user and AnyType membership counts
-        groupTO.setDynamicUserMembershipCount(groupDAO.countUDynMembers(group));
-        groupTO.setDynamicAnyObjectMembershipCount(groupDAO.countADynMembers(group));
+        groupTO.setDynamicUserMembershipCount(uDynMembers);
+        groupTO.setDynamicAnyObjectMembershipCount(aDynMembers);
 
         if (group.getUDynMembership() != null) {
             groupTO.setUDynMembershipCond(group.getUDynMembership().getFIQLCond());
@@ -176,6 +176,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
                         removeIf(anyTypeClass -> !provisionTO.getAuxClasses().contains(anyTypeClass));
 
                 provision.setIgnoreCaseMatch(provisionTO.isIgnoreCaseMatch());
+                provision.setFingerprinting(provisionTO.isFingerprinting());
 
                 if (StringUtils.isBlank(provisionTO.getUidOnCreate())) {
                     provision.setUidOnCreate(null);
@@ -625,6 +626,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
             provisionTO.getAuxClasses().addAll(provision.getAuxClasses());
             provisionTO.setSyncToken(provision.getSyncToken());
             provisionTO.setIgnoreCaseMatch(provision.isIgnoreCaseMatch());
+            provisionTO.setFingerprinting(provision.isFingerprinting());
             provisionTO.setUidOnCreate(provision.getUidOnCreate());
 
             if (provision.getMapping() != null) {
@@ -156,6 +156,8 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
             // remove all filters not contained in the TO
             pushTask.getFilters().entrySet().
                     removeIf(filter -> !pushTaskTO.getFilters().containsKey(filter.getKey()));
+
+            pushTask.setIncremental(pushTaskTO.isIncremental());
         } else if (provisioningTask instanceof PullTask && provisioningTaskTO instanceof PullTaskTO) {
             PullTask pullTask = (PullTask) provisioningTask;
             PullTaskTO pullTaskTO = (PullTaskTO) provisioningTaskTO;
@@ -510,6 +512,7 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
                         ? UnmatchingRule.ASSIGN : pushTask.getUnmatchingRule());
 
                 pushTaskTO.getFilters().putAll(pushTask.getFilters());
+                pushTaskTO.setIncremental(pushTask.isIncremental());
             }
 
             case NOTIFICATION -> {
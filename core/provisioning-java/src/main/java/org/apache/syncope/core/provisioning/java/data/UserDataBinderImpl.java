@@ -20,12 +20,14 @@ package org.apache.syncope.core.provisioning.java.data;
 
 import java.time.OffsetDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -68,7 +70,6 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
-import org.apache.syncope.core.persistence.api.entity.Delegation;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
@@ -85,6 +86,7 @@ import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.DynMembershipDependencies;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
@@ -446,8 +448,13 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
     public Pair<PropagationByResource<String>, PropagationByResource<Pair<String, String>>> update(
             final User toBeUpdated, final UserUR userUR) {
 
+        // only dynamic memberships depending on what is being updated need to be re-evaluated: what is requested
+        // first, then also whatever else was found changed when saving again below
+        Set<String> changes = DynMembershipDependencies.of(userUR);
+        Map<String, Set<String>> before = DynMembershipDependencies.state(toBeUpdated);
+
         // Re-merge any pending change from workflow tasks
-        User user = userDAO.save(toBeUpdated);
+        User user = userDAO.save(toBeUpdated, changes);
 
         PropagationByResource<String> propByRes = new PropagationByResource<>();
         PropagationByResource<Pair<String, String>> propByLinkedAccount = new PropagationByResource<>();
@@ -719,7 +726,8 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
         }
 
         // Re-merge any pending change from above
-        User saved = userDAO.save(user);
+        changes.addAll(DynMembershipDependencies.changes(before, DynMembershipDependencies.state(user)));
+        User saved = userDAO.save(user, changes);
 
         // Build final information for next stage (propagation)
         Map<String, ConnObject> afterOnResources =
@@ -769,9 +777,46 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
     @Transactional(readOnly = true)
     @Override
     public UserTO getUserTO(final User user, final boolean details) {
+        return getUserTOs(List.of(user), details).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserTO> getUserTOs(final List<User> users, final boolean details) {
         Boolean returnPasswordValue = confParamOps.get(AuthContextUtils.getDomain(),
                 "return.password.value", Boolean.FALSE, Boolean.class);
 
+        Set<String> keys = users.stream().map(User::getKey).collect(Collectors.toSet());
+        // the collections read below are fetched for all users at once, rather than lazily per user
+        Map<String, User> fetched = keys.size() > 1 ? userDAO.fetchByKeys(keys, details) : Map.of();
+        Map<String, List<String>> dynRealms = userDAO.findDynRealms(keys);
+        Map<String, List<Group>> dynGroups = userDAO.findDynGroups(keys);
+        Map<String, List<Role>> dynRoles = details ? userDAO.findDynRoles(keys) : Map.of();
+        Map<String, List<String>> delegating = details ? delegationDAO.findKeysByDelegating(keys) : Map.of();
+        Map<String, List<String>> delegated = details ? delegationDAO.findKeysByDelegated(keys) : Map.of();
+
+        return users.stream().map(user -> fetched.getOrDefault(user.getKey(), user)).map(user -> getUserTO(
+                user,
+                details,
+                returnPasswordValue,
+                dynRealms.getOrDefault(user.getKey(), List.of()),
+                dynGroups.getOrDefault(user.getKey(), List.of()),
+                dynRoles.getOrDefault(user.getKey(), List.of()),
+                delegating.getOrDefault(user.getKey(), List.of()),
+                delegated.getOrDefault(user.getKey(), List.of()))).
+                collect(Collectors.toList());
+    }
+
+    protected UserTO getUserTO(
+            final User user,
+            final boolean details,
+            final boolean returnPasswordValue,
+            final List<String> dynRealms,
+            final List<Group> dynGroups,
+            final List<Role> dynRoles,
+            final List<String> delegating,
+            final List<String> delegated) {
+
         UserTO userTO = new UserTO();
         userTO.setKey(user.getKey());
         userTO.setUsername(user.getUsername());
@@ -810,21 +855,20 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
                 user.getPlainAttrs(),
                 derAttrHandler.getValues(user),
                 details ? virAttrHandler.getValues(user) : Map.of(),
-                userDAO.findAllResources(user));
+                findAllResources(user, dynGroups));
 
         // dynamic realms
-        userTO.getDynRealms().addAll(userDAO.findDynRealms(user.getKey()));
+        userTO.getDynRealms().addAll(dynRealms);
 
         if (details) {
             // roles
             userTO.getRoles().addAll(user.getRoles().stream().map(Role::getKey).collect(Collectors.toList()));
 
             // dynamic roles
-            userTO.getDynRoles().addAll(
-                    userDAO.findDynRoles(user.getKey()).stream().map(Role::getKey).collect(Collectors.toList()));
+            userTO.getDynRoles().addAll(dynRoles.stream().map(Role::getKey).collect(Collectors.toList()));
 
             // privileges
-            userTO.getPrivileges().addAll(userDAO.findAllRoles(user).stream().
+            userTO.getPrivileges().addAll(Stream.concat(user.getRoles().stream(), dynRoles.stream()).
                     flatMap(role -> role.getPrivileges().stream()).map(Privilege::getKey).collect(Collectors.toSet()));
 
             // relationships
@@ -840,7 +884,7 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
                     membership)).collect(Collectors.toList()));
 
             // dynamic memberships
-            userTO.getDynMemberships().addAll(userDAO.findDynGroups(user.getKey()).stream().
+            userTO.getDynMemberships().addAll(dynGroups.stream().
                     map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
                     collect(Collectors.toList()));
 
@@ -850,10 +894,8 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
                     collect(Collectors.toList()));
 
             // delegations
-            userTO.getDelegatingDelegations().addAll(
-                    delegationDAO.findByDelegating(user).stream().map(Delegation::getKey).collect(Collectors.toList()));
-            userTO.getDelegatedDelegations().addAll(
-                    delegationDAO.findByDelegated(user).stream().map(Delegation::getKey).collect(Collectors.toList()));
+            userTO.getDelegatingDelegations().addAll(delegating);
+            userTO.getDelegatedDelegations().addAll(delegated);
         }
 
         return userTO;
@@ -93,7 +93,7 @@ public abstract class AbstractSchedTaskJobDelegate<T extends SchedTask> implemen
     @Autowired
     protected ApplicationEventPublisher publisher;
 
-    protected boolean interrupt;
+    protected volatile boolean interrupt;
 
     protected boolean interrupted;
 
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.CircuitBreakerState;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.PropagationRetryDAO;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationRetry;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
+import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+/**
+ * Drains the durable propagation retry queue: due entries are leased to the current node, so that concurrent
+ * executions on other cluster nodes will not pick them up, then executed on the propagation executor.
+ * Entries about the same entity on the same resource are executed one after the other, in queue order, stopping at
+ * the first one which is rescheduled or deferred again; entries on resources whose connector circuit is open are
+ * left in the queue, while a single group is let through as probe when the circuit is half open.
+ * Entries whose execution fails again are rescheduled by the propagation task executor itself.
+ */
+public class PropagationRetryDrainer extends AbstractSchedTaskJobDelegate<SchedTask> {
+
+    protected static final String OWNER = SecureRandomUtils.generateRandomUUID().toString();
+
+    @Autowired
+    protected PropagationRetryDAO propagationRetryDAO;
+
+    @Autowired
+    protected ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    protected ConnectorManager connectorManager;
+
+    @Autowired
+    protected PropagationTaskExecutor propagationTaskExecutor;
+
+    @Autowired
+    @Qualifier("propagationTaskExecutorAsyncExecutor")
+    protected VirtualThreadPoolTaskExecutor propagationTaskExecutorAsyncExecutor;
+
+    @Autowired
+    protected ProvisioningProperties props;
+
+    protected CircuitBreakerState getCircuitBreakerState(final String resource) {
+        return Optional.ofNullable(resourceDAO.find(resource)).
+                flatMap(connectorManager::readConnector).
+                map(Connector::getCircuitBreakerState).
+                orElse(CircuitBreakerState.CLOSED);
+    }
+
+    /**
+     * Executes the given entries one after the other.
+     *
+     * @param domain domain
+     * @param executor executor
+     * @param leaseExpiry lease expiry for the given entries
+     * @param group entries about the same entity on the same resource, in queue order
+     * @param retried number of executed entries
+     * @param failed number of entries whose execution raised errors
+     */
+    protected void replay(
+            final String domain,
+            final String executor,
+            final OffsetDateTime leaseExpiry,
+            final List<PropagationRetry> group,
+            final AtomicInteger retried,
+            final AtomicInteger failed) {
+
+        for (PropagationRetry retry : group) {
+            if (interrupt || !propagationRetryDAO.claim(retry.getKey(), OWNER, leaseExpiry)) {
+                return;
+            }
+            retried.incrementAndGet();
+
+            boolean done = AuthContextUtils.callAsAdmin(domain, () -> {
+                try {
+                    propagationTaskExecutor.execute(retry.getTaskKey(), new DefaultPropagationReporter(), executor);
+                } catch (NotFoundException e) {
+                    LOG.warn("Propagation task {} not found, removing from retry queue", retry.getTaskKey());
+                } catch (Exception e) {
+                    LOG.error("While retrying propagation task {}", retry.getTaskKey(), e);
+                    failed.incrementAndGet();
+                    return false;
+                }
+
+                // entries still leased by this node were neither rescheduled nor deferred again: they are done
+                PropagationRetry after = propagationRetryDAO.find(retry.getKey());
+                if (after == null) {
+                    return true;
+                }
+                if (OWNER.equals(after.getOwner())) {
+                    propagationRetryDAO.delete(after.getKey());
+                    return true;
+                }
+                return false;
+            });
+            if (!done) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected String doExecute(final boolean dryRun, final String executor, final JobExecutionContext context)
+            throws JobExecutionException {
+
+        List<String> due = propagationRetryDAO.findDue(props.getPropagationRetry().getBatchSize());
+        if (dryRun) {
+            return "Due propagation retries: " + due.size() + "; queue depth: " + propagationRetryDAO.count();
+        }
+
+        Map<Pair<String, String>, List<PropagationRetry>> groups = new LinkedHashMap<>();
+        due.stream().map(propagationRetryDAO::find).filter(Objects::nonNull).forEach(retry -> groups.
+                computeIfAbsent(Pair.of(
+                        retry.getResource(),
+                        Optional.ofNullable(retry.getEntityKey()).orElseGet(retry::getTaskKey)),
+                        k -> new ArrayList<>()).
+                add(retry));
+
+        String domain = AuthContextUtils.getDomain();
+        OffsetDateTime leaseExpiry = OffsetDateTime.now().plusSeconds(props.getPropagationRetry().getLeaseTimeout());
+
+        Map<String, CircuitBreakerState> states = new HashMap<>();
+        AtomicInteger retried = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> executions = new ArrayList<>();
+        for (Map.Entry<Pair<String, String>, List<PropagationRetry>> group : groups.entrySet()) {
+            if (interrupt) {
+                LOG.debug("Propagation retry drainer interrupted");
+                interrupted = true;
+                break;
+            }
+
+            String resource = group.getKey().getLeft();
+            CircuitBreakerState state = states.computeIfAbsent(resource, this::getCircuitBreakerState);
+            if (state == CircuitBreakerState.OPEN) {
+                continue;
+            }
+            if (state == CircuitBreakerState.HALF_OPEN) {
+                states.put(resource, CircuitBreakerState.OPEN);
+            }
+
+            executions.add(CompletableFuture.runAsync(
+                    () -> replay(domain, executor, leaseExpiry, group.getValue(), retried, failed),
+                    propagationTaskExecutorAsyncExecutor));
+        }
+
+        setStatus("Retrying propagation tasks for " + executions.size() + " entities");
+        CompletableFuture.allOf(executions.toArray(CompletableFuture[]::new)).join();
+
+        return "Retried propagation tasks: " + retried.get()
+                + "; errors: " + failed.get()
+                + "; queue depth: " + propagationRetryDAO.count();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.types.IdRepoImplementationType;
+import org.apache.syncope.common.lib.types.ImplementationEngine;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.Implementation;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Makes sure that a {@link PropagationRetryDrainer} task is scheduled on each domain, regardless of the default content
+ * having been loaded: domains created before the retry queue was introduced would otherwise never retry failed
+ * propagations, nor replay those deferred while the circuit of their connector was open.
+ * The drainer is scheduled even when durable retry is disabled, as deferred propagations are queued anyway.
+ * Existing tasks are left untouched, so that administrators can still reschedule or deactivate the drainer.
+ */
+public class PropagationRetryDrainerLoader implements SyncopeCoreLoader {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PropagationRetryDrainerLoader.class);
+
+    protected final ProvisioningProperties props;
+
+    protected final TaskDAO taskDAO;
+
+    protected final ImplementationDAO implementationDAO;
+
+    protected final EntityFactory entityFactory;
+
+    public PropagationRetryDrainerLoader(
+            final ProvisioningProperties props,
+            final TaskDAO taskDAO,
+            final ImplementationDAO implementationDAO,
+            final EntityFactory entityFactory) {
+
+        this.props = props;
+        this.taskDAO = taskDAO;
+        this.implementationDAO = implementationDAO;
+        this.entityFactory = entityFactory;
+    }
+
+    @Override
+    public int getOrder() {
+        // after content loading, before job instances are registered by the job manager
+        return 490;
+    }
+
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        AuthContextUtils.callAsAdmin(domain, () -> {
+            boolean scheduled = taskDAO.<SchedTask>findAll(TaskType.SCHEDULED).stream().
+                    anyMatch(task -> task.getJobDelegate() != null
+                    && PropagationRetryDrainer.class.getName().equals(task.getJobDelegate().getBody()));
+            if (scheduled) {
+                return null;
+            }
+
+            Implementation jobDelegate = implementationDAO.findByType(IdRepoImplementationType.TASKJOB_DELEGATE).
+                    stream().
+                    filter(impl -> impl.getEngine() == ImplementationEngine.JAVA
+                    && PropagationRetryDrainer.class.getName().equals(impl.getBody())).
+                    findFirst().
+                    orElseGet(() -> {
+                        Implementation impl = entityFactory.newEntity(Implementation.class);
+                        impl.setKey(PropagationRetryDrainer.class.getSimpleName());
+                        impl.setEngine(ImplementationEngine.JAVA);
+                        impl.setType(IdRepoImplementationType.TASKJOB_DELEGATE);
+                        impl.setBody(PropagationRetryDrainer.class.getName());
+                        return implementationDAO.save(impl);
+                    });
+
+            SchedTask task = entityFactory.newEntity(SchedTask.class);
+            task.setName("Propagation Retry Task");
+            task.setJobDelegate(jobDelegate);
+            task.setCronExpression(props.getPropagationRetry().getCronExpression());
+            task.setActive(true);
+            task = taskDAO.save(task);
+
+            LOG.info("Domain {}: scheduled {} as task {}",
+                    domain, PropagationRetryDrainer.class.getSimpleName(), task.getKey());
+            return null;
+        });
+    }
+}
@@ -353,8 +353,7 @@ public class DefaultNotificationManager implements NotificationManager {
                     LOG.debug("No events found about {}", any);
                 } else if (anyType == null || any == null
                         || notification.getAbout(anyType).isEmpty()
-                        || anyMatchDAO.matches(any, SearchCondConverter.convert(
-                                searchCondVisitor, notification.getAbout(anyType).get().get()))) {
+                        || anyMatchDAO.compile(notification.getAbout(anyType).get().get()).test(any)) {
 
                     LOG.debug("Creating notification task for event {} about {}", currentEvent, any);
 
@@ -37,23 +37,29 @@ import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.common.lib.types.AuditElements.Result;
+import org.apache.syncope.common.lib.types.CircuitBreakerState;
 import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PropagationRetryDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationRetry;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.CircuitOpenException;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
@@ -127,6 +133,12 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
     protected final ApplicationEventPublisher publisher;
 
+    protected final PropagationRetryDAO propagationRetryDAO;
+
+    protected final EntityFactory entityFactory;
+
+    protected final boolean durableRetry;
+
     protected final Map<String, PropagationActions> perContextActions = new ConcurrentHashMap<>();
 
     public AbstractPropagationTaskExecutor(
@@ -142,7 +154,10 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             final TaskUtilsFactory taskUtilsFactory,
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final PropagationRetryDAO propagationRetryDAO,
+            final EntityFactory entityFactory,
+            final boolean durableRetry) {
 
         this.connectorManager = connectorManager;
         this.connObjectUtils = connObjectUtils;
@@ -157,6 +172,9 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         this.outboundMatcher = outboundMatcher;
         this.validator = validator;
         this.publisher = publisher;
+        this.propagationRetryDAO = propagationRetryDAO;
+        this.entityFactory = entityFactory;
+        this.durableRetry = durableRetry;
     }
 
     @Override
@@ -476,23 +494,172 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         return Optional.ofNullable(retryTemplate);
     }
 
+    protected boolean isCircuitOpen(final PropagationTaskInfo taskInfo) {
+        return Optional.ofNullable(taskInfo.getConnector()).
+                or(() -> connectorManager.readConnector(taskInfo.getResource())).
+                map(connector -> connector.getCircuitBreakerState() != CircuitBreakerState.CLOSED).
+                orElse(false);
+    }
+
     @Override
     public TaskExec<PropagationTask> execute(
             final PropagationTaskInfo taskInfo,
             final PropagationReporter reporter,
             final String executor) {
 
-        return retryTemplate(taskInfo.getResource()).map(rt -> rt.execute(context -> {
+        // tasks not stored yet carry the current data of their entity, unlike stored tasks being replayed
+        boolean fresh = taskInfo.getKey() == null;
+
+        // priority resources keep retrying in-thread, as their outcome is required by the caller
+        if (durableRetry
+                && taskInfo.getResource().getPropagationPolicy() != null
+                && taskInfo.getResource().getPropagationPriority() == null) {
+
+            TaskExec<PropagationTask> exec = doExecute(taskInfo, reporter, executor);
+            scheduleRetry(taskInfo, exec);
+            if (fresh) {
+                supersede(taskInfo, exec);
+            }
+            return exec;
+        }
+
+        TaskExec<PropagationTask> exec = retryTemplate(taskInfo.getResource()).map(rt -> rt.execute(context -> {
             LOG.debug("#{} Propagation attempt", context.getRetryCount());
 
             TaskExec<PropagationTask> exec = doExecute(taskInfo, reporter, executor);
+            // no point in retrying while the circuit is open: the task was deferred for replay
             if (context.getRetryCount() < taskInfo.getResource().getPropagationPolicy().getMaxAttempts() - 1
-                    && !ExecStatus.SUCCESS.name().equals(exec.getStatus())) {
+                    && !ExecStatus.SUCCESS.name().equals(exec.getStatus())
+                    && !isCircuitOpen(taskInfo)) {
 
                 throw new RetryException("Attempt #" + context.getRetryCount() + " failed");
             }
             return exec;
         })).orElseGet(() -> doExecute(taskInfo, reporter, executor));
+        if (fresh) {
+            supersede(taskInfo, exec);
+        }
+        return exec;
+    }
+
+    /**
+     * Once a fresh propagation succeeds, queued entries about the same entity on the same resource which were queued
+     * before it started are dropped: being older, replaying them would overwrite the data just propagated.
+     * Not invoked for stored tasks being replayed, as their data might be older than that of later entries.
+     *
+     * @param taskInfo propagation task
+     * @param exec execution just performed
+     */
+    protected void supersede(final PropagationTaskInfo taskInfo, final TaskExec<PropagationTask> exec) {
+        if (!ExecStatus.SUCCESS.name().equals(exec.getStatus()) || taskInfo.getEntityKey() == null) {
+            return;
+        }
+
+        int superseded = propagationRetryDAO.deleteSuperseded(
+                taskInfo.getResource().getKey(), taskInfo.getEntityKey(), exec.getStart());
+        if (superseded > 0) {
+            LOG.debug("Dropped {} queued propagation tasks for {} on {}, superseded by {}",
+                    superseded, taskInfo.getEntityKey(), taskInfo.getResource().getKey(), taskInfo.getKey());
+        }
+    }
+
+    /**
+     * Updates the durable retry queue according to the outcome of the given execution: failed executions are
+     * (re)scheduled according to the resource's propagation policy, until the maximum number of attempts is reached;
+     * the queue entry is removed otherwise.
+     *
+     * @param taskInfo propagation task
+     * @param exec execution just performed
+     */
+    protected void scheduleRetry(final PropagationTaskInfo taskInfo, final TaskExec<PropagationTask> exec) {
+        Optional<PropagationRetry> existing = Optional.ofNullable(taskInfo.getKey()).
+                flatMap(propagationRetryDAO::findByTask);
+
+        PropagationPolicy policy = taskInfo.getResource().getPropagationPolicy();
+        int attempts = existing.map(PropagationRetry::getAttempts).orElse(0) + 1;
+
+        // failures while the circuit is not closed do not consume attempts: the task is deferred instead
+        if (!ExecStatus.SUCCESS.name().equals(exec.getStatus()) && isCircuitOpen(taskInfo)) {
+            if (taskInfo.getKey() == null) {
+                taskInfo.setKey(taskDAO.save(getOrCreateTask(taskInfo)).getKey());
+            }
+            defer(taskInfo);
+            return;
+        }
+
+        // successful executions leave the queue; the same happens when all attempts allowed by the propagation
+        // policy were consumed
+        if (ExecStatus.SUCCESS.name().equals(exec.getStatus()) || attempts >= policy.getMaxAttempts()) {
+            existing.ifPresent(retry -> propagationRetryDAO.delete(retry.getKey()));
+            return;
+        }
+
+        if (taskInfo.getKey() == null) {
+            taskInfo.setKey(taskDAO.save(getOrCreateTask(taskInfo)).getKey());
+        }
+
+        PropagationRetry retry = existing.orElseGet(() -> newRetry(taskInfo));
+        retry.setAttempts(attempts);
+        retry.setNextAttempt(OffsetDateTime.now().plusNanos(1000000L * PropagationRetryBackOff.delay(
+                policy.getBackOffStrategy(), policy.getBackOffParams(), attempts)));
+        retry.setOwner(null);
+        retry.setLeaseExpiry(null);
+        propagationRetryDAO.save(retry);
+
+        LOG.debug("Propagation task {} on {} scheduled for attempt #{} at {}",
+                taskInfo.getKey(), taskInfo.getResource().getKey(), attempts + 1, retry.getNextAttempt());
+    }
+
+    protected PropagationRetry newRetry(final PropagationTaskInfo taskInfo) {
+        PropagationRetry retry = entityFactory.newEntity(PropagationRetry.class);
+        retry.setTaskKey(taskInfo.getKey());
+        retry.setResource(taskInfo.getResource().getKey());
+        retry.setEntityKey(taskInfo.getEntityKey());
+        retry.setCreationDate(OffsetDateTime.now());
+        return retry;
+    }
+
+    /**
+     * Puts the given propagation task, rejected because the circuit of its connector is not closed, on the durable
+     * retry queue without consuming any attempt: the queue entry is immediately due, but the retry drainer will
+     * leave it alone until the circuit lets requests through again.
+     *
+     * @param taskInfo propagation task, already stored
+     */
+    protected void defer(final PropagationTaskInfo taskInfo) {
+        PropagationRetry retry = propagationRetryDAO.findByTask(taskInfo.getKey()).
+                orElseGet(() -> newRetry(taskInfo));
+        retry.setNextAttempt(OffsetDateTime.now());
+        retry.setOwner(null);
+        retry.setLeaseExpiry(null);
+        propagationRetryDAO.save(retry);
+
+        LOG.debug("Propagation task {} deferred until circuit for {} closes",
+                taskInfo.getKey(), taskInfo.getResource().getKey());
+    }
+
+    @Override
+    public TaskExec<PropagationTask> execute(
+            final String taskKey,
+            final PropagationReporter reporter,
+            final String executor) {
+
+        PropagationTask task = Optional.ofNullable(taskDAO.<PropagationTask>find(TaskType.PROPAGATION, taskKey)).
+                orElseThrow(() -> new NotFoundException("PropagationTask " + taskKey));
+
+        PropagationTaskInfo taskInfo = new PropagationTaskInfo(
+                task.getResource(),
+                task.getOperation(),
+                new ObjectClass(task.getObjectClassName()),
+                task.getAnyTypeKind(),
+                task.getAnyType(),
+                task.getEntityKey(),
+                task.getConnObjectKey(),
+                task.getPropagationData());
+        taskInfo.setKey(task.getKey());
+        taskInfo.setOldConnObjectKey(task.getOldConnObjectKey());
+
+        return execute(taskInfo, reporter, executor);
     }
 
     protected boolean isFetchRemoteObj(final PropagationTaskInfo taskInfo) {
@@ -532,6 +699,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         Provision provision = null;
         OrgUnit orgUnit = null;
         Uid uid = null;
+        boolean circuitOpen = false;
         Result result;
         try {
             provision = taskInfo.getResource().
@@ -583,6 +751,8 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
             LOG.error("Exception during provision on resource " + taskInfo.getResource().getKey(), e);
 
+            circuitOpen = e instanceof CircuitOpenException;
+
             if (e instanceof ConnectorException && e.getCause() != null) {
                 taskExecutionMessage = e.getCause().getMessage();
                 if (e.getCause().getMessage() == null) {
@@ -638,14 +808,20 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
             LOG.debug("Execution finished: {}", exec);
 
-            hasToBeregistered(taskInfo, exec).ifPresent(task -> {
-                LOG.debug("Execution to be stored: {}", exec);
+            // when the circuit is open, the task is always stored, to be replayed from the durable retry queue
+            (circuitOpen ? Optional.of(getOrCreateTask(taskInfo)) : hasToBeregistered(taskInfo, exec)).
+                    ifPresent(task -> {
+                        LOG.debug("Execution to be stored: {}", exec);
 
-                exec.setTask(task);
-                task.add(exec);
+                        exec.setTask(task);
+                        task.add(exec);
 
-                taskInfo.setKey(taskDAO.save(task).getKey());
-            });
+                        taskInfo.setKey(taskDAO.save(task).getKey());
+                    });
+            // deferral does not depend on durable retry being enabled, which only concerns failed tasks
+            if (circuitOpen) {
+                defer(taskInfo);
+            }
 
             String fiql = provision == null
                     ? null
@@ -779,6 +955,18 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             return Optional.empty();
         }
 
+        return Optional.of(getOrCreateTask(taskInfo));
+    }
+
+    /**
+     * Finds the propagation task matching the given task info, or creates a new one.
+     *
+     * @param taskInfo propagation task
+     * @return propagation task, not saved yet
+     */
+    protected PropagationTask getOrCreateTask(final PropagationTaskInfo taskInfo) {
+        ExternalResource resource = taskInfo.getResource();
+
         PropagationTask task = Optional.ofNullable(taskInfo.getKey()).
                 map(key -> taskDAO.<PropagationTask>find(TaskType.PROPAGATION, key)).
                 orElseGet(() -> {
@@ -795,7 +983,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 });
         task.setPropagationData(taskInfo.getPropagationData());
 
-        return Optional.of(task);
+        return task;
     }
 
     /**
@@ -20,19 +20,24 @@ package org.apache.syncope.core.provisioning.java.propagation;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutorCompletionService;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PropagationRetryDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Exec;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
@@ -52,9 +57,13 @@ import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
 import org.springframework.context.ApplicationEventPublisher;
 
 /**
- * Sorts the tasks to be executed according to related
- * {@link org.apache.syncope.core.persistence.api.entity.ExternalResource}'s priority, then execute.
- * Tasks related to resources with NULL priority are executed after other tasks, concurrently.
+ * Groups the tasks to be executed in tiers according to related
+ * {@link org.apache.syncope.core.persistence.api.entity.ExternalResource}'s priority, then execute: tiers are executed
+ * in priority order, tasks within the same tier are executed concurrently.
+ * Tasks related to resources with NULL priority are executed after other tasks, concurrently; the concurrency
+ * allowed for each resource is limited by {@link ResourceBulkheads}, so that a degraded resource cannot take all the
+ * executor's capacity; when not required to wait for their completion, queued tasks for the same connector object are
+ * merged by {@link PropagationTaskCoalescer}.
  * Failure during execution of a task related to resource with non-NULL priority are treated as fatal and will interrupt
  * the whole process, resulting in a global failure.
  */
@@ -84,6 +93,10 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
 
     protected final VirtualThreadPoolTaskExecutor taskExecutor;
 
+    protected final ResourceBulkheads bulkheads;
+
+    protected final PropagationTaskCoalescer coalescer;
+
     public PriorityPropagationTaskExecutor(
             final ConnectorManager connectorManager,
             final ConnObjectUtils connObjectUtils,
@@ -98,7 +111,12 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
             final ApplicationEventPublisher publisher,
-            final VirtualThreadPoolTaskExecutor taskExecutor) {
+            final PropagationRetryDAO propagationRetryDAO,
+            final EntityFactory entityFactory,
+            final boolean durableRetry,
+            final VirtualThreadPoolTaskExecutor taskExecutor,
+            final ResourceBulkheads bulkheads,
+            final PropagationTaskCoalescer coalescer) {
 
         super(connectorManager,
                 connObjectUtils,
@@ -112,8 +130,100 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                 taskUtilsFactory,
                 outboundMatcher,
                 validator,
-                publisher);
+                publisher,
+                propagationRetryDAO,
+                entityFactory,
+                durableRetry);
         this.taskExecutor = taskExecutor;
+        this.bulkheads = bulkheads;
+        this.coalescer = coalescer;
+    }
+
+    protected void check(
+            final PropagationTaskInfo taskInfo,
+            final TaskExec<PropagationTask> exec,
+            final String errorMessage) {
+
+        ExecStatus execStatus = Optional.ofNullable(exec).
+                map(e -> ExecStatus.valueOf(e.getStatus())).
+                orElse(ExecStatus.FAILURE);
+        if (execStatus != ExecStatus.SUCCESS) {
+            throw new PropagationException(
+                    taskInfo.getResource().getKey(),
+                    Optional.ofNullable(exec).map(Exec::getMessage).orElse(errorMessage));
+        }
+    }
+
+    /**
+     * Executes the tasks for resources sharing the same priority: a single task is executed in the caller thread,
+     * more tasks are executed concurrently; in any case, the next tier is not started before all tasks of this tier
+     * are completed.
+     *
+     * @param tier tasks for resources sharing the same priority
+     * @param reporter to report propagation execution status
+     * @param executor user that triggered the propagation execution
+     * @throws PropagationException for the first task of the tier (in submission order) which failed
+     */
+    protected void executeTier(
+            final List<PropagationTaskInfo> tier,
+            final PropagationReporter reporter,
+            final String executor) {
+
+        if (tier.size() == 1) {
+            PropagationTaskInfo taskInfo = tier.get(0);
+            TaskExec<PropagationTask> exec = null;
+            String errorMessage = null;
+            try {
+                exec = newPropagationTaskCallable(taskInfo, reporter, executor).call();
+            } catch (Exception e) {
+                LOG.error("Unexpected exception", e);
+                errorMessage = e.getMessage();
+            }
+            check(taskInfo, exec, errorMessage);
+            return;
+        }
+
+        Map<PropagationTaskInfo, Future<TaskExec<PropagationTask>>> futures = new LinkedHashMap<>();
+        tier.forEach(taskInfo -> {
+            PropagationTaskCallable callable = newPropagationTaskCallable(taskInfo, reporter, executor);
+            Future<TaskExec<PropagationTask>> future;
+            try {
+                future = taskExecutor.submit(callable);
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Could not submit {} for concurrent execution, running in caller thread", taskInfo, e);
+                CompletableFuture<TaskExec<PropagationTask>> completed = new CompletableFuture<>();
+                try {
+                    completed.complete(callable.call());
+                } catch (Exception ex) {
+                    completed.completeExceptionally(ex);
+                }
+                future = completed;
+            }
+            futures.put(taskInfo, future);
+        });
+
+        AtomicReference<PropagationException> failure = new AtomicReference<>();
+        futures.forEach((taskInfo, future) -> {
+            TaskExec<PropagationTask> exec = null;
+            String errorMessage = null;
+            try {
+                exec = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errorMessage = e.getMessage();
+            } catch (ExecutionException e) {
+                LOG.error("Unexpected exception", e.getCause());
+                errorMessage = e.getCause().getMessage();
+            }
+            try {
+                check(taskInfo, exec, errorMessage);
+            } catch (PropagationException e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        if (failure.get() != null) {
+            throw failure.get();
+        }
     }
 
     @Override
@@ -124,46 +234,46 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
 
         PropagationReporter reporter = new DefaultPropagationReporter();
         try {
-            List<PropagationTaskInfo> prioritizedTasks = taskInfos.stream().
-                    filter(task -> task.getResource().getPropagationPriority() != null).
-                    sorted(Comparator.comparing(task -> task.getResource().getPropagationPriority())).
-                    collect(Collectors.toList());
-            LOG.debug("Propagation tasks sorted by priority, for serial execution: {}", prioritizedTasks);
-
-            List<PropagationTaskInfo> concurrentTasks = taskInfos.stream().
-                    filter(task -> !prioritizedTasks.contains(task)).
-                    collect(Collectors.toList());
+            // partition in a single pass: tasks for priority resources are grouped in tiers by priority value,
+            // the others are for concurrent execution
+            Map<Integer, List<PropagationTaskInfo>> tiers = new TreeMap<>();
+            List<PropagationTaskInfo> concurrentTasks = new ArrayList<>();
+            taskInfos.forEach(task -> Optional.ofNullable(task.getResource().getPropagationPriority()).ifPresentOrElse(
+                    priority -> tiers.computeIfAbsent(priority, k -> new ArrayList<>()).add(task),
+                    () -> concurrentTasks.add(task)));
+            LOG.debug("Propagation tasks grouped by priority, for tiered execution: {}", tiers);
             LOG.debug("Propagation tasks for concurrent execution: {}", concurrentTasks);
 
-            // first process priority resources sequentially and fail as soon as any propagation failure is reported
-            prioritizedTasks.forEach(taskInfo -> {
-                TaskExec<PropagationTask> exec = null;
-                ExecStatus execStatus;
-                String errorMessage = null;
-                try {
-                    exec = newPropagationTaskCallable(taskInfo, reporter, executor).call();
-                    execStatus = ExecStatus.valueOf(exec.getStatus());
-                } catch (Exception e) {
-                    LOG.error("Unexpected exception", e);
-                    execStatus = ExecStatus.FAILURE;
-                    errorMessage = e.getMessage();
-                }
-                if (execStatus != ExecStatus.SUCCESS) {
-                    throw new PropagationException(
-                            taskInfo.getResource().getKey(),
-                            Optional.ofNullable(exec).map(Exec::getMessage).orElse(errorMessage));
-                }
-            });
+            // first process priority resources, tier by tier, and fail as soon as any propagation failure is reported
+            tiers.values().forEach(tier -> executeTier(tier, reporter, executor));
 
             // then process non-priority resources concurrently...
+            // ...each resource being limited by its own bulkhead
             if (!concurrentTasks.isEmpty()) {
-                CompletionService<TaskExec<PropagationTask>> completionService =
-                        new ExecutorCompletionService<>(taskExecutor);
                 List<Future<TaskExec<PropagationTask>>> futures = new ArrayList<>();
 
                 concurrentTasks.forEach(taskInfo -> {
                     try {
-                        futures.add(completionService.submit(newPropagationTaskCallable(taskInfo, reporter, executor)));
+                        if (nullPriorityAsync) {
+                            // ...merging into queued tasks for the same connector object, whenever possible
+                            if (coalescer.offer(taskInfo)) {
+                                reporter.onSuccessOrNonPriorityResourceFailures(
+                                        taskInfo, ExecStatus.CREATED, null, null, null, null);
+                                return;
+                            }
+                        } else {
+                            coalescer.bypass(taskInfo);
+                        }
+
+                        PropagationTaskCallable callable = newPropagationTaskCallable(taskInfo, reporter, executor);
+                        futures.add(bulkheads.submit(
+                                taskInfo.getResource().getKey(),
+                                () -> {
+                                    coalescer.dequeue(taskInfo);
+                                    return callable.call();
+                                },
+                                exec -> !ExecStatus.FAILURE.name().equals(exec.getStatus()),
+                                taskExecutor));
 
                         if (nullPriorityAsync) {
                             reporter.onSuccessOrNonPriorityResourceFailures(
@@ -171,6 +281,7 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                         }
                     } catch (Exception e) {
                         LOG.error("While submitting task for async execution: {}", taskInfo, e);
+                        coalescer.dequeue(taskInfo);
                         rejected(taskInfo, e.getMessage(), reporter, executor);
                     }
                 });
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.syncope.common.lib.types.BackOffStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the delay before the next attempt of a failed propagation, with the same semantics as the
+ * {@code FIXED}, {@code EXPONENTIAL} and {@code RANDOM} back-off policies offered by Spring Retry, so that the
+ * parameters configured on {@link org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy} can be
+ * honored by the durable retry queue as well.
+ */
+public final class PropagationRetryBackOff {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PropagationRetryBackOff.class);
+
+    private static long parseLong(final String[] params, final int index, final long defaultValue) {
+        if (params.length > index) {
+            try {
+                return Long.parseLong(params[index].trim());
+            } catch (NumberFormatException e) {
+                LOG.error("Could not convert to long: {}", params[index], e);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static double parseDouble(final String[] params, final int index, final double defaultValue) {
+        if (params.length > index) {
+            try {
+                return Double.parseDouble(params[index].trim());
+            } catch (NumberFormatException e) {
+                LOG.error("Could not convert to double: {}", params[index], e);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Returns the delay, in milliseconds, to wait after the given failed attempt.
+     *
+     * @param strategy back-off strategy
+     * @param backOffParams back-off parameters, as semicolon-separated values
+     * @param attempt number of attempts performed so far, starting from 1
+     * @return delay in milliseconds
+     */
+    public static long delay(final BackOffStrategy strategy, final String backOffParams, final int attempt) {
+        BackOffStrategy actual = strategy == null ? BackOffStrategy.FIXED : strategy;
+        String[] params = (backOffParams == null ? actual.getDefaultBackOffParams() : backOffParams).split(";");
+
+        switch (actual) {
+            case EXPONENTIAL:
+            case RANDOM:
+                long initial = parseLong(params, 0, 100L);
+                long max = parseLong(params, 1, 30000L);
+                double multiplier = Math.max(1.0, parseDouble(params, 2, 2.0));
+
+                double delay = initial * Math.pow(multiplier, Math.max(0, attempt - 1));
+                if (actual == BackOffStrategy.RANDOM) {
+                    delay += delay * (multiplier - 1) * ThreadLocalRandom.current().nextDouble();
+                }
+                return (long) Math.min(delay, max);
+
+            case FIXED:
+            default:
+                return parseLong(params, 0, 1000L);
+        }
+    }
+
+    private PropagationRetryBackOff() {
+        // private constructor for static utility class
+    }
+}
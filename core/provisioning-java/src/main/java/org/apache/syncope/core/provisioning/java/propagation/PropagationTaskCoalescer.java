@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces asynchronous propagation tasks which are still waiting for execution, per resource and connector object:
+ * an update arriving while a previous create or update for the same connector object is still queued is merged into
+ * the latter, so that only the latest attribute values are sent to the connector, with a single round trip.
+ * Deletes, renames and updates carrying attribute deltas are never merged; rather, they act as barriers, so that no
+ * task is moved ahead of them.
+ */
+public class PropagationTaskCoalescer {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PropagationTaskCoalescer.class);
+
+    protected final boolean enabled;
+
+    /**
+     * Queued tasks, which further tasks can be merged into, by resource and connector object key.
+     */
+    protected final Map<String, Map<String, PropagationTaskInfo>> pending = new ConcurrentHashMap<>();
+
+    public PropagationTaskCoalescer(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    protected static boolean isRename(final PropagationTaskInfo taskInfo) {
+        return taskInfo.getOldConnObjectKey() != null
+                && !taskInfo.getOldConnObjectKey().equals(taskInfo.getConnObjectKey());
+    }
+
+    protected static boolean hasDeltas(final PropagationTaskInfo taskInfo) {
+        return taskInfo.getPropagationData() != null && taskInfo.getPropagationData().getAttributeDeltas() != null;
+    }
+
+    /**
+     * Whether the given task can be target of further merges.
+     *
+     * @param taskInfo propagation task
+     * @return whether the given task can be target of further merges
+     */
+    protected boolean isMergeTarget(final PropagationTaskInfo taskInfo) {
+        return taskInfo.getKey() == null
+                && taskInfo.getPropagationData() != null
+                && !hasDeltas(taskInfo)
+                && (taskInfo.getOperation() == ResourceOperation.CREATE
+                || taskInfo.getOperation() == ResourceOperation.UPDATE);
+    }
+
+    /**
+     * Whether the given task can be merged into the given queued task.
+     *
+     * @param queued queued task
+     * @param taskInfo newly submitted task
+     * @return whether the given task can be merged into the given queued task
+     */
+    protected boolean isMergeable(final PropagationTaskInfo queued, final PropagationTaskInfo taskInfo) {
+        return taskInfo.getKey() == null
+                && taskInfo.getOperation() == ResourceOperation.UPDATE
+                && taskInfo.getPropagationData() != null
+                && !hasDeltas(taskInfo)
+                && !isRename(taskInfo)
+                && Objects.equals(queued.getEntityKey(), taskInfo.getEntityKey())
+                && Objects.equals(queued.getObjectClass(), taskInfo.getObjectClass());
+    }
+
+    /**
+     * Merges the attributes of the given task into the given queued task: latest values win, attributes only found
+     * in the queued task - as the password, when not changed by the latest update - are preserved.
+     *
+     * @param queued queued task
+     * @param taskInfo newly submitted task
+     * @return whether merge was successful
+     */
+    protected boolean merge(final PropagationTaskInfo queued, final PropagationTaskInfo taskInfo) {
+        Set<Attribute> attrs = queued.getPropagationData().getAttributes();
+        Set<String> latest = taskInfo.getPropagationData().getAttributes().stream().
+                map(Attribute::getName).collect(Collectors.toSet());
+        try {
+            attrs.removeIf(attr -> latest.contains(attr.getName()));
+            attrs.addAll(taskInfo.getPropagationData().getAttributes());
+            return true;
+        } catch (UnsupportedOperationException e) {
+            LOG.debug("Could not merge into {}", queued, e);
+            return false;
+        }
+    }
+
+    /**
+     * Offers a newly submitted asynchronous task: if possible, the task is merged into a queued task for the same
+     * connector object, otherwise it is registered as queued.
+     *
+     * @param taskInfo newly submitted task
+     * @return whether the given task was merged, hence it shall not be executed
+     */
+    public boolean offer(final PropagationTaskInfo taskInfo) {
+        if (!enabled || taskInfo.getConnObjectKey() == null) {
+            return false;
+        }
+
+        Map<String, PropagationTaskInfo> byConnObjectKey =
+                pending.computeIfAbsent(taskInfo.getResource().getKey(), k -> new HashMap<>());
+        synchronized (byConnObjectKey) {
+            PropagationTaskInfo queued = byConnObjectKey.get(taskInfo.getConnObjectKey());
+            if (queued != null && isMergeable(queued, taskInfo) && merge(queued, taskInfo)) {
+                LOG.debug("Propagation task {} merged into queued {}", taskInfo, queued);
+                return true;
+            }
+
+            barrier(byConnObjectKey, taskInfo);
+            if (isMergeTarget(taskInfo)) {
+                byConnObjectKey.put(taskInfo.getConnObjectKey(), taskInfo);
+            }
+        }
+
+        return false;
+    }
+
+    protected void barrier(final Map<String, PropagationTaskInfo> byConnObjectKey, final PropagationTaskInfo taskInfo) {
+        byConnObjectKey.remove(taskInfo.getConnObjectKey());
+        if (taskInfo.getOldConnObjectKey() != null) {
+            byConnObjectKey.remove(taskInfo.getOldConnObjectKey());
+        }
+    }
+
+    /**
+     * Signals that a task is not going to be queued, e.g. because it is going to be executed synchronously: no task
+     * queued before can receive any further merge.
+     *
+     * @param taskInfo propagation task
+     */
+    public void bypass(final PropagationTaskInfo taskInfo) {
+        if (!enabled || taskInfo.getConnObjectKey() == null) {
+            return;
+        }
+
+        Map<String, PropagationTaskInfo> byConnObjectKey = pending.get(taskInfo.getResource().getKey());
+        if (byConnObjectKey != null) {
+            synchronized (byConnObjectKey) {
+                barrier(byConnObjectKey, taskInfo);
+            }
+        }
+    }
+
+    /**
+     * Signals that the given task is leaving the queue, either because its execution is starting or because it was
+     * rejected: no further merge will be accepted.
+     *
+     * @param taskInfo propagation task
+     */
+    public void dequeue(final PropagationTaskInfo taskInfo) {
+        if (!enabled || taskInfo.getConnObjectKey() == null) {
+            return;
+        }
+
+        Map<String, PropagationTaskInfo> byConnObjectKey = pending.get(taskInfo.getResource().getKey());
+        if (byConnObjectKey != null) {
+            synchronized (byConnObjectKey) {
+                byConnObjectKey.remove(taskInfo.getConnObjectKey(), taskInfo);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.syncope.core.provisioning.java.PropagationExecutorProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-resource concurrency limits (bulkheads) for propagation tasks.
+ * Each resource gets its own limit, adapted after each execution according to observed latency and error rate:
+ * the limit grows additively while the resource behaves, and shrinks multiplicatively as soon as it becomes slow or
+ * starts failing. Tasks exceeding the current limit are queued per resource - without holding any permit of the
+ * shared executor - and dispatched as soon as running tasks for the same resource complete.
+ */
+public class ResourceBulkheads {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ResourceBulkheads.class);
+
+    /**
+     * Weight given to the latest execution when updating the error rate moving average.
+     */
+    protected static final double ERROR_RATE_ALPHA = 0.1;
+
+    protected class Bulkhead {
+
+        protected final String resource;
+
+        protected final Deque<Runnable> pending = new ArrayDeque<>();
+
+        protected double limit;
+
+        protected double errorRate;
+
+        protected int inFlight;
+
+        protected Bulkhead(final String resource) {
+            this.resource = resource;
+            this.limit = props.getInitialLimit();
+        }
+
+        protected synchronized boolean acquireOrEnqueue(final Runnable job) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+
+            if (pending.size() >= props.getMaxQueued()) {
+                throw new RejectedExecutionException("Too many pending propagation tasks for " + resource);
+            }
+
+            pending.add(job);
+            return false;
+        }
+
+        protected List<Runnable> release(final long elapsed, final boolean success) {
+            List<Runnable> next = new ArrayList<>();
+
+            synchronized (this) {
+                inFlight--;
+
+                errorRate = errorRate * (1 - ERROR_RATE_ALPHA) + (success ? 0 : ERROR_RATE_ALPHA);
+                if (!success || elapsed > props.getLatencyThreshold() || errorRate > props.getErrorRateThreshold()) {
+                    limit = Math.max(props.getMinLimit(), limit * props.getBackoffRatio());
+                } else {
+                    limit = Math.min(props.getMaxLimit(), limit + 1 / limit);
+                }
+                LOG.debug("Bulkhead for {}: limit={}, inFlight={}, errorRate={}, pending={}",
+                        resource, limit, inFlight, errorRate, pending.size());
+
+                while (inFlight < (int) limit && !pending.isEmpty()) {
+                    inFlight++;
+                    next.add(pending.poll());
+                }
+            }
+
+            return next;
+        }
+
+        protected synchronized int getLimit() {
+            return (int) limit;
+        }
+    }
+
+    protected final PropagationExecutorProperties.BulkheadProperties props;
+
+    protected final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public ResourceBulkheads(final PropagationExecutorProperties.BulkheadProperties props) {
+        this.props = props;
+    }
+
+    /**
+     * Submits the given callable for execution on the given executor, subject to the bulkhead of the given resource.
+     *
+     * @param <T> callable's result type
+     * @param resource resource key
+     * @param callable task to execute
+     * @param success whether the result returned by the callable shall be considered successful
+     * @param executor executor to run the callable on
+     * @return future for the callable's result
+     */
+    public <T> Future<T> submit(
+            final String resource,
+            final Callable<T> callable,
+            final Predicate<T> success,
+            final Executor executor) {
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        if (!props.isEnabled()) {
+            executor.execute(() -> {
+                try {
+                    result.complete(callable.call());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+            return result;
+        }
+
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(resource, Bulkhead::new);
+        Runnable job = new Runnable() {
+
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                boolean ok = false;
+                try {
+                    T value = callable.call();
+                    ok = success.test(value);
+                    result.complete(value);
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    dispatch(bulkhead, bulkhead.release(
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), ok), executor);
+                }
+            }
+        };
+
+        if (bulkhead.acquireOrEnqueue(job)) {
+            try {
+                executor.execute(job);
+            } catch (RuntimeException e) {
+                dispatch(bulkhead, bulkhead.release(0, true), executor);
+                throw e;
+            }
+        } else {
+            LOG.debug("Bulkhead for {} full, propagation task queued", resource);
+        }
+
+        return result;
+    }
+
+    protected void dispatch(final Bulkhead bulkhead, final List<Runnable> jobs, final Executor executor) {
+        jobs.forEach(job -> {
+            try {
+                executor.execute(job);
+            } catch (RuntimeException e) {
+                LOG.error("While dispatching queued propagation task for {}, running in caller thread",
+                        bulkhead.resource, e);
+                job.run();
+            }
+        });
+    }
+
+    /**
+     * Current concurrency limit for the given resource, if any task was ever submitted for it.
+     *
+     * @param resource resource key
+     * @return current concurrency limit, or the configured initial limit
+     */
+    public int getLimit(final String resource) {
+        Bulkhead bulkhead = bulkheads.get(resource);
+        return bulkhead == null ? props.getInitialLimit() : bulkhead.getLimit();
+    }
+}
@@ -24,7 +24,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.Mapping;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
@@ -40,8 +39,11 @@ import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ProvisionSorter;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.provisioning.java.job.AbstractSchedTaskJobDelegate;
 import org.apache.syncope.core.provisioning.java.job.TaskJob;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportAggregator.Kind;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportAggregator.Outcome;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -50,12 +52,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask<T>>
         extends AbstractSchedTaskJobDelegate<T> {
 
-    private static final String USER = "USER";
-
-    private static final String GROUP = "GROUP";
-
-    private static final String LINKED_ACCOUNT = "LINKED_ACCOUNT";
-
     /**
      * ConnInstance loader.
      */
@@ -77,6 +73,9 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
     @Autowired
     protected EntityFactory entityFactory;
 
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
     /**
      * Policy DAO.
      */
@@ -85,6 +84,11 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
 
     protected Optional<ProvisionSorter> perContextProvisionSorter = Optional.empty();
 
+    /**
+     * Aggregates the results of the current execution, as they are produced.
+     */
+    protected ProvisioningReportAggregator reportAggregator;
+
     protected ProvisionSorter getProvisionSorter(final T task) {
         if (task.getResource().getProvisionSorter() != null) {
             try {
@@ -113,23 +117,8 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
     protected String generate(final Collection<ProvisioningReport> results, final TraceLevel level) {
         StringBuilder sb = new StringBuilder();
 
-        results.stream().map(result -> {
-            if (level == TraceLevel.SUMMARY) {
-                // No per entry log in this case.
-                return null;
-            } else if (level == TraceLevel.FAILURES && result.getStatus() == ProvisioningReport.Status.FAILURE) {
-                // only report failures
-                return String.format("Failed %s (key/name): %s/%s with message: %s",
-                        result.getOperation(), result.getKey(), result.getName(), result.getMessage());
-            } else {
-                // All
-                return String.format("%s %s (key/name): %s/%s %s",
-                        result.getOperation(), result.getStatus(), result.getKey(), result.getName(),
-                        StringUtils.isBlank(result.getMessage())
-                        ? StringUtils.EMPTY
-                        : "with message: " + result.getMessage());
-            }
-        }).filter(Objects::nonNull).forEach(report -> sb.append(report).append('\n'));
+        results.stream().map(result -> ProvisioningReportAggregator.line(result, level)).
+                filter(Objects::nonNull).forEach(report -> sb.append(report).append('\n'));
 
         return sb.toString();
     }
@@ -147,6 +136,94 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
             final ExternalResource resource,
             final boolean dryRun) {
 
+        try (ProvisioningReportAggregator aggregator =
+                new ProvisioningReportAggregator(
+                        resource.getProvisioningTraceLevel(),
+                        Integer.MAX_VALUE,
+                        provisioningProperties.getReport().getMaxLines())) {
+
+            aggregator.addAll(provResults);
+            return createReport(aggregator, resource, dryRun);
+        }
+    }
+
+    /**
+     * Moves the given results to the retained ones, as long as the maximum number of report lines is not reached for
+     * their kind of entity and outcome; this keeps bounded the results returned by executions which do not build a
+     * textual report, as stream pull and push.
+     *
+     * @param results results to move, emptied afterwards
+     * @param retained retained results
+     */
+    protected void retain(final List<ProvisioningReport> results, final List<ProvisioningReport> retained) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        List<ProvisioningReport> moved = new ArrayList<>(results);
+        results.subList(0, moved.size()).clear();
+        moved.stream().filter(reportAggregator::retain).forEach(retained::add);
+    }
+
+    protected static StringBuilder summary(
+            final StringBuilder report,
+            final String label,
+            final Kind kind,
+            final ProvisioningReportAggregator aggregator) {
+
+        return report.append(label).
+                append("[created/failures]: ").append(aggregator.count(kind, Outcome.SUCCESS_CREATE)).
+                append('/').append(aggregator.count(kind, Outcome.FAILURE_CREATE)).
+                append(' ').
+                append("[updated/failures]: ").append(aggregator.count(kind, Outcome.SUCCESS_UPDATE)).
+                append('/').append(aggregator.count(kind, Outcome.FAILURE_UPDATE)).
+                append(' ').
+                append("[deleted/failures]: ").append(aggregator.count(kind, Outcome.SUCCESS_DELETE)).
+                append('/').append(aggregator.count(kind, Outcome.FAILURE_DELETE)).
+                append(' ').
+                append("[no operation/ignored]: ").append(aggregator.count(kind, Outcome.SUCCESS_NONE)).
+                append('/').append(aggregator.count(kind, Outcome.IGNORE));
+    }
+
+    protected static void details(
+            final StringBuilder report,
+            final String header,
+            final Kind kind,
+            final Outcome outcome,
+            final ProvisioningReportAggregator aggregator) {
+
+        if (aggregator.count(kind, outcome) > 0) {
+            report.append(header);
+            aggregator.appendLines(kind, outcome, report);
+        }
+    }
+
+    protected static void successes(
+            final StringBuilder report,
+            final String label,
+            final Kind kind,
+            final ProvisioningReportAggregator aggregator) {
+
+        details(report, "\n\n" + label + " created:\n", kind, Outcome.SUCCESS_CREATE, aggregator);
+        details(report, "\n" + label + " updated:\n", kind, Outcome.SUCCESS_UPDATE, aggregator);
+        details(report, "\n" + label + " deleted:\n", kind, Outcome.SUCCESS_DELETE, aggregator);
+        details(report, "\n" + label + " no operation:\n", kind, Outcome.SUCCESS_NONE, aggregator);
+        details(report, "\n" + label + " ignored:\n", kind, Outcome.IGNORE, aggregator);
+    }
+
+    /**
+     * Create a textual report of the provisioning operation, based on the trace level.
+     *
+     * @param aggregator Provisioning results, as aggregated while provisioning
+     * @param resource Provisioning resource
+     * @param dryRun dry run?
+     * @return report as string
+     */
+    protected String createReport(
+            final ProvisioningReportAggregator aggregator,
+            final ExternalResource resource,
+            final boolean dryRun) {
+
         TraceLevel traceLevel = resource.getProvisioningTraceLevel();
         if (traceLevel == TraceLevel.NONE) {
             return null;
@@ -161,249 +238,6 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
             report.append("==> Execution was interrupted <==\n\n");
         }
 
-        List<ProvisioningReport> rSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> rFailCreate = new ArrayList<>();
-        List<ProvisioningReport> rSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> rFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> rSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> rFailDelete = new ArrayList<>();
-        List<ProvisioningReport> rSuccNone = new ArrayList<>();
-        List<ProvisioningReport> rIgnore = new ArrayList<>();
-        List<ProvisioningReport> uSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> uFailCreate = new ArrayList<>();
-        List<ProvisioningReport> uSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> uFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> uSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> uFailDelete = new ArrayList<>();
-        List<ProvisioningReport> uSuccNone = new ArrayList<>();
-        List<ProvisioningReport> uIgnore = new ArrayList<>();
-        List<ProvisioningReport> gSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> gFailCreate = new ArrayList<>();
-        List<ProvisioningReport> gSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> gFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> gSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> gFailDelete = new ArrayList<>();
-        List<ProvisioningReport> gSuccNone = new ArrayList<>();
-        List<ProvisioningReport> gIgnore = new ArrayList<>();
-        List<ProvisioningReport> aSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> aFailCreate = new ArrayList<>();
-        List<ProvisioningReport> aSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> aFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> aSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> aFailDelete = new ArrayList<>();
-        List<ProvisioningReport> aSuccNone = new ArrayList<>();
-        List<ProvisioningReport> aIgnore = new ArrayList<>();
-        List<ProvisioningReport> laSuccCreate = new ArrayList<>();
-        List<ProvisioningReport> laFailCreate = new ArrayList<>();
-        List<ProvisioningReport> laSuccUpdate = new ArrayList<>();
-        List<ProvisioningReport> laFailUpdate = new ArrayList<>();
-        List<ProvisioningReport> laSuccDelete = new ArrayList<>();
-        List<ProvisioningReport> laFailDelete = new ArrayList<>();
-        List<ProvisioningReport> laSuccNone = new ArrayList<>();
-        List<ProvisioningReport> laIgnore = new ArrayList<>();
-
-        for (ProvisioningReport provResult : provResults) {
-            switch (provResult.getStatus()) {
-                case SUCCESS:
-                    switch (provResult.getOperation()) {
-                        case CREATE:
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rSuccCreate.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER:
-                                        uSuccCreate.add(provResult);
-                                        break;
-
-                                    case LINKED_ACCOUNT:
-                                        laSuccCreate.add(provResult);
-                                        break;
-
-                                    case GROUP:
-                                        gSuccCreate.add(provResult);
-                                        break;
-
-                                    default:
-                                        aSuccCreate.add(provResult);
-                                }
-                            }
-                            break;
-
-                        case UPDATE:
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rSuccUpdate.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER:
-                                        uSuccUpdate.add(provResult);
-                                        break;
-
-                                    case LINKED_ACCOUNT:
-                                        laSuccUpdate.add(provResult);
-                                        break;
-
-                                    case GROUP:
-                                        gSuccUpdate.add(provResult);
-                                        break;
-
-                                    default:
-                                        aSuccUpdate.add(provResult);
-                                }
-                            }
-                            break;
-
-                        case DELETE:
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rSuccDelete.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER:
-                                        uSuccDelete.add(provResult);
-                                        break;
-
-                                    case LINKED_ACCOUNT:
-                                        laSuccDelete.add(provResult);
-                                        break;
-
-                                    case GROUP:
-                                        gSuccDelete.add(provResult);
-                                        break;
-
-                                    default:
-                                        aSuccDelete.add(provResult);
-                                }
-                            }
-                            break;
-
-                        case NONE:
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rSuccNone.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER:
-                                        uSuccNone.add(provResult);
-                                        break;
-
-                                    case LINKED_ACCOUNT:
-                                        laSuccNone.add(provResult);
-                                        break;
-
-                                    case GROUP:
-                                        gSuccNone.add(provResult);
-                                        break;
-
-                                    default:
-                                        aSuccNone.add(provResult);
-                                }
-                            }
-                            break;
-
-                        default:
-                    }
-                    break;
-
-                case FAILURE:
-                    switch (provResult.getOperation()) {
-                        case CREATE:
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rFailCreate.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER:
-                                        uFailCreate.add(provResult);
-                                        break;
-
-                                    case LINKED_ACCOUNT:
-                                        laFailCreate.add(provResult);
-                                        break;
-
-                                    case GROUP:
-                                        gFailCreate.add(provResult);
-                                        break;
-
-                                    default:
-                                        aFailCreate.add(provResult);
-                                }
-                            }
-                            break;
-
-                        case UPDATE:
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rFailUpdate.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER:
-                                        uFailUpdate.add(provResult);
-                                        break;
-
-                                    case LINKED_ACCOUNT:
-                                        laFailUpdate.add(provResult);
-                                        break;
-
-                                    case GROUP:
-                                        gFailUpdate.add(provResult);
-                                        break;
-
-                                    default:
-                                        aFailUpdate.add(provResult);
-                                }
-                            }
-                            break;
-
-                        case DELETE:
-                            if (StringUtils.isBlank(provResult.getAnyType())) {
-                                rFailDelete.add(provResult);
-                            } else {
-                                switch (provResult.getAnyType()) {
-                                    case USER:
-                                        uFailDelete.add(provResult);
-                                        break;
-
-                                    case LINKED_ACCOUNT:
-                                        laFailDelete.add(provResult);
-                                        break;
-
-                                    case GROUP:
-                                        gFailDelete.add(provResult);
-                                        break;
-
-                                    default:
-                                        aFailDelete.add(provResult);
-                                }
-                            }
-                            break;
-
-                        default:
-                    }
-                    break;
-
-                case IGNORE:
-                    if (StringUtils.isBlank(provResult.getAnyType())) {
-                        rIgnore.add(provResult);
-                    } else {
-                        switch (provResult.getAnyType()) {
-                            case USER:
-                                uIgnore.add(provResult);
-                                break;
-
-                            case LINKED_ACCOUNT:
-                                laIgnore.add(provResult);
-                                break;
-
-                            case GROUP:
-                                gIgnore.add(provResult);
-                                break;
-
-                            default:
-                                aIgnore.add(provResult);
-                        }
-                    }
-                    break;
-
-                default:
-            }
-        }
-
         // Summary, also to be included for FAILURE and ALL, so create it anyway.
         boolean includeUser = resource.getProvisionByAnyType(AnyTypeKind.USER.name()).isPresent();
         boolean includeGroup = resource.getProvisionByAnyType(AnyTypeKind.GROUP.name()).isPresent();
@@ -413,242 +247,70 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
         boolean includeRealm = resource.getOrgUnit() != null;
 
         if (includeUser) {
-            report.append("Users ").
-                    append("[created/failures]: ").append(uSuccCreate.size()).append('/').append(uFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(uSuccUpdate.size()).append('/').append(uFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(uSuccDelete.size()).append('/').append(uFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(uSuccNone.size()).append('/').append(uIgnore.size()).
-                    append('\n');
-
-            report.append("Accounts ").
-                    append("[created/failures]: ").append(laSuccCreate.size()).append('/').append(laFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(laSuccUpdate.size()).append('/').append(laFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(laSuccDelete.size()).append('/').append(laFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(laSuccNone.size()).append('/').append(laIgnore.size()).
-                    append('\n');
+            summary(report, "Users ", Kind.USER, aggregator).append('\n');
+            summary(report, "Accounts ", Kind.LINKED_ACCOUNT, aggregator).append('\n');
         }
         if (includeGroup) {
-            report.append("Groups ").
-                    append("[created/failures]: ").append(gSuccCreate.size()).append('/').append(gFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(gSuccUpdate.size()).append('/').append(gFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(gSuccDelete.size()).append('/').append(gFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(gSuccNone.size()).append('/').append(gIgnore.size()).
-                    append('\n');
+            summary(report, "Groups ", Kind.GROUP, aggregator).append('\n');
         }
         if (includeAnyObject) {
-            report.append("Any objects ").
-                    append("[created/failures]: ").append(aSuccCreate.size()).append('/').append(aFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(aSuccUpdate.size()).append('/').append(aFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(aSuccDelete.size()).append('/').append(aFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(aSuccNone.size()).append('/').append(aIgnore.size());
+            summary(report, "Any objects ", Kind.ANY_OBJECT, aggregator);
         }
         if (includeRealm) {
-            report.append("Realms ").
-                    append("[created/failures]: ").append(rSuccCreate.size()).append('/').append(rFailCreate.size()).
-                    append(' ').
-                    append("[updated/failures]: ").append(rSuccUpdate.size()).append('/').append(rFailUpdate.size()).
-                    append(' ').
-                    append("[deleted/failures]: ").append(rSuccDelete.size()).append('/').append(rFailDelete.size()).
-                    append(' ').
-                    append("[no operation/ignored]: ").append(rSuccNone.size()).append('/').append(rIgnore.size());
+            summary(report, "Realms ", Kind.REALM, aggregator);
         }
 
         // Failures
         if (traceLevel == TraceLevel.FAILURES || traceLevel == TraceLevel.ALL) {
             if (includeUser) {
-                if (!uFailCreate.isEmpty()) {
-                    report.append("\n\nUsers failed to create: ");
-                    report.append(generate(uFailCreate, traceLevel));
-                }
-                if (!uFailUpdate.isEmpty()) {
-                    report.append("\nUsers failed to update: ");
-                    report.append(generate(uFailUpdate, traceLevel));
-                }
-                if (!uFailDelete.isEmpty()) {
-                    report.append("\nUsers failed to delete: ");
-                    report.append(generate(uFailDelete, traceLevel));
-                }
-
-                if (!laFailCreate.isEmpty()) {
-                    report.append("\n\nAccounts failed to create: ");
-                    report.append(generate(laFailCreate, traceLevel));
-                }
-                if (!laFailUpdate.isEmpty()) {
-                    report.append("\nAccounts failed to update: ");
-                    report.append(generate(laFailUpdate, traceLevel));
-                }
-                if (!laFailDelete.isEmpty()) {
-                    report.append("\nAccounts failed to delete: ");
-                    report.append(generate(laFailDelete, traceLevel));
-                }
+                details(report, "\n\nUsers failed to create: ", Kind.USER, Outcome.FAILURE_CREATE, aggregator);
+                details(report, "\nUsers failed to update: ", Kind.USER, Outcome.FAILURE_UPDATE, aggregator);
+                details(report, "\nUsers failed to delete: ", Kind.USER, Outcome.FAILURE_DELETE, aggregator);
+
+                details(report, "\n\nAccounts failed to create: ",
+                        Kind.LINKED_ACCOUNT, Outcome.FAILURE_CREATE, aggregator);
+                details(report, "\nAccounts failed to update: ",
+                        Kind.LINKED_ACCOUNT, Outcome.FAILURE_UPDATE, aggregator);
+                details(report, "\nAccounts failed to delete: ",
+                        Kind.LINKED_ACCOUNT, Outcome.FAILURE_DELETE, aggregator);
             }
 
             if (includeGroup) {
-                if (!gFailCreate.isEmpty()) {
-                    report.append("\n\nGroups failed to create: ");
-                    report.append(generate(gFailCreate, traceLevel));
-                }
-                if (!gFailUpdate.isEmpty()) {
-                    report.append("\nGroups failed to update: ");
-                    report.append(generate(gFailUpdate, traceLevel));
-                }
-                if (!gFailDelete.isEmpty()) {
-                    report.append("\nGroups failed to delete: ");
-                    report.append(generate(gFailDelete, traceLevel));
-                }
+                details(report, "\n\nGroups failed to create: ", Kind.GROUP, Outcome.FAILURE_CREATE, aggregator);
+                details(report, "\nGroups failed to update: ", Kind.GROUP, Outcome.FAILURE_UPDATE, aggregator);
+                details(report, "\nGroups failed to delete: ", Kind.GROUP, Outcome.FAILURE_DELETE, aggregator);
             }
 
-            if (includeAnyObject && !aFailCreate.isEmpty()) {
-                report.append("\nAny objects failed to create: ");
-                report.append(generate(aFailCreate, traceLevel));
-            }
-            if (includeAnyObject && !aFailUpdate.isEmpty()) {
-                report.append("\nAny objects failed to update: ");
-                report.append(generate(aFailUpdate, traceLevel));
-            }
-            if (includeAnyObject && !aFailDelete.isEmpty()) {
-                report.append("\nAny objects failed to delete: ");
-                report.append(generate(aFailDelete, traceLevel));
+            if (includeAnyObject) {
+                details(report, "\nAny objects failed to create: ",
+                        Kind.ANY_OBJECT, Outcome.FAILURE_CREATE, aggregator);
+                details(report, "\nAny objects failed to update: ",
+                        Kind.ANY_OBJECT, Outcome.FAILURE_UPDATE, aggregator);
+                details(report, "\nAny objects failed to delete: ",
+                        Kind.ANY_OBJECT, Outcome.FAILURE_DELETE, aggregator);
             }
 
             if (includeRealm) {
-                if (!rFailCreate.isEmpty()) {
-                    report.append("\nRealms failed to create: ");
-                    report.append(generate(rFailCreate, traceLevel));
-                }
-                if (!rFailUpdate.isEmpty()) {
-                    report.append("\nRealms failed to update: ");
-                    report.append(generate(rFailUpdate, traceLevel));
-                }
-                if (!rFailDelete.isEmpty()) {
-                    report.append("\nRealms failed to delete: ");
-                    report.append(generate(rFailDelete, traceLevel));
-                }
+                details(report, "\nRealms failed to create: ", Kind.REALM, Outcome.FAILURE_CREATE, aggregator);
+                details(report, "\nRealms failed to update: ", Kind.REALM, Outcome.FAILURE_UPDATE, aggregator);
+                details(report, "\nRealms failed to delete: ", Kind.REALM, Outcome.FAILURE_DELETE, aggregator);
             }
         }
 
         // Succeeded, only if on 'ALL' level
         if (traceLevel == TraceLevel.ALL) {
             if (includeUser) {
-                if (!uSuccCreate.isEmpty()) {
-                    report.append("\n\nUsers created:\n").
-                            append(generate(uSuccCreate, traceLevel));
-                }
-                if (!uSuccUpdate.isEmpty()) {
-                    report.append("\nUsers updated:\n").
-                            append(generate(uSuccUpdate, traceLevel));
-                }
-                if (!uSuccDelete.isEmpty()) {
-                    report.append("\nUsers deleted:\n").
-                            append(generate(uSuccDelete, traceLevel));
-                }
-                if (!uSuccNone.isEmpty()) {
-                    report.append("\nUsers no operation:\n").
-                            append(generate(uSuccNone, traceLevel));
-                }
-                if (!uIgnore.isEmpty()) {
-                    report.append("\nUsers ignored:\n").
-                            append(generate(uIgnore, traceLevel));
-                }
-
-                if (!laSuccCreate.isEmpty()) {
-                    report.append("\n\nAccounts created:\n").
-                            append(generate(laSuccCreate, traceLevel));
-                }
-                if (!laSuccUpdate.isEmpty()) {
-                    report.append("\nAccounts updated:\n").
-                            append(generate(laSuccUpdate, traceLevel));
-                }
-                if (!laSuccDelete.isEmpty()) {
-                    report.append("\nAccounts deleted:\n").
-                            append(generate(laSuccDelete, traceLevel));
-                }
-                if (!laSuccNone.isEmpty()) {
-                    report.append("\nAccounts no operation:\n").
-                            append(generate(laSuccNone, traceLevel));
-                }
-                if (!laIgnore.isEmpty()) {
-                    report.append("\nAccounts ignored:\n").
-                            append(generate(laIgnore, traceLevel));
-                }
+                successes(report, "Users", Kind.USER, aggregator);
+                successes(report, "Accounts", Kind.LINKED_ACCOUNT, aggregator);
             }
             if (includeGroup) {
-                if (!gSuccCreate.isEmpty()) {
-                    report.append("\n\nGroups created:\n").
-                            append(generate(gSuccCreate, traceLevel));
-                }
-                if (!gSuccUpdate.isEmpty()) {
-                    report.append("\nGroups updated:\n").
-                            append(generate(gSuccUpdate, traceLevel));
-                }
-                if (!gSuccDelete.isEmpty()) {
-                    report.append("\nGroups deleted:\n").
-                            append(generate(gSuccDelete, traceLevel));
-                }
-                if (!gSuccNone.isEmpty()) {
-                    report.append("\nGroups no operation:\n").
-                            append(generate(gSuccNone, traceLevel));
-                }
-                if (!gIgnore.isEmpty()) {
-                    report.append("\nGroups ignored:\n").
-                            append(generate(gIgnore, traceLevel));
-                }
+                successes(report, "Groups", Kind.GROUP, aggregator);
             }
             if (includeAnyObject) {
-                if (!aSuccCreate.isEmpty()) {
-                    report.append("\n\nAny objects created:\n").
-                            append(generate(aSuccCreate, traceLevel));
-                }
-                if (!aSuccUpdate.isEmpty()) {
-                    report.append("\nAny objects updated:\n").
-                            append(generate(aSuccUpdate, traceLevel));
-                }
-                if (!aSuccDelete.isEmpty()) {
-                    report.append("\nAny objects deleted:\n").
-                            append(generate(aSuccDelete, traceLevel));
-                }
-                if (!aSuccNone.isEmpty()) {
-                    report.append("\nAny objects no operation:\n").
-                            append(generate(aSuccNone, traceLevel));
-                }
-                if (!aIgnore.isEmpty()) {
-                    report.append("\nAny objects ignored:\n").
-                            append(generate(aIgnore, traceLevel));
-                }
+                successes(report, "Any objects", Kind.ANY_OBJECT, aggregator);
             }
             if (includeRealm) {
-                if (!rSuccCreate.isEmpty()) {
-                    report.append("\n\nRealms created:\n").
-                            append(generate(rSuccCreate, traceLevel));
-                }
-                if (!rSuccUpdate.isEmpty()) {
-                    report.append("\nRealms updated:\n").
-                            append(generate(rSuccUpdate, traceLevel));
-                }
-                if (!rSuccDelete.isEmpty()) {
-                    report.append("\nRealms deleted:\n").
-                            append(generate(rSuccDelete, traceLevel));
-                }
-                if (!rSuccNone.isEmpty()) {
-                    report.append("\nRealms no operation:\n").
-                            append(generate(rSuccNone, traceLevel));
-                }
-                if (!rIgnore.isEmpty()) {
-                    report.append("\nRealms ignored:\n").
-                            append(generate(rIgnore, traceLevel));
-                }
+                successes(report, "Realms", Kind.REALM, aggregator);
             }
         }
 
@@ -699,10 +361,18 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
                 return "No provisions nor orgUnit available: aborting...";
             }
 
+            reportAggregator = new ProvisioningReportAggregator(
+                    provisioningTask.getResource().getProvisioningTraceLevel(),
+                    provisioningProperties.getReport().getMaxInMemory(),
+                    provisioningProperties.getReport().getMaxLines());
+
             return doExecuteProvisioning(provisioningTask, connector, dryRun, executor, context);
         } catch (Throwable t) {
             LOG.error("While executing provisioning job {}", getClass().getName(), t);
             throw t;
+        } finally {
+            Optional.ofNullable(reportAggregator).ifPresent(ProvisioningReportAggregator::close);
+            reportAggregator = null;
         }
     }
 
@@ -19,8 +19,12 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -43,12 +47,15 @@ import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.PullFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Remediation;
+import org.apache.syncope.core.persistence.api.entity.task.PullFingerprint;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
@@ -62,10 +69,12 @@ import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionExceptio
 import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.api.rules.PullMatch;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Propagation;
@@ -114,6 +123,31 @@ public abstract class AbstractPullResultHandler
     @Autowired
     protected EntityFactory entityFactory;
 
+    @Autowired
+    protected PullFingerprintDAO pullFingerprintDAO;
+
+    /**
+     * Matches found for the deltas being handled via {@link #handle(List)}, by connector object key value.
+     */
+    protected Map<String, List<PullMatch>> prefetchedMatches = Map.of();
+
+    /**
+     * Stored fingerprints for the deltas being handled via {@link #handle(List)}, by UID value; null values mean
+     * that no fingerprint is stored.
+     */
+    protected Map<String, PullFingerprint> prefetchedFingerprints = Map.of();
+
+    /**
+     * Last change dates of the entities matched by {@link #prefetchedFingerprints}, by entity key; null values mean
+     * that the entity was not found.
+     */
+    protected Map<String, OffsetDateTime> prefetchedLastChanges = Map.of();
+
+    /**
+     * Fingerprint contexts, by object class.
+     */
+    protected final Map<String, String> fingerprintContexts = new ConcurrentHashMap<>();
+
     protected abstract String getName(AnyTO anyTO);
 
     protected abstract String getName(AnyCR anyCR);
@@ -165,6 +199,140 @@ public abstract class AbstractPullResultHandler
         }
     }
 
+    /**
+     * Handles the given deltas one after the other, as by {@link #handle(SyncDelta)}; fingerprints and matching
+     * internal entities are looked up for all deltas at once, where possible.
+     * Changes to users, groups and any objects are still committed on their own by the provisioning managers, each
+     * within its own transaction: only fingerprints and changes made by pull actions are written within the
+     * transaction of the batch.
+     *
+     * @param deltas deltas to handle
+     * @return number of deltas successfully handled
+     */
+    @Transactional(rollbackFor = Throwable.class, propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public int handle(final List<SyncDelta> deltas) {
+        if (deltas.size() > 1) {
+            profile.getTask().getResource().
+                    getProvisionByObjectClass(deltas.get(0).getObject().getObjectClass().getObjectClassValue()).
+                    ifPresent(provision -> {
+                        List<SyncDelta> changed = deltas;
+                        if (isFingerprinting(provision)) {
+                            prefetchedFingerprints = new HashMap<>();
+                            deltas.forEach(delta -> prefetchedFingerprints.put(delta.getUid().getUidValue(), null));
+                            prefetchedFingerprints.putAll(pullFingerprintDAO.find(
+                                    profile.getTask().getResource().getKey(),
+                                    provision.getObjectClass(),
+                                    prefetchedFingerprints.keySet()));
+
+                            prefetchedLastChanges = new HashMap<>();
+                            prefetchedFingerprints.values().stream().
+                                    filter(fp -> fp != null && fp.getAnyKey() != null).
+                                    forEach(fp -> prefetchedLastChanges.put(fp.getAnyKey(), null));
+                            prefetchedLastChanges.putAll(
+                                    getAnyUtils().dao().findLastChange(prefetchedLastChanges.keySet()));
+
+                            // no need to look for matches of unchanged connector objects
+                            changed = deltas.stream().
+                                    filter(delta -> delta.getDeltaType() == SyncDeltaType.DELETE
+                                    || !isUnchanged(
+                                            provision, delta.getUid().getUidValue(), fingerprint(provision, delta))).
+                                    collect(Collectors.toList());
+                        }
+
+                        prefetchedMatches = inboundMatcher.match(
+                                changed,
+                                profile.getTask().getResource(),
+                                provision,
+                                anyTypeDAO.find(provision.getAnyType()).getKind());
+                    });
+        }
+
+        try {
+            return SyncopePullResultHandler.super.handle(deltas);
+        } finally {
+            prefetchedMatches = Map.of();
+            prefetchedFingerprints = Map.of();
+            prefetchedLastChanges = Map.of();
+        }
+    }
+
+    /**
+     * Whether unchanged connector objects can be skipped, according to their fingerprints: this happens only during
+     * reconciliation, for provisions where fingerprinting is enabled.
+     *
+     * @param provision provision
+     * @return whether fingerprints are to be checked
+     */
+    protected boolean isFingerprinting(final Provision provision) {
+        return provision.isFingerprinting() && profile.getTask().getPullMode() != PullMode.INCREMENTAL;
+    }
+
+    /**
+     * Anything affecting how connector objects are handled - besides their own attributes - is part of their
+     * fingerprint, so that connector objects are not considered unchanged once mapping or pull task are modified.
+     *
+     * @param provision provision
+     * @return fingerprint context
+     */
+    protected String fingerprintContext(final Provision provision) {
+        return fingerprintContexts.computeIfAbsent(provision.getObjectClass(), oc -> {
+            PullTask task = profile.getTask();
+            return String.join("|",
+                    POJOHelper.serialize(provision.getMapping()),
+                    task.getKey(),
+                    String.valueOf(task.getMatchingRule()),
+                    String.valueOf(task.getUnmatchingRule()),
+                    String.valueOf(task.isPerformCreate()),
+                    String.valueOf(task.isPerformUpdate()),
+                    String.valueOf(task.isPerformDelete()),
+                    String.valueOf(task.isSyncStatus()),
+                    task.getDestinationRealm().getFullPath(),
+                    task.getActions().stream().map(Implementation::getKey).collect(Collectors.joining(",")),
+                    task.getTemplate(provision.getAnyType()).
+                            map(template -> POJOHelper.serialize(template.get())).orElse(StringUtils.EMPTY));
+        });
+    }
+
+    protected String fingerprint(final Provision provision, final SyncDelta delta) {
+        return ConnObjectUtils.fingerprint(fingerprintContext(provision), delta.getObject());
+    }
+
+    protected PullFingerprint findFingerprint(final Provision provision, final String uid) {
+        return prefetchedFingerprints.containsKey(uid)
+                ? prefetchedFingerprints.get(uid)
+                : pullFingerprintDAO.find(
+                        profile.getTask().getResource().getKey(), provision.getObjectClass(), List.of(uid)).get(uid);
+    }
+
+    protected OffsetDateTime findLastChange(final String anyKey) {
+        return prefetchedLastChanges.containsKey(anyKey)
+                ? prefetchedLastChanges.get(anyKey)
+                : getAnyUtils().dao().findLastChange(anyKey);
+    }
+
+    /**
+     * Whether the given connector object can be skipped as unchanged: this requires its stored fingerprint to match
+     * and the entity it was matched to to be still existing, with no changes after the fingerprint was saved; the
+     * latter condition makes sure that drifts introduced on Syncope side (deletion, update, unlink) are repaired.
+     *
+     * @param provision provision
+     * @param uid connector object's UID value
+     * @param fingerprint connector object's current fingerprint
+     * @return whether the given connector object can be skipped
+     */
+    protected boolean isUnchanged(final Provision provision, final String uid, final String fingerprint) {
+        PullFingerprint stored = findFingerprint(provision, uid);
+        if (stored == null || stored.getAnyKey() == null || stored.getHandleDate() == null
+                || !fingerprint.equals(stored.getFingerprint())) {
+
+            return false;
+        }
+
+        OffsetDateTime lastChange = findLastChange(stored.getAnyKey());
+        return lastChange != null && !lastChange.isAfter(stored.getHandleDate());
+    }
+
     protected void throwIgnoreProvisionException(final SyncDelta delta, final Exception exception)
             throws JobExecutionException {
 
@@ -852,6 +1020,33 @@ public abstract class AbstractPullResultHandler
         LOG.debug("Process {} for {} as {}",
                 delta.getDeltaType(), delta.getUid().getUidValue(), delta.getObject().getObjectClass());
 
+        String uid = delta.getUid().getUidValue();
+        String fingerprint = null;
+        if (provision.isFingerprinting() && delta.getDeltaType() == SyncDeltaType.DELETE) {
+            // deleted connector objects might be created again later, with same UID and attributes
+            if (!profile.isDryRun()) {
+                pullFingerprintDAO.delete(profile.getTask().getResource().getKey(), provision.getObjectClass(), uid);
+            }
+        } else if (isFingerprinting(provision)) {
+            fingerprint = fingerprint(provision, delta);
+            if (isUnchanged(provision, uid, fingerprint)) {
+                LOG.debug("{} unchanged since latest reconciliation, skipping", uid);
+
+                ProvisioningReport unchanged = new ProvisioningReport();
+                unchanged.setOperation(ResourceOperation.NONE);
+                unchanged.setAnyType(provision.getAnyType());
+                unchanged.setStatus(ProvisioningReport.Status.IGNORE);
+                unchanged.setMessage("Unchanged since latest reconciliation");
+                unchanged.setUidValue(uid);
+                unchanged.setName(delta.getObject().getName().getNameValue());
+                profile.getResults().add(unchanged);
+
+                return Result.SUCCESS;
+            }
+        }
+
+        int results = profile.getResults().size();
+
         SyncDelta finalDelta = delta;
         for (PullActions action : profile.getActions()) {
             finalDelta = action.preprocess(profile, finalDelta);
@@ -866,7 +1061,8 @@ public abstract class AbstractPullResultHandler
                     finalDelta,
                     profile.getTask().getResource(),
                     provision,
-                    anyTypeKind);
+                    anyTypeKind,
+                    prefetchedMatches);
             LOG.debug("Match(es) found for {} as {}: {}",
                     finalDelta.getUid().getUidValue(), finalDelta.getObject().getObjectClass(), matches);
 
@@ -906,6 +1102,24 @@ public abstract class AbstractPullResultHandler
                             collect(Collectors.toList()), provision);
 
             result = and(anys, linkedAccounts);
+
+            // fingerprint is stored only if the connector object was successfully handled, matching a single entity
+            if (fingerprint != null && !profile.isDryRun() && result == Result.SUCCESS) {
+                List<ProvisioningReport> reports = profile.getResults().subList(results, profile.getResults().size()).
+                        stream().filter(report -> uid.equals(report.getUidValue())).collect(Collectors.toList());
+                Set<String> anyKeys = reports.stream().map(ProvisioningReport::getKey).
+                        filter(Objects::nonNull).collect(Collectors.toSet());
+                if (anyKeys.size() == 1 && reports.stream().
+                        noneMatch(report -> report.getStatus() == ProvisioningReport.Status.FAILURE)) {
+
+                    pullFingerprintDAO.save(
+                            profile.getTask().getResource().getKey(),
+                            provision.getObjectClass(),
+                            uid,
+                            fingerprint,
+                            anyKeys.iterator().next());
+                }
+            }
         } catch (IllegalStateException | IllegalArgumentException e) {
             LOG.warn(e.getMessage());
         }
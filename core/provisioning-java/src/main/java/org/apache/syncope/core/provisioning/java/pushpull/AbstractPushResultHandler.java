@@ -18,14 +18,19 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.syncope.common.lib.request.AnyUR;
@@ -40,8 +45,11 @@ import org.apache.syncope.common.lib.types.MatchingRule;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.GroupableRelatable;
+import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.AuditManager;
@@ -54,6 +62,8 @@ import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionException;
 import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.provisioning.java.job.AfterHandlingJob;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -67,6 +77,66 @@ import org.springframework.transaction.annotation.Transactional;
 public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHandler<PushTask, PushActions>
         implements SyncopePushResultHandler {
 
+    private static String lastChange(final Any<?> any) {
+        return any.getKey() + '@' + Optional.ofNullable(any.getLastChangeDate()).orElseGet(any::getCreationDate);
+    }
+
+    /**
+     * Computes a fingerprint of the given entity, which changes whenever the entity, the groups it is statically member
+     * of or the any objects it is related to are modified, or any of the task and mapping settings affecting how it is
+     * pushed; the task key is not included, since fingerprints are stored by External Resource and entity, hence
+     * shared by all push tasks for the same External Resource.
+     * Since dynamic memberships, derived and virtual attribute values as well as changes performed on the External
+     * Resource are not covered, the fingerprint also changes at every given interval, so that all entities are pushed
+     * again.
+     *
+     * @param task push task
+     * @param provision provision for the given entity
+     * @param any user, group or any object
+     * @param fullInterval interval, in milliseconds, after which all entities are pushed again; not if 0 or less
+     * @return fingerprint, as hex-encoded SHA-256 digest
+     */
+    public static String fingerprint(
+            final PushTask task,
+            final Provision provision,
+            final Any<?> any,
+            final long fullInterval) {
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        List<String> related = new ArrayList<>();
+        if (any instanceof GroupableRelatable) {
+            GroupableRelatable<?, ?, ?, ?, ?> groupable = GroupableRelatable.class.cast(any);
+            groupable.getMemberships().forEach(m -> related.add(lastChange(m.getRightEnd())));
+            groupable.getRelationships().forEach(r -> related.add(
+                    r.getType().getKey() + ':' + lastChange(r.getRightEnd())));
+        }
+
+        Stream.of(
+                String.valueOf(task.getMatchingRule()),
+                String.valueOf(task.getUnmatchingRule()),
+                String.valueOf(task.isPerformCreate()),
+                String.valueOf(task.isPerformUpdate()),
+                String.valueOf(task.isPerformDelete()),
+                String.valueOf(task.isSyncStatus()),
+                task.getActions().stream().map(Implementation::getKey).collect(Collectors.joining(",")),
+                POJOHelper.serialize(provision.getMapping()),
+                lastChange(any),
+                related.stream().sorted().collect(Collectors.joining(",")),
+                String.valueOf(fullInterval > 0 ? System.currentTimeMillis() / fullInterval : 0)).
+                forEach(value -> {
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                });
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     @Autowired
     protected OutboundMatcher outboundMatcher;
 
@@ -85,9 +155,15 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
     @Autowired
     protected MappingManager mappingManager;
 
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
     @Autowired
     protected SchedulerFactoryBean scheduler;
 
+    @Autowired
+    protected PushFingerprintDAO pushFingerprintDAO;
+
     protected abstract String getName(Any<?> any);
 
     protected void update(
@@ -205,9 +281,29 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         provision(any, enabled, result);
     }
 
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public Optional<List<ConnectorObject>> match(final String anyKey) {
+        try {
+            Any<?> any = getAnyUtils().dao().authFind(anyKey);
+            return profile.getTask().getResource().getProvisionByAnyType(any.getType().getKey()).
+                    map(provision -> match(any, provision));
+        } catch (Exception e) {
+            // matching will be attempted again while handling, where any error is reported
+            LOG.debug("Could not match {} ahead of handling", anyKey, e);
+            return Optional.empty();
+        }
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final String anyKey) {
+        return handle(anyKey, Optional.empty());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public boolean handle(final String anyKey, final Optional<List<ConnectorObject>> matches) {
         Any<?> any = null;
         try {
             any = getAnyUtils().dao().authFind(anyKey);
@@ -219,7 +315,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                         + any.getType().getKey());
             }
 
-            doHandle(any, provision);
+            doHandle(any, provision, matches);
             return true;
         } catch (IgnoreProvisionException e) {
             ProvisioningReport ignoreResult = profile.getResults().stream().
@@ -246,7 +342,22 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         }
     }
 
-    protected void doHandle(final Any<?> any, final Provision provision) throws JobExecutionException {
+    protected List<ConnectorObject> match(final Any<?> any, final Provision provision) {
+        Set<String> moreAttrsToGet = new HashSet<>();
+        profile.getActions().forEach(action -> moreAttrsToGet.addAll(action.moreAttrsToGet(profile, any)));
+        return outboundMatcher.match(
+                profile.getConnector(),
+                any,
+                profile.getTask().getResource(),
+                provision,
+                Optional.of(moreAttrsToGet.toArray(String[]::new)));
+    }
+
+    protected void doHandle(
+            final Any<?> any,
+            final Provision provision,
+            final Optional<List<ConnectorObject>> matches) throws JobExecutionException {
+
         ProvisioningReport result = new ProvisioningReport();
         profile.getResults().add(result);
 
@@ -257,15 +368,13 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         LOG.debug("Pushing {} with key {} towards {}",
                 any.getType().getKind(), any.getKey(), profile.getTask().getResource());
 
-        // Try to read remote object BEFORE any actual operation
-        Set<String> moreAttrsToGet = new HashSet<>();
-        profile.getActions().forEach(action -> moreAttrsToGet.addAll(action.moreAttrsToGet(profile, any)));
-        List<ConnectorObject> connObjs = outboundMatcher.match(
-                profile.getConnector(),
-                any,
-                profile.getTask().getResource(),
-                provision,
-                Optional.of(moreAttrsToGet.toArray(String[]::new)));
+        // as loaded, before any change possibly performed by push itself
+        String fingerprint = profile.getTask().isIncremental()
+                ? fingerprint(profile.getTask(), provision, any, provisioningProperties.getPush().getFullInterval())
+                : null;
+
+        // Try to read remote object BEFORE any actual operation, unless already done
+        List<ConnectorObject> connObjs = matches.orElseGet(() -> match(any, provision));
         LOG.debug("Match(es) found for {} as {}: {}", any, provision.getObjectClass(), connObjs);
 
         if (connObjs.size() > 1) {
@@ -456,14 +565,13 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                     result.setStatus(ProvisioningReport.Status.SUCCESS);
                 }
 
+                if (fingerprint != null && result.getStatus() == ProvisioningReport.Status.SUCCESS) {
+                    pushFingerprintDAO.save(profile.getTask().getResource().getKey(), any.getKey(), fingerprint);
+                }
+
                 if (notificationsAvailable || auditRequested) {
                     resultStatus = AuditElements.Result.SUCCESS;
-                    output = outboundMatcher.match(
-                            profile.getConnector(),
-                            any,
-                            profile.getTask().getResource(),
-                            provision,
-                            Optional.of(moreAttrsToGet.toArray(String[]::new)));
+                    output = match(any, provision);
                 }
             } catch (IgnoreProvisionException e) {
                 throw e;
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,7 +50,7 @@ public class DefaultGroupPullResultHandler extends AbstractPullResultHandler imp
     @Autowired
     private GroupProvisioningManager groupProvisioningManager;
 
-    private final Map<String, String> groupOwnerMap = new HashMap<>();
+    private final Map<String, String> groupOwnerMap = Collections.synchronizedMap(new HashMap<>());
 
     @Override
     public Map<String, String> getGroupOwnerMap() {
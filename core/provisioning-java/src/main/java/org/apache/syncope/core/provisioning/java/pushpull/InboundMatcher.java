@@ -20,11 +20,16 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -36,6 +41,7 @@ import org.apache.syncope.common.lib.types.MatchType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
@@ -57,6 +63,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.policy.PullCorrelationRuleEntity;
+import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
@@ -221,13 +228,7 @@ public class InboundMatcher {
                 collect(Collectors.toList());
     }
 
-    public List<PullMatch> matchByConnObjectKeyValue(
-            final Item connObjectKeyItem,
-            final String connObjectKeyValue,
-            final AnyTypeKind anyTypeKind,
-            final boolean ignoreCaseMatch,
-            final ExternalResource resource) {
-
+    protected String beforePull(final Item connObjectKeyItem, final String connObjectKeyValue) {
         String finalConnObjectKeyValue = connObjectKeyValue;
         for (ItemTransformer transformer
                 : MappingUtils.getItemTransformers(connObjectKeyItem, getTransformers(connObjectKeyItem))) {
@@ -240,6 +241,17 @@ public class InboundMatcher {
                 finalConnObjectKeyValue = output.get(0).toString();
             }
         }
+        return finalConnObjectKeyValue;
+    }
+
+    public List<PullMatch> matchByConnObjectKeyValue(
+            final Item connObjectKeyItem,
+            final String connObjectKeyValue,
+            final AnyTypeKind anyTypeKind,
+            final boolean ignoreCaseMatch,
+            final ExternalResource resource) {
+
+        String finalConnObjectKeyValue = beforePull(connObjectKeyItem, connObjectKeyValue);
 
         List<PullMatch> noMatchResult = List.of(PullCorrelationRule.NO_MATCH);
 
@@ -339,6 +351,111 @@ public class InboundMatcher {
         return result.isEmpty() ? noMatchResult : result;
     }
 
+    protected static void inChunks(final List<String> values, final Consumer<List<String>> consumer) {
+        for (int i = 0; i < values.size(); i += DAO.KEYS_CHUNK_SIZE) {
+            consumer.accept(values.subList(i, Math.min(i + DAO.KEYS_CHUNK_SIZE, values.size())));
+        }
+    }
+
+    /**
+     * Finds internal entities matching the given connector object key values via set-based queries, where supported
+     * by the given mapping item, instead of running one or more queries for each value.
+     * Values which cannot be reliably matched this way are not included in the returned map, and are left to
+     * {@link #matchByConnObjectKeyValue(Item, String, AnyTypeKind, boolean, ExternalResource)}.
+     *
+     * @param connObjectKeyItem connector object key mapping item
+     * @param connObjectKeyValues connector object key values
+     * @param anyTypeKind type kind
+     * @param ignoreCaseMatch whether matching shall be case-insensitive
+     * @param resource external resource
+     * @return matches found for each of the given connector object key values, when available
+     */
+    public Map<String, List<PullMatch>> matchByConnObjectKeyValues(
+            final Item connObjectKeyItem,
+            final Collection<String> connObjectKeyValues,
+            final AnyTypeKind anyTypeKind,
+            final boolean ignoreCaseMatch,
+            final ExternalResource resource) {
+
+        if (ignoreCaseMatch || connObjectKeyValues.isEmpty()) {
+            return Map.of();
+        }
+
+        IntAttrName intAttrName;
+        try {
+            intAttrName = intAttrNameParser.parse(connObjectKeyItem.getIntAttrName(), anyTypeKind);
+        } catch (ParseException e) {
+            LOG.error("Invalid intAttrName '{}' specified, ignoring", connObjectKeyItem.getIntAttrName(), e);
+            return Map.of();
+        }
+        if (intAttrName.getField() == null) {
+            return Map.of();
+        }
+
+        // transformed value -> original values
+        Map<String, List<String>> transformed = new HashMap<>();
+        connObjectKeyValues.forEach(value -> transformed.computeIfAbsent(
+                beforePull(connObjectKeyItem, value), k -> new ArrayList<>()).add(value));
+        List<String> values = new ArrayList<>(transformed.keySet());
+
+        Map<String, List<Any<?>>> anys = new HashMap<>();
+        switch (intAttrName.getField()) {
+            case "key":
+                AnyUtils anyUtils = anyUtilsFactory.getInstance(anyTypeKind);
+                inChunks(values, chunk -> anyUtils.dao().findByKeys(chunk).
+                        forEach(any -> anys.computeIfAbsent(any.getKey(), k -> new ArrayList<>()).add(any)));
+                break;
+
+            case "username":
+                inChunks(values, chunk -> userDAO.findByUsernames(chunk).
+                        forEach(user -> anys.computeIfAbsent(user.getUsername(), k -> new ArrayList<>()).add(user)));
+                break;
+
+            case "name":
+                inChunks(values, chunk -> {
+                    groupDAO.findByNames(chunk).
+                            forEach(group -> anys.computeIfAbsent(group.getName(), k -> new ArrayList<>()).add(group));
+                    anyObjectDAO.findByNames(chunk).
+                            forEach(anyObject -> anys.computeIfAbsent(
+                            anyObject.getName(), k -> new ArrayList<>()).add(anyObject));
+                });
+                break;
+
+            default:
+                return Map.of();
+        }
+
+        Map<String, LinkedAccount> accounts = new HashMap<>();
+        if (resource != null) {
+            inChunks(values, chunk -> userDAO.findLinkedAccounts(resource, chunk).
+                    forEach(account -> accounts.putIfAbsent(account.getConnObjectKeyValue(), account)));
+        }
+
+        // the database might match values differing only in case: such values are left to individual matching
+        Set<String> caseless = Stream.concat(anys.keySet().stream(), accounts.keySet().stream()).
+                map(value -> value.toLowerCase(Locale.ROOT)).
+                collect(Collectors.toSet());
+
+        Map<String, List<PullMatch>> result = new HashMap<>();
+        transformed.forEach((value, originals) -> {
+            List<PullMatch> found = anys.getOrDefault(value, List.of()).stream().
+                    map(any -> new PullMatch(MatchType.ANY, any)).
+                    collect(Collectors.toList());
+            Optional.ofNullable(accounts.get(value)).
+                    map(account -> new PullMatch(MatchType.LINKED_ACCOUNT, account)).
+                    ifPresent(found::add);
+
+            if (found.isEmpty() && caseless.contains(value.toLowerCase(Locale.ROOT))) {
+                return;
+            }
+
+            List<PullMatch> matches = found.isEmpty() ? List.of(PullCorrelationRule.NO_MATCH) : found;
+            originals.forEach(original -> result.put(original, matches));
+        });
+
+        return result;
+    }
+
     protected List<PullMatch> matchByCorrelationRule(
             final SyncDelta syncDelta,
             final Provision provision,
@@ -383,6 +500,66 @@ public class InboundMatcher {
         return rule;
     }
 
+    protected String connObjectKeyValue(final SyncDelta syncDelta, final Item connObjectKeyItem) {
+        String connObjectKeyValue = null;
+
+        Attribute connObjectKeyAttr = syncDelta.getObject().getAttributeByName(connObjectKeyItem.getExtAttrName());
+        if (connObjectKeyAttr != null) {
+            connObjectKeyValue = AttributeUtil.getStringValue(connObjectKeyAttr);
+        }
+        // fallback to __UID__
+        if (connObjectKeyValue == null) {
+            connObjectKeyValue = syncDelta.getUid().getUidValue();
+        }
+
+        return connObjectKeyValue;
+    }
+
+    /**
+     * Finds internal entities based on external attributes and mapping for a window of changes at once, where
+     * possible; such matches can be later provided to
+     * {@link #match(SyncDelta, ExternalResource, Provision, AnyTypeKind, Map)}.
+     * Connector object key values occurring more than once in the given window are not matched, as the handling of
+     * earlier changes could affect the matches of later changes.
+     *
+     * @param syncDeltas change operations, including external attributes
+     * @param resource external resource
+     * @param provision mapping
+     * @param anyTypeKind type kind
+     * @return matches found for each connector object key value, when available
+     */
+    public Map<String, List<PullMatch>> match(
+            final List<SyncDelta> syncDeltas,
+            final ExternalResource resource,
+            final Provision provision,
+            final AnyTypeKind anyTypeKind) {
+
+        Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (connObjectKeyItem.isEmpty() || rule(resource, provision).isPresent()) {
+            return Map.of();
+        }
+
+        Map<String, Long> connObjectKeyValues = syncDeltas.stream().
+                collect(Collectors.groupingBy(
+                        syncDelta -> connObjectKeyValue(syncDelta, connObjectKeyItem.get()), Collectors.counting()));
+
+        try {
+            return matchByConnObjectKeyValues(
+                    connObjectKeyItem.get(),
+                    connObjectKeyValues.entrySet().stream().
+                            filter(entry -> entry.getValue() == 1).
+                            map(Map.Entry::getKey).
+                            collect(Collectors.toList()),
+                    anyTypeKind,
+                    provision.isIgnoreCaseMatch(),
+                    resource);
+        } catch (RuntimeException e) {
+            LOG.error("Could not match {} with any existing {}",
+                    connObjectKeyValues.keySet(), provision.getAnyType(), e);
+            return Map.of();
+        }
+    }
+
     /**
      * Finds internal entities based on external attributes and mapping.
      *
@@ -398,6 +575,27 @@ public class InboundMatcher {
             final Provision provision,
             final AnyTypeKind anyTypeKind) {
 
+        return match(syncDelta, resource, provision, anyTypeKind, Map.of());
+    }
+
+    /**
+     * Finds internal entities based on external attributes and mapping, unless already available among the given
+     * matches, as found by {@link #match(List, ExternalResource, Provision, AnyTypeKind)}.
+     *
+     * @param syncDelta change operation, including external attributes
+     * @param resource external resource
+     * @param provision mapping
+     * @param anyTypeKind type kind
+     * @param matches matches already found, by connector object key value
+     * @return list of matching users' / groups' / any objects' keys
+     */
+    public List<PullMatch> match(
+            final SyncDelta syncDelta,
+            final ExternalResource resource,
+            final Provision provision,
+            final AnyTypeKind anyTypeKind,
+            final Map<String, List<PullMatch>> matches) {
+
         Optional<PullCorrelationRule> rule = rule(resource, provision);
 
         List<PullMatch> result = List.of();
@@ -405,22 +603,13 @@ public class InboundMatcher {
             if (rule.isPresent()) {
                 result = matchByCorrelationRule(syncDelta, provision, rule.get(), anyTypeKind);
             } else {
-                String connObjectKeyValue = null;
-
                 Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
-                if (connObjectKeyItem.isPresent()) {
-                    Attribute connObjectKeyAttr = syncDelta.getObject().
-                            getAttributeByName(connObjectKeyItem.get().getExtAttrName());
-                    if (connObjectKeyAttr != null) {
-                        connObjectKeyValue = AttributeUtil.getStringValue(connObjectKeyAttr);
-                    }
-                    // fallback to __UID__
-                    if (connObjectKeyValue == null) {
-                        connObjectKeyValue = syncDelta.getUid().getUidValue();
-                    }
-                }
+                String connObjectKeyValue = connObjectKeyItem.
+                        map(item -> connObjectKeyValue(syncDelta, item)).orElse(null);
                 if (connObjectKeyValue == null) {
                     result = List.of(PullCorrelationRule.NO_MATCH);
+                } else if (matches.containsKey(connObjectKeyValue)) {
+                    result = matches.get(connObjectKeyValue);
                 } else {
                     result = matchByConnObjectKeyValue(
                             connObjectKeyItem.get(),
@@ -18,13 +18,8 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import org.apache.syncope.common.lib.request.AnyUR;
 import org.apache.syncope.common.lib.request.MembershipUR;
 import org.apache.syncope.common.lib.request.UserUR;
@@ -34,6 +29,7 @@ import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.provisioning.api.Connector;
@@ -41,8 +37,10 @@ import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.rules.PullMatch;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.implementation.InstanceScope;
 import org.apache.syncope.core.spring.implementation.SyncopeImplementation;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ObjectClass;
@@ -52,8 +50,9 @@ import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Simple action for pulling LDAP groups memberships to Syncope group memberships, when the same resource is
@@ -78,9 +77,9 @@ public class LDAPMembershipPullActions implements PullActions {
     @Autowired
     protected UserProvisioningManager userProvisioningManager;
 
-    protected final Map<String, Set<String>> membershipsBefore = new HashMap<>();
+    protected static final int MAX_IN_MEMORY = 100000;
 
-    protected final Map<String, Set<String>> membershipsAfter = new HashMap<>();
+    protected final MembershipStaging memberships = new MembershipStaging(MAX_IN_MEMORY);
 
     /**
      * Allows easy subclassing for the ConnId AD connector bundle.
@@ -152,14 +151,8 @@ public class LDAPMembershipPullActions implements PullActions {
             return;
         }
 
-        groupDAO.findUMemberships(groupDAO.find(entity.getKey())).forEach(uMembership -> {
-            Set<String> memb = membershipsBefore.get(uMembership.getLeftEnd().getKey());
-            if (memb == null) {
-                memb = new HashSet<>();
-                membershipsBefore.put(uMembership.getLeftEnd().getKey(), memb);
-            }
-            memb.add(entity.getKey());
-        });
+        groupDAO.findUMemberships(groupDAO.find(entity.getKey())).forEach(uMembership -> memberships.add(
+                uMembership.getLeftEnd().getKey(), entity.getKey(), MembershipStaging.Phase.BEFORE));
     }
 
     /**
@@ -192,64 +185,72 @@ public class LDAPMembershipPullActions implements PullActions {
                     profile.getTask().getResource(),
                     profile.getConnector());
             if (match.isPresent()) {
-                Set<String> memb = membershipsAfter.get(match.get().getAny().getKey());
-                if (memb == null) {
-                    memb = new HashSet<>();
-                    membershipsAfter.put(match.get().getAny().getKey(), memb);
-                }
-                memb.add(entity.getKey());
+                memberships.add(match.get().getAny().getKey(), entity.getKey(), MembershipStaging.Phase.AFTER);
             } else {
                 LOG.warn("Could not find matching user for {}", membValue);
             }
         });
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    protected TransactionTemplate userTransactionTemplate() {
+        TransactionTemplate domainTransactionTemplate = ApplicationContextProvider.getBeanFactory().
+                getBean(AuthContextUtils.getDomain() + "TransactionTemplate", TransactionTemplate.class);
+
+        TransactionTemplate userTransactionTemplate =
+                new TransactionTemplate(domainTransactionTemplate.getTransactionManager());
+        userTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return userTransactionTemplate;
+    }
+
+    protected void update(
+            final UserUR req,
+            final TransactionTemplate transactionTemplate,
+            final ProvisioningProfile<?, ?> profile,
+            final String context) {
+
+        LOG.debug("About to update memberships for User {}", req.getKey());
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> userProvisioningManager.update(req, true, profile.getExecutor(), context));
+        } catch (Exception e) {
+            LOG.error("Could not update memberships for User {}", req.getKey(), e);
+
+            ProvisioningReport result = new ProvisioningReport();
+            result.setOperation(ResourceOperation.UPDATE);
+            result.setAnyType(AnyTypeKind.USER.name());
+            result.setStatus(ProvisioningReport.Status.FAILURE);
+            result.setKey(req.getKey());
+            result.setMessage("Could not update memberships: " + e.getMessage());
+            profile.getResults().add(result);
+        }
+    }
+
+    /**
+     * Applies the net membership changes for each user, each within its own transaction; failures are reported and
+     * do not prevent changes for other users from being applied.
+     * {@inheritDoc}
+     */
     @Override
     public void afterAll(final ProvisioningProfile<?, ?> profile) throws JobExecutionException {
-        List<UserUR> updateReqs = new ArrayList<>();
-
-        membershipsAfter.forEach((user, groups) -> {
-            UserUR userUR = new UserUR();
-            userUR.setKey(user);
-            updateReqs.add(userUR);
-
-            groups.stream().forEach(group -> {
-                Set<String> before = membershipsBefore.get(user);
-                if (before == null || !before.contains(group)) {
-                    userUR.getMemberships().add(new MembershipUR.Builder(group).
-                            operation(PatchOperation.ADD_REPLACE).
-                            build());
-                }
-            });
-        });
+        if (memberships.isEmpty()) {
+            return;
+        }
 
-        membershipsBefore.forEach((user, groups) -> {
-            UserUR userUR = updateReqs.stream().
-                    filter(req -> user.equals(req.getKey())).findFirst().
-                    orElseGet(() -> {
-                        UserUR req = new UserUR.Builder(user).build();
-                        updateReqs.add(req);
-                        return req;
-                    });
-
-            groups.forEach(group -> {
-                Set<String> after = membershipsAfter.get(user);
-                if (after == null || !after.contains(group)) {
-                    userUR.getMemberships().add(new MembershipUR.Builder(group).
-                            operation(PatchOperation.DELETE).
-                            build());
-                }
-            });
-        });
+        String context = "PullTask " + profile.getTask().getKey() + " '" + profile.getTask().getName() + "'";
+        TransactionTemplate transactionTemplate = userTransactionTemplate();
 
-        membershipsAfter.clear();
-        membershipsBefore.clear();
+        try {
+            memberships.forEachChange(changes -> {
+                UserUR userUR = new UserUR.Builder(changes.getUser()).build();
+                changes.getAdd().forEach(group -> userUR.getMemberships().add(
+                        new MembershipUR.Builder(group).operation(PatchOperation.ADD_REPLACE).build()));
+                changes.getDelete().forEach(group -> userUR.getMemberships().add(
+                        new MembershipUR.Builder(group).operation(PatchOperation.DELETE).build()));
 
-        String context = "PullTask " + profile.getTask().getKey() + " '" + profile.getTask().getName() + "'";
-        updateReqs.stream().filter(req -> !req.isEmpty()).forEach(req -> {
-            LOG.debug("About to update memberships for User {}", req.getKey());
-            userProvisioningManager.update(req, true, profile.getExecutor(), context);
-        });
+                update(userUR, transactionTemplate, profile, context);
+            });
+        } finally {
+            memberships.clear();
+        }
     }
 }
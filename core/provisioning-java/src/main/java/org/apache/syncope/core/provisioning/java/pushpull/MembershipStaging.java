@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded staging area for the user / group memberships observed before and after pulling groups: memberships are
+ * kept in memory up to the given amount, then sorted and spilled to temporary files; net changes are eventually
+ * computed one user at a time, by merging all sorted files.
+ */
+public class MembershipStaging {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(MembershipStaging.class);
+
+    protected static final char SEPARATOR = ' ';
+
+    public enum Phase {
+
+        BEFORE,
+        AFTER
+
+    }
+
+    /**
+     * Net membership changes for a given user.
+     */
+    public static class Changes {
+
+        protected final String user;
+
+        protected final Set<String> add = new HashSet<>();
+
+        protected final Set<String> delete = new HashSet<>();
+
+        public Changes(final String user) {
+            this.user = user;
+        }
+
+        public String getUser() {
+            return user;
+        }
+
+        public Set<String> getAdd() {
+            return add;
+        }
+
+        public Set<String> getDelete() {
+            return delete;
+        }
+
+        public boolean isEmpty() {
+            return add.isEmpty() && delete.isEmpty();
+        }
+    }
+
+    protected static class Run {
+
+        protected final Iterator<String> lines;
+
+        protected String current;
+
+        protected Run(final Iterator<String> lines) {
+            this.lines = lines;
+            advance();
+        }
+
+        protected final boolean advance() {
+            current = lines.hasNext() ? lines.next() : null;
+            return current != null;
+        }
+    }
+
+    protected final int maxInMemory;
+
+    protected final List<String> buffer = new ArrayList<>();
+
+    protected final List<Path> files = new ArrayList<>();
+
+    public MembershipStaging(final int maxInMemory) {
+        this.maxInMemory = maxInMemory;
+    }
+
+    public synchronized void add(final String user, final String group, final Phase phase) {
+        buffer.add(user + SEPARATOR + group + SEPARATOR + phase.name());
+
+        if (buffer.size() >= maxInMemory) {
+            spill();
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return buffer.isEmpty() && files.isEmpty();
+    }
+
+    protected void spill() {
+        Collections.sort(buffer);
+
+        try {
+            Path file = Files.createTempFile("membershipStaging", ".txt");
+            files.add(file);
+
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (String line : buffer) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+
+            buffer.clear();
+        } catch (IOException e) {
+            LOG.error("While spilling memberships, keeping them in memory", e);
+        }
+    }
+
+    protected static void accumulate(
+            final String user,
+            final Set<String> before,
+            final Set<String> after,
+            final Consumer<Changes> consumer) {
+
+        Changes changes = new Changes(user);
+        after.stream().filter(group -> !before.contains(group)).forEach(changes.getAdd()::add);
+        before.stream().filter(group -> !after.contains(group)).forEach(changes.getDelete()::add);
+        if (!changes.isEmpty()) {
+            consumer.accept(changes);
+        }
+    }
+
+    /**
+     * Provides the net membership changes, one user at a time, to the given consumer.
+     *
+     * @param consumer net membership changes consumer
+     */
+    public synchronized void forEachChange(final Consumer<Changes> consumer) {
+        Collections.sort(buffer);
+
+        List<BufferedReader> readers = new ArrayList<>();
+        try {
+            PriorityQueue<Run> runs = new PriorityQueue<>((r1, r2) -> r1.current.compareTo(r2.current));
+
+            Run memory = new Run(buffer.iterator());
+            if (memory.current != null) {
+                runs.add(memory);
+            }
+            for (Path file : files) {
+                BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                readers.add(reader);
+
+                Run run = new Run(reader.lines().iterator());
+                if (run.current != null) {
+                    runs.add(run);
+                }
+            }
+
+            String user = null;
+            Set<String> before = new HashSet<>();
+            Set<String> after = new HashSet<>();
+            while (!runs.isEmpty()) {
+                Run run = runs.poll();
+                String[] split = StringUtils.split(run.current, SEPARATOR);
+                if (run.advance()) {
+                    runs.add(run);
+                }
+
+                if (!split[0].equals(user)) {
+                    if (user != null) {
+                        accumulate(user, before, after, consumer);
+                    }
+                    user = split[0];
+                    before = new HashSet<>();
+                    after = new HashSet<>();
+                }
+
+                if (Phase.valueOf(split[2]) == Phase.BEFORE) {
+                    before.add(split[1]);
+                } else {
+                    after.add(split[1]);
+                }
+            }
+            if (user != null) {
+                accumulate(user, before, after, consumer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("While reading spilled memberships", e);
+        } finally {
+            readers.forEach(reader -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    LOG.warn("Could not close reader", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes all memberships staged so far, including any temporary file.
+     */
+    public synchronized void clear() {
+        buffer.clear();
+
+        files.forEach(file -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.warn("Could not delete {}", file, e);
+            }
+        });
+        files.clear();
+    }
+}
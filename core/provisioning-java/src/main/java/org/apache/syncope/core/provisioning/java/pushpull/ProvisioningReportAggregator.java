@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates provisioning reports as they are produced, by keeping one counter for each kind of entity and outcome;
+ * per-object lines, when required by the trace level, are kept up to the given amount for each kind of entity and
+ * outcome - further ones are only counted, and reported as truncated - and are held in memory up to the given amount,
+ * then spilled to temporary files until the textual report is built.
+ */
+public class ProvisioningReportAggregator implements AutoCloseable {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ProvisioningReportAggregator.class);
+
+    private static final String USER = "USER";
+
+    private static final String GROUP = "GROUP";
+
+    private static final String LINKED_ACCOUNT = "LINKED_ACCOUNT";
+
+    public enum Kind {
+
+        USER,
+        LINKED_ACCOUNT,
+        GROUP,
+        ANY_OBJECT,
+        REALM
+
+    }
+
+    public enum Outcome {
+
+        SUCCESS_CREATE,
+        FAILURE_CREATE,
+        SUCCESS_UPDATE,
+        FAILURE_UPDATE,
+        SUCCESS_DELETE,
+        FAILURE_DELETE,
+        SUCCESS_NONE,
+        IGNORE;
+
+        public boolean isFailure() {
+            return this == FAILURE_CREATE || this == FAILURE_UPDATE || this == FAILURE_DELETE;
+        }
+    }
+
+    /**
+     * Formats the given report as a single line, according to the given trace level.
+     *
+     * @param report provisioning report
+     * @param level trace level
+     * @return formatted line, or null if nothing is to be reported
+     */
+    public static String line(final ProvisioningReport report, final TraceLevel level) {
+        if (level == TraceLevel.SUMMARY) {
+            // No per entry log in this case.
+            return null;
+        }
+
+        if (level == TraceLevel.FAILURES && report.getStatus() == ProvisioningReport.Status.FAILURE) {
+            // only report failures
+            return String.format("Failed %s (key/name): %s/%s with message: %s",
+                    report.getOperation(), report.getKey(), report.getName(), report.getMessage());
+        }
+
+        // All
+        return String.format("%s %s (key/name): %s/%s %s",
+                report.getOperation(), report.getStatus(), report.getKey(), report.getName(),
+                StringUtils.isBlank(report.getMessage())
+                ? StringUtils.EMPTY
+                : "with message: " + report.getMessage());
+    }
+
+    protected static Kind kind(final ProvisioningReport report) {
+        if (StringUtils.isBlank(report.getAnyType())) {
+            return Kind.REALM;
+        }
+
+        switch (report.getAnyType()) {
+            case USER:
+                return Kind.USER;
+
+            case LINKED_ACCOUNT:
+                return Kind.LINKED_ACCOUNT;
+
+            case GROUP:
+                return Kind.GROUP;
+
+            default:
+                return Kind.ANY_OBJECT;
+        }
+    }
+
+    protected static Outcome outcome(final ProvisioningReport report) {
+        if (report.getStatus() == null || report.getOperation() == null) {
+            return report.getStatus() == ProvisioningReport.Status.IGNORE ? Outcome.IGNORE : null;
+        }
+
+        switch (report.getStatus()) {
+            case SUCCESS:
+                switch (report.getOperation()) {
+                    case CREATE:
+                        return Outcome.SUCCESS_CREATE;
+
+                    case UPDATE:
+                        return Outcome.SUCCESS_UPDATE;
+
+                    case DELETE:
+                        return Outcome.SUCCESS_DELETE;
+
+                    case NONE:
+                        return Outcome.SUCCESS_NONE;
+
+                    default:
+                        return null;
+                }
+
+            case FAILURE:
+                switch (report.getOperation()) {
+                    case CREATE:
+                        return Outcome.FAILURE_CREATE;
+
+                    case UPDATE:
+                        return Outcome.FAILURE_UPDATE;
+
+                    case DELETE:
+                        return Outcome.FAILURE_DELETE;
+
+                    default:
+                        return null;
+                }
+
+            case IGNORE:
+                return Outcome.IGNORE;
+
+            default:
+                return null;
+        }
+    }
+
+    protected static int index(final Kind kind, final Outcome outcome) {
+        return kind.ordinal() * Outcome.values().length + outcome.ordinal();
+    }
+
+    protected final TraceLevel traceLevel;
+
+    protected final int maxInMemory;
+
+    protected final int maxLines;
+
+    protected final long[] counters = new long[Kind.values().length * Outcome.values().length];
+
+    protected final long[] kept = new long[Kind.values().length * Outcome.values().length];
+
+    protected final long[] retained = new long[Kind.values().length * Outcome.values().length];
+
+    protected final List<List<String>> lines = new ArrayList<>();
+
+    protected final Path[] files = new Path[Kind.values().length * Outcome.values().length];
+
+    protected int inMemory;
+
+    public ProvisioningReportAggregator(final TraceLevel traceLevel, final int maxInMemory, final int maxLines) {
+        this.traceLevel = traceLevel;
+        this.maxInMemory = maxInMemory;
+        this.maxLines = maxLines;
+        for (int i = 0; i < counters.length; i++) {
+            lines.add(new ArrayList<>());
+        }
+    }
+
+    public synchronized void add(final ProvisioningReport report) {
+        Outcome outcome = outcome(report);
+        if (outcome == null) {
+            return;
+        }
+
+        int index = index(kind(report), outcome);
+        counters[index]++;
+
+        if (isTraced(outcome) && kept[index] < maxLines) {
+            lines.get(index).add(line(report, traceLevel));
+            kept[index]++;
+            inMemory++;
+
+            if (inMemory > maxInMemory) {
+                spill();
+            }
+        }
+    }
+
+    protected boolean isTraced(final Outcome outcome) {
+        return traceLevel == TraceLevel.ALL || (traceLevel == TraceLevel.FAILURES && outcome.isFailure());
+    }
+
+    public void addAll(final Collection<ProvisioningReport> reports) {
+        reports.forEach(this::add);
+    }
+
+    /**
+     * Aggregates the given report, as {@link #add(ProvisioningReport)}, and tells whether it is among the first ones
+     * for its kind of entity and outcome, up to the maximum number of lines, regardless of the trace level: this
+     * allows to bound how many reports are returned by callers which return reports rather than a textual report.
+     *
+     * @param report provisioning report
+     * @return whether the given report is to be retained
+     */
+    public synchronized boolean retain(final ProvisioningReport report) {
+        add(report);
+
+        Outcome outcome = outcome(report);
+        if (outcome == null) {
+            return true;
+        }
+
+        int index = index(kind(report), outcome);
+        if (retained[index] < maxLines) {
+            retained[index]++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return number of reports given to {@link #retain(ProvisioningReport)} which were not retained
+     */
+    public synchronized long omitted() {
+        long omitted = 0;
+        for (int i = 0; i < counters.length; i++) {
+            omitted += counters[i] - retained[i];
+        }
+        return omitted;
+    }
+
+    public synchronized long count(final Kind kind, final Outcome outcome) {
+        return counters[index(kind, outcome)];
+    }
+
+    protected void spill() {
+        for (int i = 0; i < counters.length; i++) {
+            List<String> buffer = lines.get(i);
+            if (buffer.isEmpty()) {
+                continue;
+            }
+
+            try {
+                if (files[i] == null) {
+                    files[i] = Files.createTempFile("provisioningReport", ".txt");
+                }
+
+                StringBuilder content = new StringBuilder();
+                buffer.forEach(line -> content.append(line).append('\n'));
+                Files.writeString(files[i], content, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+                inMemory -= buffer.size();
+                buffer.clear();
+            } catch (IOException e) {
+                LOG.error("While spilling provisioning report lines to {}, keeping them in memory", files[i], e);
+            }
+        }
+    }
+
+    /**
+     * Appends the lines kept for the given kind and outcome, one per line, to the given report; the number of lines
+     * which were not kept, if any, is reported last.
+     *
+     * @param kind kind of entity
+     * @param outcome outcome
+     * @param report report being built
+     */
+    public synchronized void appendLines(final Kind kind, final Outcome outcome, final StringBuilder report) {
+        int index = index(kind, outcome);
+
+        if (files[index] != null) {
+            try (BufferedReader reader = Files.newBufferedReader(files[index], StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    report.append(line).append('\n');
+                }
+            } catch (IOException e) {
+                LOG.error("While reading provisioning report lines from {}", files[index], e);
+            }
+        }
+        lines.get(index).forEach(line -> report.append(line).append('\n'));
+
+        if (isTraced(outcome) && counters[index] > kept[index]) {
+            report.append("... truncated, ").append(counters[index] - kept[index]).append(" more\n");
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (int i = 0; i < files.length; i++) {
+            if (files[i] != null) {
+                try {
+                    Files.deleteIfExists(files[i]);
+                } catch (IOException e) {
+                    LOG.warn("Could not delete {}", files[i], e);
+                }
+                files[i] = null;
+            }
+            lines.get(i).clear();
+        }
+        inMemory = 0;
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -26,15 +27,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
+import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -44,6 +55,7 @@ import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
@@ -51,6 +63,8 @@ import org.apache.syncope.core.persistence.api.entity.policy.PullPolicy;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.IntAttrName;
+import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.ProvisionSorter;
 import org.apache.syncope.core.provisioning.api.pushpull.AnyObjectPullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.GroupPullResultHandler;
@@ -66,10 +80,14 @@ import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
 import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationOptions;
 import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
+import org.identityconnectors.framework.impl.api.local.operations.FilteredResultsHandler;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -94,8 +112,58 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
     @Autowired
     protected PlainAttrValidationManager validator;
 
+    @Autowired
+    protected IntAttrNameParser intAttrNameParser;
+
+    /**
+     * Restricts the filter built by the given reconciliation filter builder to the given partition.
+     */
+    protected static class PartitionReconFilterBuilder implements ReconFilterBuilder {
+
+        protected final ReconFilterBuilder delegate;
+
+        protected final Filter partition;
+
+        public PartitionReconFilterBuilder(final ReconFilterBuilder delegate, final Filter partition) {
+            this.delegate = delegate;
+            this.partition = partition;
+        }
+
+        @Override
+        public Filter build(final ObjectClass objectClass) {
+            Filter filter = delegate.build(objectClass);
+            return filter == null || filter instanceof FilteredResultsHandler.PassThroughFilter
+                    ? partition
+                    : FilterBuilder.and(filter, partition);
+        }
+
+        @Override
+        public OperationOptions build(final ObjectClass objectClass, final OperationOptions initialOptions) {
+            return delegate.build(objectClass, initialOptions);
+        }
+    }
+
+    /**
+     * Only takes partitions from the given reconciliation filter builder, for partitioning full reconciliation.
+     */
+    protected static class PartitionsOnlyReconFilterBuilder implements ReconFilterBuilder {
+
+        protected final ReconFilterBuilder delegate;
+
+        public PartitionsOnlyReconFilterBuilder(final ReconFilterBuilder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<Filter> partitions(final ObjectClass objectClass) {
+            return delegate.partitions(objectClass);
+        }
+    }
+
     protected final Map<String, SyncToken> latestSyncTokens = Collections.synchronizedMap(new HashMap<>());
 
+    protected final Map<String, Long> checkpoints = new ConcurrentHashMap<>();
+
     protected ProvisioningProfile<PullTask, PullActions> profile;
 
     protected final Map<String, MutablePair<Integer, String>> handled = new HashMap<>();
@@ -107,6 +175,49 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
     @Override
     public void setLatestSyncToken(final String objectClass, final SyncToken latestSyncToken) {
         latestSyncTokens.put(objectClass, latestSyncToken);
+        checkpoint(objectClass, latestSyncToken);
+    }
+
+    /**
+     * Persists the given sync token, within its own transaction, if the configured interval has elapsed since the
+     * latest checkpoint for the given object class: should the pull be interrupted or fail, the next execution will
+     * resume from there, rather than from the sync token available when this execution started.
+     *
+     * @param objectClass object class
+     * @param syncToken latest sync token
+     */
+    protected void checkpoint(final String objectClass, final SyncToken syncToken) {
+        long interval = provisioningProperties.getPull().getSyncTokenCheckpointInterval();
+        if (interval <= 0 || syncToken == null || profile == null || profile.isDryRun()
+                || profile.getTask().getPullMode() != PullMode.INCREMENTAL) {
+
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Long latest = checkpoints.putIfAbsent(objectClass, now);
+        if (latest != null && now - latest >= interval) {
+            checkpoints.put(objectClass, now);
+
+            resourceDAO.saveSyncToken(
+                    profile.getTask().getResource().getKey(), objectClass, ConnObjectUtils.toString(syncToken));
+            LOG.debug("Sync token for {} checkpointed: {}", objectClass, syncToken);
+        }
+    }
+
+    /**
+     * Persists the latest sync tokens for all provisions of the given resource, within their own transaction, so that
+     * the resource itself is never modified by the transaction of the pull task execution.
+     *
+     * @param resource external resource
+     */
+    protected void saveSyncTokens(final ExternalResource resource) {
+        latestSyncTokens.forEach((objectClass, syncToken) -> resource.getProvisionByObjectClass(objectClass).
+                ifPresent(provision -> {
+                    String token = ConnObjectUtils.toString(syncToken);
+                    provision.setSyncToken(token);
+                    resourceDAO.saveSyncToken(resource.getKey(), objectClass, token);
+                }));
     }
 
     @Override
@@ -212,6 +323,306 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         return ApplicationContextProvider.getBeanFactory().createBean(DefaultGroupPullResultHandler.class);
     }
 
+    /**
+     * Finds the any types the entities pulled for the given provision can refer to, according to its mapping: groups
+     * for memberships, users and groups for group owners, any types for relationships; {@link AnyTypeKind#ANY_OBJECT}
+     * stands for any object type, when not known.
+     *
+     * @param provision provision
+     * @param kind kind of the any type of the given provision
+     * @return any types referred to
+     */
+    protected Set<String> references(final Provision provision, final AnyTypeKind kind) {
+        Set<String> references = new HashSet<>();
+        provision.getMapping().getItems().forEach(item -> {
+            IntAttrName intAttrName;
+            try {
+                intAttrName = intAttrNameParser.parse(item.getIntAttrName(), kind);
+            } catch (ParseException e) {
+                LOG.debug("Invalid intAttrName '{}', ignoring", item.getIntAttrName(), e);
+                return;
+            }
+
+            if (intAttrName.getAnyTypeKind() != null && intAttrName.getAnyTypeKind() != kind) {
+                references.add(intAttrName.getAnyTypeKind().name());
+            }
+            if (intAttrName.getEnclosingGroup() != null || intAttrName.getMembershipOfGroup() != null
+                    || "groupOwner".equals(intAttrName.getField())) {
+
+                references.add(AnyTypeKind.GROUP.name());
+            }
+            if (intAttrName.getRelatedUser() != null || "userOwner".equals(intAttrName.getField())) {
+                references.add(AnyTypeKind.USER.name());
+            }
+            if (intAttrName.getRelatedAnyObject() != null) {
+                references.add(AnyTypeKind.ANY_OBJECT.name());
+            }
+            if (intAttrName.getRelationshipAnyType() != null) {
+                references.add(intAttrName.getRelationshipAnyType());
+            }
+        });
+        references.remove(provision.getAnyType());
+        return references;
+    }
+
+    /**
+     * Splits the given sorted provisions into waves, to be pulled one after another: consecutive provisions make up a
+     * single wave, whose provisions can be pulled concurrently, as long as none of them refers to the any type of
+     * another one, according to {@link #references(Provision, AnyTypeKind)}.
+     *
+     * @param provisions sorted provisions
+     * @return waves of provisions
+     */
+    protected List<List<Provision>> waves(final List<Provision> provisions) {
+        List<List<Provision>> waves = new ArrayList<>();
+
+        Map<String, AnyTypeKind> kinds = new HashMap<>();
+        Map<String, Set<String>> references = new HashMap<>();
+        provisions.forEach(provision -> {
+            AnyTypeKind kind = anyTypeDAO.find(provision.getAnyType()).getKind();
+            kinds.put(provision.getAnyType(), kind);
+            references.put(provision.getAnyType(), references(provision, kind));
+        });
+        BiPredicate<Provision, Provision> refers = (provision, other) -> {
+            Set<String> refs = references.get(provision.getAnyType());
+            return refs.contains(other.getAnyType())
+                    || (refs.contains(AnyTypeKind.ANY_OBJECT.name())
+                    && kinds.get(other.getAnyType()) == AnyTypeKind.ANY_OBJECT);
+        };
+
+        List<Provision> wave = null;
+        for (Provision provision : provisions) {
+            if (wave == null || wave.stream().anyMatch(
+                    other -> refers.test(provision, other) || refers.test(other, provision))) {
+
+                wave = new ArrayList<>();
+                waves.add(wave);
+            }
+            wave.add(provision);
+        }
+
+        return waves;
+    }
+
+    protected OperationOptions getOperationOptions(
+            final PullTask pullTask,
+            final Provision provision,
+            final AnyType anyType) {
+
+        Set<String> moreAttrsToGet = new HashSet<>();
+        profile.getActions().forEach(a -> moreAttrsToGet.addAll(a.moreAttrsToGet(profile, provision)));
+        Stream<Item> mapItems = Stream.concat(
+                MappingUtils.getPullItems(provision.getMapping().getItems().stream()),
+                virSchemaDAO.find(pullTask.getResource().getKey(), anyType.getKey()).stream().
+                        map(VirSchema::asLinkingMappingItem));
+        return MappingUtils.buildOperationOptions(mapItems, moreAttrsToGet.toArray(String[]::new));
+    }
+
+    protected void pull(
+            final PullTask pullTask,
+            final Provision provision,
+            final AnyType anyType,
+            final OperationOptions options,
+            final ReconFilterBuilder reconFilterBuilder,
+            final ProvisioningProfile<PullTask, PullActions> profile,
+            final PullResultHandlerDispatcher dispatcher,
+            final GroupPullResultHandler ghandler) throws JobExecutionException {
+
+        dispatcher.addHandlerSupplier(provision.getObjectClass(), () -> {
+            SyncopePullResultHandler handler;
+            switch (anyType.getKind()) {
+                case USER:
+                    handler = buildUserHandler();
+                    break;
+
+                case GROUP:
+                    handler = ghandler;
+                    break;
+
+                case ANY_OBJECT:
+                default:
+                    handler = buildAnyObjectHandler();
+            }
+            handler.setProfile(profile);
+            return handler;
+        });
+
+        try {
+            switch (pullTask.getPullMode()) {
+                case INCREMENTAL:
+                    if (!profile.isDryRun()) {
+                        latestSyncTokens.put(
+                                provision.getObjectClass(),
+                                ConnObjectUtils.toSyncToken(provision.getSyncToken()));
+                    }
+
+                    profile.getConnector().sync(
+                            new ObjectClass(provision.getObjectClass()),
+                            ConnObjectUtils.toSyncToken(provision.getSyncToken()),
+                            dispatcher,
+                            options);
+                    dispatcher.flush();
+                    break;
+
+                case FILTERED_RECONCILIATION:
+                    profile.getConnector().filteredReconciliation(new ObjectClass(provision.getObjectClass()),
+                            reconFilterBuilder,
+                            dispatcher,
+                            options);
+                    dispatcher.flush();
+                    break;
+
+                case FULL_RECONCILIATION:
+                default:
+                    if (reconFilterBuilder instanceof PartitionReconFilterBuilder) {
+                        profile.getConnector().filteredReconciliation(new ObjectClass(provision.getObjectClass()),
+                                reconFilterBuilder,
+                                dispatcher,
+                                options);
+                    } else {
+                        profile.getConnector().fullReconciliation(
+                                new ObjectClass(provision.getObjectClass()),
+                                dispatcher,
+                                options);
+                    }
+                    dispatcher.flush();
+            }
+        } catch (Throwable t) {
+            if (reconFilterBuilder instanceof PartitionReconFilterBuilder partitionReconFilterBuilder) {
+                throw new JobExecutionException("While pulling partition " + partitionReconFilterBuilder.partition
+                        + " of " + provision.getObjectClass() + " from connector: make sure that the connector "
+                        + "supports the filters returned by " + ReconFilterBuilder.class.getSimpleName()
+                        + "#partitions, including NOT for the remainder partition", t);
+            }
+            throw new JobExecutionException("While pulling from connector", t);
+        }
+    }
+
+    /**
+     * Splits the pull of the given provision into the partitions defined by the given reconciliation filter builder,
+     * if any.
+     *
+     * @param provision provision
+     * @param reconFilterBuilder reconciliation filter builder, null unless performing filtered reconciliation or
+     * partitioned full reconciliation
+     * @return one pair of provision and reconciliation filter builder for each partition
+     */
+    protected List<Pair<Provision, ReconFilterBuilder>> partitions(
+            final Provision provision,
+            final ReconFilterBuilder reconFilterBuilder) {
+
+        if (reconFilterBuilder == null) {
+            return List.of(Pair.of(provision, null));
+        }
+
+        List<Filter> partitions = reconFilterBuilder.partitions(new ObjectClass(provision.getObjectClass()));
+        if (partitions.isEmpty()) {
+            return List.of(Pair.of(provision, reconFilterBuilder instanceof PartitionsOnlyReconFilterBuilder
+                    ? null
+                    : reconFilterBuilder));
+        }
+
+        return partitions.stream().
+                map(partition -> Pair.<Provision, ReconFilterBuilder>of(
+                provision, new PartitionReconFilterBuilder(reconFilterBuilder, partition))).
+                collect(Collectors.toList());
+    }
+
+    /**
+     * Pulls the given provisions, or partitions thereof, concurrently, up to the configured number at a time; each is
+     * given its own profile and dispatcher, so that results and batches never mix, with results eventually provided
+     * to the given consumer.
+     *
+     * @param pullTask pull task
+     * @param units provisions to pull, each with the reconciliation filter builder to use, if any
+     * @param ghandlers group handlers, to which the ones used by group provisions will be added
+     * @param resultsConsumer results consumer, shared by all provisions
+     * @throws JobExecutionException if any provision could not be pulled
+     */
+    protected void pullConcurrently(
+            final PullTask pullTask,
+            final List<Pair<Provision, ReconFilterBuilder>> units,
+            final List<GroupPullResultHandler> ghandlers,
+            final Consumer<List<ProvisioningReport>> resultsConsumer) throws JobExecutionException {
+
+        setStatus("Pulling " + units.stream().map(unit -> unit.getLeft().getObjectClass()).distinct().
+                collect(Collectors.joining(", ")));
+
+        // whatever requires access to persistence is prepared here, before switching to other threads
+        List<Callable<Void>> pulls = new ArrayList<>();
+        try {
+            for (Pair<Provision, ReconFilterBuilder> unit : units) {
+                Provision provision = unit.getLeft();
+                ReconFilterBuilder reconFilterBuilder = unit.getRight();
+                AnyType anyType = anyTypeDAO.find(provision.getAnyType());
+                OperationOptions options = getOperationOptions(pullTask, provision, anyType);
+
+                // group handlers are bound to a profile, hence each group partition needs its own
+                GroupPullResultHandler ghandler = anyType.getKind() == AnyTypeKind.GROUP
+                        ? buildGroupHandler()
+                        : ghandlers.get(0);
+                if (anyType.getKind() == AnyTypeKind.GROUP) {
+                    ghandlers.add(ghandler);
+                }
+
+                pulls.add(() -> {
+                    ProvisioningProfile<PullTask, PullActions> provisionProfile =
+                            new ProvisioningProfile<>(profile.getConnector(), pullTask);
+                    provisionProfile.getActions().addAll(profile.getActions());
+                    provisionProfile.setDryRun(profile.isDryRun());
+                    provisionProfile.setConflictResolutionAction(profile.getConflictResolutionAction());
+                    provisionProfile.setExecutor(profile.getExecutor());
+
+                    PullResultHandlerDispatcher provisionDispatcher = new PullResultHandlerDispatcher(
+                            provisionProfile, this, provisioningProperties.getPull().getBatchSize());
+                    provisionDispatcher.setResultsConsumer(resultsConsumer);
+                    try {
+                        pull(pullTask, provision, anyType, options, reconFilterBuilder,
+                                provisionProfile, provisionDispatcher, ghandler);
+                    } finally {
+                        provisionDispatcher.shutdown();
+                        provisionDispatcher.drain();
+                    }
+                    return null;
+                });
+            }
+        } catch (Throwable t) {
+            throw new JobExecutionException("While pulling from connector", t);
+        }
+
+        VirtualThreadPoolTaskExecutor executor = SyncopeResultHandlerDispatcher.executor(
+                profile.getExecutor(),
+                Math.min(provisioningProperties.getPull().getProvisionConcurrency(), pulls.size()),
+                "pullTask-" + pullTask.getKey() + "-provisions-");
+        Throwable error = null;
+        try {
+            List<Future<Void>> futures = pulls.stream().map(executor::submit).collect(Collectors.toList());
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    error = Optional.ofNullable(error).orElse(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error = Optional.ofNullable(error).orElse(e);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        if (error instanceof JobExecutionException jobExecutionException) {
+            throw jobExecutionException;
+        }
+        if (error != null) {
+            throw new JobExecutionException("While pulling from connector", error);
+        }
+
+        if (!profile.isDryRun() && pullTask.getPullMode() == PullMode.INCREMENTAL) {
+            saveSyncTokens(pullTask.getResource());
+        }
+    }
+
     @Override
     protected String doExecuteProvisioning(
             final PullTask pullTask,
@@ -231,9 +642,28 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         orElse(ConflictResolutionAction.IGNORE));
         profile.setExecutor(executor);
 
-        PullResultHandlerDispatcher dispatcher = new PullResultHandlerDispatcher(profile, this);
+        PullResultHandlerDispatcher dispatcher = new PullResultHandlerDispatcher(
+                profile, this, provisioningProperties.getPull().getBatchSize());
+
+        // only results needed to set UID on create are retained, all others are just aggregated for the final report
+        Set<String> uidOnCreateAnyTypes = pullTask.getResource().getProvisions().stream().
+                filter(provision -> provision.getMapping() != null && provision.getUidOnCreate() != null).
+                map(Provision::getAnyType).
+                collect(Collectors.toSet());
+        Predicate<ProvisioningReport> uidOnCreate = result -> result.getUidValue() != null && result.getKey() != null
+                && result.getOperation() == ResourceOperation.CREATE
+                && uidOnCreateAnyTypes.contains(result.getAnyType());
+        List<ProvisioningReport> uidOnCreateResults = new ArrayList<>();
+        Consumer<List<ProvisioningReport>> resultsConsumer = results -> {
+            synchronized (uidOnCreateResults) {
+                results.stream().filter(uidOnCreate).forEach(uidOnCreateResults::add);
+                reportAggregator.addAll(results);
+            }
+        };
+        dispatcher.setResultsConsumer(resultsConsumer);
 
         latestSyncTokens.clear();
+        checkpoints.clear();
 
         if (!profile.isDryRun()) {
             for (PullActions action : profile.getActions()) {
@@ -273,11 +703,13 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                                 ConnObjectUtils.toSyncToken(orgUnit.getSyncToken()),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
 
                         if (!dryRun) {
-                            orgUnit.setSyncToken(
+                            resourceDAO.saveSyncToken(
+                                    pullTask.getResource().getKey(),
+                                    orgUnit.getObjectClass(),
                                     ConnObjectUtils.toString(latestSyncTokens.get(orgUnit.getObjectClass())));
-                            resourceDAO.save(pullTask.getResource());
                         }
                         break;
 
@@ -286,6 +718,7 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                                 getReconFilterBuilder(pullTask),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
                         break;
 
                     case FULL_RECONCILIATION:
@@ -294,6 +727,7 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                                 new ObjectClass(orgUnit.getObjectClass()),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
                         break;
                 }
             } catch (Throwable t) {
@@ -304,91 +738,70 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         // ...then provisions for any types
         ProvisionSorter provisionSorter = getProvisionSorter(pullTask);
 
+        ReconFilterBuilder reconFilterBuilder;
+        try {
+            switch (pullTask.getPullMode()) {
+                case FILTERED_RECONCILIATION:
+                    reconFilterBuilder = getReconFilterBuilder(pullTask);
+                    break;
+
+                case FULL_RECONCILIATION:
+                    // full reconciliation can still be partitioned, by the configured filter builder if any
+                    reconFilterBuilder = pullTask.getReconFilterBuilder() == null
+                            ? null
+                            : new PartitionsOnlyReconFilterBuilder(getReconFilterBuilder(pullTask));
+                    break;
+
+                case INCREMENTAL:
+                default:
+                    reconFilterBuilder = null;
+            }
+        } catch (Throwable t) {
+            throw new JobExecutionException("While pulling from connector", t);
+        }
+
         GroupPullResultHandler ghandler = buildGroupHandler();
-        for (Provision provision : pullTask.getResource().getProvisions().stream().
+        List<GroupPullResultHandler> ghandlers = new ArrayList<>();
+        ghandlers.add(ghandler);
+        for (List<Provision> wave : waves(pullTask.getResource().getProvisions().stream().
                 filter(provision -> provision.getMapping() != null).sorted(provisionSorter).
-                collect(Collectors.toList())) {
-
-            setStatus("Pulling " + provision.getObjectClass());
-
-            AnyType anyType = anyTypeDAO.find(provision.getAnyType());
-
-            dispatcher.addHandlerSupplier(provision.getObjectClass(), () -> {
-                SyncopePullResultHandler handler;
-                switch (anyType.getKind()) {
-                    case USER:
-                        handler = buildUserHandler();
-                        break;
-
-                    case GROUP:
-                        handler = ghandler;
-                        break;
-
-                    case ANY_OBJECT:
-                    default:
-                        handler = buildAnyObjectHandler();
-                }
-                handler.setProfile(profile);
-                return handler;
-            });
+                collect(Collectors.toList()))) {
 
-            boolean setSyncTokens = false;
-            try {
-                Set<String> moreAttrsToGet = new HashSet<>();
-                profile.getActions().forEach(a -> moreAttrsToGet.addAll(a.moreAttrsToGet(profile, provision)));
-                Stream<Item> mapItems = Stream.concat(
-                        MappingUtils.getPullItems(provision.getMapping().getItems().stream()),
-                        virSchemaDAO.find(pullTask.getResource().getKey(), anyType.getKey()).stream().
-                                map(VirSchema::asLinkingMappingItem));
-                OperationOptions options = MappingUtils.buildOperationOptions(
-                        mapItems, moreAttrsToGet.toArray(String[]::new));
-
-                switch (pullTask.getPullMode()) {
-                    case INCREMENTAL:
-                        if (!dryRun) {
-                            latestSyncTokens.put(
-                                    provision.getObjectClass(),
-                                    ConnObjectUtils.toSyncToken(provision.getSyncToken()));
-                        }
-
-                        connector.sync(
-                                new ObjectClass(provision.getObjectClass()),
-                                ConnObjectUtils.toSyncToken(provision.getSyncToken()),
-                                dispatcher,
-                                options);
-
-                        if (!dryRun) {
-                            setSyncTokens = true;
-                        }
-                        break;
-
-                    case FILTERED_RECONCILIATION:
-                        connector.filteredReconciliation(new ObjectClass(provision.getObjectClass()),
-                                getReconFilterBuilder(pullTask),
-                                dispatcher,
-                                options);
-                        break;
-
-                    case FULL_RECONCILIATION:
-                    default:
-                        connector.fullReconciliation(
-                                new ObjectClass(provision.getObjectClass()),
-                                dispatcher,
-                                options);
-                }
-            } catch (Throwable t) {
-                throw new JobExecutionException("While pulling from connector", t);
-            } finally {
-                if (setSyncTokens) {
-                    latestSyncTokens.forEach((objectClass, syncToken) -> pullTask.getResource().
-                            getProvisionByObjectClass(objectClass).
-                            ifPresent(p -> p.setSyncToken(ConnObjectUtils.toString(syncToken))));
-                    resourceDAO.save(pullTask.getResource());
+            List<Pair<Provision, ReconFilterBuilder>> units = wave.stream().
+                    flatMap(provision -> partitions(provision, reconFilterBuilder).stream()).
+                    collect(Collectors.toList());
+            if (units.size() > 1 && provisioningProperties.getPull().getProvisionConcurrency() > 1) {
+                pullConcurrently(pullTask, units, ghandlers, resultsConsumer);
+            } else {
+                for (Pair<Provision, ReconFilterBuilder> unit : units) {
+                    Provision provision = unit.getLeft();
+                    setStatus("Pulling " + provision.getObjectClass());
+
+                    AnyType anyType = anyTypeDAO.find(provision.getAnyType());
+                    OperationOptions options;
+                    try {
+                        options = getOperationOptions(pullTask, provision, anyType);
+                    } catch (Throwable t) {
+                        throw new JobExecutionException("While pulling from connector", t);
+                    }
+
+                    pull(pullTask, provision, anyType, options, unit.getRight(), profile, dispatcher, ghandler);
+
+                    if (!dryRun && pullTask.getPullMode() == PullMode.INCREMENTAL) {
+                        saveSyncTokens(pullTask.getResource());
+                    }
                 }
             }
         }
 
         dispatcher.shutdown();
+        // results not drained yet are left in the profile for PullActions#afterAll, and drained afterwards
+        profile.getResults().stream().filter(uidOnCreate).forEach(uidOnCreateResults::add);
+
+        // concurrently handled deltas might have advanced sync tokens further, once all completed
+        if (!dryRun && pullTask.getPullMode() == PullMode.INCREMENTAL && pullTask.getConcurrentSettings() != null) {
+            saveSyncTokens(pullTask.getResource());
+        }
 
         for (Provision provision : pullTask.getResource().getProvisions().stream().
                 filter(provision -> provision.getMapping() != null && provision.getUidOnCreate() != null).
@@ -396,10 +809,8 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
             try {
                 AnyUtils anyUtils = anyUtilsFactory.getInstance(anyTypeDAO.find(provision.getAnyType()).getKind());
-                profile.getResults().stream().
-                        filter(result -> result.getUidValue() != null && result.getKey() != null
-                        && result.getOperation() == ResourceOperation.CREATE
-                        && result.getAnyType().equals(provision.getAnyType())).
+                uidOnCreateResults.stream().
+                        filter(result -> result.getAnyType().equals(provision.getAnyType())).
                         forEach(result -> anyUtils.addAttr(
                         validator,
                         result.getKey(),
@@ -410,7 +821,9 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         }
 
         try {
-            setGroupOwners(ghandler);
+            for (GroupPullResultHandler gh : ghandlers) {
+                setGroupOwners(gh);
+            }
         } catch (Exception e) {
             LOG.error("While setting group owners", e);
         }
@@ -423,7 +836,10 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
         setStatus("Pull done");
 
-        String result = createReport(profile.getResults(), pullTask.getResource(), dryRun);
+        // results left for actions, or possibly added by them
+        dispatcher.drain();
+
+        String result = createReport(reportAggregator, pullTask.getResource(), dryRun);
         LOG.debug("Pull result: {}", result);
         return result;
     }
@@ -18,28 +18,113 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncToken;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Dispatches the deltas received from the connector to the pull result handler for the matching object class.
+ * When no concurrent settings are provided for the pull task and batch size is greater than 1, deltas are handled in
+ * micro-batches, for which fingerprints and matching entities are looked up at once; entity changes are committed per
+ * delta anyway, by the provisioning managers. Whenever a batch fails, its deltas not reported yet are handled again,
+ * each on its own, so that the failure can be isolated without affecting the others.
+ * When concurrent settings are provided, the latest sync token is only advanced as far as all deltas received before
+ * have completed.
+ */
 public class PullResultHandlerDispatcher
         extends SyncopeResultHandlerDispatcher<PullTask, PullActions, SyncopePullResultHandler>
         implements SyncResultsHandler {
 
+    /**
+     * Keeps track of the deltas received for a given object class and of their completion, which may happen out of
+     * order when handled concurrently: the sync token is advanced only up to the latest delta such that all deltas
+     * received before were completed, so that no delta gets lost should pull be resumed from there.
+     */
+    protected static class SyncTokenTracker {
+
+        protected long next;
+
+        protected final NavigableMap<Long, SyncToken> inFlight = new TreeMap<>();
+
+        protected final Set<Long> completed = new HashSet<>();
+
+        /**
+         * Registers a delta as received.
+         *
+         * @param token delta's sync token
+         * @return sequence number assigned to the delta
+         */
+        protected synchronized long received(final SyncToken token) {
+            long seq = next++;
+            inFlight.put(seq, token);
+            return seq;
+        }
+
+        /**
+         * Registers a delta as completed; if this allows to advance the sync token, the given consumer is invoked
+         * - while still holding the lock, so that tokens are always reported in order.
+         *
+         * @param seq sequence number of the completed delta
+         * @param advance consumer for the new sync token, if advanced
+         */
+        protected synchronized void completed(final long seq, final Consumer<SyncToken> advance) {
+            completed.add(seq);
+
+            SyncToken latest = null;
+            boolean advanced = false;
+            while (!inFlight.isEmpty() && completed.remove(inFlight.firstKey())) {
+                latest = inFlight.pollFirstEntry().getValue();
+                advanced = true;
+            }
+
+            if (advanced) {
+                advance.accept(latest);
+            }
+        }
+    }
+
     protected final SyncopePullExecutor executor;
 
+    protected final int batchSize;
+
+    protected final List<SyncDelta> batch = new ArrayList<>();
+
+    protected final Map<String, SyncTokenTracker> trackers = new ConcurrentHashMap<>();
+
     public PullResultHandlerDispatcher(
             final ProvisioningProfile<PullTask, PullActions> profile,
             final SyncopePullExecutor executor) {
 
+        this(profile, executor, 1);
+    }
+
+    public PullResultHandlerDispatcher(
+            final ProvisioningProfile<PullTask, PullActions> profile,
+            final SyncopePullExecutor executor,
+            final int batchSize) {
+
         super(profile);
         this.executor = executor;
+        this.batchSize = batchSize;
     }
 
     @Transactional
@@ -47,28 +132,44 @@ public class PullResultHandlerDispatcher
     public boolean handle(final SyncDelta delta) {
         if (executor.wasInterruptRequested()) {
             LOG.debug("Pull interrupted");
+            flush();
             executor.setInterrupted();
             return false;
         }
 
         if (tpte.isEmpty()) {
+            if (batchSize > 1) {
+                if (!batch.isEmpty() && !batch.get(0).getObjectClass().equals(delta.getObjectClass()) && !flush()) {
+                    return false;
+                }
+
+                batch.add(delta);
+                return batch.size() < batchSize || flush();
+            }
+
             boolean result = nonConcurrentHandler(delta.getObjectClass().getObjectClassValue()).handle(delta);
 
             executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
             if (result) {
                 executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
             }
+            drainIfNeeded();
 
             return result;
         }
 
+        String objectClass = delta.getObjectClass().getObjectClassValue();
+        SyncTokenTracker tracker = trackers.computeIfAbsent(objectClass, k -> new SyncTokenTracker());
+        long seq = tracker.received(delta.getToken());
         try {
-            submit(() -> {
-                executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
-
-                suppliers.get(delta.getObjectClass().getObjectClassValue()).get().handle(delta);
+            submit(delta.getUid().getUidValue(), () -> {
+                try {
+                    suppliers.get(objectClass).get().handle(delta);
 
-                executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
+                    executor.reportHandled(objectClass, delta.getObject().getName());
+                } finally {
+                    tracker.completed(seq, token -> executor.setLatestSyncToken(objectClass, token));
+                }
             });
             return true;
         } catch (RejectedExecutionException e) {
@@ -77,4 +178,56 @@ public class PullResultHandlerDispatcher
             return false;
         }
     }
+
+    /**
+     * Handles the deltas received so far and not yet handled, if any; to be invoked once the connector has completed
+     * delivering deltas.
+     *
+     * @return whether all pending deltas were successfully handled
+     */
+    public boolean flush() {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        List<SyncDelta> deltas = new ArrayList<>(batch);
+        batch.clear();
+
+        String objectClass = deltas.get(0).getObjectClass().getObjectClassValue();
+        SyncopePullResultHandler handler = nonConcurrentHandler(objectClass);
+
+        int results = profile.getResults().size();
+        int handled;
+        try {
+            handled = handler.handle(deltas);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not handle {} deltas as a batch, reverting to handling them one by one",
+                    deltas.size(), e);
+
+            // deltas reported so far were provisioned - and propagated - within their own transactions, regardless of
+            // the batch rollback: they are not handled again, otherwise their propagations would be repeated
+            Set<String> reported = profile.getResults().subList(results, profile.getResults().size()).stream().
+                    map(ProvisioningReport::getUidValue).
+                    filter(Objects::nonNull).
+                    collect(Collectors.toSet());
+
+            handled = 0;
+            for (SyncDelta delta : deltas) {
+                if (!reported.contains(delta.getUid().getUidValue()) && !handler.handle(delta)) {
+                    break;
+                }
+                handled++;
+            }
+        }
+
+        for (int i = 0; i < Math.min(handled + 1, deltas.size()); i++) {
+            executor.reportHandled(objectClass, deltas.get(i).getObject().getName());
+        }
+        if (handled > 0) {
+            executor.setLatestSyncToken(objectClass, deltas.get(handled - 1).getToken());
+        }
+        drainIfNeeded();
+
+        return handled == deltas.size();
+    }
 }
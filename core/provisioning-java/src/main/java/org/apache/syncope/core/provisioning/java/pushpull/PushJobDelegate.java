@@ -29,9 +29,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
+import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -74,6 +77,9 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
     @Autowired
     protected SearchCondVisitor searchCondVisitor;
 
+    @Autowired
+    protected PushFingerprintDAO pushFingerprintDAO;
+
     protected ProvisioningProfile<PushTask, PushActions> profile;
 
     protected final Map<String, MutablePair<Integer, String>> handled = new ConcurrentHashMap<>();
@@ -116,8 +122,24 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
             final ExternalResource resource)
             throws JobExecutionException {
 
+        Map<String, String> fingerprints = profile.getTask().isIncremental()
+                ? pushFingerprintDAO.find(
+                        resource.getKey(), anys.stream().map(Any::getKey).collect(Collectors.toList()))
+                : Map.of();
+
         boolean result = true;
         for (int i = 0; i < anys.size() && result; i++) {
+            if (fingerprints.containsKey(anys.get(i).getKey()) && unchanged(anys.get(i), resource, fingerprints)) {
+                ProvisioningReport unchanged = new ProvisioningReport();
+                unchanged.setOperation(ResourceOperation.NONE);
+                unchanged.setKey(anys.get(i).getKey());
+                unchanged.setAnyType(anys.get(i).getType().getKey());
+                unchanged.setStatus(ProvisioningReport.Status.IGNORE);
+                unchanged.setMessage("Unchanged since latest push");
+                dispatcher.skip(unchanged);
+                continue;
+            }
+
             try {
                 result = dispatcher.handle(anys.get(i).getType().getKey(), anys.get(i).getKey());
             } catch (Exception e) {
@@ -128,6 +150,18 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
         return result;
     }
 
+    protected boolean unchanged(
+            final Any<?> any,
+            final ExternalResource resource,
+            final Map<String, String> fingerprints) {
+
+        return resource.getProvisionByAnyType(any.getType().getKey()).
+                map(provision -> AbstractPushResultHandler.fingerprint(
+                profile.getTask(), provision, any, provisioningProperties.getPush().getFullInterval()).
+                equals(fingerprints.get(any.getKey()))).
+                orElse(false);
+    }
+
     protected RealmPushResultHandler buildRealmHandler() {
         return ApplicationContextProvider.getBeanFactory().createBean(DefaultRealmPushResultHandler.class);
     }
@@ -181,6 +215,7 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
         profile.setExecutor(executor);
 
         PushResultHandlerDispatcher dispatcher = new PushResultHandlerDispatcher(profile, this);
+        dispatcher.setResultsConsumer(reportAggregator::addAll);
 
         if (!profile.isDryRun()) {
             for (PushActions action : profile.getActions()) {
@@ -252,25 +287,23 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
             SearchCond cond = StringUtils.isBlank(filter)
                     ? anyDAO.getAllMatchingCond()
                     : SearchCondConverter.convert(searchCondVisitor, filter);
-            int count = searchDAO.count(
-                    profile.getTask().getSourceRealm(),
-                    true,
-                    Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                    cond,
-                    anyType.getKind());
             boolean result = true;
-            for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1 && result; page++) {
-                List<? extends Any<?>> anys = searchDAO.search(
+            String afterKey = null;
+            List<? extends Any<?>> anys;
+            do {
+                anys = searchDAO.search(
                         profile.getTask().getSourceRealm(),
                         true,
                         Set.of(profile.getTask().getSourceRealm().getFullPath()),
                         cond,
-                        page,
+                        afterKey,
                         AnyDAO.DEFAULT_PAGE_SIZE,
-                        List.of(),
                         anyType.getKind());
-                result = doHandle(anys, dispatcher, pushTask.getResource());
-            }
+                if (!anys.isEmpty()) {
+                    afterKey = anys.get(anys.size() - 1).getKey();
+                    result = doHandle(anys, dispatcher, pushTask.getResource());
+                }
+            } while (result && anys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         }
 
         dispatcher.shutdown();
@@ -283,7 +316,10 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
 
         setStatus("Push done");
 
-        String result = createReport(profile.getResults(), pushTask.getResource(), dryRun);
+        // results left for actions, or possibly added by them
+        dispatcher.drain();
+
+        String result = createReport(reportAggregator, pushTask.getResource(), dryRun);
         LOG.debug("Push result: {}", result);
         return result;
     }
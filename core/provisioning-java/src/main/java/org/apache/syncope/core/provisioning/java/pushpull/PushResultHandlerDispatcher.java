@@ -18,24 +18,85 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
 
+/**
+ * When concurrent settings are provided by the task, items are pushed through a pipeline of bounded stages:
+ * <ol>
+ * <li>the caller submits items, in order, as loaded page by page from the database;</li>
+ * <li>connector objects matching each item are read from the External Resource by a dedicated pool of threads;</li>
+ * <li>items already matched are written by the lanes - mapping attributes as part of each write - in submission order
+ * for items sharing the same key.</li>
+ * </ol>
+ * Since lanes are bounded, reading can only proceed a limited number of items ahead of writing, and the caller is
+ * blocked when writing cannot keep up; reads and writes together never perform more concurrent calls to the
+ * External Resource than the pool size of the task.
+ */
 public class PushResultHandlerDispatcher
         extends SyncopeResultHandlerDispatcher<PushTask, PushActions, SyncopePushResultHandler> {
 
     protected final SyncopePushExecutor executor;
 
+    protected final Optional<VirtualThreadPoolTaskExecutor> matchers;
+
+    /**
+     * Limits the concurrent calls to the External Resource, by both reads and writes.
+     */
+    protected final Optional<Semaphore> connectorPermits;
+
     public PushResultHandlerDispatcher(
             final ProvisioningProfile<PushTask, PushActions> profile,
             final SyncopePushExecutor executor) {
 
         super(profile);
         this.executor = executor;
+
+        matchers = tpte.map(t -> executor(
+                profile.getExecutor(),
+                profile.getTask().getConcurrentSettings().getPoolSize(),
+                "provisioningTask-" + profile.getTask().getKey() + "-match-"));
+        connectorPermits = tpte.map(t -> new Semaphore(profile.getTask().getConcurrentSettings().getPoolSize(), true));
+    }
+
+    protected <R> R withConnectorPermit(final Supplier<R> call) {
+        Semaphore permits = connectorPermits.orElseThrow();
+        permits.acquireUninterruptibly();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    protected Future<Optional<List<ConnectorObject>>> match(final String anyType, final String anyKey) {
+        return matchers.orElseThrow().submit(() -> withConnectorPermit(
+                () -> handlers.computeIfAbsent(anyType, k -> suppliers.get(k).get()).match(anyKey)));
+    }
+
+    protected static Optional<List<ConnectorObject>> matches(final Future<Optional<List<ConnectorObject>>> match) {
+        try {
+            return match.get();
+        } catch (ExecutionException e) {
+            LOG.debug("Could not match ahead of handling", e);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
     }
 
     public boolean handle(final String anyType, final String anyKey) {
@@ -49,13 +110,17 @@ public class PushResultHandlerDispatcher
             boolean result = nonConcurrentHandler(anyType).handle(anyKey);
 
             executor.reportHandled(anyType, anyKey);
+            drainIfNeeded();
 
             return result;
         }
 
         try {
-            submit(() -> {
-                suppliers.get(anyType).get().handle(anyKey);
+            Future<Optional<List<ConnectorObject>>> match = match(anyType, anyKey);
+            submit(anyKey, () -> {
+                // wait for matching before taking a permit, as matching needs one as well
+                Optional<List<ConnectorObject>> matches = matches(match);
+                withConnectorPermit(() -> suppliers.get(anyType).get().handle(anyKey, matches));
 
                 executor.reportHandled(anyType, anyKey);
             });
@@ -65,4 +130,26 @@ public class PushResultHandlerDispatcher
             return false;
         }
     }
+
+    /**
+     * Reports an item which does not need to be handled.
+     *
+     * @param report provisioning report for the skipped item
+     */
+    public void skip(final ProvisioningReport report) {
+        profile.getResults().add(report);
+
+        if (tpte.isEmpty()) {
+            drainIfNeeded();
+        } else {
+            drainPeriodically();
+        }
+    }
+
+    @Override
+    protected void shutdown() {
+        super.shutdown();
+
+        matchers.ifPresent(VirtualThreadPoolTaskExecutor::shutdown);
+    }
 }
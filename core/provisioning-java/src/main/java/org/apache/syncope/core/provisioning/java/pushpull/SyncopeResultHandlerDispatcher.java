@@ -21,13 +21,21 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningActions;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
@@ -42,6 +50,20 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 
+/**
+ * Dispatches items to the result handlers, either in the caller thread or - when concurrent settings are provided by
+ * the task - to a fixed number of lanes, each processing its items sequentially in a dedicated thread.
+ * Items are assigned to lanes by key, so that items sharing the same key are always processed in order; each lane can
+ * only hold a bounded number of pending items, so that the caller is blocked when processing cannot keep up, and
+ * memory consumption does not depend on the number of items.
+ * Results of the items processed by lanes are collected separately for each item, and only made available once the
+ * item is done; when a results consumer is set, provisioning results are periodically moved to such consumer, without
+ * waiting for the items being processed.
+ *
+ * @param <T> provisioning task
+ * @param <A> provisioning actions
+ * @param <RA> result handler
+ */
 public abstract class SyncopeResultHandlerDispatcher<
         T extends ProvisioningTask<?>, A extends ProvisioningActions, RA extends SyncopeResultHandler<T, A>> {
 
@@ -49,43 +71,120 @@ public abstract class SyncopeResultHandlerDispatcher<
 
     private static final String PLACEHOLDER_PWD = "PLACEHOLDER_PWD";
 
+    protected static final int MAX_LANES = 256;
+
+    protected static final int LANE_CAPACITY = 16;
+
+    protected static final int REPORT_WINDOW = 1000;
+
+    private static final Runnable END = () -> {
+    };
+
+    protected static class Lane implements Runnable {
+
+        protected final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(LANE_CAPACITY);
+
+        protected Future<?> future;
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable runnable;
+                try {
+                    runnable = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                if (runnable == END) {
+                    return;
+                }
+
+                try {
+                    runnable.run();
+                } catch (Throwable t) {
+                    LOG.error("Unexpected error while processing", t);
+                }
+            }
+        }
+    }
+
+    protected final ProvisioningProfile<T, A> profile;
+
     protected final Optional<VirtualThreadPoolTaskExecutor> tpte;
 
     protected final Map<String, Supplier<RA>> suppliers = new ConcurrentHashMap<>();
 
     protected final Map<String, RA> handlers = new ConcurrentHashMap<>();
 
-    protected final List<Future<?>> futures = new ArrayList<>();
+    protected final Lane[] lanes;
+
+    protected final Queue<ProvisioningReport> finished = new ConcurrentLinkedQueue<>();
+
+    protected long submitted;
+
+    protected Consumer<List<ProvisioningReport>> resultsConsumer;
 
     protected SyncopeResultHandlerDispatcher(final ProvisioningProfile<T, A> profile) {
+        this.profile = profile;
+
         if (profile.getTask().getConcurrentSettings() == null) {
             tpte = Optional.empty();
+            lanes = new Lane[0];
         } else {
-            VirtualThreadPoolTaskExecutor t = new VirtualThreadPoolTaskExecutor();
-            t.setPoolSize(profile.getTask().getConcurrentSettings().getPoolSize());
-            t.setWaitForTasksToCompleteOnShutdown(true);
-            t.setThreadNamePrefix("provisioningTask-" + profile.getTask().getKey() + "-");
-            t.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
-
-            String domain = AuthContextUtils.getDomain();
-            String delegatedBy = AuthContextUtils.getDelegatedBy().orElse(null);
-            Set<SyncopeGrantedAuthority> authorities = AuthContextUtils.getAuthorities();
-            t.setTaskDecorator(d -> () -> {
-                // set placeholder authentication object by creating fresh and copying data from caller's
-                UsernamePasswordAuthenticationToken placeHolderAuth = new UsernamePasswordAuthenticationToken(
-                        new User(profile.getExecutor(), PLACEHOLDER_PWD, authorities), PLACEHOLDER_PWD, authorities);
-                placeHolderAuth.setDetails(new SyncopeAuthenticationDetails(domain, delegatedBy));
-                SecurityContextHolder.getContext().setAuthentication(placeHolderAuth);
-
-                d.run();
-            });
-
-            t.initialize();
-
-            tpte = Optional.of(t);
+            tpte = Optional.of(executor(
+                    profile.getExecutor(),
+                    profile.getTask().getConcurrentSettings().getPoolSize(),
+                    "provisioningTask-" + profile.getTask().getKey() + "-"));
+
+            lanes = new Lane[Math.max(1, Math.min(profile.getTask().getConcurrentSettings().getPoolSize(), MAX_LANES))];
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] = new Lane();
+            }
         }
     }
 
+    /**
+     * Builds an executor whose threads run with the same domain and authorities as the caller.
+     *
+     * @param executor username to run as
+     * @param poolSize maximum number of threads
+     * @param threadNamePrefix thread name prefix
+     * @return initialized executor, to be shut down once done
+     */
+    protected static VirtualThreadPoolTaskExecutor executor(
+            final String executor,
+            final int poolSize,
+            final String threadNamePrefix) {
+
+        VirtualThreadPoolTaskExecutor t = new VirtualThreadPoolTaskExecutor();
+        t.setPoolSize(poolSize);
+        t.setWaitForTasksToCompleteOnShutdown(true);
+        t.setThreadNamePrefix(threadNamePrefix);
+        t.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        String domain = AuthContextUtils.getDomain();
+        String delegatedBy = AuthContextUtils.getDelegatedBy().orElse(null);
+        Set<SyncopeGrantedAuthority> authorities = AuthContextUtils.getAuthorities();
+        t.setTaskDecorator(d -> () -> {
+            // set placeholder authentication object by creating fresh and copying data from caller's
+            UsernamePasswordAuthenticationToken placeHolderAuth = new UsernamePasswordAuthenticationToken(
+                    new User(executor, PLACEHOLDER_PWD, authorities), PLACEHOLDER_PWD, authorities);
+            placeHolderAuth.setDetails(new SyncopeAuthenticationDetails(domain, delegatedBy));
+            SecurityContextHolder.getContext().setAuthentication(placeHolderAuth);
+
+            d.run();
+        });
+
+        t.initialize();
+        return t;
+    }
+
+    public void setResultsConsumer(final Consumer<List<ProvisioningReport>> resultsConsumer) {
+        this.resultsConsumer = resultsConsumer;
+    }
+
     public void addHandlerSupplier(final String key, final Supplier<RA> supplier) {
         suppliers.put(key, supplier);
     }
@@ -98,19 +197,120 @@ public abstract class SyncopeResultHandlerDispatcher<
         });
     }
 
-    protected void submit(final Runnable runnable) {
-        tpte.ifPresent(executor -> futures.add(executor.submit(runnable)));
+    /**
+     * Enqueues the given runnable on the lane assigned to the given key, blocking while such lane is full.
+     *
+     * @param key key, determining the lane
+     * @param runnable what to run
+     * @throws RejectedExecutionException if interrupted while waiting for the lane to accept the given runnable
+     */
+    protected void submit(final String key, final Runnable runnable) {
+        tpte.ifPresent(executor -> {
+            Lane lane = lanes[Math.floorMod(Objects.hashCode(key), lanes.length)];
+            synchronized (lane) {
+                if (lane.future == null) {
+                    lane.future = executor.submit(lane);
+                }
+            }
+
+            try {
+                lane.queue.put(() -> {
+                    List<ProvisioningReport> results = new ArrayList<>();
+                    profile.setLocalResults(results);
+                    try {
+                        runnable.run();
+                    } finally {
+                        profile.setLocalResults(null);
+                        if (resultsConsumer == null) {
+                            profile.getResults().addAll(results);
+                        } else {
+                            finished.addAll(results);
+                        }
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting to submit " + key, e);
+            }
+        });
+
+        drainPeriodically();
+    }
+
+    /**
+     * Invokes {@link #drain()} once every {@link #REPORT_WINDOW} invocations.
+     */
+    protected void drainPeriodically() {
+        if (resultsConsumer != null && ++submitted % REPORT_WINDOW == 0) {
+            drain();
+        }
+    }
+
+    /**
+     * Moves the results of the items processed by lanes and done so far to the profile.
+     */
+    protected void collectFinished() {
+        List<ProvisioningReport> results = new ArrayList<>();
+        ProvisioningReport result;
+        while ((result = finished.poll()) != null) {
+            results.add(result);
+        }
+        if (!results.isEmpty()) {
+            profile.getResults().addAll(results);
+        }
+    }
+
+    /**
+     * Moves the provisioning results available so far - including the ones of the items processed by lanes and
+     * already done - from the profile to the results consumer, if set; to be invoked by the same thread submitting
+     * items.
+     */
+    protected void drain() {
+        if (resultsConsumer == null) {
+            return;
+        }
+
+        collectFinished();
+        if (profile.getResults().isEmpty()) {
+            return;
+        }
+
+        List<ProvisioningReport> results = new ArrayList<>(profile.getResults());
+        profile.getResults().subList(0, results.size()).clear();
+        resultsConsumer.accept(results);
+    }
+
+    /**
+     * Invokes {@link #drain()} if enough provisioning results have been collected.
+     */
+    protected void drainIfNeeded() {
+        if (profile.getResults().size() >= REPORT_WINDOW) {
+            drain();
+        }
     }
 
+    /**
+     * Waits until all lanes are done, then moves all of their results to the profile, so that they are available to
+     * {@link ProvisioningActions#afterAll(ProvisioningProfile)}; {@link #drain()} is to be invoked afterwards.
+     */
     protected void shutdown() {
-        for (Future<?> f : this.futures) {
+        for (Lane lane : lanes) {
+            synchronized (lane) {
+                if (lane.future == null) {
+                    continue;
+                }
+            }
+
             try {
-                f.get();
+                lane.queue.put(END);
+                lane.future.get();
             } catch (ExecutionException | InterruptedException e) {
                 LOG.error("Unexpected error when waiting for completion", e);
             }
         }
 
         tpte.ifPresent(VirtualThreadPoolTaskExecutor::shutdown);
+
+        collectFinished();
     }
 }
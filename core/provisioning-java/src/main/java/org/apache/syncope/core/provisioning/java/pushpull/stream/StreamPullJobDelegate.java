@@ -18,9 +18,11 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull.stream;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -34,6 +36,7 @@ import org.apache.syncope.common.lib.types.IdMImplementationType;
 import org.apache.syncope.common.lib.types.MappingPurpose;
 import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -51,6 +54,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.stream.SyncopeStreamPullExecutor;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportAggregator;
 import org.apache.syncope.core.provisioning.java.pushpull.PullJobDelegate;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
@@ -212,6 +216,12 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
             }
             handler.setProfile(profile);
 
+            reportAggregator = new ProvisioningReportAggregator(
+                    TraceLevel.SUMMARY,
+                    provisioningProperties.getReport().getMaxInMemory(),
+                    provisioningProperties.getReport().getMaxLines());
+            List<ProvisioningReport> results = new ArrayList<>();
+
             // execute filtered pull
             Set<String> moreAttrsToGet = new HashSet<>();
             profile.getActions().forEach(a -> moreAttrsToGet.addAll(a.moreAttrsToGet(profile, provision)));
@@ -223,7 +233,13 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
 
             connector.fullReconciliation(
                     new ObjectClass(provision.getObjectClass()),
-                    handler,
+                    delta -> {
+                        try {
+                            return handler.handle(delta);
+                        } finally {
+                            retain(profile.getResults(), results);
+                        }
+                    },
                     MappingUtils.buildOperationOptions(mapItems, moreAttrsToGet.toArray(String[]::new)));
 
             try {
@@ -236,12 +252,19 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
                 action.afterAll(profile);
             }
 
-            return profile.getResults();
+            retain(profile.getResults(), results);
+            if (reportAggregator.omitted() > 0) {
+                LOG.warn("Stream pull returns {} results, {} more were omitted",
+                        results.size(), reportAggregator.omitted());
+            }
+            return results;
         } catch (Exception e) {
             throw e instanceof JobExecutionException
                     ? (JobExecutionException) e
                     : new JobExecutionException("While stream pulling", e);
         } finally {
+            Optional.ofNullable(reportAggregator).ifPresent(ProvisioningReportAggregator::close);
+            reportAggregator = null;
             setStatus(null);
         }
     }
@@ -18,8 +18,10 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull.stream;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.Mapping;
@@ -30,6 +32,7 @@ import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.syncope.common.lib.types.IdMImplementationType;
 import org.apache.syncope.common.lib.types.MappingPurpose;
 import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -44,6 +47,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.stream.SyncopeStreamPushExecutor;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportAggregator;
 import org.apache.syncope.core.provisioning.java.pushpull.PushJobDelegate;
 import org.apache.syncope.core.provisioning.java.pushpull.PushResultHandlerDispatcher;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -145,7 +149,14 @@ public class StreamPushJobDelegate extends PushJobDelegate implements SyncopeStr
                     map(implementationDAO::find).filter(Objects::nonNull).collect(Collectors.toList())));
             profile.setConflictResolutionAction(ConflictResolutionAction.FIRSTMATCH);
 
+            reportAggregator = new ProvisioningReportAggregator(
+                    TraceLevel.SUMMARY,
+                    provisioningProperties.getReport().getMaxInMemory(),
+                    provisioningProperties.getReport().getMaxLines());
+            List<ProvisioningReport> results = new ArrayList<>();
+
             PushResultHandlerDispatcher dispatcher = new PushResultHandlerDispatcher(profile, this);
+            dispatcher.setResultsConsumer(reports -> retain(reports, results));
 
             for (PushActions action : profile.getActions()) {
                 action.beforeAll(profile);
@@ -176,12 +187,19 @@ public class StreamPushJobDelegate extends PushJobDelegate implements SyncopeStr
                 action.afterAll(profile);
             }
 
-            return profile.getResults();
+            retain(profile.getResults(), results);
+            if (reportAggregator.omitted() > 0) {
+                LOG.warn("Stream push returns {} results, {} more were omitted",
+                        results.size(), reportAggregator.omitted());
+            }
+            return results;
         } catch (Exception e) {
             throw e instanceof JobExecutionException
                     ? (JobExecutionException) e
                     : new JobExecutionException("While stream pushing", e);
         } finally {
+            Optional.ofNullable(reportAggregator).ifPresent(ProvisioningReportAggregator::close);
+            reportAggregator = null;
             setStatus(null);
         }
     }
@@ -18,9 +18,14 @@
  */
 package org.apache.syncope.core.provisioning.java.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -100,6 +105,43 @@ public class ConnObjectUtils {
         return result.toString();
     }
 
+    /**
+     * Computes a fingerprint of the given connector object, which changes whenever any of its attributes, or the given
+     * context, changes; the order of attributes and values is not relevant.
+     *
+     * @param context further information affecting how the connector object is handled, e.g. its mapping
+     * @param connObj connector object
+     * @return fingerprint, as hex-encoded SHA-256 digest
+     */
+    public static String fingerprint(final String context, final ConnectorObject connObj) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        digest.update(context.getBytes(StandardCharsets.UTF_8));
+        connObj.getAttributes().stream().sorted(Comparator.comparing(Attribute::getName)).forEach(attr -> {
+            digest.update((byte) 0);
+            digest.update(attr.getName().getBytes(StandardCharsets.UTF_8));
+
+            Optional.ofNullable(attr.getValue()).orElse(List.of()).stream().
+                    map(value -> value == null
+                    ? StringUtils.EMPTY
+                    : value instanceof byte[] bytes
+                            ? Base64.getEncoder().encodeToString(bytes)
+                            : getPassword(value)).
+                    sorted().
+                    forEach(value -> {
+                        digest.update((byte) 1);
+                        digest.update(value.getBytes(StandardCharsets.UTF_8));
+                    });
+        });
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     /**
      * Builds {@link ConnObject} out of a collection of {@link Attribute} instances.
      *
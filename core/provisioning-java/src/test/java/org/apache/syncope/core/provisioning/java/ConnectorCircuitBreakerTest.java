@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.syncope.common.lib.types.CircuitBreakerState;
+import org.apache.syncope.core.provisioning.api.CircuitOpenException;
+import org.junit.jupiter.api.Test;
+
+public class ConnectorCircuitBreakerTest {
+
+    @Test
+    public void openHalfOpenClose() throws InterruptedException {
+        ProvisioningProperties.CircuitBreakerProperties props = new ProvisioningProperties.CircuitBreakerProperties();
+        props.setFailureThreshold(2);
+        props.setOpenInterval(50);
+
+        ConnectorCircuitBreaker breaker = new ConnectorCircuitBreaker("test", props);
+
+        breaker.acquire();
+        breaker.onFailure();
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+        breaker.acquire();
+        breaker.onFailure();
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+        assertThrows(CircuitOpenException.class, breaker::acquire);
+
+        Thread.sleep(100);
+
+        // once the open interval has elapsed, the first request is the probe, others still fail fast
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+        breaker.acquire();
+        assertThrows(CircuitOpenException.class, breaker::acquire);
+
+        // failed probe re-opens
+        breaker.onFailure();
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+        Thread.sleep(100);
+
+        breaker.acquire();
+        breaker.onSuccess();
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.to.AnyObjectTO;
+import org.apache.syncope.common.lib.to.MembershipTO;
+import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
+import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class AnyObjectDataBinderTest extends AbstractTest {
+
+    @BeforeAll
+    public static void setAuthContext() {
+        List<GrantedAuthority> authorities = IdRepoEntitlement.values().stream().
+                map(entitlement -> new SyncopeGrantedAuthority(entitlement, SyncopeConstants.ROOT_REALM)).
+                collect(Collectors.toList());
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                new org.springframework.security.core.userdetails.User(
+                        "admin", "FAKE_PASSWORD", authorities), "FAKE_PASSWORD", authorities);
+        auth.setDetails(new SyncopeAuthenticationDetails(SyncopeConstants.MASTER_DOMAIN, null));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterAll
+    public static void unsetAuthContext() {
+        SecurityContextHolder.getContext().setAuthentication(null);
+    }
+
+    @Autowired
+    private AnyObjectDataBinder dataBinder;
+
+    @Autowired
+    private AnyObjectDAO anyObjectDAO;
+
+    @Test
+    public void getAnyObjectTOs() {
+        List<AnyObject> anyObjects = anyObjectDAO.findAll(1, 100);
+        assertFalse(anyObjects.isEmpty());
+
+        List<AnyObjectTO> anyObjectTOs = dataBinder.getAnyObjectTOs(anyObjects, true);
+        assertEquals(anyObjects.size(), anyObjectTOs.size());
+
+        // bulk results are checked against the per-any object DAO methods
+        for (int i = 0; i < anyObjects.size(); i++) {
+            AnyObject anyObject = anyObjects.get(i);
+            AnyObjectTO anyObjectTO = anyObjectTOs.get(i);
+
+            assertEquals(anyObject.getKey(), anyObjectTO.getKey());
+            assertEquals(
+                    anyObjectDAO.findAllResources(anyObject).stream().
+                            map(ExternalResource::getKey).collect(Collectors.toSet()),
+                    anyObjectTO.getResources());
+            assertEquals(
+                    new HashSet<>(anyObjectDAO.findDynRealms(anyObject.getKey())),
+                    new HashSet<>(anyObjectTO.getDynRealms()));
+            assertEquals(
+                    anyObjectDAO.findDynGroups(anyObject.getKey()).stream().
+                            map(Group::getKey).collect(Collectors.toSet()),
+                    anyObjectTO.getDynMemberships().stream().
+                            map(MembershipTO::getGroupKey).collect(Collectors.toSet()));
+        }
+    }
+}
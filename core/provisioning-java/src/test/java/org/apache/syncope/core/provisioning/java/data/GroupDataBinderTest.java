@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.to.GroupTO;
+import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
+import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class GroupDataBinderTest extends AbstractTest {
+
+    @BeforeAll
+    public static void setAuthContext() {
+        List<GrantedAuthority> authorities = IdRepoEntitlement.values().stream().
+                map(entitlement -> new SyncopeGrantedAuthority(entitlement, SyncopeConstants.ROOT_REALM)).
+                collect(Collectors.toList());
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                new org.springframework.security.core.userdetails.User(
+                        "admin", "FAKE_PASSWORD", authorities), "FAKE_PASSWORD", authorities);
+        auth.setDetails(new SyncopeAuthenticationDetails(SyncopeConstants.MASTER_DOMAIN, null));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterAll
+    public static void unsetAuthContext() {
+        SecurityContextHolder.getContext().setAuthentication(null);
+    }
+
+    @Autowired
+    private GroupDataBinder dataBinder;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Test
+    public void getGroupTOs() {
+        List<Group> groups = groupDAO.findAll(1, 100);
+        assertFalse(groups.isEmpty());
+
+        List<GroupTO> groupTOs = dataBinder.getGroupTOs(groups, true);
+        assertEquals(groups.size(), groupTOs.size());
+
+        // bulk results are checked against the per-group DAO methods
+        for (int i = 0; i < groups.size(); i++) {
+            Group group = groups.get(i);
+            GroupTO groupTO = groupTOs.get(i);
+
+            assertEquals(group.getKey(), groupTO.getKey());
+            assertEquals(groupDAO.countUMembers(group.getKey()), groupTO.getStaticUserMembershipCount());
+            assertEquals(groupDAO.countAMembers(group.getKey()), groupTO.getStaticAnyObjectMembershipCount());
+            assertEquals(
+                    group.getUDynMembership() == null ? 0 : groupDAO.countUDynMembers(group),
+                    groupTO.getDynamicUserMembershipCount());
+            assertEquals(groupDAO.countADynMembers(group), groupTO.getDynamicAnyObjectMembershipCount());
+            assertEquals(
+                    new HashSet<>(groupDAO.findDynRealms(group.getKey())),
+                    new HashSet<>(groupTO.getDynRealms()));
+        }
+    }
+}
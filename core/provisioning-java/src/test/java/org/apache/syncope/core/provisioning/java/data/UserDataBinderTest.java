@@ -23,16 +23,26 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.request.AttrPatch;
 import org.apache.syncope.common.lib.request.MembershipUR;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.MembershipTO;
+import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
+import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Delegation;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.Privilege;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
@@ -75,6 +85,9 @@ public class UserDataBinderTest extends AbstractTest {
     @Autowired
     private UserDAO userDAO;
 
+    @Autowired
+    private DelegationDAO delegationDAO;
+
     @Test
     public void membershipWithAttrNotAllowed() {
         UserUR userUR = new UserUR.Builder("1417acbe-cbf6-4277-9372-e75e04f97000").build();
@@ -115,4 +128,42 @@ public class UserDataBinderTest extends AbstractTest {
         assertTrue(user.getPlainAttrs("obscure").stream().anyMatch(a -> a.getMembership() == null));
         assertTrue(user.getPlainAttrs("obscure").stream().anyMatch(a -> newM.equals(a.getMembership())));
     }
+
+    @Test
+    public void getUserTOs() {
+        List<User> users = userDAO.findAll(1, 100);
+        List<UserTO> userTOs = dataBinder.getUserTOs(users, true);
+        assertEquals(users.size(), userTOs.size());
+
+        // bulk results are checked against the per-user DAO methods
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            UserTO userTO = userTOs.get(i);
+
+            assertEquals(user.getKey(), userTO.getKey());
+            assertEquals(
+                    userDAO.findAllResources(user).stream().map(ExternalResource::getKey).collect(Collectors.toSet()),
+                    userTO.getResources());
+            assertEquals(new HashSet<>(userDAO.findDynRealms(user.getKey())), new HashSet<>(userTO.getDynRealms()));
+
+            List<Role> dynRoles = userDAO.findDynRoles(user.getKey());
+            assertEquals(
+                    dynRoles.stream().map(Role::getKey).collect(Collectors.toSet()),
+                    new HashSet<>(userTO.getDynRoles()));
+            assertEquals(
+                    Stream.concat(user.getRoles().stream(), dynRoles.stream()).
+                            flatMap(role -> role.getPrivileges().stream()).map(Privilege::getKey).
+                            collect(Collectors.toSet()),
+                    userTO.getPrivileges());
+            assertEquals(
+                    userDAO.findDynGroups(user.getKey()).stream().map(Group::getKey).collect(Collectors.toSet()),
+                    userTO.getDynMemberships().stream().map(MembershipTO::getGroupKey).collect(Collectors.toSet()));
+            assertEquals(
+                    delegationDAO.findByDelegating(user).stream().map(Delegation::getKey).collect(Collectors.toSet()),
+                    new HashSet<>(userTO.getDelegatingDelegations()));
+            assertEquals(
+                    delegationDAO.findByDelegated(user).stream().map(Delegation::getKey).collect(Collectors.toSet()),
+                    new HashSet<>(userTO.getDelegatedDelegations()));
+        }
+    }
 }
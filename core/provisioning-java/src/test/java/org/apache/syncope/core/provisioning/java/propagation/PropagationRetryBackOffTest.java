@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.syncope.common.lib.types.BackOffStrategy;
+import org.junit.jupiter.api.Test;
+
+public class PropagationRetryBackOffTest {
+
+    @Test
+    public void fixed() {
+        assertEquals(1000L, PropagationRetryBackOff.delay(BackOffStrategy.FIXED, null, 1));
+        assertEquals(500L, PropagationRetryBackOff.delay(BackOffStrategy.FIXED, "500", 3));
+        assertEquals(1000L, PropagationRetryBackOff.delay(BackOffStrategy.FIXED, "notANumber", 3));
+    }
+
+    @Test
+    public void exponential() {
+        assertEquals(100L, PropagationRetryBackOff.delay(BackOffStrategy.EXPONENTIAL, "100;30000;2", 1));
+        assertEquals(400L, PropagationRetryBackOff.delay(BackOffStrategy.EXPONENTIAL, "100;30000;2", 3));
+        assertEquals(30000L, PropagationRetryBackOff.delay(BackOffStrategy.EXPONENTIAL, "100;30000;2", 20));
+    }
+
+    @Test
+    public void random() {
+        for (int i = 0; i < 100; i++) {
+            long delay = PropagationRetryBackOff.delay(BackOffStrategy.RANDOM, "100;30000;2", 3);
+            assertTrue(delay >= 400L && delay <= 800L);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.junit.jupiter.api.Test;
+
+public class PropagationTaskCoalescerTest {
+
+    private static PropagationTaskInfo taskInfo(
+            final ExternalResource resource,
+            final ResourceOperation operation,
+            final String connObjectKey,
+            final Attribute... attrs) {
+
+        Set<Attribute> attributes = new HashSet<>(Set.of(attrs));
+        return new PropagationTaskInfo(
+                resource,
+                operation,
+                ObjectClass.ACCOUNT,
+                AnyTypeKind.USER,
+                AnyTypeKind.USER.name(),
+                "entityKey",
+                connObjectKey,
+                new PropagationData(attributes));
+    }
+
+    private static ExternalResource resource() {
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource");
+        return resource;
+    }
+
+    @Test
+    public void merge() {
+        PropagationTaskCoalescer coalescer = new PropagationTaskCoalescer(true);
+        ExternalResource resource = resource();
+
+        PropagationTaskInfo first = taskInfo(resource, ResourceOperation.UPDATE, "rossini",
+                AttributeBuilder.build("surname", "Rossini"), AttributeBuilder.build("password", "secret"));
+        assertFalse(coalescer.offer(first));
+
+        PropagationTaskInfo second = taskInfo(resource, ResourceOperation.UPDATE, "rossini",
+                AttributeBuilder.build("surname", "Verdi"));
+        assertTrue(coalescer.offer(second));
+
+        Set<Attribute> attrs = first.getPropagationData().getAttributes();
+        assertEquals(2, attrs.size());
+        assertEquals("Verdi", AttributeUtil.getStringValue(AttributeUtil.find("surname", attrs)));
+        assertEquals("secret", AttributeUtil.getStringValue(AttributeUtil.find("password", attrs)));
+
+        // once started, no more merges
+        coalescer.dequeue(first);
+        assertFalse(coalescer.offer(taskInfo(resource, ResourceOperation.UPDATE, "rossini",
+                AttributeBuilder.build("surname", "Puccini"))));
+    }
+
+    @Test
+    public void barriers() {
+        PropagationTaskCoalescer coalescer = new PropagationTaskCoalescer(true);
+        ExternalResource resource = resource();
+
+        assertFalse(coalescer.offer(taskInfo(resource, ResourceOperation.UPDATE, "rossini",
+                AttributeBuilder.build("surname", "Rossini"))));
+        assertFalse(coalescer.offer(taskInfo(resource, ResourceOperation.DELETE, "rossini")));
+        assertFalse(coalescer.offer(taskInfo(resource, ResourceOperation.UPDATE, "rossini",
+                AttributeBuilder.build("surname", "Verdi"))));
+
+        PropagationTaskInfo rename = taskInfo(resource, ResourceOperation.UPDATE, "verdi",
+                AttributeBuilder.build("surname", "Verdi"));
+        rename.setOldConnObjectKey("rossini");
+        assertFalse(coalescer.offer(rename));
+        assertFalse(coalescer.offer(taskInfo(resource, ResourceOperation.UPDATE, "rossini",
+                AttributeBuilder.build("surname", "Rossini"))));
+        assertTrue(coalescer.offer(taskInfo(resource, ResourceOperation.UPDATE, "verdi",
+                AttributeBuilder.build("surname", "Verdi"))));
+
+        coalescer.bypass(taskInfo(resource, ResourceOperation.UPDATE, "verdi"));
+        assertFalse(coalescer.offer(taskInfo(resource, ResourceOperation.UPDATE, "verdi",
+                AttributeBuilder.build("surname", "Verdi"))));
+    }
+
+    @Test
+    public void disabled() {
+        PropagationTaskCoalescer coalescer = new PropagationTaskCoalescer(false);
+        ExternalResource resource = resource();
+
+        assertFalse(coalescer.offer(taskInfo(resource, ResourceOperation.UPDATE, "rossini",
+                AttributeBuilder.build("surname", "Rossini"))));
+        assertFalse(coalescer.offer(taskInfo(resource, ResourceOperation.UPDATE, "rossini",
+                AttributeBuilder.build("surname", "Verdi"))));
+    }
+}
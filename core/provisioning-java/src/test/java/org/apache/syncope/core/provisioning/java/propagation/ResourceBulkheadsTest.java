@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.syncope.core.provisioning.java.PropagationExecutorProperties;
+import org.junit.jupiter.api.Test;
+
+public class ResourceBulkheadsTest {
+
+    private static PropagationExecutorProperties.BulkheadProperties props() {
+        PropagationExecutorProperties.BulkheadProperties props = new PropagationExecutorProperties.BulkheadProperties();
+        props.setInitialLimit(2);
+        props.setMinLimit(1);
+        props.setMaxLimit(4);
+        props.setMaxQueued(1);
+        return props;
+    }
+
+    @Test
+    public void queueAndDispatch() throws Exception {
+        ResourceBulkheads bulkheads = new ResourceBulkheads(props());
+
+        // collect runnables instead of running them, to control completion order
+        List<Runnable> submitted = new ArrayList<>();
+
+        Future<String> first = bulkheads.submit("ldap", () -> "1", r -> true, submitted::add);
+        Future<String> second = bulkheads.submit("ldap", () -> "2", r -> true, submitted::add);
+        Future<String> third = bulkheads.submit("ldap", () -> "3", r -> true, submitted::add);
+        assertEquals(2, submitted.size());
+
+        // queue is full
+        assertThrows(RejectedExecutionException.class,
+                () -> bulkheads.submit("ldap", () -> "4", r -> true, submitted::add));
+
+        // other resources are not affected
+        bulkheads.submit("rest", () -> "5", r -> true, submitted::add);
+        assertEquals(3, submitted.size());
+
+        submitted.get(0).run();
+        assertEquals("1", first.get());
+        assertFalse(third.isDone());
+        // completion of first task dispatched the queued one
+        assertEquals(4, submitted.size());
+
+        submitted.get(1).run();
+        submitted.get(3).run();
+        assertEquals("2", second.get());
+        assertEquals("3", third.get());
+    }
+
+    @Test
+    public void adaptLimit() {
+        ResourceBulkheads bulkheads = new ResourceBulkheads(props());
+
+        for (int i = 0; i < 20; i++) {
+            bulkheads.submit("ldap", () -> Boolean.TRUE, r -> r, Runnable::run);
+        }
+        assertEquals(4, bulkheads.getLimit("ldap"));
+
+        for (int i = 0; i < 20; i++) {
+            bulkheads.submit("ldap", () -> Boolean.FALSE, r -> r, Runnable::run);
+        }
+        assertEquals(1, bulkheads.getLimit("ldap"));
+        assertTrue(bulkheads.getLimit("rest") > 1);
+    }
+}
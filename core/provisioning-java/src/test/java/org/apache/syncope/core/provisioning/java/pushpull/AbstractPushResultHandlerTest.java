@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.apache.syncope.common.lib.to.Item;
+import org.apache.syncope.common.lib.to.Mapping;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.MatchingRule;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.apache.syncope.core.persistence.api.entity.user.UMembership;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.Test;
+
+public class AbstractPushResultHandlerTest extends AbstractTest {
+
+    @Test
+    public void fingerprint() {
+        PushTask task = mock(PushTask.class);
+        when(task.getKey()).thenReturn("task");
+        when(task.getMatchingRule()).thenReturn(MatchingRule.UPDATE);
+
+        Provision provision = new Provision();
+        provision.setAnyType("USER");
+        provision.setMapping(new Mapping());
+
+        OffsetDateTime lastChangeDate = OffsetDateTime.now();
+        User user = mock(User.class);
+        when(user.getKey()).thenReturn("user");
+        when(user.getLastChangeDate()).thenReturn(lastChangeDate);
+
+        String fingerprint = AbstractPushResultHandler.fingerprint(task, provision, user, 0);
+        assertEquals(fingerprint, AbstractPushResultHandler.fingerprint(task, provision, user, 0));
+
+        // entity changes
+        when(user.getLastChangeDate()).thenReturn(lastChangeDate.plusSeconds(1));
+        assertNotEquals(fingerprint, AbstractPushResultHandler.fingerprint(task, provision, user, 0));
+        when(user.getLastChangeDate()).thenReturn(lastChangeDate);
+
+        // group changes
+        OffsetDateTime groupLastChangeDate = OffsetDateTime.now();
+        Group group = mock(Group.class);
+        when(group.getKey()).thenReturn("group");
+        when(group.getLastChangeDate()).thenReturn(groupLastChangeDate);
+        UMembership membership = mock(UMembership.class);
+        when(membership.getRightEnd()).thenReturn(group);
+        doReturn(List.of(membership)).when(user).getMemberships();
+        assertNotEquals(fingerprint, AbstractPushResultHandler.fingerprint(task, provision, user, 0));
+        fingerprint = AbstractPushResultHandler.fingerprint(task, provision, user, 0);
+        when(group.getLastChangeDate()).thenReturn(groupLastChangeDate.plusSeconds(1));
+        assertNotEquals(fingerprint, AbstractPushResultHandler.fingerprint(task, provision, user, 0));
+        when(group.getLastChangeDate()).thenReturn(groupLastChangeDate);
+
+        // task key does not matter, as fingerprints are stored by resource
+        when(task.getKey()).thenReturn("other");
+        assertEquals(fingerprint, AbstractPushResultHandler.fingerprint(task, provision, user, 0));
+
+        // task changes
+        when(task.getMatchingRule()).thenReturn(MatchingRule.LINK);
+        assertNotEquals(fingerprint, AbstractPushResultHandler.fingerprint(task, provision, user, 0));
+        when(task.getMatchingRule()).thenReturn(MatchingRule.UPDATE);
+
+        // mapping changes
+        Item item = new Item();
+        item.setIntAttrName("username");
+        item.setExtAttrName("uid");
+        provision.getMapping().add(item);
+        assertNotEquals(fingerprint, AbstractPushResultHandler.fingerprint(task, provision, user, 0));
+    }
+}
@@ -25,13 +25,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -98,9 +96,6 @@ public class LDAPMembershipPullActionsTest extends AbstractTest {
     @Mock
     private ProvisioningReport result;
 
-    @Mock
-    private Map<String, Set<String>> membershipsAfter;
-
     @Mock
     private ProvisioningTask<?> pullTask;
 
@@ -123,8 +118,6 @@ public class LDAPMembershipPullActionsTest extends AbstractTest {
 
     private AnyUR anyReq;
 
-    private Map<String, Set<String>> membershipsBefore;
-
     private User user;
 
     private Set<ConnConfProperty> connConfProperties;
@@ -138,9 +131,6 @@ public class LDAPMembershipPullActionsTest extends AbstractTest {
         List<UMembership> uMembList = List.of(uMembership);
 
         anyReq = new UserUR();
-        membershipsBefore = new HashMap<>();
-        ReflectionTestUtils.setField(ldapMembershipPullActions, "membershipsBefore", membershipsBefore);
-        ReflectionTestUtils.setField(ldapMembershipPullActions, "membershipsAfter", membershipsAfter);
 
         lenient().when(groupDAO.findUMemberships(groupDAO.find(anyString()))).thenReturn(uMembList);
 
@@ -167,6 +157,12 @@ public class LDAPMembershipPullActionsTest extends AbstractTest {
         lenient().when(connInstance.getConf()).thenReturn(connConfProperties);
     }
 
+    private List<MembershipStaging.Changes> changes() {
+        List<MembershipStaging.Changes> changes = new ArrayList<>();
+        ldapMembershipPullActions.memberships.forEachChange(changes::add);
+        return changes;
+    }
+
     @Test
     public void beforeUpdateWithGroupTOAndEmptyMemberships() throws JobExecutionException {
         entity = new GroupTO();
@@ -177,27 +173,28 @@ public class LDAPMembershipPullActionsTest extends AbstractTest {
         ldapMembershipPullActions.beforeUpdate(profile, syncDelta, entity, anyReq);
 
         assertTrue(entity instanceof GroupTO);
-        assertEquals(1, membershipsBefore.get(user.getKey()).size());
-        assertEquals(expected, membershipsBefore.get(user.getKey()));
+        List<MembershipStaging.Changes> changes = changes();
+        assertEquals(1, changes.size());
+        assertEquals(user.getKey(), changes.get(0).getUser());
+        assertEquals(expected, changes.get(0).getDelete());
+        assertTrue(changes.get(0).getAdd().isEmpty());
     }
 
     @Test
     public void beforeUpdate() throws JobExecutionException {
         entity = new UserTO();
         entity.setKey(UUID.randomUUID().toString());
-        Set<String> memb = new HashSet<>();
-        memb.add(entity.getKey());
-        membershipsBefore.put(user.getKey(), memb);
 
         ldapMembershipPullActions.beforeUpdate(profile, syncDelta, entity, anyReq);
 
         assertFalse(entity instanceof GroupTO);
-        assertEquals(1, membershipsBefore.get(user.getKey()).size());
+        assertTrue(ldapMembershipPullActions.memberships.isEmpty());
     }
 
     @Test
     public void after() throws JobExecutionException {
         entity = new GroupTO();
+        entity.setKey(UUID.randomUUID().toString());
         String expectedUid = UUID.randomUUID().toString();
         Attribute attribute = new Uid(expectedUid);
         List<String> expected = List.of(expectedUid);
@@ -208,8 +205,10 @@ public class LDAPMembershipPullActionsTest extends AbstractTest {
 
         ldapMembershipPullActions.after(profile, syncDelta, entity, result);
 
-        verify(membershipsAfter).get(anyString());
-        verify(membershipsAfter).put(anyString(), any());
+        List<MembershipStaging.Changes> changes = changes();
+        assertEquals(1, changes.size());
+        assertEquals(user.getKey(), changes.get(0).getUser());
+        assertEquals(Set.of(entity.getKey()), changes.get(0).getAdd());
         assertEquals(expected, attribute.getValue());
     }
 }
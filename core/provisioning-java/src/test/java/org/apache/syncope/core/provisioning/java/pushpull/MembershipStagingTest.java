@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.syncope.core.provisioning.java.pushpull.MembershipStaging.Changes;
+import org.apache.syncope.core.provisioning.java.pushpull.MembershipStaging.Phase;
+import org.junit.jupiter.api.Test;
+
+public class MembershipStagingTest {
+
+    @Test
+    public void netChanges() {
+        MembershipStaging staging = new MembershipStaging(2);
+        try {
+            staging.add("user1", "group1", Phase.BEFORE);
+            staging.add("user2", "group1", Phase.BEFORE);
+            staging.add("user1", "group2", Phase.AFTER);
+            staging.add("user2", "group1", Phase.AFTER);
+            staging.add("user1", "group1", Phase.BEFORE);
+            assertEquals(2, staging.files.size());
+            assertFalse(staging.isEmpty());
+
+            List<Changes> changes = new ArrayList<>();
+            staging.forEachChange(changes::add);
+
+            assertEquals(1, changes.size());
+            assertEquals("user1", changes.get(0).getUser());
+            assertEquals(Set.of("group2"), changes.get(0).getAdd());
+            assertEquals(Set.of("group1"), changes.get(0).getDelete());
+        } finally {
+            List<Path> files = new ArrayList<>(staging.files);
+            staging.clear();
+
+            assertTrue(staging.isEmpty());
+            assertTrue(files.stream().noneMatch(Files::exists));
+        }
+    }
+}
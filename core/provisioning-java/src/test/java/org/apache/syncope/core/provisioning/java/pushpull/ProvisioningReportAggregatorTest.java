@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportAggregator.Kind;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportAggregator.Outcome;
+import org.junit.jupiter.api.Test;
+
+public class ProvisioningReportAggregatorTest {
+
+    private static ProvisioningReport report(
+            final String anyType,
+            final ResourceOperation operation,
+            final ProvisioningReport.Status status,
+            final String name) {
+
+        ProvisioningReport report = new ProvisioningReport();
+        report.setAnyType(anyType);
+        report.setOperation(operation);
+        report.setStatus(status);
+        report.setKey(name);
+        report.setName(name);
+        return report;
+    }
+
+    @Test
+    public void count() {
+        try (ProvisioningReportAggregator aggregator = new ProvisioningReportAggregator(TraceLevel.SUMMARY, 10, 10)) {
+            aggregator.add(report("USER", ResourceOperation.CREATE, ProvisioningReport.Status.SUCCESS, "user1"));
+            aggregator.add(report("USER", ResourceOperation.CREATE, ProvisioningReport.Status.FAILURE, "user2"));
+            aggregator.add(report("GROUP", ResourceOperation.NONE, ProvisioningReport.Status.IGNORE, "group1"));
+            aggregator.add(report("PRINTER", ResourceOperation.DELETE, ProvisioningReport.Status.SUCCESS, "p1"));
+            aggregator.add(report(null, ResourceOperation.UPDATE, ProvisioningReport.Status.SUCCESS, "realm1"));
+
+            assertEquals(1, aggregator.count(Kind.USER, Outcome.SUCCESS_CREATE));
+            assertEquals(1, aggregator.count(Kind.USER, Outcome.FAILURE_CREATE));
+            assertEquals(1, aggregator.count(Kind.GROUP, Outcome.IGNORE));
+            assertEquals(1, aggregator.count(Kind.ANY_OBJECT, Outcome.SUCCESS_DELETE));
+            assertEquals(1, aggregator.count(Kind.REALM, Outcome.SUCCESS_UPDATE));
+
+            StringBuilder lines = new StringBuilder();
+            aggregator.appendLines(Kind.USER, Outcome.FAILURE_CREATE, lines);
+            assertTrue(lines.toString().isEmpty());
+        }
+    }
+
+    @Test
+    public void spill() {
+        try (ProvisioningReportAggregator aggregator = new ProvisioningReportAggregator(TraceLevel.FAILURES, 2, 10)) {
+            for (int i = 0; i < 5; i++) {
+                aggregator.add(report(
+                        "USER", ResourceOperation.UPDATE, ProvisioningReport.Status.FAILURE, "user" + i));
+                aggregator.add(report(
+                        "USER", ResourceOperation.UPDATE, ProvisioningReport.Status.SUCCESS, "other" + i));
+            }
+
+            assertEquals(5, aggregator.count(Kind.USER, Outcome.FAILURE_UPDATE));
+            assertEquals(5, aggregator.count(Kind.USER, Outcome.SUCCESS_UPDATE));
+
+            StringBuilder lines = new StringBuilder();
+            aggregator.appendLines(Kind.USER, Outcome.FAILURE_UPDATE, lines);
+            String[] split = lines.toString().split("\n");
+            assertEquals(5, split.length);
+            for (int i = 0; i < 5; i++) {
+                assertTrue(split[i].startsWith("Failed UPDATE (key/name): user" + i + "/user" + i));
+            }
+
+            lines = new StringBuilder();
+            aggregator.appendLines(Kind.USER, Outcome.SUCCESS_UPDATE, lines);
+            assertTrue(lines.toString().isEmpty());
+        }
+    }
+
+    @Test
+    public void truncate() {
+        try (ProvisioningReportAggregator aggregator = new ProvisioningReportAggregator(TraceLevel.ALL, 2, 3)) {
+            for (int i = 0; i < 10; i++) {
+                aggregator.add(report(
+                        "GROUP", ResourceOperation.CREATE, ProvisioningReport.Status.SUCCESS, "group" + i));
+            }
+
+            assertEquals(10, aggregator.count(Kind.GROUP, Outcome.SUCCESS_CREATE));
+
+            StringBuilder lines = new StringBuilder();
+            aggregator.appendLines(Kind.GROUP, Outcome.SUCCESS_CREATE, lines);
+            String[] split = lines.toString().split("\n");
+            assertEquals(4, split.length);
+            for (int i = 0; i < 3; i++) {
+                assertTrue(split[i].startsWith("CREATE SUCCESS (key/name): group" + i + "/group" + i));
+            }
+            assertEquals("... truncated, 7 more", split[3]);
+        }
+    }
+
+    @Test
+    public void retain() {
+        try (ProvisioningReportAggregator aggregator = new ProvisioningReportAggregator(TraceLevel.SUMMARY, 2, 3)) {
+            for (int i = 0; i < 5; i++) {
+                boolean retained = aggregator.retain(report(
+                        "USER", ResourceOperation.CREATE, ProvisioningReport.Status.SUCCESS, "user" + i));
+                if (i < 3) {
+                    assertTrue(retained);
+                } else {
+                    assertFalse(retained);
+                }
+            }
+            assertTrue(aggregator.retain(report(
+                    "USER", ResourceOperation.CREATE, ProvisioningReport.Status.FAILURE, "failed")));
+
+            assertEquals(5, aggregator.count(Kind.USER, Outcome.SUCCESS_CREATE));
+            assertEquals(2, aggregator.omitted());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.to.Item;
+import org.apache.syncope.common.lib.to.Mapping;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.provisioning.api.IntAttrName;
+import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.api.pushpull.ConstantReconFilterBuilder;
+import org.apache.syncope.core.provisioning.api.pushpull.PrefixPartitionReconFilterBuilder;
+import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+public class PullJobDelegateTest extends AbstractTest {
+
+    @Mock
+    private AnyTypeDAO anyTypeDAO;
+
+    @Mock
+    private IntAttrNameParser intAttrNameParser;
+
+    @InjectMocks
+    private PullJobDelegate delegate;
+
+    private static Provision provision(final String anyType, final String... intAttrNames) {
+        Provision provision = new Provision();
+        provision.setAnyType(anyType);
+        provision.setObjectClass(anyType);
+        provision.setMapping(new Mapping());
+        for (String intAttrName : intAttrNames) {
+            Item item = new Item();
+            item.setIntAttrName(intAttrName);
+            item.setExtAttrName(intAttrName);
+            provision.getMapping().add(item);
+        }
+        return provision;
+    }
+
+    @Test
+    public void waves() throws Exception {
+        when(intAttrNameParser.parse(anyString(), any(AnyTypeKind.class))).thenAnswer(ic -> {
+            String value = ic.getArgument(0);
+            IntAttrName intAttrName = new IntAttrName();
+            intAttrName.setAnyTypeKind(ic.getArgument(1));
+            switch (value) {
+                case "memberships[group].attr":
+                    intAttrName.setMembershipOfGroup("group");
+                    break;
+
+                case "relationships[inclusion][FOLDER].name":
+                    intAttrName.setRelationshipType("inclusion");
+                    intAttrName.setRelationshipAnyType("FOLDER");
+                    break;
+
+                default:
+                    intAttrName.setField(value);
+            }
+            return intAttrName;
+        });
+        when(anyTypeDAO.find(anyString())).thenAnswer(ic -> {
+            String key = ic.getArgument(0);
+            AnyType anyType = mock(AnyType.class);
+            when(anyType.getKind()).thenReturn(AnyTypeKind.USER.name().equals(key)
+                    ? AnyTypeKind.USER
+                    : AnyTypeKind.GROUP.name().equals(key) ? AnyTypeKind.GROUP : AnyTypeKind.ANY_OBJECT);
+            return anyType;
+        });
+
+        List<List<Provision>> waves = delegate.waves(List.of(
+                provision("GROUP", "name", "userOwner"),
+                provision("USER", "username", "memberships[group].attr"),
+                provision("FOLDER", "name"),
+                provision("PRINTER", "name", "relationships[inclusion][FOLDER].name")));
+
+        assertEquals(
+                List.of(List.of("GROUP"), List.of("USER", "FOLDER"), List.of("PRINTER")),
+                waves.stream().map(wave -> wave.stream().map(Provision::getAnyType).collect(Collectors.toList())).
+                        collect(Collectors.toList()));
+
+        waves = delegate.waves(List.of(provision("FOLDER"), provision("USER"), provision("PRINTER")));
+
+        assertEquals(1, waves.size());
+    }
+
+    @Test
+    public void partitions() {
+        Provision provision = provision("PRINTER");
+
+        assertEquals(1, delegate.partitions(provision, null).size());
+        assertNull(delegate.partitions(provision, null).get(0).getRight());
+
+        ReconFilterBuilder unpartitioned = new ConstantReconFilterBuilder(
+                FilterBuilder.equalTo(AttributeBuilder.build("location", "here")));
+        assertEquals(List.of(Pair.of(provision, unpartitioned)), delegate.partitions(provision, unpartitioned));
+
+        List<Pair<Provision, ReconFilterBuilder>> partitions = delegate.partitions(
+                provision, new PrefixPartitionReconFilterBuilder(Name.NAME, "ab"));
+        assertEquals(3, partitions.size());
+
+        ConnectorObject object = new ConnectorObjectBuilder().setUid("bob").setName("bob").build();
+        assertEquals(1, partitions.stream().
+                filter(partition -> partition.getRight().build(ObjectClass.ACCOUNT).accept(object)).count());
+
+        // full reconciliation: partitions only, or plain full reconciliation when there are none
+        assertNull(delegate.partitions(
+                provision, new PullJobDelegate.PartitionsOnlyReconFilterBuilder(unpartitioned)).get(0).getRight());
+
+        partitions = delegate.partitions(provision, new PullJobDelegate.PartitionsOnlyReconFilterBuilder(
+                new PrefixPartitionReconFilterBuilder(Name.NAME, "ab")));
+        assertEquals(3, partitions.size());
+        assertEquals(1, partitions.stream().
+                filter(partition -> partition.getRight().build(ObjectClass.ACCOUNT).accept(object)).count());
+    }
+}
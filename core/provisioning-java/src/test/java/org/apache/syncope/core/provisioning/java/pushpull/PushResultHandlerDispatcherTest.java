@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
+import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushExecutor;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.junit.jupiter.api.Test;
+
+public class PushResultHandlerDispatcherTest {
+
+    private static final int POOL_SIZE = 2;
+
+    private final AtomicInteger connectorCalls = new AtomicInteger();
+
+    private final AtomicInteger maxConnectorCalls = new AtomicInteger();
+
+    private final Queue<String> handled = new ConcurrentLinkedQueue<>();
+
+    private void callConnector() {
+        maxConnectorCalls.accumulateAndGet(connectorCalls.incrementAndGet(), Math::max);
+        try {
+            TimeUnit.MILLISECONDS.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connectorCalls.decrementAndGet();
+        }
+    }
+
+    private SyncopePushResultHandler handler() {
+        return new SyncopePushResultHandler() {
+
+            @Override
+            public void setProfile(final ProvisioningProfile<PushTask, PushActions> profile) {
+                // nothing to do
+            }
+
+            @Override
+            public Optional<List<ConnectorObject>> match(final String anyKey) {
+                callConnector();
+                return Optional.of(List.of());
+            }
+
+            @Override
+            public boolean handle(final String anyKey) {
+                callConnector();
+                handled.add(anyKey);
+                return true;
+            }
+        };
+    }
+
+    @Test
+    public void pipeline() {
+        ThreadPoolSettings concurrentSettings = new ThreadPoolSettings();
+        concurrentSettings.setPoolSize(POOL_SIZE);
+        PushTask task = mock(PushTask.class);
+        when(task.getKey()).thenReturn("task");
+        when(task.getConcurrentSettings()).thenReturn(concurrentSettings);
+
+        PushResultHandlerDispatcher dispatcher = new PushResultHandlerDispatcher(
+                new ProvisioningProfile<>(mock(Connector.class), task), mock(SyncopePushExecutor.class));
+        dispatcher.addHandlerSupplier("USER", this::handler);
+
+        // "Aa" and "BB" share the same hash code, hence the same lane: they must be handled in submission order
+        List<String> sameLane = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String key = i % 3 == 0 ? "BB" : "Aa";
+            sameLane.add(key);
+            assertTrue(dispatcher.handle("USER", key));
+            assertTrue(dispatcher.handle("USER", "user" + i));
+        }
+        dispatcher.shutdown();
+
+        assertEquals(40, handled.size());
+        assertEquals(sameLane, handled.stream().filter(key -> "Aa".equals(key) || "BB".equals(key)).
+                collect(Collectors.toList()));
+
+        // reads ahead and writes together never exceed the pool size
+        assertTrue(maxConnectorCalls.get() <= POOL_SIZE);
+        assertEquals(0, connectorCalls.get());
+    }
+}
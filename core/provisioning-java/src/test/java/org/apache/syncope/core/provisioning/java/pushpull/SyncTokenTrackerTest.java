@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.junit.jupiter.api.Test;
+
+public class SyncTokenTrackerTest {
+
+    @Test
+    public void advanceOnlyContiguous() {
+        PullResultHandlerDispatcher.SyncTokenTracker tracker = new PullResultHandlerDispatcher.SyncTokenTracker();
+
+        long first = tracker.received(new SyncToken(1));
+        long second = tracker.received(new SyncToken(2));
+        long third = tracker.received(new SyncToken(3));
+
+        List<Object> advanced = new ArrayList<>();
+
+        tracker.completed(third, token -> advanced.add(token.getValue()));
+        assertTrue(advanced.isEmpty());
+
+        tracker.completed(first, token -> advanced.add(token.getValue()));
+        assertEquals(List.of(1), advanced);
+
+        tracker.completed(second, token -> advanced.add(token.getValue()));
+        assertEquals(List.of(1, 3), advanced);
+    }
+}
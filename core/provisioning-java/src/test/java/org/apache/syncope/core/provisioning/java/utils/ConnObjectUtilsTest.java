@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.junit.jupiter.api.Test;
+
+public class ConnObjectUtilsTest {
+
+    private static ConnectorObject connObj(final String surname, final Object... groups) {
+        ConnectorObjectBuilder builder = new ConnectorObjectBuilder().
+                setObjectClass(ObjectClass.ACCOUNT).setUid("uid1").setName("rossini");
+        builder.addAttribute(AttributeBuilder.build("surname", surname));
+        builder.addAttribute(AttributeBuilder.build("groups", groups));
+        return builder.build();
+    }
+
+    @Test
+    public void fingerprint() {
+        String fingerprint = ConnObjectUtils.fingerprint("ctx", connObj("Rossini", "root", "child"));
+
+        // order of values is not relevant
+        assertEquals(fingerprint, ConnObjectUtils.fingerprint("ctx", connObj("Rossini", "child", "root")));
+
+        // changes in attribute values or context are detected
+        assertNotEquals(fingerprint, ConnObjectUtils.fingerprint("ctx", connObj("Verdi", "root", "child")));
+        assertNotEquals(fingerprint, ConnObjectUtils.fingerprint("ctx", connObj("Rossini", "root")));
+        assertNotEquals(fingerprint, ConnObjectUtils.fingerprint("other", connObj("Rossini", "root", "child")));
+    }
+}
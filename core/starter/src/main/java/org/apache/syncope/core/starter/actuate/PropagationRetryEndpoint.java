@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.syncope.common.keymaster.client.api.DomainOps;
+import org.apache.syncope.common.keymaster.client.api.model.Domain;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.dao.PropagationRetryDAO;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Reports the depth of the durable propagation retry queue, per domain and external resource.
+ */
+@Endpoint(id = "propagationRetry")
+public class PropagationRetryEndpoint {
+
+    protected final DomainOps domainOps;
+
+    protected final PropagationRetryDAO propagationRetryDAO;
+
+    public PropagationRetryEndpoint(final DomainOps domainOps, final PropagationRetryDAO propagationRetryDAO) {
+        this.domainOps = domainOps;
+        this.propagationRetryDAO = propagationRetryDAO;
+    }
+
+    @ReadOperation
+    public Map<String, Object> depth() {
+        Map<String, Object> depth = new LinkedHashMap<>();
+
+        Stream.concat(Stream.of(SyncopeConstants.MASTER_DOMAIN), domainOps.list().stream().map(Domain::getKey)).
+                forEach(domain -> AuthContextUtils.callAsAdmin(domain, () -> {
+
+            Map<String, Object> byDomain = new LinkedHashMap<>();
+            byDomain.put("total", propagationRetryDAO.count());
+            byDomain.put("resources", propagationRetryDAO.countByResource());
+
+            depth.put(domain, byDomain);
+            return null;
+        }));
+
+        return depth;
+    }
+}
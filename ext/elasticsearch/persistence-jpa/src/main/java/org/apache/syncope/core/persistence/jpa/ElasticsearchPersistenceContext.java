@@ -34,6 +34,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.jpa.dao.ElasticsearchAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.ElasticsearchAuditConfDAO;
 import org.apache.syncope.core.persistence.jpa.dao.ElasticsearchRealmDAO;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
 import org.apache.syncope.ext.elasticsearch.client.ElasticsearchProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.ApplicationEventPublisher;
@@ -78,10 +79,11 @@ public class ElasticsearchPersistenceContext {
     public RealmDAO realmDAO(
             final @Lazy RoleDAO roleDAO,
             final ApplicationEventPublisher publisher,
+            final RealmTreeCache realmTreeCache,
             final ElasticsearchProperties props,
             final ElasticsearchClient client) {
 
-        return new ElasticsearchRealmDAO(roleDAO, publisher, client, props.getIndexMaxResultWindow());
+        return new ElasticsearchRealmDAO(roleDAO, publisher, realmTreeCache, client, props.getIndexMaxResultWindow());
     }
 
     @ConditionalOnMissingBean(name = "elasticsearchAuditConfDAO")
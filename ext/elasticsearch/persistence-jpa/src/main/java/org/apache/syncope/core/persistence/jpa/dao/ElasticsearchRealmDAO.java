@@ -58,10 +58,11 @@ public class ElasticsearchRealmDAO extends JPARealmDAO {
     public ElasticsearchRealmDAO(
             final RoleDAO roleDAO,
             final ApplicationEventPublisher publisher,
+            final RealmTreeCache realmTreeCache,
             final ElasticsearchClient client,
             final int indexMaxResultWindow) {
 
-        super(roleDAO, publisher);
+        super(roleDAO, publisher, realmTreeCache);
         this.client = client;
         this.indexMaxResultWindow = indexMaxResultWindow;
     }
@@ -33,6 +33,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.jpa.dao.OpenSearchAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.OpenSearchAuditConfDAO;
 import org.apache.syncope.core.persistence.jpa.dao.OpenSearchRealmDAO;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
 import org.apache.syncope.ext.opensearch.client.OpenSearchProperties;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -78,10 +79,11 @@ public class OpenSearchPersistenceContext {
     public RealmDAO realmDAO(
             final @Lazy RoleDAO roleDAO,
             final ApplicationEventPublisher publisher,
+            final RealmTreeCache realmTreeCache,
             final OpenSearchProperties props,
             final OpenSearchClient client) {
 
-        return new OpenSearchRealmDAO(roleDAO, publisher, client, props.getIndexMaxResultWindow());
+        return new OpenSearchRealmDAO(roleDAO, publisher, realmTreeCache, client, props.getIndexMaxResultWindow());
     }
 
     @ConditionalOnMissingBean(name = "openSearchAuditConfDAO")
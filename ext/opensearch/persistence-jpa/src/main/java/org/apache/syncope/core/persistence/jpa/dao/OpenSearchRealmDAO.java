@@ -58,10 +58,11 @@ public class OpenSearchRealmDAO extends JPARealmDAO {
     public OpenSearchRealmDAO(
             final RoleDAO roleDAO,
             final ApplicationEventPublisher publisher,
+            final RealmTreeCache realmTreeCache,
             final OpenSearchClient client,
             final int indexMaxResultWindow) {
 
-        super(roleDAO, publisher);
+        super(roleDAO, publisher, realmTreeCache);
         this.client = client;
         this.indexMaxResultWindow = indexMaxResultWindow;
     }
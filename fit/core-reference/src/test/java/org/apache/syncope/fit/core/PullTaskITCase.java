@@ -405,6 +405,41 @@ public class PullTaskITCase extends AbstractTaskITCase {
         }
     }
 
+    @Test
+    public void reconcileFromDBWithFingerprints() {
+        ResourceTO resource = RESOURCE_SERVICE.read(RESOURCE_NAME_TESTDB);
+        resource.getProvision(AnyTypeKind.USER.name()).get().setFingerprinting(true);
+        RESOURCE_SERVICE.update(resource);
+
+        UserTO userTO = null;
+        try {
+            ExecTO execution = execProvisioningTask(
+                    TASK_SERVICE, TaskType.PULL, "83f7e85d-9774-43fe-adba-ccd856312994", MAX_WAIT_SECONDS, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(execution.getStatus()));
+
+            userTO = USER_SERVICE.read("testuser1");
+            assertNotNull(userTO);
+
+            // delete user on Syncope only: connector object is unchanged, but must be pulled again
+            USER_SERVICE.delete(userTO.getKey());
+            userTO = null;
+
+            execution = execProvisioningTask(
+                    TASK_SERVICE, TaskType.PULL, "83f7e85d-9774-43fe-adba-ccd856312994", MAX_WAIT_SECONDS, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(execution.getStatus()));
+
+            userTO = USER_SERVICE.read("testuser1");
+            assertNotNull(userTO);
+        } finally {
+            resource.getProvision(AnyTypeKind.USER.name()).get().setFingerprinting(false);
+            RESOURCE_SERVICE.update(resource);
+
+            if (userTO != null) {
+                USER_SERVICE.delete(userTO.getKey());
+            }
+        }
+    }
+
     @Test
     public void reconcileFromLDAP() {
         // First of all, clear any potential conflict with existing user / group